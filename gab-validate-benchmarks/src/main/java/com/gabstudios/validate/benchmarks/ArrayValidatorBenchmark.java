@@ -0,0 +1,108 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.Validate;
+import com.gabstudios.validate.ValidateException;
+/**
+ * Benchmarks the ArrayValidator through Validate.defineArray(), covering the
+ * pass and fail paths in both the returning and the throwing modes.
+ *
+ *      Validate.defineArray(value).testNotNullEmpty().testMaxLength(max).testEquals(expected).validate();
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class ArrayValidatorBenchmark
+{
+    
+    /*
+     * A value that passes every configured test.
+     */
+    public Object[] _validValue    = { "a", "b", "c", "d", "e", "f", "g", "h" };
+    
+    /*
+     * A value that fails at least one configured test.
+     */
+    public Object[] _invalidValue  = { "a", "b", "c", "d", "e", "f", "g", "x" };
+    
+    /*
+     * The value both arrays are compared to.
+     */
+    public Object[] _expectedValue = { "a", "b", "c", "d", "e", "f", "g", "h" };
+    
+    /*
+     * The max length of the array.
+     */
+    public int      _maxLength     = 16;
+    
+    @Benchmark
+    public boolean validatePass()
+    {
+        return (Validate.defineArray(this._validValue).testNotNullEmpty().testMaxLength(this._maxLength)
+                .testEquals(this._expectedValue).validate());
+    }
+    
+    @Benchmark
+    public boolean validateFail()
+    {
+        return (Validate.defineArray(this._invalidValue).testNotNullEmpty().testMaxLength(this._maxLength)
+                .testEquals(this._expectedValue).validate());
+    }
+    
+    @Benchmark
+    public boolean throwingPass()
+    {
+        return (Validate.defineArray(this._validValue).testNotNullEmpty().testMaxLength(this._maxLength)
+                .testEquals(this._expectedValue).throwValidationExceptionOnFail().validate());
+    }
+    
+    @Benchmark
+    public boolean throwingFail()
+    {
+        try
+        {
+            return (Validate.defineArray(this._invalidValue).testNotNullEmpty().testMaxLength(this._maxLength)
+                    .testEquals(this._expectedValue).throwValidationExceptionOnFail().validate());
+        }
+        catch (final ValidateException e)
+        {
+            return (false);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.BatchSchema;
+import com.gabstudios.validate.DoubleRule;
+import com.gabstudios.validate.IntegerRule;
+import com.gabstudios.validate.LongRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks a columnar batch validated one column at a time by a BatchSchema
+ * against the same rules applied row by row, and against defining a validator
+ * per field of each row.
+ *
+ *      schema.validate(columns).getInvalidRowCount();
+ *
+ * About one row in a hundred is invalid.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchSchemaBenchmark
+{
+    
+    /*
+     * The number of rows in the batch.
+     */
+    @Param({ "100000" })
+    public int                 _rowCount;
+    
+    /*
+     * The rules of the columns.
+     */
+    public IntegerRule         _ageRule   = Validate.integerRule().testMinValue(0).testMaxValue(150).build();
+    public LongRule            _idRule    = Validate.longRule().isPositiveValue().build();
+    public DoubleRule          _scoreRule = Validate.doubleRule().testMinValue(0.0).testMaxValue(1.0).build();
+    
+    /*
+     * The schema of the batch.
+     */
+    public BatchSchema         _schema    = Validate.batchSchema().intColumn("age", this._ageRule)
+            .longColumn("id", this._idRule).doubleColumn("score", this._scoreRule).build();
+    
+    /*
+     * The columns of the batch.
+     */
+    public int[]               _ages;
+    public long[]              _ids;
+    public double[]            _scores;
+    public Map<String, Object> _columns;
+    
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(42);
+        this._ages = new int[this._rowCount];
+        this._ids = new long[this._rowCount];
+        this._scores = new double[this._rowCount];
+        for (int i = 0; i < this._rowCount; i++)
+        {
+            this._ages[i] = (i % 100 == 99) ? -1 : random.nextInt(151);
+            this._ids[i] = i + 1L;
+            this._scores[i] = random.nextDouble();
+        }
+        this._columns = new HashMap<String, Object>();
+        this._columns.put("age", this._ages);
+        this._columns.put("id", this._ids);
+        this._columns.put("score", this._scores);
+    }
+    
+    @Benchmark
+    public int schema()
+    {
+        return (this._schema.validate(this._columns).getInvalidRowCount());
+    }
+    
+    @Benchmark
+    public int rowByRowRules()
+    {
+        int invalidCount = 0;
+        for (int i = 0; i < this._rowCount; i++)
+        {
+            final boolean isValid = this._ageRule.test(this._ages[i]) && this._idRule.test(this._ids[i])
+                    && this._scoreRule.test(this._scores[i]);
+            invalidCount += isValid ? 0 : 1;
+        }
+        return (invalidCount);
+    }
+    
+    @Benchmark
+    public int rowByRowValidators()
+    {
+        int invalidCount = 0;
+        for (int i = 0; i < this._rowCount; i++)
+        {
+            final boolean isValid = Validate.defineInteger(this._ages[i]).testMinValue(0).testMaxValue(150).validate()
+                    && Validate.defineLong(this._ids[i]).isPositiveValue().validate()
+                    && Validate.defineDouble(this._scores[i]).testMinValue(0.0).testMaxValue(1.0).validate();
+            invalidCount += isValid ? 0 : 1;
+        }
+        return (invalidCount);
+    }
+}
@@ -0,0 +1,71 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached so that every result
+ * reports the allocation rate (gc.alloc.rate.norm) next to the throughput.
+ * 
+ * Any JMH command line option can be passed, for example:
+ * 
+ *      java -jar target/benchmarks.jar StringValidator -f 1 -wi 3 -i 5
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class BenchmarkRunner
+{
+    
+    /**
+     * Prevent a new instance.
+     */
+    private BenchmarkRunner()
+    {
+        // void - ignore this.
+    }
+    
+    /**
+     * The main entry point.
+     *
+     * @param args
+     *            The JMH command line options.
+     * @throws RunnerException
+     *             If the benchmarks fail to run.
+     * @throws CommandLineOptionException
+     *             If the command line options can not be parsed.
+     */
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException
+    {
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        
+        new Runner(options).run();
+    }
+}
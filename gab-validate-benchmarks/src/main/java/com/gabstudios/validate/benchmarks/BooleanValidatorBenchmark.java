@@ -0,0 +1,97 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.Validate;
+import com.gabstudios.validate.ValidateException;
+
+/**
+ * Benchmarks the BooleanValidator through Validate.defineBoolean(), covering the pass and
+ * fail paths in both the returning and the throwing modes.
+ *
+ *      Validate.defineBoolean(value).testTrue().validate();
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class BooleanValidatorBenchmark
+{
+    
+    /*
+     * A value that passes every configured test.
+     */
+    public boolean _validValue = true;
+    
+    /*
+     * A value that fails at least one configured test.
+     */
+    public boolean _invalidValue = false;
+
+    @Benchmark
+    public boolean validatePass()
+    {
+        return (Validate.defineBoolean(this._validValue).testTrue().validate());
+    }
+    
+    @Benchmark
+    public boolean validateFail()
+    {
+        return (Validate.defineBoolean(this._invalidValue).testTrue().validate());
+    }
+    
+    @Benchmark
+    public boolean throwingPass()
+    {
+        return (Validate.defineBoolean(this._validValue).testTrue()
+                .throwValidationExceptionOnFail().validate());
+    }
+    
+    @Benchmark
+    public boolean throwingFail()
+    {
+        try
+        {
+            return (Validate.defineBoolean(this._invalidValue).testTrue()
+                    .throwValidationExceptionOnFail().validate());
+        }
+        catch (final ValidateException e)
+        {
+            return (false);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the buffer validators on a direct buffer of 16 byte records
+ * against copying the field into an int[] and validating the array.
+ *
+ *      Validate.defineIntBuffer(buffer, 4, 16, count, order).testMinValue(min).testMaxValue(max).validate();
+ *
+ * The swapped benchmarks read the fields in the opposite order of the buffer,
+ * so each field is reversed after it is read.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class BufferValidatorBenchmark
+{
+    
+    /*
+     * The byte offset of the field in a record and the size of a record.
+     */
+    private static final int OFFSET = 4;
+    private static final int STRIDE = 16;
+    
+    /*
+     * The number of records.
+     */
+    @Param({ "1000000" })
+    public int        _size;
+    
+    /*
+     * The range every valid field is in.
+     */
+    public int        _minValue = 0;
+    public int        _maxValue = 10000;
+    
+    /*
+     * The records in the native order of the machine.
+     */
+    public ByteBuffer _buffer;
+    
+    /*
+     * The byte order that is not the order of the buffer.
+     */
+    public ByteOrder  _swappedOrder;
+    
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(42);
+        this._buffer = ByteBuffer.allocateDirect(this._size * STRIDE).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < this._size; i++)
+        {
+            this._buffer.putInt(OFFSET + i * STRIDE, random.nextInt(this._maxValue + 1));
+        }
+        this._swappedOrder = (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN) ? ByteOrder.LITTLE_ENDIAN
+                : ByteOrder.BIG_ENDIAN;
+    }
+    
+    @Benchmark
+    public boolean intBufferPass()
+    {
+        return (Validate.defineIntBuffer(this._buffer, OFFSET, STRIDE, this._size, this._buffer.order())
+                .testMinValue(this._minValue).testMaxValue(this._maxValue).validate());
+    }
+    
+    @Benchmark
+    public int intBufferSwapped()
+    {
+        // the swapped values are out of range, so every field is counted.
+        return (Validate.defineIntBuffer(this._buffer, OFFSET, STRIDE, this._size, this._swappedOrder)
+                .testMinValue(this._minValue).testMaxValue(this._maxValue).tryValidate() == 0L ? 0 : 1);
+    }
+    
+    @Benchmark
+    public boolean intCopyPass()
+    {
+        final int[] values = new int[this._size];
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = this._buffer.getInt(OFFSET + i * STRIDE);
+        }
+        return (Validate.defineIntArray(values).testMinValue(this._minValue).testMaxValue(this._maxValue)
+                .validate());
+    }
+}
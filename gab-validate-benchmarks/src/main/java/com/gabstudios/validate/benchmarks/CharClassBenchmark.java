@@ -0,0 +1,95 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.CharClass;
+import com.gabstudios.validate.StringRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks an "only [A-Za-z0-9_-]" test done with a regular expression
+ * against the same test done with a CharClass.
+ *
+ *      Validate.stringRule().testMatch("[A-Za-z0-9_-]*").build().tryValidate(value);
+ *      Validate.stringRule().testAllowedChars(identifier).build().tryValidate(value);
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class CharClassBenchmark
+{
+    
+    /*
+     * The value to test.
+     */
+    @Param({ "order_item-0123456789", "order_item-0123456789-order_item-0123456789-order_item-0123456789" })
+    public String     _value;
+    
+    /*
+     * The rule with the regular expression.
+     */
+    public StringRule _matchRule;
+    
+    /*
+     * The rule with the char class.
+     */
+    public StringRule _charsRule;
+    
+    @Setup
+    public void setUp()
+    {
+        final CharClass identifier = Validate.charClass().range('A', 'Z').range('a', 'z').range('0', '9')
+                .chars("_-").build();
+        this._matchRule = Validate.stringRule().testMatch("[A-Za-z0-9_-]*").build();
+        this._charsRule = Validate.stringRule().testAllowedChars(identifier).build();
+    }
+    
+    @Benchmark
+    public long match()
+    {
+        return (this._matchRule.tryValidate(this._value));
+    }
+    
+    @Benchmark
+    public long allowedChars()
+    {
+        return (this._charsRule.tryValidate(this._value));
+    }
+}
@@ -0,0 +1,154 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.DelimitedSchema;
+import com.gabstudios.validate.DoubleRule;
+import com.gabstudios.validate.IntegerRule;
+import com.gabstudios.validate.StringRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the delimited file validator against reading the lines with a
+ * BufferedReader, splitting them and parsing each field. The file is written
+ * once and is in the page cache, so the benchmarks measure the scan and not
+ * the disk.
+ *
+ *      Validate.defineDelimitedFile(path, schema).validate(sink);
+ *
+ * Every thousandth row has an out of range age.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DelimitedFileBenchmark
+{
+    
+    /*
+     * The number of rows in the file.
+     */
+    @Param({ "1000000" })
+    public int             _size;
+    
+    /*
+     * The file of rows.
+     */
+    public Path            _file;
+    
+    /*
+     * The schema of a row.
+     */
+    public DelimitedSchema _schema;
+    
+    /*
+     * The rules of the columns.
+     */
+    public StringRule      _nameRule;
+    
+    public IntegerRule     _ageRule;
+    
+    public DoubleRule      _balanceRule;
+    
+    @Setup
+    public void setUp() throws IOException
+    {
+        final Random random = new Random(42);
+        final StringBuilder text = new StringBuilder("name,age,balance\n");
+        for (int i = 0; i < this._size; i++)
+        {
+            for (int c = 0, n = 4 + random.nextInt(8); c < n; c++)
+            {
+                text.append((char) ('a' + random.nextInt(26)));
+            }
+            text.append(',').append((i % 1000 == 999) ? -1 : random.nextInt(151)).append(',')
+                    .append(random.nextInt(100000) / 100.0).append('\n');
+        }
+        this._file = Files.createTempFile("rows", ".csv");
+        Files.write(this._file, text.toString().getBytes(StandardCharsets.UTF_8));
+        
+        this._nameRule = Validate.stringRule().testNotNullEmpty().testMaxLength(10).build();
+        this._ageRule = Validate.integerRule().testMinValue(0).testMaxValue(150).build();
+        this._balanceRule = Validate.doubleRule().testMinValue(0.0).build();
+        this._schema = Validate.delimitedSchema().skipHeader().stringColumn("name", this._nameRule)
+                .intColumn("age", this._ageRule).doubleColumn("balance", this._balanceRule).build();
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(this._file);
+    }
+    
+    @Benchmark
+    public long delimitedFile() throws IOException
+    {
+        return (Validate.defineDelimitedFile(this._file, this._schema).validate(null).getInvalidRecordCount());
+    }
+    
+    @Benchmark
+    public long splitLines() throws IOException
+    {
+        long invalid = 0;
+        try (BufferedReader reader = Files.newBufferedReader(this._file, StandardCharsets.UTF_8))
+        {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                final String[] fields = line.split(",");
+                long failed = this._nameRule.tryValidate(fields[0]);
+                failed |= this._ageRule.tryValidate(Integer.parseInt(fields[1]));
+                failed |= this._balanceRule.tryValidate(Double.parseDouble(fields[2]));
+                if (failed != 0)
+                {
+                    invalid++;
+                }
+            }
+        }
+        return (invalid);
+    }
+}
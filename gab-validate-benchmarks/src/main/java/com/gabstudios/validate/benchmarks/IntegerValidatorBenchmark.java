@@ -0,0 +1,136 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.Validate;
+import com.gabstudios.validate.ValidateException;
+import com.gabstudios.validate.ValidationResult;
+
+/**
+ * Benchmarks the IntegerValidator through Validate.defineInteger(), covering the pass and
+ * fail paths in both the returning and the throwing modes.
+ *
+ *      Validate.defineInteger(value).testMinValue(min).testMaxValue(max).validate();
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class IntegerValidatorBenchmark
+{
+    
+    /*
+     * A value that passes every configured test.
+     */
+    public int _validValue = 5000;
+    
+    /*
+     * A value that fails at least one configured test.
+     */
+    public int _invalidValue = 50000;
+
+    /*
+     * The range the value must be in.
+     */
+    public int _minValue = 0;
+    public int _maxValue = 10000;
+
+    @Benchmark
+    public boolean validatePass()
+    {
+        return (Validate.defineInteger(this._validValue).testMinValue(this._minValue).testMaxValue(this._maxValue).validate());
+    }
+    
+    @Benchmark
+    public boolean validateFail()
+    {
+        return (Validate.defineInteger(this._invalidValue).testMinValue(this._minValue).testMaxValue(this._maxValue).validate());
+    }
+    
+    @Benchmark
+    public boolean throwingPass()
+    {
+        return (Validate.defineInteger(this._validValue).testMinValue(this._minValue).testMaxValue(this._maxValue)
+                .throwValidationExceptionOnFail().validate());
+    }
+    
+    @Benchmark
+    public boolean throwingFail()
+    {
+        try
+        {
+            return (Validate.defineInteger(this._invalidValue).testMinValue(this._minValue).testMaxValue(this._maxValue)
+                    .throwValidationExceptionOnFail().validate());
+        }
+        catch (final ValidateException e)
+        {
+            return (false);
+        }
+    }
+    
+    @Benchmark
+    public boolean throwingFailStackless()
+    {
+        try
+        {
+            return (Validate.defineInteger(this._invalidValue).testMinValue(this._minValue).testMaxValue(this._maxValue)
+                    .throwStacklessValidationExceptionOnFail().validate());
+        }
+        catch (final ValidateException e)
+        {
+            return (false);
+        }
+    }
+    
+    @Benchmark
+    public ValidationResult validateAllPass()
+    {
+        return (Validate.defineInteger(this._validValue).testMinValue(this._minValue).testMaxValue(this._maxValue).validateAll());
+    }
+    
+    @Benchmark
+    public ValidationResult validateAllFail()
+    {
+        return (Validate.defineInteger(this._invalidValue).testMinValue(this._minValue).testMaxValue(this._maxValue).validateAll());
+    }
+    
+    @Benchmark
+    public long tryValidateFail()
+    {
+        return (Validate.defineInteger(this._invalidValue).testMinValue(this._minValue).testMaxValue(this._maxValue).tryValidate());
+    }
+}
@@ -0,0 +1,117 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.LinearPattern;
+import com.gabstudios.validate.StringRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks a match test done with java.util.regex against the same test
+ * done with a LinearPattern, on a typical email value and on a pathological
+ * value that makes java.util.regex backtrack for an exponential time.
+ *
+ *      Validate.stringRule().testMatch("(a|aa){1,30}b").build().tryValidate(value);
+ *      Validate.stringRule().testMatch(LinearPattern.compile("(a|aa){1,30}b")).build().tryValidate(value);
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class LinearPatternBenchmark
+{
+    
+    /*
+     * The kind of input: "typical" or "pathological".
+     */
+    @Param({ "typical", "pathological" })
+    public String     _input;
+    
+    /*
+     * The value to test.
+     */
+    public String     _value;
+    
+    /*
+     * The rule with the java.util.regex pattern.
+     */
+    public StringRule _regexRule;
+    
+    /*
+     * The rule with the linear time pattern.
+     */
+    public StringRule _linearRule;
+    
+    @Setup
+    public void setUp()
+    {
+        final String regex;
+        if ("typical".equals(this._input))
+        {
+            regex = "[A-Za-z0-9._%+-]+@[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}";
+            this._value = "first.last+orders@mail.example.com";
+        }
+        else
+        {
+            // each "a" can start a new repeat or not, so java.util.regex
+            // tries every way to split the value before it fails.
+            regex = "(a|aa){1,30}b";
+            this._value = "aaaaaaaaaaaaaaaaaaaaaa";
+        }
+        final LinearPattern pattern = LinearPattern.compile(regex);
+        if (!pattern.isLinear())
+        {
+            throw (new IllegalStateException("The pattern is not linear: " + regex));
+        }
+        this._regexRule = Validate.stringRule().testMatch(regex).build();
+        this._linearRule = Validate.stringRule().testMatch(pattern).build();
+    }
+    
+    @Benchmark
+    public long regex()
+    {
+        return (this._regexRule.tryValidate(this._value));
+    }
+    
+    @Benchmark
+    public long linear()
+    {
+        return (this._linearRule.tryValidate(this._value));
+    }
+}
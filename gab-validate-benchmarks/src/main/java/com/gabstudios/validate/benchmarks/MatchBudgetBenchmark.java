@@ -0,0 +1,111 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.MatchBudget;
+import com.gabstudios.validate.StringRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks a match test with and without a MatchBudget, on a typical value,
+ * where the budget is overhead, and on a crafted value, where the budget
+ * stops the backtracking.
+ *
+ *      Validate.stringRule().testMatch(regex).testMatchBudget(budget).build().tryValidate(value);
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class MatchBudgetBenchmark
+{
+    
+    /*
+     * The kind of input: "typical" or "crafted".
+     */
+    @Param({ "typical", "crafted" })
+    public String     _input;
+    
+    /*
+     * The value to test.
+     */
+    public String     _value;
+    
+    /*
+     * The rule without a budget.
+     */
+    public StringRule _rule;
+    
+    /*
+     * The rule with a step budget.
+     */
+    public StringRule _budgetRule;
+    
+    @Setup
+    public void setUp()
+    {
+        final String regex;
+        if ("typical".equals(this._input))
+        {
+            regex = "[A-Za-z0-9._%+-]+@[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}";
+            this._value = "first.last+orders@mail.example.com";
+        }
+        else
+        {
+            // passes the prefilter, then backtracks over every split of the "a" chars.
+            regex = "(a|aa){1,30}b";
+            this._value = "aaaaaaaaaaaaaaaaaaaacab";
+        }
+        final MatchBudget budget = Validate.matchBudget().maxLength(256).maxSteps(10000).build();
+        this._rule = Validate.stringRule().testMatch(regex).build();
+        this._budgetRule = Validate.stringRule().testMatch(regex).testMatchBudget(budget).build();
+    }
+    
+    @Benchmark
+    public long unbounded()
+    {
+        return (this._rule.tryValidate(this._value));
+    }
+    
+    @Benchmark
+    public long budget()
+    {
+        return (this._budgetRule.tryValidate(this._value));
+    }
+}
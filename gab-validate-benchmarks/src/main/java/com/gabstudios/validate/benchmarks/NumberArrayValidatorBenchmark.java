@@ -0,0 +1,163 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the bulk primitive array validators against a loop that
+ * defines one validator per element.
+ *
+ *      Validate.defineIntArray(values).testMinValue(min).testMaxValue(max).validate();
+ *
+ * The fail arrays have every tenth element out of range, so the count loop
+ * runs over the whole array. The parallel benchmarks split the same arrays
+ * into chunks on the common ForkJoinPool.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class NumberArrayValidatorBenchmark
+{
+    
+    /*
+     * The number of elements in each array.
+     */
+    @Param({ "1000000" })
+    public int      _size;
+    
+    /*
+     * The range every valid element is in.
+     */
+    public int      _minValue = 0;
+    public int      _maxValue = 10000;
+    
+    /*
+     * Arrays with every element in range.
+     */
+    public int[]    _validInts;
+    public long[]   _validLongs;
+    public double[] _validDoubles;
+    
+    /*
+     * An array with every tenth element out of range.
+     */
+    public int[]    _invalidInts;
+    
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(42);
+        this._validInts = new int[this._size];
+        this._validLongs = new long[this._size];
+        this._validDoubles = new double[this._size];
+        this._invalidInts = new int[this._size];
+        for (int i = 0; i < this._size; i++)
+        {
+            final int value = random.nextInt(this._maxValue + 1);
+            this._validInts[i] = value;
+            this._validLongs[i] = value;
+            this._validDoubles[i] = value;
+            this._invalidInts[i] = (i % 10 == 9) ? -value - 1 : value;
+        }
+    }
+    
+    @Benchmark
+    public boolean intArrayPass()
+    {
+        return (Validate.defineIntArray(this._validInts).testMinValue(this._minValue).testMaxValue(this._maxValue)
+                .validate());
+    }
+    
+    @Benchmark
+    public int intArrayFail()
+    {
+        return (Validate.defineIntArray(this._invalidInts).testMinValue(this._minValue)
+                .testMaxValue(this._maxValue).tryValidate() == 0L ? 0 : 1);
+    }
+    
+    @Benchmark
+    public boolean intArrayParallelPass()
+    {
+        return (Validate.defineIntArray(this._validInts).testMinValue(this._minValue).testMaxValue(this._maxValue)
+                .parallel().validate());
+    }
+    
+    @Benchmark
+    public int intArrayParallelFail()
+    {
+        return (Validate.defineIntArray(this._invalidInts).testMinValue(this._minValue)
+                .testMaxValue(this._maxValue).parallel().tryValidate() == 0L ? 0 : 1);
+    }
+    
+    @Benchmark
+    public boolean intPerElementPass()
+    {
+        boolean isValid = true;
+        for (final int value : this._validInts)
+        {
+            isValid &= Validate.defineInteger(value).testMinValue(this._minValue).testMaxValue(this._maxValue)
+                    .validate();
+        }
+        return (isValid);
+    }
+    
+    @Benchmark
+    public boolean longArrayPass()
+    {
+        return (Validate.defineLongArray(this._validLongs).testMinValue(this._minValue)
+                .testMaxValue(this._maxValue).validate());
+    }
+    
+    @Benchmark
+    public boolean doubleArrayPass()
+    {
+        return (Validate.defineDoubleArray(this._validDoubles).testMinValue(this._minValue)
+                .testMaxValue(this._maxValue).validate());
+    }
+    
+    @Benchmark
+    public boolean doubleArrayParallelPass()
+    {
+        return (Validate.defineDoubleArray(this._validDoubles).testMinValue(this._minValue)
+                .testMaxValue(this._maxValue).parallel().validate());
+    }
+}
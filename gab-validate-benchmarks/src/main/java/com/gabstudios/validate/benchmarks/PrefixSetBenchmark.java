@@ -0,0 +1,137 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.PrefixSet;
+
+/**
+ * Benchmarks a PrefixSet lookup against a loop of startsWith() and against a
+ * regex alternation of the same 5000 prefixes.
+ *
+ *      PrefixSet.of(prefixes).containsPrefixOf(value);
+ *      Pattern.compile("(?:topic\\.eu-0000\\.|...).*").matcher(value).matches();
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class PrefixSetBenchmark
+{
+    
+    /*
+     * The case to test: a value with one of the prefixes, or a value that
+     * shares most of a prefix but has none.
+     */
+    @Param({ "hit", "miss" })
+    public String       _case;
+    
+    /*
+     * The value to test.
+     */
+    public String       _value;
+    
+    /*
+     * The prefixes.
+     */
+    public List<String> _prefixes;
+    
+    /*
+     * The reused Matcher of an alternation of the prefixes.
+     */
+    public Matcher      _matcher;
+    
+    /*
+     * The trie of the prefixes.
+     */
+    public PrefixSet    _prefixSet;
+    
+    @Setup
+    public void setUp()
+    {
+        this._prefixes = new ArrayList<String>();
+        for (int i = 0; i < 5000; i++)
+        {
+            this._prefixes.add(String.format("topic.%s-%04d.", (i % 2 == 0) ? "eu" : "us", i));
+        }
+        if ("hit".equals(this._case))
+        {
+            this._value = "topic.us-4999.orders.created";
+        }
+        else
+        {
+            this._value = "topic.us-4998.orders.created";
+        }
+        final StringBuilder regex = new StringBuilder("(?:");
+        for (final String prefix : this._prefixes)
+        {
+            regex.append((regex.length() > 3) ? "|" : "").append(Pattern.quote(prefix));
+        }
+        this._matcher = Pattern.compile(regex.append(").*").toString(), Pattern.DOTALL).matcher("");
+        this._prefixSet = PrefixSet.of(this._prefixes);
+    }
+    
+    @Benchmark
+    public boolean startsWith()
+    {
+        for (final String prefix : this._prefixes)
+        {
+            if (this._value.startsWith(prefix))
+            {
+                return (true);
+            }
+        }
+        return (false);
+    }
+    
+    @Benchmark
+    public boolean regex()
+    {
+        return (this._matcher.reset(this._value).matches());
+    }
+    
+    @Benchmark
+    public boolean prefixSet()
+    {
+        return (this._prefixSet.containsPrefixOf(this._value));
+    }
+}
@@ -0,0 +1,137 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.RecordFileResult;
+import com.gabstudios.validate.RecordLayout;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the fixed-width record file validator on one thread and in
+ * parallel. The file is written once and is in the page cache, so the
+ * benchmarks measure the scan and not the disk.
+ *
+ *      Validate.defineRecordFile(path, layout).parallel().validate(sink);
+ *
+ * Every thousandth record has an out of range age.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RecordFileBenchmark
+{
+    
+    /*
+     * The number of bytes of a record: an int, a double, a long and a text code.
+     */
+    private static final int RECORD_LENGTH = 32;
+    
+    /*
+     * The number of records in the file.
+     */
+    @Param({ "2000000" })
+    public int          _size;
+    
+    /*
+     * The file of records.
+     */
+    public Path         _file;
+    
+    /*
+     * The layout of a record.
+     */
+    public RecordLayout _layout;
+    
+    @Setup
+    public void setUp() throws IOException
+    {
+        final Random random = new Random(42);
+        final ByteBuffer buffer = ByteBuffer.allocate(this._size * RECORD_LENGTH);
+        for (int i = 0; i < this._size; i++)
+        {
+            final int record = i * RECORD_LENGTH;
+            buffer.putInt(record, (i % 1000 == 999) ? -1 : random.nextInt(151));
+            buffer.putDouble(record + 4, random.nextDouble() * 1000.0);
+            buffer.putLong(record + 12, i + 1L);
+            for (int c = 0; c < 12; c++)
+            {
+                buffer.put(record + 20 + c, (byte) ((c < 8) ? 'A' + random.nextInt(26) : ' '));
+            }
+        }
+        this._file = Files.createTempFile("records", ".bin");
+        Files.write(this._file, buffer.array());
+        
+        this._layout = Validate.recordLayout(RECORD_LENGTH)
+                .intField("age", 0, Validate.integerRule().testMinValue(0).testMaxValue(150).build())
+                .doubleField("balance", 4, Validate.doubleRule().testMinValue(0.0).build())
+                .longField("id", 12, Validate.longRule().isPositiveValue().build())
+                .textField("code", 20, 12, Validate.stringRule().testNotNullEmpty().testMaxLength(10).build())
+                .build();
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(this._file);
+    }
+    
+    @Benchmark
+    public long recordFile() throws IOException
+    {
+        final RecordFileResult result = Validate.defineRecordFile(this._file, this._layout).validate(v -> {
+        });
+        return (result.getInvalidRecordCount());
+    }
+    
+    @Benchmark
+    public long recordFileParallel() throws IOException
+    {
+        final RecordFileResult result = Validate.defineRecordFile(this._file, this._layout).parallel()
+                .validate(v -> {
+                });
+        return (result.getInvalidRecordCount());
+    }
+}
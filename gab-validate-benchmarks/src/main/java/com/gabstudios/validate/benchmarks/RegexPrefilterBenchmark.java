@@ -0,0 +1,119 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.StringRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks a StringRule match test, which rejects most values with the
+ * length and literal prefilters of the regex, against running the regex with
+ * a reused Matcher.
+ *
+ *      Validate.stringRule().testMatch("^ORD-[0-9]{10}$").build().tryValidate(value);
+ *      matcher.reset(value).matches();
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class RegexPrefilterBenchmark
+{
+    
+    /*
+     * The case to test: a value that matches, a value with the wrong prefix,
+     * a value with the wrong length, or a literal regex.
+     */
+    @Param({ "match", "badPrefix", "badLength", "literal" })
+    public String     _case;
+    
+    /*
+     * The value to test.
+     */
+    public String     _value;
+    
+    /*
+     * The reused Matcher of the regex.
+     */
+    public Matcher    _matcher;
+    
+    /*
+     * The rule with the prefiltered regex.
+     */
+    public StringRule _rule;
+    
+    @Setup
+    public void setUp()
+    {
+        String regex = "^ORD-[0-9]{10}$";
+        if ("match".equals(this._case))
+        {
+            this._value = "ORD-0123456789";
+        }
+        else if ("badPrefix".equals(this._case))
+        {
+            this._value = "INV-0123456789";
+        }
+        else if ("badLength".equals(this._case))
+        {
+            this._value = "ORD-0123456789012345";
+        }
+        else
+        {
+            regex = "status-active";
+            this._value = "status-active";
+        }
+        this._matcher = Pattern.compile(regex).matcher("");
+        this._rule = Validate.stringRule().testMatch(regex).build();
+    }
+    
+    @Benchmark
+    public boolean regex()
+    {
+        return (this._matcher.reset(this._value).matches());
+    }
+    
+    @Benchmark
+    public long prefiltered()
+    {
+        return (this._rule.tryValidate(this._value));
+    }
+}
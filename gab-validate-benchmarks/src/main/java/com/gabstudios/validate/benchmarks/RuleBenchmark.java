@@ -0,0 +1,132 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.IntegerRule;
+import com.gabstudios.validate.StringRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks the immutable rules built once through Validate.xxxxxRule() and
+ * reused for every value. Compare with the IntegerValidatorBenchmark and the
+ * StringValidatorBenchmark, which create a validator per value.
+ *
+ *      IntegerRule rule = Validate.integerRule().testMinValue(min).testMaxValue(max).build();
+ *      rule.test(value);
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RuleBenchmark
+{
+    
+    /*
+     * The int rule shared by every thread.
+     */
+    public IntegerRule _integerRule     = Validate.integerRule().testMinValue(0).testMaxValue(10000).build();
+    
+    /*
+     * The String length rule shared by every thread.
+     */
+    public StringRule  _lengthRule      = Validate.stringRule().testMinLength(1).testMaxLength(16).build();
+    
+    /*
+     * The String match rule shared by every thread.
+     */
+    public StringRule  _matchRule       = Validate.stringRule().testMatch("^ORD-[0-9]{10}$").build();
+    
+    /*
+     * Values that pass and fail the int rule.
+     */
+    public int         _validInteger    = 5000;
+    public int         _invalidInteger  = 50000;
+    
+    /*
+     * Values that pass and fail the String rules.
+     */
+    public String      _validString     = "ORD-0123456789";
+    public String      _invalidString   = "ORD-01234567890123456789";
+    
+    @Benchmark
+    public boolean integerPass()
+    {
+        return (this._integerRule.test(this._validInteger));
+    }
+    
+    @Benchmark
+    public boolean integerFail()
+    {
+        return (this._integerRule.test(this._invalidInteger));
+    }
+    
+    @Benchmark
+    public boolean lengthPass()
+    {
+        return (this._lengthRule.test(this._validString));
+    }
+    
+    @Benchmark
+    public boolean lengthFail()
+    {
+        return (this._lengthRule.test(this._invalidString));
+    }
+    
+    @Benchmark
+    public boolean matchPass()
+    {
+        return (this._matchRule.test(this._validString));
+    }
+    
+    @Benchmark
+    public boolean matchFail()
+    {
+        return (this._matchRule.test(this._invalidString));
+    }
+    
+    @Benchmark
+    public long integerTryValidateFail()
+    {
+        return (this._integerRule.tryValidate(this._invalidInteger));
+    }
+    
+    @Benchmark
+    public long lengthTryValidateFail()
+    {
+        return (this._lengthRule.tryValidate(this._invalidString));
+    }
+}
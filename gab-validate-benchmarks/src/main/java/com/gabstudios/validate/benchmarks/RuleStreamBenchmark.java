@@ -0,0 +1,110 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.IntegerRule;
+import com.gabstudios.validate.RuleCollectors;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks validating an IntStream with a rule used as an IntPredicate and
+ * with RuleCollectors.tally(), against defining a validator per element inside
+ * the lambda.
+ *
+ *      Arrays.stream(values).filter(rule).count();
+ *
+ * Every tenth value is out of range.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RuleStreamBenchmark
+{
+    
+    /*
+     * The number of values in the stream.
+     */
+    @Param({ "10000" })
+    public int         _size;
+    
+    /*
+     * The rule shared by every thread.
+     */
+    public IntegerRule _rule = Validate.integerRule().testMinValue(0).testMaxValue(10000).build();
+    
+    /*
+     * The values of the stream.
+     */
+    public int[]       _values;
+    
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random(42);
+        this._values = new int[this._size];
+        for (int i = 0; i < this._size; i++)
+        {
+            final int value = random.nextInt(10001);
+            this._values[i] = (i % 10 == 9) ? -value - 1 : value;
+        }
+    }
+    
+    @Benchmark
+    public long filterRule()
+    {
+        return (Arrays.stream(this._values).filter(this._rule).count());
+    }
+    
+    @Benchmark
+    public long filterValidator()
+    {
+        return (Arrays.stream(this._values)
+                .filter(value -> Validate.defineInteger(value).testMinValue(0).testMaxValue(10000).validate())
+                .count());
+    }
+    
+    @Benchmark
+    public long tally()
+    {
+        return (RuleCollectors.tally(Arrays.stream(this._values), this._rule).getInvalidCount());
+    }
+}
@@ -0,0 +1,159 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.StringSet;
+
+/**
+ * Benchmarks a StringSet lookup against a HashSet and against a regex
+ * alternation of the same 1000 codes. The ignore case lookups compare a
+ * StringSet that folds the value in place with a HashSet that needs an upper
+ * case copy of the value.
+ *
+ *      StringSet.ofIgnoreCase(codes).contains(value);
+ *      codes.contains(value.toUpperCase(Locale.ROOT));
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class StringSetBenchmark
+{
+    
+    /*
+     * The case to test: a code in the set, a code of the right length that
+     * is not, or a value whose length no code has.
+     */
+    @Param({ "hit", "miss", "badLength" })
+    public String      _case;
+    
+    /*
+     * The value to test, in the case of the codes.
+     */
+    public String      _value;
+    
+    /*
+     * The value to test, in lower case.
+     */
+    public String      _lowerCaseValue;
+    
+    /*
+     * The codes in upper case.
+     */
+    public Set<String> _hashSet;
+    
+    /*
+     * The reused Matcher of a case insensitive alternation of the codes.
+     */
+    public Matcher     _matcher;
+    
+    /*
+     * The codes compared exactly.
+     */
+    public StringSet   _stringSet;
+    
+    /*
+     * The codes compared ignoring case.
+     */
+    public StringSet   _stringSetIgnoreCase;
+    
+    @Setup
+    public void setUp()
+    {
+        final List<String> codes = new ArrayList<String>();
+        for (int i = 0; i < 1000; i++)
+        {
+            codes.add(String.format("SKU-%05d", i * 7));
+        }
+        if ("hit".equals(this._case))
+        {
+            this._value = "SKU-03500";
+        }
+        else if ("miss".equals(this._case))
+        {
+            this._value = "SKU-03501";
+        }
+        else
+        {
+            this._value = "SKU-035000";
+        }
+        this._lowerCaseValue = this._value.toLowerCase(Locale.ROOT);
+        this._hashSet = new HashSet<String>(codes);
+        this._matcher = Pattern.compile(String.join("|", codes), Pattern.CASE_INSENSITIVE).matcher("");
+        this._stringSet = StringSet.of(codes);
+        this._stringSetIgnoreCase = StringSet.ofIgnoreCase(codes);
+    }
+    
+    @Benchmark
+    public boolean hashSet()
+    {
+        return (this._hashSet.contains(this._value));
+    }
+    
+    @Benchmark
+    public boolean stringSet()
+    {
+        return (this._stringSet.contains(this._value));
+    }
+    
+    @Benchmark
+    public boolean hashSetIgnoreCase()
+    {
+        return (this._hashSet.contains(this._lowerCaseValue.toUpperCase(Locale.ROOT)));
+    }
+    
+    @Benchmark
+    public boolean stringSetIgnoreCase()
+    {
+        return (this._stringSetIgnoreCase.contains(this._lowerCaseValue));
+    }
+    
+    @Benchmark
+    public boolean regexIgnoreCase()
+    {
+        return (this._matcher.reset(this._lowerCaseValue).matches());
+    }
+}
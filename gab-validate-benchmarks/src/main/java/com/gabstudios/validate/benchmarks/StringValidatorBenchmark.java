@@ -0,0 +1,194 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.Validate;
+import com.gabstudios.validate.ValidateException;
+/**
+ * Benchmarks the StringValidator through Validate.defineString(), covering the
+ * pass and fail paths of the length tests and of the regex match test in both
+ * the returning and the throwing modes.
+ *
+ *      Validate.defineString(value).testMinLength(min).testMaxLength(max).validate();
+ *      Validate.defineString(value).testMatch(regex).validate();
+ *      Validate.defineString(value).testMaxLength(max).testMatch(regex).failFast().validate();
+ *      Validate.defineCharSequence(builder).testMaxLength(max).testMatch(regex).validate();
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class StringValidatorBenchmark
+{
+    
+    /*
+     * A value that passes every configured test.
+     */
+    public String _validValue   = "ORD-0123456789";
+    
+    /*
+     * A value that fails at least one configured test.
+     */
+    public String _invalidValue = "ORD-01234567890123456789";
+    
+    /*
+     * The regular expression used by the match tests.
+     */
+    public String _regex        = "^ORD-[0-9]{10}$";
+    
+    /*
+     * The length range the value must be in.
+     */
+    public int    _minLength    = 1;
+    public int    _maxLength    = 16;
+    
+    /*
+     * The valid value as a StringBuilder, as a parser would produce it.
+     */
+    public StringBuilder _validBuilder = new StringBuilder(_validValue);
+    
+    @Benchmark
+    public boolean lengthPass()
+    {
+        return (Validate.defineString(this._validValue).testMinLength(this._minLength)
+                .testMaxLength(this._maxLength).validate());
+    }
+    
+    @Benchmark
+    public boolean lengthFail()
+    {
+        return (Validate.defineString(this._invalidValue).testMinLength(this._minLength)
+                .testMaxLength(this._maxLength).validate());
+    }
+    
+    @Benchmark
+    public boolean lengthThrowingPass()
+    {
+        return (Validate.defineString(this._validValue).testMinLength(this._minLength)
+                .testMaxLength(this._maxLength).throwValidationExceptionOnFail().validate());
+    }
+    
+    @Benchmark
+    public boolean lengthThrowingFail()
+    {
+        try
+        {
+            return (Validate.defineString(this._invalidValue).testMinLength(this._minLength)
+                    .testMaxLength(this._maxLength).throwValidationExceptionOnFail().validate());
+        }
+        catch (final ValidateException e)
+        {
+            return (false);
+        }
+    }
+    
+    @Benchmark
+    public boolean matchPass()
+    {
+        return (Validate.defineString(this._validValue).testMatch(this._regex).validate());
+    }
+    
+    @Benchmark
+    public boolean matchFail()
+    {
+        return (Validate.defineString(this._invalidValue).testMatch(this._regex).validate());
+    }
+    
+    @Benchmark
+    public boolean matchThrowingPass()
+    {
+        return (Validate.defineString(this._validValue).testMatch(this._regex)
+                .throwValidationExceptionOnFail().validate());
+    }
+    
+    @Benchmark
+    public boolean matchThrowingFail()
+    {
+        try
+        {
+            return (Validate.defineString(this._invalidValue).testMatch(this._regex)
+                    .throwValidationExceptionOnFail().validate());
+        }
+        catch (final ValidateException e)
+        {
+            return (false);
+        }
+    }
+    
+    @Benchmark
+    public boolean lengthAndMatchFail()
+    {
+        return (Validate.defineString(this._invalidValue).testMaxLength(this._maxLength).testMatch(this._regex)
+                .validate());
+    }
+    
+    @Benchmark
+    public boolean lengthAndMatchFailFast()
+    {
+        return (Validate.defineString(this._invalidValue).testMaxLength(this._maxLength).testMatch(this._regex)
+                .failFast().validate());
+    }
+    
+    @Benchmark
+    public boolean lengthThrowingFailStackless()
+    {
+        try
+        {
+            return (Validate.defineString(this._invalidValue).testMinLength(this._minLength)
+                    .testMaxLength(this._maxLength)
+                    .throwStacklessValidationExceptionOnFail().validate());
+        }
+        catch (final ValidateException e)
+        {
+            return (false);
+        }
+    }
+    
+    @Benchmark
+    public boolean charSequenceMatchPass()
+    {
+        return (Validate.defineCharSequence(this._validBuilder).testMaxLength(this._maxLength)
+                .testMatch(this._regex).validate());
+    }
+    
+    @Benchmark
+    public boolean toStringMatchPass()
+    {
+        return (Validate.defineString(this._validBuilder.toString()).testMaxLength(this._maxLength)
+                .testMatch(this._regex).validate());
+    }
+}
@@ -0,0 +1,113 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gabstudios.validate.StringRule;
+import com.gabstudios.validate.Validate;
+
+/**
+ * Benchmarks validating a field of a UTF-8 message in place against decoding
+ * it to a String first. The field is a slice in the middle of the message.
+ *
+ *      rule.tryValidate(bytes, offset, length);
+ *      rule.tryValidate(new String(bytes, offset, length, StandardCharsets.UTF_8));
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class Utf8Benchmark
+{
+    
+    /*
+     * The value of the field.
+     */
+    @Param({ "customer-0123456789@example.com", "clïent-0123456789@example.com" })
+    public String     _field;
+    
+    /*
+     * The message holding the field.
+     */
+    public byte[]     _message;
+    
+    /*
+     * The index of the first byte of the field.
+     */
+    public int        _offset;
+    
+    /*
+     * The number of bytes of the field.
+     */
+    public int        _length;
+    
+    /*
+     * The rule of the field.
+     */
+    public StringRule _rule;
+    
+    @Setup
+    public void setUp()
+    {
+        final byte[] field = this._field.getBytes(StandardCharsets.UTF_8);
+        this._message = ("{\"email\":\"" + this._field + "\"}").getBytes(StandardCharsets.UTF_8);
+        this._offset = 10;
+        this._length = field.length;
+        this._rule = Validate.stringRule().testNotNullEmpty().testMaxLength(64).build();
+    }
+    
+    @Benchmark
+    public long inPlace()
+    {
+        return (this._rule.tryValidate(this._message, this._offset, this._length));
+    }
+    
+    @Benchmark
+    public long decoded()
+    {
+        return (this._rule.tryValidate(new String(this._message, this._offset, this._length, StandardCharsets.UTF_8)));
+    }
+    
+    @Benchmark
+    public boolean validatorInPlace()
+    {
+        return (Validate.defineUtf8(this._message, this._offset, this._length).testNotNullEmpty().testMaxLength(64)
+                .validate());
+    }
+}
@@ -0,0 +1,554 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+/**
+ * The loops used by the primitive array validators. Each test of an element
+ * is reduced to a single [lo, hi] range before a loop is run, so a loop does
+ * one range check per element with no calls and no allocation. The counting
+ * loops are branch-free so the JIT can unroll them. The counts that also
+ * gather the smallest and the largest failing element are only run once an
+ * element has failed.
+ * 
+ * On a JVM with the Vector API, the counting and searching loops over a long
+ * range are handed to the vector kernels loaded by VectorSupport; the scalar
+ * loops are always kept as the fallback.
+ * 
+ * A double is compared through its sortable key, a long with the same order
+ * as Double.compare(): -0.0 is less than 0.0 and NaN is greater than any
+ * other value.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class ArrayKernels
+{
+    
+    /*
+     * The shortest range that is handed to the vector kernels. A shorter
+     * range is faster with the scalar loop.
+     */
+    private static final int          VECTOR_MIN_LENGTH = 64;
+    
+    /*
+     * The vector kernels, or null if they are not available on this JVM.
+     */
+    private static final RangeKernels VECTOR_KERNELS    = VectorSupport.loadRangeKernels();
+    
+    /**
+     * Prevent a new instance.
+     */
+    private ArrayKernels()
+    {
+        // void - ignore this.
+    }
+    
+    /*
+     * Tests if the loops are run with the vector kernels.
+     * @return A <code>boolean</code> value of true if the vector kernels are used.
+     */
+    static boolean isVectorized()
+    {
+        return (VECTOR_KERNELS != null);
+    }
+    
+    /*
+     * Gets the sortable key of a double. The keys of two doubles compare as
+     * signed longs the same way the doubles compare with Double.compare().
+     * @param value The double value.
+     * @return The key of the value.
+     */
+    static long toSortableKey(final double value)
+    {
+        final long bits = Double.doubleToLongBits(value);
+        return (bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+    
+    /*
+     * Gets the double of a sortable key.
+     * @param key The key created by toSortableKey.
+     * @return The double value.
+     */
+    static double fromSortableKey(final long key)
+    {
+        return (Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE)));
+    }
+    
+    /*
+     * Counts the elements outside of the range. A long enough range is handed to
+     * the vector kernels if they are available.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int countOutOfRange(final int[] values, final int from, final int to, final int lo, final int hi)
+    {
+        if (VECTOR_KERNELS != null && to - from >= VECTOR_MIN_LENGTH)
+        {
+            return (VECTOR_KERNELS.countOutOfRange(values, from, to, lo, hi));
+        }
+        return (scalarCountOutOfRange(values, from, to, lo, hi));
+    }
+    
+    /*
+     * Counts the elements outside of the range. A long enough range is handed to
+     * the vector kernels if they are available.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int countOutOfRange(final long[] values, final int from, final int to, final long lo, final long hi)
+    {
+        if (VECTOR_KERNELS != null && to - from >= VECTOR_MIN_LENGTH)
+        {
+            return (VECTOR_KERNELS.countOutOfRange(values, from, to, lo, hi));
+        }
+        return (scalarCountOutOfRange(values, from, to, lo, hi));
+    }
+    
+    /*
+     * Counts the elements outside of the range. A long enough range is handed to
+     * the vector kernels if they are available.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int countOutOfRange(final double[] values, final int from, final int to, final long lo, final long hi)
+    {
+        if (VECTOR_KERNELS != null && to - from >= VECTOR_MIN_LENGTH)
+        {
+            return (VECTOR_KERNELS.countOutOfRange(values, from, to, lo, hi));
+        }
+        return (scalarCountOutOfRange(values, from, to, lo, hi));
+    }
+    
+    /*
+     * Finds the first element outside of the range. A long enough range is handed to
+     * the vector kernels if they are available.
+     * @return The index of the first element less than lo or greater than hi, or -1.
+     */
+    static int indexOfOutOfRange(final int[] values, final int from, final int to, final int lo, final int hi)
+    {
+        if (VECTOR_KERNELS != null && to - from >= VECTOR_MIN_LENGTH)
+        {
+            return (VECTOR_KERNELS.indexOfOutOfRange(values, from, to, lo, hi));
+        }
+        return (scalarIndexOfOutOfRange(values, from, to, lo, hi));
+    }
+    
+    /*
+     * Finds the first element outside of the range. A long enough range is handed to
+     * the vector kernels if they are available.
+     * @return The index of the first element less than lo or greater than hi, or -1.
+     */
+    static int indexOfOutOfRange(final long[] values, final int from, final int to, final long lo, final long hi)
+    {
+        if (VECTOR_KERNELS != null && to - from >= VECTOR_MIN_LENGTH)
+        {
+            return (VECTOR_KERNELS.indexOfOutOfRange(values, from, to, lo, hi));
+        }
+        return (scalarIndexOfOutOfRange(values, from, to, lo, hi));
+    }
+    
+    /*
+     * Finds the first element outside of the range. A long enough range is handed to
+     * the vector kernels if they are available.
+     * @return The index of the first element less than lo or greater than hi, or -1.
+     */
+    static int indexOfOutOfRange(final double[] values, final int from, final int to, final long lo, final long hi)
+    {
+        if (VECTOR_KERNELS != null && to - from >= VECTOR_MIN_LENGTH)
+        {
+            return (VECTOR_KERNELS.indexOfOutOfRange(values, from, to, lo, hi));
+        }
+        return (scalarIndexOfOutOfRange(values, from, to, lo, hi));
+    }
+    
+    /*
+     * Counts the elements outside of the range.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The lowest valid value.
+     * @param hi The highest valid value. It must not be less than lo.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int scalarCountOutOfRange(final int[] values, final int from, final int to, final int lo, final int hi)
+    {
+        // an unsigned compare of (value - lo) tests both ends at once.
+        final int span = (hi - lo) + Integer.MIN_VALUE;
+        int count = 0;
+        for (int i = from; i < to; i++)
+        {
+            count += ((values[i] - lo) + Integer.MIN_VALUE > span) ? 1 : 0;
+        }
+        return (count);
+    }
+    
+    /*
+     * Counts the elements outside of the range.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The lowest valid value.
+     * @param hi The highest valid value. It must not be less than lo.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int scalarCountOutOfRange(final long[] values, final int from, final int to, final long lo, final long hi)
+    {
+        // an unsigned compare of (value - lo) tests both ends at once.
+        final long span = (hi - lo) + Long.MIN_VALUE;
+        int count = 0;
+        for (int i = from; i < to; i++)
+        {
+            count += ((values[i] - lo) + Long.MIN_VALUE > span) ? 1 : 0;
+        }
+        return (count);
+    }
+    
+    /*
+     * Counts the elements outside of the range of sortable keys.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The sortable key of the lowest valid value.
+     * @param hi The sortable key of the highest valid value. It must not be less than lo.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int scalarCountOutOfRange(final double[] values, final int from, final int to, final long lo, final long hi)
+    {
+        final long span = (hi - lo) + Long.MIN_VALUE;
+        int count = 0;
+        for (int i = from; i < to; i++)
+        {
+            count += ((toSortableKey(values[i]) - lo) + Long.MIN_VALUE > span) ? 1 : 0;
+        }
+        return (count);
+    }
+    
+    /*
+     * Finds the first element outside of the range.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The lowest valid value.
+     * @param hi The highest valid value.
+     * @return The index of the first element less than lo or greater than hi, or -1.
+     */
+    static int scalarIndexOfOutOfRange(final int[] values, final int from, final int to, final int lo, final int hi)
+    {
+        for (int i = from; i < to; i++)
+        {
+            final int value = values[i];
+            if (value < lo || value > hi)
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+    
+    /*
+     * Finds the first element outside of the range.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The lowest valid value.
+     * @param hi The highest valid value.
+     * @return The index of the first element less than lo or greater than hi, or -1.
+     */
+    static int scalarIndexOfOutOfRange(final long[] values, final int from, final int to, final long lo, final long hi)
+    {
+        for (int i = from; i < to; i++)
+        {
+            final long value = values[i];
+            if (value < lo || value > hi)
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+    
+    /*
+     * Finds the first element outside of the range of sortable keys.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The sortable key of the lowest valid value.
+     * @param hi The sortable key of the highest valid value.
+     * @return The index of the first element less than lo or greater than hi, or -1.
+     */
+    static int scalarIndexOfOutOfRange(final double[] values, final int from, final int to, final long lo, final long hi)
+    {
+        for (int i = from; i < to; i++)
+        {
+            final long key = toSortableKey(values[i]);
+            if (key < lo || key > hi)
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+    
+    /*
+     * Counts the elements outside of the range and widens the bounds to the
+     * smallest and the largest of them, so a failure is described in the same pass.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The lowest valid value.
+     * @param hi The highest valid value. It must not be less than lo.
+     * @param bounds The smallest and the largest element outside of the range so far.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int countOutOfRange(final int[] values, final int from, final int to, final int lo, final int hi,
+            final long[] bounds)
+    {
+        final int span = (hi - lo) + Integer.MIN_VALUE;
+        long min = bounds[0];
+        long max = bounds[1];
+        int count = 0;
+        for (int i = from; i < to; i++)
+        {
+            final int value = values[i];
+            if ((value - lo) + Integer.MIN_VALUE > span)
+            {
+                count++;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        bounds[0] = min;
+        bounds[1] = max;
+        return (count);
+    }
+    
+    /*
+     * Counts the elements outside of the range and widens the bounds to the
+     * smallest and the largest of them, so a failure is described in the same pass.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The lowest valid value.
+     * @param hi The highest valid value. It must not be less than lo.
+     * @param bounds The smallest and the largest element outside of the range so far.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int countOutOfRange(final long[] values, final int from, final int to, final long lo, final long hi,
+            final long[] bounds)
+    {
+        final long span = (hi - lo) + Long.MIN_VALUE;
+        long min = bounds[0];
+        long max = bounds[1];
+        int count = 0;
+        for (int i = from; i < to; i++)
+        {
+            final long value = values[i];
+            if ((value - lo) + Long.MIN_VALUE > span)
+            {
+                count++;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        bounds[0] = min;
+        bounds[1] = max;
+        return (count);
+    }
+    
+    /*
+     * Counts the elements outside of the range of sortable keys and widens the
+     * bounds to the smallest and the largest of their keys.
+     * @param values The array to test.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @param lo The sortable key of the lowest valid value.
+     * @param hi The sortable key of the highest valid value. It must not be less than lo.
+     * @param bounds The smallest and the largest key outside of the range so far.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int countOutOfRange(final double[] values, final int from, final int to, final long lo, final long hi,
+            final long[] bounds)
+    {
+        final long span = (hi - lo) + Long.MIN_VALUE;
+        long min = bounds[0];
+        long max = bounds[1];
+        int count = 0;
+        for (int i = from; i < to; i++)
+        {
+            final long key = toSortableKey(values[i]);
+            if ((key - lo) + Long.MIN_VALUE > span)
+            {
+                count++;
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+        }
+        bounds[0] = min;
+        bounds[1] = max;
+        return (count);
+    }
+    
+    /*
+     * Marks every row of a column as failed.
+     * @param length The number of rows.
+     * @param failedRows The bitmap of the failed rows. It has a bit for each row.
+     */
+    static void markAll(final int length, final long[] failedRows)
+    {
+        final int wordCount = length >>> 6;
+        for (int w = 0; w < wordCount; w++)
+        {
+            failedRows[w] = -1L;
+        }
+        if ((length & (Long.SIZE - 1)) != 0)
+        {
+            failedRows[wordCount] |= (1L << length) - 1L;
+        }
+    }
+    
+    /*
+     * Marks the rows of the elements outside of the range. Row i is bit
+     * (i % 64) of word (i / 64); a failed row is set and the other bits are kept.
+     * The column is counted first, so a valid column is one counting pass; a few
+     * failures are found by jumping from one to the next.
+     * @param values The column to test.
+     * @param lo The lowest valid value.
+     * @param hi The highest valid value. It must not be less than lo.
+     * @param failedRows The bitmap of the failed rows. It has a bit for each element.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int markOutOfRange(final int[] values, final int lo, final int hi, final long[] failedRows)
+    {
+        final int length = values.length;
+        final int count = countOutOfRange(values, 0, length, lo, hi);
+        if (count == 0)
+        {
+            return (0);
+        }
+        
+        if (count <= (length >>> 6))
+        {
+            for (int i = indexOfOutOfRange(values, 0, length, lo, hi); i >= 0; i = indexOfOutOfRange(values, i + 1,
+                    length, lo, hi))
+            {
+                failedRows[i >>> 6] |= 1L << i;
+            }
+            return (count);
+        }
+        
+        final int span = (hi - lo) + Integer.MIN_VALUE;
+        for (int base = 0; base < length; base += Long.SIZE)
+        {
+            final int end = Math.min(base + Long.SIZE, length);
+            long failed = 0L;
+            for (int i = base; i < end; i++)
+            {
+                failed |= (((values[i] - lo) + Integer.MIN_VALUE > span) ? 1L : 0L) << (i - base);
+            }
+            failedRows[base >>> 6] |= failed;
+        }
+        return (count);
+    }
+    
+    /*
+     * Marks the rows of the elements outside of the range. Row i is bit
+     * (i % 64) of word (i / 64); a failed row is set and the other bits are kept.
+     * The column is counted first, so a valid column is one counting pass; a few
+     * failures are found by jumping from one to the next.
+     * @param values The column to test.
+     * @param lo The lowest valid value.
+     * @param hi The highest valid value. It must not be less than lo.
+     * @param failedRows The bitmap of the failed rows. It has a bit for each element.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int markOutOfRange(final long[] values, final long lo, final long hi, final long[] failedRows)
+    {
+        final int length = values.length;
+        final int count = countOutOfRange(values, 0, length, lo, hi);
+        if (count == 0)
+        {
+            return (0);
+        }
+        
+        if (count <= (length >>> 6))
+        {
+            for (int i = indexOfOutOfRange(values, 0, length, lo, hi); i >= 0; i = indexOfOutOfRange(values, i + 1,
+                    length, lo, hi))
+            {
+                failedRows[i >>> 6] |= 1L << i;
+            }
+            return (count);
+        }
+        
+        final long span = (hi - lo) + Long.MIN_VALUE;
+        for (int base = 0; base < length; base += Long.SIZE)
+        {
+            final int end = Math.min(base + Long.SIZE, length);
+            long failed = 0L;
+            for (int i = base; i < end; i++)
+            {
+                failed |= (((values[i] - lo) + Long.MIN_VALUE > span) ? 1L : 0L) << (i - base);
+            }
+            failedRows[base >>> 6] |= failed;
+        }
+        return (count);
+    }
+    
+    /*
+     * Marks the rows of the elements outside of the range of sortable keys. Row i is bit
+     * (i % 64) of word (i / 64); a failed row is set and the other bits are kept.
+     * The column is counted first, so a valid column is one counting pass; a few
+     * failures are found by jumping from one to the next.
+     * @param values The column to test.
+     * @param lo The sortable key of the lowest valid value.
+     * @param hi The sortable key of the highest valid value. It must not be less than lo.
+     * @param failedRows The bitmap of the failed rows. It has a bit for each element.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    static int markOutOfRange(final double[] values, final long lo, final long hi, final long[] failedRows)
+    {
+        final int length = values.length;
+        final int count = countOutOfRange(values, 0, length, lo, hi);
+        if (count == 0)
+        {
+            return (0);
+        }
+        
+        if (count <= (length >>> 6))
+        {
+            for (int i = indexOfOutOfRange(values, 0, length, lo, hi); i >= 0; i = indexOfOutOfRange(values, i + 1,
+                    length, lo, hi))
+            {
+                failedRows[i >>> 6] |= 1L << i;
+            }
+            return (count);
+        }
+        
+        final long span = (hi - lo) + Long.MIN_VALUE;
+        for (int base = 0; base < length; base += Long.SIZE)
+        {
+            final int end = Math.min(base + Long.SIZE, length);
+            long failed = 0L;
+            for (int i = base; i < end; i++)
+            {
+                failed |= (((toSortableKey(values[i]) - lo) + Long.MIN_VALUE > span) ? 1L : 0L) << (i - base);
+            }
+            failedRows[base >>> 6] |= failed;
+        }
+        return (count);
+    }
+}
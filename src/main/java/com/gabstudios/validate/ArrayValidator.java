@@ -20,6 +20,8 @@
 package com.gabstudios.validate;
 
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
@@ -35,6 +37,10 @@ import java.util.Arrays;
  * .throwValidationExceptionOnFail().validate();
  *
  * If no test method is called, validate() returns a false.
+ * 
+ * A very large array can be scanned in parallel with the parallel() methods.
+ * The null element and equals tests are then split into chunks on a
+ * ForkJoinPool once the array is at least as long as the threshold.
  *
  * @author Gregory Brown (sysdevone)
  *
@@ -43,33 +49,34 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
 {
     
     /*
-     * A flag indicating that a max length test will be performed when the
-     * validate() method is called.
+     * The max length to test for. Defaults to 0.
      */
-    private boolean  _isTestMaxLength = false;
+    private int          _maxLength           = 0;
     
     /*
-     * A flag indicating that a min length test will be performed when the
-     * validate() method is called.
+     * The min length to test for. Defaults to 0.
      */
-    private boolean  _isTestMinLength = false;
+    private int          _minLength           = 0;
     
     /*
-     * A flag indicating if an "not empty" test will be performed when the
-     * validate() method is called.
+     * The index of the first null element, or -1.
      */
-    private boolean  _isTestNotEmpty  = false;
+    private int          _firstViolationIndex = -1;
     
+    /*
+     * The number of null elements.
+     */
+    private int          _violationCount      = 0;
     
     /*
-     * The max length to test for. Defaults to 0.
+     * The length at which the array is scanned in parallel. Defaults to never.
      */
-    private int      _maxLength       = 0;
+    private int          _parallelThreshold   = Integer.MAX_VALUE;
     
     /*
-     * The min length to test for. Defaults to 0.
+     * The pool of the parallel scan. It is set by the parallel methods.
      */
-    private int      _minLength       = 0;
+    private ForkJoinPool _pool                = null;
     
     /**
      * Protected constructor. Use Validate static method to create validator.
@@ -100,6 +107,78 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
         return (retVal);
     }
     
+    /**
+     * Gets the index of the first null element found by the "not null
+     * elements" test during the last validate.
+     *
+     * @return An <code>int</code> index, or -1 if no element was null.
+     */
+    public int getFirstViolationIndex()
+    {
+        return (this._firstViolationIndex);
+    }
+    
+    /**
+     * Gets the number of null elements found by the "not null elements" test
+     * during the last validate. If the failFast method has been called, the
+     * count stops at the first null element.
+     *
+     * @return An <code>int</code> value of zero or greater.
+     */
+    public int getViolationCount()
+    {
+        return (this._violationCount);
+    }
+    
+    /**
+     * A method to scan the array in parallel on the common ForkJoinPool when
+     * it has at least 65536 elements.
+     * 
+     * @return The same ArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    public ArrayValidator parallel()
+    {
+        return (parallel(ParallelScan.DEFAULT_THRESHOLD));
+    }
+    
+    /**
+     * A method to scan the array in parallel on the common ForkJoinPool when
+     * it has at least <code>threshold</code> elements.
+     * 
+     * @param threshold
+     *            The length at which the array is scanned in parallel.
+     * @return The same ArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    public ArrayValidator parallel(final int threshold)
+    {
+        return (parallel(threshold, ForkJoinPool.commonPool()));
+    }
+    
+    /**
+     * A method to scan the array in parallel on a pool when it has at least
+     * <code>threshold</code> elements.
+     * 
+     * @param threshold
+     *            The length at which the array is scanned in parallel.
+     * @param pool
+     *            The pool to scan the array in.
+     * @return The same ArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    public ArrayValidator parallel(final int threshold, final ForkJoinPool pool)
+    {
+        ParallelScan.checkThreshold(threshold);
+        if (pool == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'pool' must not be null."));
+        }
+        this._parallelThreshold = threshold;
+        this._pool = pool;
+        return (this);
+    }
+    
     /**
      * A method to mark that an "equals" test will be performed when the
      * validate() method is called.
@@ -113,8 +192,7 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     public ArrayValidator testEquals(final Object[] equalsValue)
     {
         // have to test for null if empty is selected.
-        this._isTestNotNull = true;
-        this._isTestEquals = true;
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.EQUALS.mask();
         
         if (equalsValue != null)
         {
@@ -149,8 +227,7 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
         else
         {
             // have to test for null if empty is selected.
-            this._isTestNotNull = true;
-            this._isTestMaxLength = true;
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MAX_LENGTH.mask();
             this._maxLength = maxLength;
         }
         return (this);
@@ -181,8 +258,7 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
         else
         {
             // have to test for null if empty is selected.
-            this._isTestNotNull = true;
-            this._isTestMinLength = true;
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MIN_LENGTH.mask();
             this._minLength = minLength;
         }
         return (this);
@@ -198,7 +274,7 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     @Override
     public ArrayValidator testNotNull()
     {
-        this._isTestNotNull = true;
+        this._rules |= RuleCode.NOT_NULL.mask();
         return (this);
     }
     
@@ -212,8 +288,22 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     public ArrayValidator testNotNullEmpty()
     {
         // have to test for null if empty is selected.
-        this._isTestNotNull = true;
-        this._isTestNotEmpty = true;
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.NOT_EMPTY.mask();
+        return (this);
+    }
+
+    /**
+     * A method to mark that a "not null elements" test will be performed when
+     * the validate() method is called. Tests that no element of the array is
+     * null.
+     * 
+     * @return The same ArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    public ArrayValidator testNotNullElements()
+    {
+        // have to test for null if the elements are tested.
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.NOT_NULL_ELEMENTS.mask();
         return (this);
     }
 
@@ -225,11 +315,22 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     @Override
 	public boolean validate() 
     {
+        this._firstViolationIndex = -1;
+        this._violationCount = 0;
+
+        if (this._isFailFast)
+        {
+            // from the cheapest test to the most expensive.
+            return (validateNotNull() && validateNotEmpty() && validateMinLength() && validateMaxLength()
+                    && validateNotNullElements() && validateEquals());
+        }
+
         // call ObjectValidator validate method.
         boolean isValid = super.validate();
         isValid &= validateNotEmpty();
         isValid &= validateMinLength();
         isValid &= validateMaxLength();
+        isValid &= validateNotNullElements();
 
         return ( isValid );
 
@@ -238,14 +339,13 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     protected boolean validateNotEmpty()
     {
         boolean isValid = true;
-        if (this._isTestNotEmpty)
+        if (RuleCode.NOT_EMPTY.isIn(this._rules))
         {
             
             isValid = (this._value != null && this._value.length > 0);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.NOT_EMPTY))
             {
-                ObjectValidator
-                        .throwValidateException("The value must not be empty.");
+                reportViolation(RuleCode.NOT_EMPTY);
             }
         }
         return(isValid);
@@ -258,16 +358,13 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     protected boolean validateMinLength()
     {
         boolean isValid = true;
-        if (this._isTestMinLength)
+        if (RuleCode.MIN_LENGTH.isIn(this._rules))
         {
 			isValid = (this._value != null && this._value.length >= this._minLength);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.MIN_LENGTH))
             {
-            	ObjectValidator
-                        .throwValidateException("The value must be greater than or equal to the min value."
-                + " (value = '" + this._value
-                + "' min value = '"
-                + this._minLength + "').");
+            	reportViolation(RuleCode.MIN_LENGTH, this._value,
+                        (this._value != null) ? Integer.valueOf(this._value.length) : null, this._minLength);
             }
         }
         return(isValid);
@@ -280,17 +377,13 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
     protected boolean validateMaxLength()
     {
         boolean isValid = true;
-        if (this._isTestMaxLength)
+        if (RuleCode.MAX_LENGTH.isIn(this._rules))
         {
 			isValid = (this._value != null && this._value.length <= this._maxLength);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.MAX_LENGTH))
             {
-            	ObjectValidator
-                        .throwValidateException("The value must be less than or equal to the max value."
-                + " (value = '"
-                + this._value
-                + "' min value = '"
-                + this._minLength + "').");
+            	reportViolation(RuleCode.MAX_LENGTH, this._value,
+                        (this._value != null) ? Integer.valueOf(this._value.length) : null, this._maxLength);
             }
         }
         return(isValid);
@@ -298,24 +391,118 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
 
 
     /*
-     * Used as part of the validation process to test to not empty.
+     * Used as part of the validation process to test for null elements. A long
+     * enough array is scanned in chunks in parallel.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    protected boolean validateNotNullElements()
+    {
+        boolean isValid = true;
+        if (RuleCode.NOT_NULL_ELEMENTS.isIn(this._rules) && this._value != null)
+        {
+            final Object[] value = this._value;
+            final ParallelScan.Scanner scanner = new ParallelScan.Scanner()
+            {
+                @Override
+                public int indexOf(final int from, final int to)
+                {
+                    for (int i = from; i < to; i++)
+                    {
+                        if (value[i] == null)
+                        {
+                            return (i);
+                        }
+                    }
+                    return (-1);
+                }
+                
+                @Override
+                public int count(final int from, final int to, final long[] bounds)
+                {
+                    int count = 0;
+                    for (int i = from; i < to; i++)
+                    {
+                        count += (value[i] == null) ? 1 : 0;
+                    }
+                    return (count);
+                }
+            };
+            
+            final int index;
+            final int count;
+            if (value.length >= this._parallelThreshold)
+            {
+                final ParallelScan scan = ParallelScan.scan(scanner, value.length, this._isFailFast, this._pool);
+                index = scan.getIndex();
+                count = scan.getCount();
+            }
+            else
+            {
+                index = scanner.indexOf(0, value.length);
+                count = (index < 0 || this._isFailFast) ? 1 : scanner.count(index, value.length, null);
+            }
+            
+            isValid = (index < 0);
+            if (!isValid)
+            {
+                this._firstViolationIndex = index;
+                this._violationCount = this._isFailFast ? 1 : count;
+                if (recordFailure(RuleCode.NOT_NULL_ELEMENTS))
+                {
+                    reportViolation(RuleCode.NOT_NULL_ELEMENTS, index, this._violationCount);
+                }
+            }
+        }
+        return(isValid);
+    }
+
+    /*
+     * Used as part of the validation process to test to not empty. Two long
+     * enough arrays of the same length are compared in chunks in parallel.
      * @return A <code>boolean</code> value of true it is valid or false the validate failed.
      */
     @Override
     protected boolean validateEquals()
     {
         boolean isValid = true;
-        if (this._isTestEquals)
+        if (RuleCode.EQUALS.isIn(this._rules))
         {
-			isValid = Arrays.equals(this._value, this._equalsValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid )
+            if (this._value != null && this._equalsValue != null && this._value.length == this._equalsValue.length
+                    && this._value.length >= this._parallelThreshold)
+            {
+                final Object[] value = this._value;
+                final Object[] equalsValue = this._equalsValue;
+                final ParallelScan.Scanner scanner = new ParallelScan.Scanner()
+                {
+                    @Override
+                    public int indexOf(final int from, final int to)
+                    {
+                        for (int i = from; i < to; i++)
+                        {
+                            if (!Objects.equals(value[i], equalsValue[i]))
+                            {
+                                return (i);
+                            }
+                        }
+                        return (-1);
+                    }
+                    
+                    @Override
+                    public int count(final int from, final int to, final long[] bounds)
+                    {
+                        // not used, the scan stops at the first difference.
+                        return (0);
+                    }
+                };
+                isValid = (ParallelScan.scan(scanner, value.length, true, this._pool).getIndex() < 0);
+            }
+            else
+            {
+                isValid = Arrays.equals(this._value, this._equalsValue);
+            }
+            if (!isValid && recordFailure(RuleCode.EQUALS))
             {
-                ObjectValidator
-                        .throwValidateException("The value does not equal the expected value."
-                + " (value = '"
-                + this._value
-                + "' expected value = '"
-                + this._equalsValue + "').");
+                reportViolation(RuleCode.EQUALS, this._value, this._equalsValue);
             }
         }
         return(isValid);
@@ -328,10 +515,9 @@ public final class ArrayValidator extends ObjectValidator<Object[]>
 	@Override
 	public String toString() {
 		return String.format(
-				"ArrayValidator [_isTestMaxLength=%s, _isTestMinLength=%s, _isTestNotEmpty=%s, _maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxLength, _isTestMinLength, _isTestNotEmpty, _maxLength, _minLength,
-				_isValidationExceptionThrownOnFail, Arrays.toString(_equalsValue), _isTestEquals, _isTestNotNull,
-				Arrays.toString(_value));
+				"ArrayValidator [_rules=%s, _maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _maxLength, _minLength,
+				_isValidationExceptionThrownOnFail, Arrays.toString(_equalsValue), Arrays.toString(_value));
 	}
     
     
@@ -0,0 +1,177 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This is a CharSequence view of a range of ASCII bytes. It lets a UTF-8
+ * value be validated without decoding it: when every byte is ASCII, each byte
+ * is the char. The range is first checked 8 bytes at a time, and a value
+ * with any other byte is decoded to a String instead.
+ *
+ *      final CharSequence chars = AsciiBytes.decode(bytes, offset, length);
+ *
+ * The bytes are not copied, so they must not be changed while the view is in
+ * use.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class AsciiBytes implements CharSequence
+{
+    
+    /*
+     * The high bit of each byte of a long.
+     */
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    
+    /*
+     * The bytes the view is over.
+     */
+    private final byte[]      _bytes;
+    
+    /*
+     * The number of bytes of the view.
+     */
+    private final int         _length;
+    
+    /*
+     * The index of the first byte of the view.
+     */
+    private final int         _offset;
+    
+    /*
+     * Creates a view of ASCII bytes.
+     * @param bytes The bytes.
+     * @param offset The index of the first byte.
+     * @param length The number of bytes.
+     */
+    private AsciiBytes(final byte[] bytes, final int offset, final int length)
+    {
+        this._bytes = bytes;
+        this._offset = offset;
+        this._length = length;
+    }
+    
+    /*
+     * Gets the chars of a range of UTF-8 bytes. An ASCII range is returned as
+     * a view of the bytes; any other range is decoded to a String, with each
+     * malformed sequence replaced in the same way as new String(bytes, UTF_8).
+     * @param bytes The bytes. This value can be null.
+     * @param offset The index of the first byte.
+     * @param length The number of bytes.
+     * @return The chars, or null if the bytes are null.
+     * @throws IllegalArgumentException If the range is not in the bytes.
+     */
+    static CharSequence decode(final byte[] bytes, final int offset, final int length)
+    {
+        if (bytes == null)
+        {
+            return (null);
+        }
+        if (offset < 0 || length < 0 || offset > bytes.length - length)
+        {
+            throw (new IllegalArgumentException("The range is not in the bytes (offset = " + offset + ", length = "
+                    + length + ", bytes = " + bytes.length + ")."));
+        }
+        if (indexOfNonAscii(bytes, offset, offset + length) < 0)
+        {
+            return (new AsciiBytes(bytes, offset, length));
+        }
+        return (new String(bytes, offset, length, StandardCharsets.UTF_8));
+    }
+    
+    /*
+     * Finds the first byte that is not ASCII. The bytes are read 8 at a time
+     * as a long and tested with one mask, and the bytes left over one at a
+     * time.
+     * @param bytes The bytes.
+     * @param from The index of the first byte.
+     * @param to The index past the last byte.
+     * @return The index of the first byte with its high bit set, or -1.
+     */
+    static int indexOfNonAscii(final byte[] bytes, final int from, final int to)
+    {
+        int i = from;
+        if (to - from >= Long.BYTES)
+        {
+            final ByteBuffer words = ByteBuffer.wrap(bytes);
+            for (final int last = to - Long.BYTES; i <= last; i += Long.BYTES)
+            {
+                if ((words.getLong(i) & HIGH_BITS) != 0)
+                {
+                    break;
+                }
+            }
+        }
+        for (; i < to; i++)
+        {
+            if (bytes[i] < 0)
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+    
+    @Override
+    public char charAt(final int index)
+    {
+        if (index < 0 || index >= this._length)
+        {
+            throw (new IndexOutOfBoundsException("index = " + index + " length = " + this._length));
+        }
+        return ((char) this._bytes[this._offset + index]);
+    }
+    
+    @Override
+    public int length()
+    {
+        return (this._length);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.CharSequence#subSequence(int, int)
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end)
+    {
+        if (start < 0 || end > this._length || start > end)
+        {
+            throw (new IndexOutOfBoundsException("start = " + start + " end = " + end + " length = " + this._length));
+        }
+        return (new AsciiBytes(this._bytes, this._offset + start, end - start));
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return (new String(this._bytes, this._offset, this._length, StandardCharsets.ISO_8859_1));
+    }
+}
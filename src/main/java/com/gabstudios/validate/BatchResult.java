@@ -0,0 +1,220 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+/**
+ * The result of validating a columnar batch with a BatchSchema. The validity
+ * of the rows is a bitmap: row i is valid if bit (i % 64) of word (i / 64) is
+ * set. The failures of each column are counted in a RuleTally.
+ * 
+ *      BatchResult result = schema.validate(columns);
+ *      if (!result.isValid())
+ *      {
+ *          long tooOld = result.getTally("age").getCount(RuleCode.MAX_VALUE);
+ *          for (int row = result.nextInvalidRow(0); row &gt;= 0; row = result.nextInvalidRow(row + 1)) ...
+ *      }
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class BatchResult
+{
+    
+    /*
+     * The number of rows that failed at least one column.
+     */
+    private final int         _invalidRowCount;
+    
+    /*
+     * The names of the columns, in the order of the schema.
+     */
+    private final String[]    _names;
+    
+    /*
+     * The number of rows of the batch.
+     */
+    private final int         _rowCount;
+    
+    /*
+     * The failures of each column.
+     */
+    private final RuleTally[] _tallies;
+    
+    /*
+     * The bitmap of the valid rows.
+     */
+    private final long[]      _validRows;
+    
+    /*
+     * Package-private constructor. Use a BatchSchema to get a result.
+     * 
+     * @param rowCount The number of rows.
+     * @param validRows The bitmap of the valid rows. It is not copied.
+     * @param names The names of the columns. It is not copied.
+     * @param tallies The failures of each column.
+     */
+    BatchResult(final int rowCount, final long[] validRows, final String[] names, final RuleTally[] tallies)
+    {
+        this._rowCount = rowCount;
+        this._validRows = validRows;
+        this._names = names;
+        this._tallies = tallies;
+        
+        int validRowCount = 0;
+        for (final long word : validRows)
+        {
+            validRowCount += Long.bitCount(word);
+        }
+        this._invalidRowCount = rowCount - validRowCount;
+    }
+    
+    /**
+     * Gets the number of rows that failed at least one column.
+     *
+     * @return An <code>int</code> value of zero or greater.
+     */
+    public int getInvalidRowCount()
+    {
+        return (this._invalidRowCount);
+    }
+    
+    /**
+     * Gets the number of rows of the batch.
+     *
+     * @return An <code>int</code> value of zero or greater.
+     */
+    public int getRowCount()
+    {
+        return (this._rowCount);
+    }
+    
+    /**
+     * Gets the failures of a column.
+     *
+     * @param name
+     *            The name of the column.
+     * @return A <code>RuleTally</code> instance.
+     * @throws IllegalArgumentException
+     *             If the schema has no such column.
+     */
+    public RuleTally getTally(final String name)
+    {
+        for (int i = 0; i < this._names.length; i++)
+        {
+            if (this._names[i].equals(name))
+            {
+                return (this._tallies[i]);
+            }
+        }
+        throw (new IllegalArgumentException("The schema has no column '" + name + "'."));
+    }
+    
+    /**
+     * Gets the number of rows that passed every column.
+     *
+     * @return An <code>int</code> value of zero or greater.
+     */
+    public int getValidRowCount()
+    {
+        return (this._rowCount - this._invalidRowCount);
+    }
+    
+    /**
+     * Gets the bitmap of the valid rows. Row i is valid if bit (i % 64) of
+     * word (i / 64) is set; the bits after the last row are clear.
+     *
+     * @return A new array of (rowCount + 63) / 64 words.
+     */
+    public long[] getValidityBitmap()
+    {
+        return (Arrays.copyOf(this._validRows, this._validRows.length));
+    }
+    
+    /**
+     * Tests if every row passed every column.
+     *
+     * @return A <code>boolean</code> value that is true if no row failed.
+     */
+    public boolean isValid()
+    {
+        return (this._invalidRowCount == 0);
+    }
+    
+    /**
+     * Tests if a row passed every column.
+     *
+     * @param row
+     *            The index of the row.
+     * @return A <code>boolean</code> value that is true if the row is valid.
+     * @throws IllegalArgumentException
+     *             If the row is not in the batch.
+     */
+    public boolean isValid(final int row)
+    {
+        if (row < 0 || row >= this._rowCount)
+        {
+            throw (new IllegalArgumentException("The parameter 'row' must be in the batch (row = " + row + ")."));
+        }
+        return ((this._validRows[row >>> 6] & (1L << row)) != 0L);
+    }
+    
+    /**
+     * Finds the next row that failed a column.
+     *
+     * @param fromRow
+     *            The first row to look at.
+     * @return The index of the next invalid row, or -1 if there is none.
+     */
+    public int nextInvalidRow(final int fromRow)
+    {
+        if (fromRow >= this._rowCount)
+        {
+            return (-1);
+        }
+        
+        final int from = Math.max(fromRow, 0);
+        int w = from >>> 6;
+        long invalid = ~this._validRows[w] & (-1L << from);
+        while (invalid == 0L)
+        {
+            if (++w == this._validRows.length)
+            {
+                return (-1);
+            }
+            invalid = ~this._validRows[w];
+        }
+        
+        final int row = (w << 6) + Long.numberOfTrailingZeros(invalid);
+        return ((row < this._rowCount) ? row : -1);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("BatchResult [_rowCount=%s, _invalidRowCount=%s, _columns=%s, _tallies=%s]",
+                this._rowCount, this._invalidRowCount, Arrays.toString(this._names), Arrays.toString(this._tallies));
+    }
+}
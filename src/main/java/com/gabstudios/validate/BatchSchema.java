@@ -0,0 +1,339 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is an immutable schema of a columnar batch. It maps each column name to
+ * a rule, and validates a batch one column at a time: each test of a rule is
+ * run over the whole column before the next test, so the loops stay in cache
+ * and the numeric tests do not branch.
+ * 
+ *      BatchSchema schema = Validate.batchSchema()
+ *          .intColumn("age", Validate.integerRule().testMinValue(0).testMaxValue(150).build())
+ *          .stringColumn("name", Validate.stringRule().testNotNullEmpty().testMaxLength(64).build())
+ *          .build();
+ *
+ *      BatchResult result = schema.validate(columns);
+ *      for (int row = result.nextInvalidRow(0); row &gt;= 0; row = result.nextInvalidRow(row + 1)) ...
+ *
+ * A column is an int[], long[], double[] or String[] tested with an
+ * IntegerRule, LongRule, DoubleRule or StringRule. Every column of a batch
+ * has one element per row. The schema can be shared by any number of
+ * threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class BatchSchema
+{
+    
+    /*
+     * The names of the columns, in the order they were added.
+     */
+    private final String[] _names;
+    
+    /*
+     * The rule of each column.
+     */
+    private final Object[] _rules;
+    
+    /**
+     * Private constructor. Use the Builder to create a schema.
+     *
+     * @param builder
+     *            The builder holding the columns.
+     */
+    private BatchSchema(final Builder builder)
+    {
+        this._names = builder._columns.keySet().toArray(new String[builder._columns.size()]);
+        this._rules = builder._columns.values().toArray();
+    }
+    
+    /**
+     * Gets the names of the columns, in the order they were added.
+     *
+     * @return An unmodifiable list of the names.
+     */
+    public List<String> getColumnNames()
+    {
+        return (Collections.unmodifiableList(Arrays.asList(this._names)));
+    }
+    
+    /**
+     * Validates a batch. Each column of the schema is tested with its rule, one
+     * test at a time, and a row is valid if every column of the row passed.
+     * Columns of the batch that are not in the schema are ignored.
+     *
+     * @param columns
+     *            The columns of the batch by name.
+     * @return A new <code>BatchResult</code> instance.
+     * @throws IllegalArgumentException
+     *             If a column is missing, has the wrong type or a different
+     *             number of rows.
+     */
+    public BatchResult validate(final Map<String, ?> columns)
+    {
+        if (columns == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'columns' must not be null."));
+        }
+        
+        final Object[] values = new Object[this._names.length];
+        int rowCount = -1;
+        for (int i = 0; i < this._names.length; i++)
+        {
+            values[i] = columns.get(this._names[i]);
+            final int length = getLength(this._names[i], this._rules[i], values[i]);
+            if (rowCount >= 0 && length != rowCount)
+            {
+                throw (new IllegalArgumentException("The column '" + this._names[i] + "' has " + length
+                        + " rows, the batch has " + rowCount + "."));
+            }
+            rowCount = length;
+        }
+        
+        final int wordCount = (rowCount + Long.SIZE - 1) >>> 6;
+        final long[] validRows = new long[wordCount];
+        Arrays.fill(validRows, -1L);
+        if ((rowCount & (Long.SIZE - 1)) != 0)
+        {
+            validRows[wordCount - 1] = (1L << rowCount) - 1L;
+        }
+        
+        final long[] failedRows = new long[wordCount];
+        final RuleTally[] tallies = new RuleTally[this._names.length];
+        for (int i = 0; i < this._names.length; i++)
+        {
+            Arrays.fill(failedRows, 0L);
+            tallies[i] = new RuleTally();
+            validateColumn(this._rules[i], values[i], failedRows, tallies[i]);
+            
+            long invalidCount = 0L;
+            for (int w = 0; w < wordCount; w++)
+            {
+                invalidCount += Long.bitCount(failedRows[w]);
+                validRows[w] &= ~failedRows[w];
+            }
+            tallies[i].addRows(rowCount, invalidCount);
+        }
+        
+        return (new BatchResult(rowCount, validRows, this._names, tallies));
+    }
+    
+    /*
+     * Tests the type of a column and gets its number of rows.
+     * @param name The name of the column.
+     * @param rule The rule of the column.
+     * @param column The column.
+     * @return The number of rows.
+     */
+    private static int getLength(final String name, final Object rule, final Object column)
+    {
+        if (column == null)
+        {
+            throw (new IllegalArgumentException("The batch has no column '" + name + "'."));
+        }
+        if (rule instanceof IntegerRule && column instanceof int[])
+        {
+            return (((int[]) column).length);
+        }
+        if (rule instanceof LongRule && column instanceof long[])
+        {
+            return (((long[]) column).length);
+        }
+        if (rule instanceof DoubleRule && column instanceof double[])
+        {
+            return (((double[]) column).length);
+        }
+        if (rule instanceof StringRule && column instanceof String[])
+        {
+            return (((String[]) column).length);
+        }
+        throw (new IllegalArgumentException("The column '" + name + "' is a " + column.getClass().getSimpleName()
+                + ", the schema expects a column for a " + rule.getClass().getSimpleName() + "."));
+    }
+    
+    /*
+     * Validates a column with its rule.
+     * @param rule The rule of the column.
+     * @param column The column. Its type matches the rule.
+     * @param failedRows The bitmap of the failed rows.
+     * @param tally The tally of the column.
+     */
+    private static void validateColumn(final Object rule, final Object column, final long[] failedRows,
+            final RuleTally tally)
+    {
+        if (rule instanceof IntegerRule)
+        {
+            ((IntegerRule) rule).validateColumn((int[]) column, failedRows, tally);
+        }
+        else if (rule instanceof LongRule)
+        {
+            ((LongRule) rule).validateColumn((long[]) column, failedRows, tally);
+        }
+        else if (rule instanceof DoubleRule)
+        {
+            ((DoubleRule) rule).validateColumn((double[]) column, failedRows, tally);
+        }
+        else
+        {
+            ((StringRule) rule).validateColumn((String[]) column, failedRows, tally);
+        }
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        final List<String> columns = new ArrayList<String>();
+        for (int i = 0; i < this._names.length; i++)
+        {
+            columns.add(this._names[i] + "=" + this._rules[i]);
+        }
+        return String.format("BatchSchema [_columns=%s]", columns);
+    }
+    
+    /**
+     * This is a batch schema builder. Call the xxxxColumn() methods to add the
+     * columns and then call build() to create the immutable schema. A builder
+     * is not thread-safe, the schemas it builds are.
+     * 
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        
+        /*
+         * The rule of each column, in the order they were added.
+         */
+        private final Map<String, Object> _columns = new LinkedHashMap<String, Object>();
+        
+        /**
+         * Protected constructor. Use Validate.batchSchema() to create a builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+        
+        /**
+         * Builds an immutable schema from the added columns.
+         *
+         * @return A <code>BatchSchema</code> instance.
+         * @throws IllegalArgumentException
+         *             If no column has been added.
+         */
+        public BatchSchema build()
+        {
+            if (this._columns.isEmpty())
+            {
+                throw (new IllegalArgumentException("The schema must have at least one column."));
+            }
+            return (new BatchSchema(this));
+        }
+        
+        /**
+         * Adds a double[] column.
+         * 
+         * @param name
+         *            The name of the column.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder doubleColumn(final String name, final DoubleRule rule)
+        {
+            return (addColumn(name, rule));
+        }
+        
+        /**
+         * Adds an int[] column.
+         * 
+         * @param name
+         *            The name of the column.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder intColumn(final String name, final IntegerRule rule)
+        {
+            return (addColumn(name, rule));
+        }
+        
+        /**
+         * Adds a long[] column.
+         * 
+         * @param name
+         *            The name of the column.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder longColumn(final String name, final LongRule rule)
+        {
+            return (addColumn(name, rule));
+        }
+        
+        /**
+         * Adds a String[] column.
+         * 
+         * @param name
+         *            The name of the column.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder stringColumn(final String name, final StringRule rule)
+        {
+            return (addColumn(name, rule));
+        }
+        
+        /*
+         * Adds a column.
+         * @param name The name of the column.
+         * @param rule The rule of the column.
+         * @return The same Builder instance.
+         */
+        private Builder addColumn(final String name, final Object rule)
+        {
+            if (name == null || rule == null)
+            {
+                throw (new IllegalArgumentException("The parameters 'name' and 'rule' must not be null."));
+            }
+            if (this._columns.containsKey(name))
+            {
+                throw (new IllegalArgumentException("The column '" + name + "' has already been added."));
+            }
+            this._columns.put(name, rule);
+            return (this);
+        }
+    }
+}
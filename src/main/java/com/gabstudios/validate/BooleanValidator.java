@@ -39,18 +39,6 @@ package com.gabstudios.validate;
 public final class BooleanValidator extends ObjectValidator<Boolean>
 {
     
-    /*
-     * A flag indicating if a "false" test will be performed when the validate()
-     * method is called.
-     */
-    private boolean       _isTestFalse  = false;
-    
-    /*
-     * A flag indicating if a "true" test will be performed when the validate()
-     * method is called.
-     */
-    private boolean       _isTestTrue   = false;
-    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -71,7 +59,7 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
      */
     public BooleanValidator testFalse()
     {
-        this._isTestFalse = true;
+        this._rules |= RuleCode.FALSE.mask();
         return (this);
     }
     
@@ -84,7 +72,7 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
      */
     public BooleanValidator testTrue()
     {
-        this._isTestTrue = true;
+        this._rules |= RuleCode.TRUE.mask();
         return (this);
     }
     
@@ -96,6 +84,11 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
     @Override
     public boolean validate()
     {
+        if (this._isFailFast)
+        {
+            return (validateNotNull() && validateFalse() && validateTrue() && validateEquals());
+        }
+
 		// call ObjectValidator validate method.
         boolean isValid = super.validate();
         isValid &= validateFalse();
@@ -107,14 +100,12 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
     protected boolean validateFalse()
     {
         boolean isValid = true;
-        if (this._isTestFalse)
+        if (RuleCode.FALSE.isIn(this._rules))
         {
 			isValid = this._value.equals(Boolean.FALSE);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.FALSE))
             {
-            	ObjectValidator
-                        .throwValidateException("The value is not false. (value = '"
-                                + this._value + "').");
+            	reportViolation(RuleCode.FALSE, this._value);
             }
         }
         return(isValid);
@@ -123,14 +114,12 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
     protected boolean validateTrue()
     {
         boolean isValid = true;
-        if (this._isTestTrue)
+        if (RuleCode.TRUE.isIn(this._rules))
         {
 		    isValid = this._value.equals(Boolean.TRUE);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.TRUE))
             {
-            	ObjectValidator
-                        .throwValidateException("The value is not true. (value = '"
-                                + this._value + "').");
+            	reportViolation(RuleCode.TRUE, this._value);
             }
         }
         return(isValid);
@@ -142,9 +131,8 @@ public final class BooleanValidator extends ObjectValidator<Boolean>
 	@Override
 	public String toString() {
 		return String.format(
-				"BooleanValidator [_isTestFalse=%s, _isTestTrue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestFalse, _isTestTrue, _isValidationExceptionThrownOnFail, _equalsValue, _isTestEquals,
-				_isTestNotNull, _value);
+				"BooleanValidator [_rules=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _isValidationExceptionThrownOnFail, _equalsValue, _value);
 	}
     
     
@@ -39,6 +39,21 @@ package com.gabstudios.validate;
 public final class ByteValidator extends NumberValidator<Byte>
 {
     
+    /*
+     * The max value to test for. Defaults to Byte.MAX_VALUE.
+     */
+    private byte       _maxValue       = Byte.MAX_VALUE;
+    
+    /*
+     * The min value to test for. Defaults to Byte.MIN_VALUE.
+     */
+    private byte       _minValue       = Byte.MIN_VALUE;
+    
+    /*
+     * The value that will be tested, kept unboxed for the comparisons.
+     */
+    private final byte _primitiveValue;
+    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -47,25 +62,103 @@ public final class ByteValidator extends NumberValidator<Byte>
      */
     protected ByteValidator(final byte value)
     {
-        super( value, Byte.MIN_VALUE, Byte.MAX_VALUE, returnNullByte());
+        super( value );
+        this._primitiveValue = value;
     }
-
-   private static final byte returnNullByte()
-   {
-       // to resolve an boxing issue reported by sonarcloud
-       final Integer intNum = Integer.valueOf(0);
-       return( intNum.byteValue() );
-   }
-  
+    
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same ByteValidator instance. This allows for method chaining.
+     */
+    public ByteValidator testMaxValue(final byte maxValue)
+    {
+        this._rules |= RuleCode.MAX_VALUE.mask();
+        this._maxValue = maxValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMaxValue(java.lang.Number)
+     */
+    @Override
+    public ByteValidator testMaxValue(final Byte maxValue)
+    {
+        return (testMaxValue(maxValue.byteValue()));
+    }
+    
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same ByteValidator instance. This allows for method chaining.
+     */
+    public ByteValidator testMinValue(final byte minValue)
+    {
+        this._rules |= RuleCode.MIN_VALUE.mask();
+        this._minValue = minValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMinValue(java.lang.Number)
+     */
+    @Override
+    public ByteValidator testMinValue(final Byte minValue)
+    {
+        return (testMinValue(minValue.byteValue()));
+    }
+    
+    @Override
+    protected int compareToMaxValue()
+    {
+        return (Byte.compare(this._primitiveValue, this._maxValue));
+    }
+    
+    @Override
+    protected int compareToMinValue()
+    {
+        return (Byte.compare(this._primitiveValue, this._minValue));
+    }
+    
+    @Override
+    protected int compareToZeroValue()
+    {
+        return (Byte.compare(this._primitiveValue, (byte) 0));
+    }
+    
+    @Override
+    protected Byte getMaxValue()
+    {
+        return (this._maxValue);
+    }
+    
+    @Override
+    protected Byte getMinValue()
+    {
+        return (this._minValue);
+    }
+    
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
 		return String.format(
-				"ByteValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"ByteValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _maxValue, _minValue, _isValidationExceptionThrownOnFail,
+				_equalsValue, _value);
 	}
     
     
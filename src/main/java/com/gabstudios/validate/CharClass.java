@@ -0,0 +1,455 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+/**
+ * This is an immutable set of chars, used by the "allowed chars" and
+ * "forbidden chars" tests of the String validators and rules. It is built
+ * once from chars, ranges and the same predicates as the CharValidator, and
+ * is then compiled into lookup tables, so testing a char is a table lookup
+ * rather than a regular expression.
+ * 
+ *      CharClass identifier = Validate.charClass().range('a', 'z').range('A', 'Z')
+ *          .digits().chars("_-").build();
+ *
+ *      Validate.defineString(value).testAllowedChars(identifier).validate();
+ *
+ * The ASCII chars are held in a 128-bit bitmap of two longs. The rest of the
+ * chars are held in a two-level table: the high byte of the char selects a
+ * block of 256 bits, and the blocks that are the same, such as the empty
+ * blocks, are shared. A char outside of the Basic Multilingual Plane is two
+ * surrogate chars and each one is tested by itself.
+ *
+ * A class is immutable, so it can be shared by any number of threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class CharClass
+{
+    
+    /*
+     * The number of longs of a block of the table. A block holds the bits
+     * of the 256 chars with the same high byte.
+     */
+    private static final int BLOCK_WORDS = 4;
+    
+    /*
+     * The most ranges toString() lists.
+     */
+    private static final int MAX_LISTED_RANGES = 16;
+    
+    /*
+     * The bits of the chars 0 to 63.
+     */
+    private final long       _ascii0;
+    
+    /*
+     * The bits of the chars 64 to 127.
+     */
+    private final long       _ascii1;
+    
+    /*
+     * The shared blocks of the table, BLOCK_WORDS longs each.
+     */
+    private final long[]     _blocks;
+    
+    /*
+     * The index in _blocks of the first long of the block of each high byte.
+     */
+    private final char[]     _index;
+    
+    /**
+     * Private constructor. Use the Builder to create a class.
+     *
+     * @param bits
+     *            The bit of each char.
+     */
+    private CharClass(final long[] bits)
+    {
+        this._ascii0 = bits[0];
+        this._ascii1 = bits[1];
+        
+        // shares each block with the first block that has the same bits.
+        final long[] blocks = new long[bits.length];
+        int blockCount = 0;
+        this._index = new char[256];
+        for (int high = 0; high < 256; high++)
+        {
+            final int from = high * BLOCK_WORDS;
+            int block = 0;
+            while (block < blockCount && !isSameBlock(blocks, block * BLOCK_WORDS, bits, from))
+            {
+                block++;
+            }
+            if (block == blockCount)
+            {
+                System.arraycopy(bits, from, blocks, block * BLOCK_WORDS, BLOCK_WORDS);
+                blockCount++;
+            }
+            this._index[high] = (char) (block * BLOCK_WORDS);
+        }
+        this._blocks = Arrays.copyOf(blocks, blockCount * BLOCK_WORDS);
+    }
+    
+    /*
+     * Tests if two blocks have the same bits.
+     * @param a The longs of the first block.
+     * @param aFrom The index of the first long of the first block.
+     * @param b The longs of the second block.
+     * @param bFrom The index of the first long of the second block.
+     * @return A <code>boolean</code> value that is true if the bits are the same.
+     */
+    private static boolean isSameBlock(final long[] a, final int aFrom, final long[] b, final int bFrom)
+    {
+        for (int i = 0; i < BLOCK_WORDS; i++)
+        {
+            if (a[aFrom + i] != b[bFrom + i])
+            {
+                return (false);
+            }
+        }
+        return (true);
+    }
+    
+    /**
+     * Tests if a char is in this class.
+     *
+     * @param value
+     *            The char to test.
+     * @return A <code>boolean</code> value that is true if the char is in
+     *         this class.
+     */
+    public boolean contains(final char value)
+    {
+        if (value < 128)
+        {
+            // a shift of a long only uses the low 6 bits of the char.
+            return (((((value < 64) ? this._ascii0 : this._ascii1) >>> value) & 1L) != 0L);
+        }
+        return (((this._blocks[this._index[value >>> 8] + ((value >>> 6) & 3)] >>> value) & 1L) != 0L);
+    }
+    
+    /**
+     * Finds the first char of a value that is not in this class.
+     *
+     * @param value
+     *            The value to scan. It must not be null.
+     * @return The index of the first char that is not in this class, or -1
+     *         if every char is in this class.
+     */
+    public int indexOfNotIn(final CharSequence value)
+    {
+        final int length = value.length();
+        for (int i = 0; i < length; i++)
+        {
+            if (!contains(value.charAt(i)))
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+    
+    /**
+     * Finds the first char of a value that is in this class.
+     *
+     * @param value
+     *            The value to scan. It must not be null.
+     * @return The index of the first char that is in this class, or -1 if no
+     *         char is in this class.
+     */
+    public int indexOfIn(final CharSequence value)
+    {
+        final int length = value.length();
+        for (int i = 0; i < length; i++)
+        {
+            if (contains(value.charAt(i)))
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+    
+    /*
+     * Appends a char of toString(), escaping the chars that are not printable
+     * ASCII and the chars that have a meaning in the list.
+     * @param builder The builder to append to.
+     * @param value The char.
+     */
+    private static void appendChar(final StringBuilder builder, final char value)
+    {
+        if (value >= ' ' && value < 127 && value != '\\' && value != '-' && value != ']')
+        {
+            builder.append(value);
+        }
+        else
+        {
+            builder.append(String.format("\\u%04x", (int) value));
+        }
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder("[");
+        int rangeCount = 0;
+        int c = 0;
+        while (c <= Character.MAX_VALUE)
+        {
+            if (!contains((char) c))
+            {
+                c++;
+                continue;
+            }
+            if (++rangeCount > MAX_LISTED_RANGES)
+            {
+                builder.append("...");
+                break;
+            }
+            final int first = c;
+            while (c <= Character.MAX_VALUE && contains((char) c))
+            {
+                c++;
+            }
+            appendChar(builder, (char) first);
+            if (c - 1 > first)
+            {
+                builder.append('-');
+                appendChar(builder, (char) (c - 1));
+            }
+        }
+        return (builder.append(']').toString());
+    }
+    
+    /**
+     * This is a char class builder. Call the methods to add chars and then
+     * call build() to create the immutable class. A builder is not
+     * thread-safe, the classes it builds are.
+     * 
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        
+        /*
+         * The bit of each char, 65536 bits.
+         */
+        private final long[] _bits = new long[(Character.MAX_VALUE + 1) / Long.SIZE];
+        
+        /**
+         * Protected constructor. Use Validate.charClass() to create a builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+        
+        /**
+         * Builds an immutable class from the added chars.
+         *
+         * @return A <code>CharClass</code> instance.
+         */
+        public CharClass build()
+        {
+            return (new CharClass(this._bits));
+        }
+        
+        /**
+         * Adds every char of a class.
+         * 
+         * @param charClass
+         *            The class to add.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder add(final CharClass charClass)
+        {
+            if (charClass == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'charClass' must not be null."));
+            }
+            for (int c = 0; c <= Character.MAX_VALUE; c++)
+            {
+                if (charClass.contains((char) c))
+                {
+                    set(c);
+                }
+            }
+            return (this);
+        }
+        
+        /**
+         * Adds every char that passes a char rule, such as
+         * Validate.charRule().testIsUpperCase().testMaxValue('z').build().
+         * 
+         * @param rule
+         *            The rule that selects the chars.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder add(final CharRule rule)
+        {
+            if (rule == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'rule' must not be null."));
+            }
+            for (int c = 0; c <= Character.MAX_VALUE; c++)
+            {
+                if (rule.test((char) c))
+                {
+                    set(c);
+                }
+            }
+            return (this);
+        }
+        
+        /**
+         * Adds each char of a value.
+         * 
+         * @param chars
+         *            The chars to add.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder chars(final CharSequence chars)
+        {
+            if (chars == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'chars' must not be null."));
+            }
+            for (int i = 0; i < chars.length(); i++)
+            {
+                set(chars.charAt(i));
+            }
+            return (this);
+        }
+        
+        /**
+         * Adds the digits, the chars that CharValidator.testIsDigit() accepts.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         * @see Character#isDigit(char)
+         */
+        public Builder digits()
+        {
+            for (int c = 0; c <= Character.MAX_VALUE; c++)
+            {
+                if (Character.isDigit((char) c))
+                {
+                    set(c);
+                }
+            }
+            return (this);
+        }
+        
+        /**
+         * Adds the lower case chars, the chars that
+         * CharValidator.testIsLowerCase() accepts.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         * @see Character#isLowerCase(char)
+         */
+        public Builder lowerCase()
+        {
+            for (int c = 0; c <= Character.MAX_VALUE; c++)
+            {
+                if (Character.isLowerCase((char) c))
+                {
+                    set(c);
+                }
+            }
+            return (this);
+        }
+        
+        /**
+         * Adds a range of chars.
+         * 
+         * @param first
+         *            The first char of the range.
+         * @param last
+         *            The last char of the range. It is included.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder range(final char first, final char last)
+        {
+            if (first > last)
+            {
+                throw (new IllegalArgumentException("The parameter 'first' must not be greater than 'last'."));
+            }
+            for (int c = first; c <= last; c++)
+            {
+                set(c);
+            }
+            return (this);
+        }
+        
+        /**
+         * Adds the upper case chars, the chars that
+         * CharValidator.testIsUpperCase() accepts.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         * @see Character#isUpperCase(char)
+         */
+        public Builder upperCase()
+        {
+            for (int c = 0; c <= Character.MAX_VALUE; c++)
+            {
+                if (Character.isUpperCase((char) c))
+                {
+                    set(c);
+                }
+            }
+            return (this);
+        }
+        
+        /**
+         * Adds the whitespace chars, the chars that
+         * CharValidator.testIsWhitespace() accepts.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         * @see Character#isWhitespace(char)
+         */
+        public Builder whitespace()
+        {
+            for (int c = 0; c <= Character.MAX_VALUE; c++)
+            {
+                if (Character.isWhitespace((char) c))
+                {
+                    set(c);
+                }
+            }
+            return (this);
+        }
+        
+        /*
+         * Sets the bit of a char.
+         * @param value The char.
+         */
+        private void set(final int value)
+        {
+            this._bits[value >>> 6] |= 1L << value;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+/**
+ * This is an immutable char rule. The tests are configured once through a
+ * Builder and the rule can then be shared by any number of threads to test
+ * any number of values without boxing.
+ * 
+ *      CharRule rule = Validate.charRule().testNotEmpty().testIsDigit().build();
+ *
+ *      boolean isValid = rule.test(value);
+ *
+ *      long failedRules = rule.tryValidate(value);
+ *      if (RuleCode.IS_DIGIT.isIn(failedRules)) ...
+ *
+ * If no test method is called, test() returns a true.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class CharRule
+{
+    
+    /*
+     * The value to use if an equals test is performed.
+     */
+    private final char    _equalsValue;
+    
+    /*
+     * The tests that will be performed, one RuleCode.mask() bit per test.
+     */
+    private final long    _rules;
+    
+    /*
+     * The max value to test for.
+     */
+    private final char    _maxValue;
+    
+    /*
+     * The min value to test for.
+     */
+    private final char    _minValue;
+    
+    /**
+     * Private constructor. Use the Builder to create a rule.
+     *
+     * @param builder
+     *            The builder holding the configured tests.
+     */
+    private CharRule(final Builder builder)
+    {
+        this._equalsValue = builder._equalsValue;
+        this._rules = builder._rules;
+        this._maxValue = builder._maxValue;
+        this._minValue = builder._minValue;
+    }
+    
+    /**
+     * Tests the value against the configured tests.
+     *
+     * @param value
+     *            The value to test.
+     * @return A boolean value that is true if the value is valid. Otherwise
+     *         false is return.
+     */
+    public boolean test(final char value)
+    {
+        return ((!RuleCode.NOT_EMPTY.isIn(this._rules) || value != '\0')
+                && (!RuleCode.MIN_VALUE.isIn(this._rules) || value >= this._minValue)
+                && (!RuleCode.MAX_VALUE.isIn(this._rules) || value <= this._maxValue)
+                && (!RuleCode.EQUALS.isIn(this._rules) || value == this._equalsValue)
+                && (!RuleCode.IS_DIGIT.isIn(this._rules) || Character.isDigit(value))
+                && (!RuleCode.IS_LOWER_CASE.isIn(this._rules) || Character.isLowerCase(value))
+                && (!RuleCode.IS_UPPER_CASE.isIn(this._rules) || Character.isUpperCase(value))
+                && (!RuleCode.IS_WHITESPACE.isIn(this._rules) || Character.isWhitespace(value)));
+    }
+    
+    /**
+     * Tests the value against every configured test without throwing or
+     * allocating.
+     *
+     * @param value
+     *            The value to test.
+     * @return A mask with the RuleCode.mask() bit of each failed test set.
+     *         The mask is zero if the value is valid.
+     */
+    public long tryValidate(final char value)
+    {
+        long failedRules = 0L;
+        if (value == '\0')
+        {
+            failedRules |= RuleCode.NOT_EMPTY.mask();
+        }
+        if (value < this._minValue)
+        {
+            failedRules |= RuleCode.MIN_VALUE.mask();
+        }
+        if (value > this._maxValue)
+        {
+            failedRules |= RuleCode.MAX_VALUE.mask();
+        }
+        if (value != this._equalsValue)
+        {
+            failedRules |= RuleCode.EQUALS.mask();
+        }
+        if (!Character.isDigit(value))
+        {
+            failedRules |= RuleCode.IS_DIGIT.mask();
+        }
+        if (!Character.isLowerCase(value))
+        {
+            failedRules |= RuleCode.IS_LOWER_CASE.mask();
+        }
+        if (!Character.isUpperCase(value))
+        {
+            failedRules |= RuleCode.IS_UPPER_CASE.mask();
+        }
+        if (!Character.isWhitespace(value))
+        {
+            failedRules |= RuleCode.IS_WHITESPACE.mask();
+        }
+        return (failedRules & this._rules);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "CharRule [_rules=%s, _maxValue=%s, _minValue=%s, _equalsValue=%s]",
+                RuleCode.fromMask(_rules), _maxValue, _minValue, _equalsValue);
+    }
+    
+    /**
+     * This is a char rule builder. Call the testXXXX() methods to select the
+     * tests and then call build() to create the immutable rule. A builder is
+     * not thread-safe, the rules it builds are.
+     * 
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        
+        /*
+         * The value to use if an equals test is performed.
+         */
+        private char    _equalsValue;
+        
+        /*
+         * The selected tests, one RuleCode.mask() bit per test.
+         */
+        private long    _rules              = 0L;
+        
+        /*
+         * The max value to test for. Defaults to Character.MAX_VALUE.
+         */
+        private char    _maxValue         = Character.MAX_VALUE;
+        
+        /*
+         * The min value to test for. Defaults to Character.MIN_VALUE.
+         */
+        private char    _minValue         = Character.MIN_VALUE;
+        
+        /**
+         * Protected constructor. Use Validate.charRule() to create a builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+        
+        /**
+         * Builds an immutable rule from the selected tests.
+         *
+         * @return A <code>CharRule</code> instance.
+         */
+        public CharRule build()
+        {
+            return (new CharRule(this));
+        }
+        
+        /**
+         * A method to mark that an "equals" test will be performed.
+         * 
+         * @param equalsValue
+         *            The value to perform the equate with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testEquals(final char equalsValue)
+        {
+            this._rules |= RuleCode.EQUALS.mask();
+            this._equalsValue = equalsValue;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a max value test will be performed. The value
+         * must be less than or equal to the maxValue.
+         *
+         * @param maxValue
+         *            The max value to compare to.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMaxValue(final char maxValue)
+        {
+            this._rules |= RuleCode.MAX_VALUE.mask();
+            this._maxValue = maxValue;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a min value test will be performed. The value
+         * must be greater than or equal to the minValue.
+         *
+         * @param minValue
+         *            The min value to compare to.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMinValue(final char minValue)
+        {
+            this._rules |= RuleCode.MIN_VALUE.mask();
+            this._minValue = minValue;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "not empty" test will be performed.
+         *
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testNotEmpty()
+        {
+            this._rules |= RuleCode.NOT_EMPTY.mask();
+            return (this);
+        }
+        
+        /**
+         * A method to mark if an "is the character a digit/number" test will
+         * be performed.
+         *
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testIsDigit()
+        {
+            this._rules |= RuleCode.IS_DIGIT.mask();
+            return (this);
+        }
+        
+        /**
+         * A method to mark if an "is the character lower case" test will be
+         * performed. Calling this method will de-active the isUpperCase test.
+         *
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testIsLowerCase()
+        {
+            this._rules |= RuleCode.IS_LOWER_CASE.mask();
+            this._rules &= ~RuleCode.IS_UPPER_CASE.mask();
+            return (this);
+        }
+        
+        /**
+         * A method to mark if an "is the character upper case" test will be
+         * performed. Calling this method will de-active the isLowerCase test.
+         *
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testIsUpperCase()
+        {
+            this._rules |= RuleCode.IS_UPPER_CASE.mask();
+            this._rules &= ~RuleCode.IS_LOWER_CASE.mask();
+            return (this);
+        }
+        
+        /**
+         * A method to mark if an "is the character a whitespace" test will be
+         * performed.
+         *
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testIsWhitespace()
+        {
+            this._rules |= RuleCode.IS_WHITESPACE.mask();
+            return (this);
+        }
+    }
+}
@@ -0,0 +1,305 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+/**
+ * This is a CharSequence validator. It runs the same tests as the
+ * StringValidator directly on a StringBuilder, a CharBuffer or any other
+ * CharSequence, so the value is not copied to a String to be validated.
+ * After this class is created, call the testXXXX() methods to perform tests
+ * when the validate() method is called.
+ * 
+ * Validate.defineCharSequence(builder).testMaxLength(40).testMatch(pattern).validate();
+ *
+ * Validate.defineUtf8(bytes, offset, length) returns the same validator over
+ * UTF-8 bytes: an ASCII value is tested in place and any other value is
+ * decoded once.
+ *
+ * The value is only copied to a String to describe a violation, when a
+ * ValidateException is thrown or when validateAll() is called, so the buffer
+ * of the value can be reused once validate() returns. The value must not be
+ * changed while it is validated.
+ *
+ * If the throwValidationExceptionOnFail() method has been called and if the
+ * validate fails then a ValidateException will be thrown.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class CharSequenceValidator extends TextValidator<CharSequence>
+{
+    
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The value that will be validated. It is not copied. This
+     *            value can be null or empty.
+     */
+    protected CharSequenceValidator(final CharSequence value)
+    {
+        super( value );
+    }
+    
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called. The chars are compared, so a StringBuilder
+     * can equal a String.
+     * 
+     * @param equalsValue
+     *            The value to perform the equate with. It is copied to a
+     *            String.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    @Override
+    public CharSequenceValidator testEquals(final CharSequence equalsValue)
+    {
+        this._rules &= ~RuleCode.EQUALS_NO_CASE.mask();
+        super.testEquals((equalsValue != null) ? equalsValue.toString() : null);
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "equals no case" test will be performed when the
+     * validate() method is called. The chars are compared in the same way as
+     * String.equalsIgnoreCase().
+     * 
+     * @param equalsValue
+     *            The value to perform the equate with. It is copied to a
+     *            String.
+     * @return The same CharSequenceValidator instance. This allows for method
+     *         chaining.
+     */
+    public CharSequenceValidator testEqualsNoCase(final CharSequence equalsValue)
+    {
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.EQUALS_NO_CASE.mask();
+        this._rules &= ~RuleCode.EQUALS.mask();
+        this._equalsValue = (equalsValue != null) ? equalsValue.toString() : null;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.ObjectValidator#testNotNull()
+     */
+    @Override
+    public CharSequenceValidator testNotNull()
+    {
+        super.testNotNull();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testAllowedChars(com.gabstudios.validate.CharClass)
+     */
+    @Override
+    public CharSequenceValidator testAllowedChars(final CharClass allowedChars)
+    {
+        super.testAllowedChars(allowedChars);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testForbiddenChars(com.gabstudios.validate.CharClass)
+     */
+    @Override
+    public CharSequenceValidator testForbiddenChars(final CharClass forbiddenChars)
+    {
+        super.testForbiddenChars(forbiddenChars);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMatch(java.lang.String)
+     */
+    @Override
+    public CharSequenceValidator testMatch(final String value)
+    {
+        super.testMatch(value);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMatch(java.util.regex.Pattern)
+     */
+    @Override
+    public CharSequenceValidator testMatch(final Pattern pattern)
+    {
+        super.testMatch(pattern);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMatch(com.gabstudios.validate.LinearPattern)
+     */
+    @Override
+    public CharSequenceValidator testMatch(final LinearPattern pattern)
+    {
+        super.testMatch(pattern);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMatchBudget(com.gabstudios.validate.MatchBudget)
+     */
+    @Override
+    public CharSequenceValidator testMatchBudget(final MatchBudget budget)
+    {
+        super.testMatchBudget(budget);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testHasPrefixIn(java.util.Collection)
+     */
+    @Override
+    public CharSequenceValidator testHasPrefixIn(final Collection<String> prefixes)
+    {
+        super.testHasPrefixIn(prefixes);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testHasPrefixIn(com.gabstudios.validate.PrefixSet)
+     */
+    @Override
+    public CharSequenceValidator testHasPrefixIn(final PrefixSet prefixes)
+    {
+        super.testHasPrefixIn(prefixes);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testNotHasPrefixIn(java.util.Collection)
+     */
+    @Override
+    public CharSequenceValidator testNotHasPrefixIn(final Collection<String> prefixes)
+    {
+        super.testNotHasPrefixIn(prefixes);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testNotHasPrefixIn(com.gabstudios.validate.PrefixSet)
+     */
+    @Override
+    public CharSequenceValidator testNotHasPrefixIn(final PrefixSet prefixes)
+    {
+        super.testNotHasPrefixIn(prefixes);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMaxLength(int)
+     */
+    @Override
+    public CharSequenceValidator testMaxLength(final int maxLength)
+    {
+        super.testMaxLength(maxLength);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMinLength(int)
+     */
+    @Override
+    public CharSequenceValidator testMinLength(final int minLength)
+    {
+        super.testMinLength(minLength);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testOneOf(java.util.Collection)
+     */
+    @Override
+    public CharSequenceValidator testOneOf(final Collection<String> values)
+    {
+        super.testOneOf(values);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testOneOfIgnoreCase(java.util.Collection)
+     */
+    @Override
+    public CharSequenceValidator testOneOfIgnoreCase(final Collection<String> values)
+    {
+        super.testOneOfIgnoreCase(values);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testOneOf(com.gabstudios.validate.StringSet)
+     */
+    @Override
+    public CharSequenceValidator testOneOf(final StringSet values)
+    {
+        super.testOneOf(values);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testNotNullEmpty()
+     */
+    @Override
+    public CharSequenceValidator testNotNullEmpty()
+    {
+        super.testNotNullEmpty();
+        return (this);
+    }
+}
@@ -0,0 +1,113 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+/**
+ * This is a mutable CharSequence view of a range of a char[]. It lets a
+ * parser hand a cell to a rule without copying it to a String; the view is
+ * moved to the next cell with set(). It is not thread-safe and must not be
+ * kept after the next call to set().
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class CharSlice implements CharSequence
+{
+    
+    /*
+     * The chars the view is over.
+     */
+    private char[] _chars;
+    
+    /*
+     * The number of chars of the view.
+     */
+    private int    _length;
+    
+    /*
+     * The index of the first char of the view.
+     */
+    private int    _offset;
+    
+    /*
+     * Creates an empty view.
+     */
+    CharSlice()
+    {
+        this._chars = new char[0];
+    }
+    
+    /*
+     * Moves the view to a range of chars.
+     * @param chars The chars.
+     * @param offset The index of the first char.
+     * @param length The number of chars.
+     * @return This view.
+     */
+    CharSlice set(final char[] chars, final int offset, final int length)
+    {
+        this._chars = chars;
+        this._offset = offset;
+        this._length = length;
+        return (this);
+    }
+    
+    @Override
+    public char charAt(final int index)
+    {
+        if (index < 0 || index >= this._length)
+        {
+            throw (new IndexOutOfBoundsException("index = " + index + " length = " + this._length));
+        }
+        return (this._chars[this._offset + index]);
+    }
+    
+    @Override
+    public int length()
+    {
+        return (this._length);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.CharSequence#subSequence(int, int)
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end)
+    {
+        if (start < 0 || end > this._length || start > end)
+        {
+            throw (new IndexOutOfBoundsException("start = " + start + " end = " + end + " length = " + this._length));
+        }
+        return (new String(this._chars, this._offset + start, end - start));
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return (new String(this._chars, this._offset, this._length));
+    }
+}
@@ -39,48 +39,6 @@ package com.gabstudios.validate;
 public final class CharValidator extends ObjectValidator<Character>
 {
     
-    /*
-     * A flag indicating if an "is the character a digit/number" test will be
-     * performed when the validate() method is called.
-     */
-    private boolean    _testIsDigit      = false;
-    
-    /*
-     * A flag indicating if an "is the character lower case" test will be
-     * performed when the validate() method is called.
-     */
-    private boolean    _testIsLowerCase  = false;
-    
-    /*
-     * A flag indicating that a max value test will be performed when the
-     * validate() method is called.
-     */
-    private boolean    _isTestMaxValue   = false;
-    
-    /*
-     * A flag indicating that a min value test will be performed when the
-     * validate() method is called.
-     */
-    private boolean    _isTestMinValue   = false;
-    
-    /*
-     * A flag indicating if an "not empty" test will be performed when the
-     * validate() method is called.
-     */
-    private boolean    _isTestNotEmpty   = false;
-    
-    /*
-     * A flag indicating if an "is the character upper case" test will be
-     * performed when the validate() method is called.
-     */
-    private boolean    _testIsUpperCase  = false;
-    
-    /*
-     * A flag indicating if an "is the character a white space" test will be
-     * performed when the validate() method is called.
-     */
-    private boolean    _testIsWhitespace = false;
-    
     /*
      * The max value to test for. Defaults to Character.MAX_VALUE.
      */
@@ -114,7 +72,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testMaxValue(final char maxValue)
     {
-        this._isTestMaxValue = true;
+        this._rules |= RuleCode.MAX_VALUE.mask();
         this._maxValue = maxValue;
         return (this);
     }
@@ -131,7 +89,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testMinValue(final char minValue)
     {
-        this._isTestMinValue = true;
+        this._rules |= RuleCode.MIN_VALUE.mask();
         this._minValue = minValue;
         return (this);
     }
@@ -144,7 +102,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testNotEmpty()
     {
-        this._isTestNotEmpty = true;
+        this._rules |= RuleCode.NOT_EMPTY.mask();
         return (this);
     }
     
@@ -156,7 +114,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testIsDigit()
     {
-        this._testIsDigit = true;
+        this._rules |= RuleCode.IS_DIGIT.mask();
         return (this);
     }
     
@@ -169,8 +127,8 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testIsLowerCase()
     {
-        this._testIsLowerCase = true;
-        this._testIsUpperCase = false;
+        this._rules |= RuleCode.IS_LOWER_CASE.mask();
+        this._rules &= ~RuleCode.IS_UPPER_CASE.mask();
         return (this);
     }
     
@@ -183,8 +141,8 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testIsUpperCase()
     {
-        this._testIsUpperCase = true;
-        this._testIsLowerCase = false;
+        this._rules |= RuleCode.IS_UPPER_CASE.mask();
+        this._rules &= ~RuleCode.IS_LOWER_CASE.mask();
         return (this);
     }
     
@@ -197,7 +155,7 @@ public final class CharValidator extends ObjectValidator<Character>
      */
     public CharValidator testIsWhitespace()
     {
-        this._testIsWhitespace = true;
+        this._rules |= RuleCode.IS_WHITESPACE.mask();
         return (this);
     }
     
@@ -210,6 +168,14 @@ public final class CharValidator extends ObjectValidator<Character>
     @Override
 	public boolean validate() 
     {
+        if (this._isFailFast)
+        {
+            // from the cheapest test to the most expensive.
+            return (validateNotNull() && validateNotEmpty() && validateMinValue() && validateMaxValue()
+                    && validateEquals() && validateIsDigit() && validateIsLowerCase() && validateIsUpperCase()
+                    && validateWhitespace());
+        }
+
         // call ObjectValidator validate method.
         boolean isValid = super.validate();
         isValid &= validateNotEmpty();
@@ -227,13 +193,12 @@ public final class CharValidator extends ObjectValidator<Character>
     protected boolean validateNotEmpty()
     {
         boolean isValid = true;
-        if (this._isTestNotEmpty)
+        if (RuleCode.NOT_EMPTY.isIn(this._rules))
         {
             isValid &= this._value != '\0';
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.NOT_EMPTY))
             {
-            	ObjectValidator
-                        .throwValidateException("The char must not be empty.");
+            	reportViolation(RuleCode.NOT_EMPTY);
             }
         }
         return( isValid );
@@ -242,16 +207,12 @@ public final class CharValidator extends ObjectValidator<Character>
     protected boolean validateMinValue()
     {
         boolean isValid = true;
-        if (this._isTestMinValue)
+        if (RuleCode.MIN_VALUE.isIn(this._rules))
         {
             isValid &= (this._value >= this._minValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.MIN_VALUE))
             {
-            	ObjectValidator
-                        .throwValidateException("The value must be greater than or equal to the min value (value = '"
-                                + this._value
-                                + "' min value = '"
-                                + this._minValue + "').");
+            	reportViolation(RuleCode.MIN_VALUE, this._value, this._minValue);
             }
             
         }
@@ -261,16 +222,12 @@ public final class CharValidator extends ObjectValidator<Character>
     protected boolean validateMaxValue()
     {
         boolean isValid = true;
-        if (this._isTestMaxValue)
+        if (RuleCode.MAX_VALUE.isIn(this._rules))
         {
             isValid &= (this._value <= this._maxValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.MAX_VALUE))
             {
-            	ObjectValidator
-                        .throwValidateException("The value must be less than or equal to the max value (value = '"
-                                + this._value
-                                + "' max value = '"
-                                + this._maxValue + "').");
+            	reportViolation(RuleCode.MAX_VALUE, this._value, this._maxValue);
             }
         }
         return( isValid );
@@ -279,14 +236,12 @@ public final class CharValidator extends ObjectValidator<Character>
     protected boolean validateIsDigit()
     {
         boolean isValid = true;
-        if (this._testIsDigit)
+        if (RuleCode.IS_DIGIT.isIn(this._rules))
         {
             isValid &= (Character.isDigit(this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.IS_DIGIT))
             {
-            	ObjectValidator
-                        .throwValidateException("The char is not a digit (value = '"
-                                + this._value + "').");
+            	reportViolation(RuleCode.IS_DIGIT, this._value);
             }
         }
         return( isValid );
@@ -295,14 +250,12 @@ public final class CharValidator extends ObjectValidator<Character>
     protected boolean validateIsLowerCase()
     {
         boolean isValid = true;  
-        if (this._testIsLowerCase)
+        if (RuleCode.IS_LOWER_CASE.isIn(this._rules))
         {
             isValid &= (Character.isLowerCase(this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.IS_LOWER_CASE))
             {
-            	ObjectValidator
-                        .throwValidateException("The char is not lower case (value = '"
-                                + this._value + "').");
+            	reportViolation(RuleCode.IS_LOWER_CASE, this._value);
             }
         }
         return( isValid );
@@ -311,14 +264,12 @@ public final class CharValidator extends ObjectValidator<Character>
     protected boolean validateIsUpperCase()
     {
         boolean isValid = true;
-        if (this._testIsUpperCase)
+        if (RuleCode.IS_UPPER_CASE.isIn(this._rules))
         {
             isValid &= (Character.isUpperCase(this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.IS_UPPER_CASE))
             {
-            	ObjectValidator
-                        .throwValidateException("The char is not upper case (value = '"
-                                + this._value + "').");
+            	reportViolation(RuleCode.IS_UPPER_CASE, this._value);
             }
         }
         return( isValid );
@@ -327,14 +278,12 @@ public final class CharValidator extends ObjectValidator<Character>
     protected boolean validateWhitespace()
     {
         boolean isValid = true;
-        if (this._testIsWhitespace)
+        if (RuleCode.IS_WHITESPACE.isIn(this._rules))
         {
             isValid &= (Character.isWhitespace(this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.IS_WHITESPACE))
             {
-            	ObjectValidator
-                        .throwValidateException("The char is not a whitespace (value = '"
-                                + this._value + "').");
+            	reportViolation(RuleCode.IS_WHITESPACE, this._value);
             }
         } 
         return( isValid );
@@ -347,10 +296,9 @@ public final class CharValidator extends ObjectValidator<Character>
 	@Override
 	public String toString() {
 		return String.format(
-				"CharValidator [_testIsDigit=%s, _testIsLowerCase=%s, _isTestMaxValue=%s, _isTestMinValue=%s, _isTestNotEmpty=%s, _testIsUpperCase=%s, _testIsWhitespace=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_testIsDigit, _testIsLowerCase, _isTestMaxValue, _isTestMinValue, _isTestNotEmpty, _testIsUpperCase,
-				_testIsWhitespace, _maxValue, _minValue, _isValidationExceptionThrownOnFail, _equalsValue,
-				_isTestEquals, _isTestNotNull, _value);
+				"CharValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _maxValue, _minValue, _isValidationExceptionThrownOnFail, _equalsValue,
+				_value);
 	}
     
     
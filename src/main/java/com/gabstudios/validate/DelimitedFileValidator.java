@@ -0,0 +1,649 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+
+/**
+ * This is a streaming validator of a delimited file, such as a CSV file. The
+ * file is read through a FileChannel into one reused byte buffer, decoded into
+ * one reused char buffer and split into fields in place. Each field is handed
+ * to the rule of its column as a CharSequence view of the buffer, and a
+ * numeric field is parsed from the view, so no String is created for a field
+ * unless it fails.
+ * 
+ *      RecordFileResult result = Validate.defineDelimitedFile(path, schema).validate(violation -&gt; ...);
+ *
+ *      try (Writer writer = Files.newBufferedWriter(reportPath))
+ *      {
+ *          Validate.defineDelimitedFile(path, schema).writeReport(writer);
+ *      }
+ *
+ * The violations are passed on as they are found, in the order of the rows,
+ * so neither the file nor the report needs to fit in memory. The index of a
+ * row counts from zero and does not count the header or blank lines. A
+ * validator is not thread-safe.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class DelimitedFileValidator
+{
+    
+    /**
+     * The default number of bytes read at a time.
+     */
+    public static final int       DEFAULT_BUFFER_SIZE = 1 << 20;
+    
+    /*
+     * The number of bytes read at a time.
+     */
+    private int                   _bufferSize         = DEFAULT_BUFFER_SIZE;
+    
+    /*
+     * The file to validate.
+     */
+    private final Path            _file;
+    
+    /*
+     * The schema of the file.
+     */
+    private final DelimitedSchema _schema;
+    
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param file
+     *            The delimited file.
+     * @param schema
+     *            The schema of the file.
+     * @throws IllegalArgumentException
+     *             If the file or the schema is null.
+     */
+    protected DelimitedFileValidator(final Path file, final DelimitedSchema schema)
+    {
+        if (file == null || schema == null)
+        {
+            throw (new IllegalArgumentException("The parameters 'file' and 'schema' must not be null."));
+        }
+        this._file = file;
+        this._schema = schema;
+    }
+    
+    /**
+     * Sets the number of bytes read at a time. The char buffer grows past it
+     * only if a single row is longer.
+     * 
+     * @param bufferSize
+     *            The number of bytes. It must be at least 16.
+     * @return The same DelimitedFileValidator instance. This allows for
+     *         method chaining.
+     * @throws IllegalArgumentException
+     *             If the buffer size is less than 16.
+     */
+    public DelimitedFileValidator bufferSize(final int bufferSize)
+    {
+        if (bufferSize < 16)
+        {
+            throw (new IllegalArgumentException("The buffer size must be at least 16: " + bufferSize));
+        }
+        this._bufferSize = bufferSize;
+        return (this);
+    }
+    
+    /**
+     * Validates every row of the file. Each field that fails its rule is
+     * passed to the sink, in the order of the rows and then of the columns.
+     * 
+     * @param sink
+     *            The consumer of the violations. It can be null to only
+     *            count them.
+     * @return A new <code>RecordFileResult</code> instance. It has no
+     *         trailing bytes.
+     * @throws IOException
+     *             If the file can not be read.
+     */
+    public RecordFileResult validate(final Consumer<? super RecordViolation> sink) throws IOException
+    {
+        return (scan((sink != null) ? sink::accept : null));
+    }
+    
+    /**
+     * Validates every row of the file and writes each violation to a report
+     * as it is found. The report is delimited text with the same delimiter
+     * and quote as the file: a header line, then one line per violation with
+     * the row, the column, the failed rules and the value.
+     * 
+     *      row,column,rules,value
+     *      7,age,MIN_VALUE,"-1"
+     *
+     * @param report
+     *            The report to append to, such as a buffered Writer. It is
+     *            not flushed or closed.
+     * @return A new <code>RecordFileResult</code> instance.
+     * @throws IOException
+     *             If the file can not be read or the report written.
+     */
+    public RecordFileResult writeReport(final Appendable report) throws IOException
+    {
+        if (report == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'report' must not be null."));
+        }
+        final char delimiter = this._schema.getDelimiter();
+        final char quote = this._schema.getQuote();
+        report.append("row").append(delimiter).append("column").append(delimiter).append("rules").append(delimiter)
+                .append("value").append('\n');
+        return (scan(violation -> {
+            report.append(Long.toString(violation.getRecordIndex())).append(delimiter);
+            appendQuoted(report, violation.getFieldName(), quote).append(delimiter);
+            String separator = "";
+            for (final RuleCode ruleCode : violation.getRuleCodes())
+            {
+                report.append(separator).append(ruleCode.name());
+                separator = "|";
+            }
+            report.append(delimiter);
+            if (violation.getValue() != null)
+            {
+                appendQuoted(report, violation.getValue().toString(), quote);
+            }
+            report.append('\n');
+        }));
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("DelimitedFileValidator [_file=%s, _bufferSize=%s, _schema=%s]", this._file,
+                this._bufferSize, this._schema);
+    }
+    
+    /*
+     * Appends a quoted value, doubling the quotes in it.
+     * @param report The report.
+     * @param value The value.
+     * @param quote The quote.
+     * @return The report.
+     * @throws IOException If the report can not be written.
+     */
+    private static Appendable appendQuoted(final Appendable report, final String value, final char quote)
+            throws IOException
+    {
+        report.append(quote);
+        for (int i = 0; i < value.length(); i++)
+        {
+            final char c = value.charAt(i);
+            if (c == quote)
+            {
+                report.append(quote);
+            }
+            report.append(c);
+        }
+        return (report.append(quote));
+    }
+    
+    /*
+     * Reads, decodes and splits the file into rows.
+     * @param sink The consumer of the violations, or null.
+     * @return The result.
+     * @throws IOException If the file can not be read or the sink fails.
+     */
+    private RecordFileResult scan(final ViolationSink sink) throws IOException
+    {
+        final RowScanner scanner = new RowScanner(sink);
+        final CharsetDecoder decoder = this._schema.getCharset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final ByteBuffer bytes = ByteBuffer.allocate(this._bufferSize);
+        CharBuffer chars = CharBuffer.allocate(this._bufferSize);
+        
+        try (final FileChannel channel = FileChannel.open(this._file, StandardOpenOption.READ))
+        {
+            boolean isEndOfFile = false;
+            for (;;)
+            {
+                if (!isEndOfFile && bytes.hasRemaining() && channel.read(bytes) < 0)
+                {
+                    isEndOfFile = true;
+                }
+                bytes.flip();
+                final CoderResult result = decoder.decode(bytes, chars, isEndOfFile);
+                bytes.compact();
+                final boolean isLast = isEndOfFile && !result.isOverflow() && bytes.position() == 0
+                        && !decoder.flush(chars).isOverflow();
+                
+                chars.flip();
+                final int end = scanner.scan(chars.array(), chars.position(), chars.limit(), isLast);
+                chars.position(end);
+                chars.compact();
+                if (isLast)
+                {
+                    break;
+                }
+                if (!chars.hasRemaining() || (result.isOverflow() && end == 0))
+                {
+                    // a row is longer than the buffer, or the free chars are
+                    // too few for the next char, such as a surrogate pair.
+                    chars.flip();
+                    chars = CharBuffer.allocate(chars.capacity() * 2).put(chars);
+                }
+            }
+        }
+        return (scanner.getResult());
+    }
+    
+    /*
+     * The consumer of the violations of a scan. Unlike a Consumer it may
+     * throw an IOException.
+     */
+    private interface ViolationSink
+    {
+        
+        /*
+         * Takes a violation.
+         * @param violation The violation.
+         * @throws IOException If the violation can not be written.
+         */
+        void accept(RecordViolation violation) throws IOException;
+    }
+    
+    /*
+     * The state of a scan: it splits the decoded chars into rows and fields
+     * and tests each field of a whole row with the rule of its column.
+     */
+    private final class RowScanner
+    {
+        
+        /*
+         * The index of the field after the row ends.
+         */
+        private final int          _columnCount;
+        
+        /*
+         * The index past the last char of each field of the current row.
+         */
+        private final int[]        _ends;
+        
+        /*
+         * Set for each quoted field that has a doubled quote.
+         */
+        private final boolean[]    _escapes;
+        
+        /*
+         * The number of fields of the current row, up to the column count.
+         */
+        private int                _fieldCount;
+        
+        /*
+         * The number of rows that failed at least one column.
+         */
+        private long               _invalidCount;
+        
+        /*
+         * Set while the header is still to be skipped.
+         */
+        private boolean            _isHeaderPending;
+        
+        /*
+         * A reused Matcher for each string column that has a match test.
+         */
+        private final Matcher[]    _matchers;
+        
+        /*
+         * The parser of the numeric fields.
+         */
+        private final NumberParser _parser = new NumberParser();
+        
+        /*
+         * The number of rows that were tested.
+         */
+        private long               _rowCount;
+        
+        /*
+         * A buffer for a field without its doubled quotes.
+         */
+        private char[]             _scratch = new char[64];
+        
+        /*
+         * The consumer of the violations, or null.
+         */
+        private final ViolationSink _sink;
+        
+        /*
+         * The view of the current field.
+         */
+        private final CharSlice    _slice = new CharSlice();
+        
+        /*
+         * The index of the first char of each field of the current row.
+         */
+        private final int[]        _starts;
+        
+        /*
+         * The failures of each column.
+         */
+        private final RuleTally[]  _tallies;
+        
+        /**
+         * Creates the state of a scan.
+         * 
+         * @param sink
+         *            The consumer of the violations, or null.
+         */
+        RowScanner(final ViolationSink sink)
+        {
+            final DelimitedSchema schema = DelimitedFileValidator.this._schema;
+            this._sink = sink;
+            this._columnCount = schema.getColumnCount();
+            this._starts = new int[this._columnCount];
+            this._ends = new int[this._columnCount];
+            this._escapes = new boolean[this._columnCount];
+            this._matchers = new Matcher[this._columnCount];
+            this._tallies = new RuleTally[this._columnCount];
+            for (int i = 0; i < this._columnCount; i++)
+            {
+                if (schema.getRule(i) instanceof StringRule)
+                {
+                    this._matchers[i] = ((StringRule) schema.getRule(i)).newMatcher();
+                }
+                this._tallies[i] = new RuleTally();
+            }
+            this._isHeaderPending = schema.isHeaderSkipped();
+        }
+        
+        /*
+         * Gets the result of the scan.
+         * @return The result.
+         */
+        RecordFileResult getResult()
+        {
+            final DelimitedSchema schema = DelimitedFileValidator.this._schema;
+            final String[] names = schema.getColumnNames().toArray(new String[0]);
+            final RuleTally[] tallies = new RuleTally[names.length];
+            int n = 0;
+            for (int i = 0; i < this._columnCount; i++)
+            {
+                if (schema.getRule(i) != null)
+                {
+                    tallies[n++] = this._tallies[i];
+                }
+            }
+            return (new RecordFileResult(this._rowCount, this._invalidCount, 0L, names, tallies));
+        }
+        
+        /*
+         * Splits the chars into rows and tests each whole row.
+         * @param chars The chars.
+         * @param from The index of the first char.
+         * @param to The index past the last char.
+         * @param isLast Set if no chars follow, so the last row is whole.
+         * @return The index of the first char of the first row that is not
+         * whole.
+         * @throws IOException If the sink fails.
+         */
+        int scan(final char[] chars, final int from, final int to, final boolean isLast) throws IOException
+        {
+            final DelimitedSchema schema = DelimitedFileValidator.this._schema;
+            final char delimiter = schema.getDelimiter();
+            final char quote = schema.getQuote();
+            int rowStart = from;
+            while (rowStart < to)
+            {
+                int p = rowStart;
+                int field = 0;
+                boolean isRowEnd = false;
+                while (!isRowEnd)
+                {
+                    int start = p;
+                    int end;
+                    boolean isEscaped = false;
+                    boolean isQuoted = false;
+                    if (p < to && chars[p] == quote)
+                    {
+                        // finds the closing quote, skipping the doubled quotes.
+                        int q = p + 1;
+                        for (;;)
+                        {
+                            if (q >= to)
+                            {
+                                if (!isLast)
+                                {
+                                    return (rowStart);
+                                }
+                                break;
+                            }
+                            if (chars[q] == quote)
+                            {
+                                if (q + 1 < to && chars[q + 1] == quote)
+                                {
+                                    isEscaped = true;
+                                    q += 2;
+                                    continue;
+                                }
+                                if (q + 1 >= to && !isLast)
+                                {
+                                    return (rowStart);
+                                }
+                                break;
+                            }
+                            q++;
+                        }
+                        final int after = q + 1;
+                        if (q < to && (after >= to || chars[after] == delimiter || chars[after] == '\n'
+                                || chars[after] == '\r'))
+                        {
+                            isQuoted = true;
+                            start = p + 1;
+                            end = q;
+                            p = after;
+                        }
+                        else
+                        {
+                            // not a well formed quoted field, so it is tested as it is.
+                            isEscaped = false;
+                            end = -1;
+                        }
+                    }
+                    else
+                    {
+                        end = -1;
+                    }
+                    if (!isQuoted)
+                    {
+                        while (p < to && chars[p] != delimiter && chars[p] != '\n' && chars[p] != '\r')
+                        {
+                            p++;
+                        }
+                        end = p;
+                    }
+                    
+                    if (p >= to)
+                    {
+                        if (!isLast)
+                        {
+                            return (rowStart);
+                        }
+                        isRowEnd = true;
+                    }
+                    else if (chars[p] == delimiter)
+                    {
+                        p++;
+                    }
+                    else
+                    {
+                        // a line break: "\n", "\r\n" or "\r".
+                        if (chars[p] == '\r')
+                        {
+                            if (p + 1 >= to && !isLast)
+                            {
+                                return (rowStart);
+                            }
+                            if (p + 1 < to && chars[p + 1] == '\n')
+                            {
+                                p++;
+                            }
+                        }
+                        p++;
+                        isRowEnd = true;
+                    }
+                    
+                    if (field < this._columnCount)
+                    {
+                        this._starts[field] = start;
+                        this._ends[field] = end;
+                        this._escapes[field] = isEscaped;
+                    }
+                    field++;
+                }
+                
+                final boolean isBlank = (field == 1 && this._ends[0] == this._starts[0]
+                        && (rowStart >= to || chars[rowStart] != quote));
+                if (!isBlank)
+                {
+                    if (this._isHeaderPending)
+                    {
+                        this._isHeaderPending = false;
+                    }
+                    else
+                    {
+                        this._fieldCount = Math.min(field, this._columnCount);
+                        testRow(chars);
+                    }
+                }
+                rowStart = p;
+            }
+            return (rowStart);
+        }
+        
+        /*
+         * Tests each field of a whole row with the rule of its column.
+         * @param chars The chars of the row.
+         * @throws IOException If the sink fails.
+         */
+        private void testRow(final char[] chars) throws IOException
+        {
+            final DelimitedSchema schema = DelimitedFileValidator.this._schema;
+            boolean isValid = true;
+            for (int column = 0; column < this._columnCount; column++)
+            {
+                final Object rule = schema.getRule(column);
+                if (rule == null)
+                {
+                    continue;
+                }
+                final CharSequence value = (column < this._fieldCount) ? getField(chars, column) : null;
+                final long failedRules = testField(column, rule, value);
+                if (!this._tallies[column].add(failedRules))
+                {
+                    isValid = false;
+                    if (this._sink != null)
+                    {
+                        this._sink.accept(new RecordViolation(this._rowCount, schema.getColumnName(column),
+                                (value != null) ? value.toString() : null, failedRules));
+                    }
+                }
+            }
+            if (!isValid)
+            {
+                this._invalidCount++;
+            }
+            this._rowCount++;
+        }
+        
+        /*
+         * Gets a view of a field of the current row.
+         * @param chars The chars of the row.
+         * @param column The index of the field.
+         * @return The view. It is valid until the next call.
+         */
+        private CharSequence getField(final char[] chars, final int column)
+        {
+            final int start = this._starts[column];
+            final int length = this._ends[column] - start;
+            if (!this._escapes[column])
+            {
+                return (this._slice.set(chars, start, length));
+            }
+            
+            if (this._scratch.length < length)
+            {
+                this._scratch = Arrays.copyOf(this._scratch, Math.max(length, this._scratch.length * 2));
+            }
+            final char quote = DelimitedFileValidator.this._schema.getQuote();
+            int n = 0;
+            for (int i = start; i < start + length; i++)
+            {
+                this._scratch[n++] = chars[i];
+                if (chars[i] == quote)
+                {
+                    // skips the second quote of a pair.
+                    i++;
+                }
+            }
+            return (this._slice.set(this._scratch, 0, n));
+        }
+        
+        /*
+         * Tests a field with the rule of its column.
+         * @param column The index of the column.
+         * @param rule The rule of the column.
+         * @param value The field, or null if the row has no such field.
+         * @return A mask with the RuleCode.mask() bit of each failed test set.
+         */
+        private long testField(final int column, final Object rule, final CharSequence value)
+        {
+            if (rule instanceof StringRule)
+            {
+                return (((StringRule) rule).tryValidate(value, this._matchers[column]));
+            }
+            if (value == null)
+            {
+                return (RuleCode.NOT_NULL.mask());
+            }
+            if (rule instanceof IntegerRule)
+            {
+                return (this._parser.parseInt(value)
+                        ? ((IntegerRule) rule).tryValidate((int) this._parser.getLongValue())
+                        : RuleCode.NUMBER_FORMAT.mask());
+            }
+            if (rule instanceof LongRule)
+            {
+                return (this._parser.parseLong(value) ? ((LongRule) rule).tryValidate(this._parser.getLongValue())
+                        : RuleCode.NUMBER_FORMAT.mask());
+            }
+            return (this._parser.parseDouble(value) ? ((DoubleRule) rule).tryValidate(this._parser.getDoubleValue())
+                    : RuleCode.NUMBER_FORMAT.mask());
+        }
+    }
+}
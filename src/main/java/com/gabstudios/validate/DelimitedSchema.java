@@ -0,0 +1,435 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This is an immutable schema of a delimited file, such as a CSV file. It
+ * maps each column, by position, to a rule, and describes the delimiter, the
+ * quote, the charset and whether the first row is a header.
+ * 
+ *      DelimitedSchema schema = Validate.delimitedSchema()
+ *          .skipHeader()
+ *          .stringColumn("name", Validate.stringRule().testNotNullEmpty().testMaxLength(64).build())
+ *          .skipColumn()
+ *          .intColumn("age", Validate.integerRule().testMinValue(0).testMaxValue(150).build())
+ *          .build();
+ *
+ *      RecordFileResult result = Validate.defineDelimitedFile(path, schema).writeReport(writer);
+ *
+ * A quoted field may hold the delimiter, line breaks and doubled quotes. The
+ * text of an int, long or double column must be a number, or it fails with
+ * RuleCode.NUMBER_FORMAT; a row without a field for a column fails with
+ * RuleCode.NOT_NULL, unless the column is a string column whose rule does
+ * not test for null. The fields after the last column are not tested. A
+ * schema can be shared by any number of threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class DelimitedSchema
+{
+    
+    /*
+     * The charset of the file.
+     */
+    private final Charset  _charset;
+    
+    /*
+     * The char between the fields of a row.
+     */
+    private final char     _delimiter;
+    
+    /*
+     * Set if the first row is a header that is not tested.
+     */
+    private final boolean  _isHeaderSkipped;
+    
+    /*
+     * The name of each column, or null for a skipped column.
+     */
+    private final String[] _names;
+    
+    /*
+     * The char around a quoted field.
+     */
+    private final char     _quote;
+    
+    /*
+     * The rule of each column, or null for a skipped column.
+     */
+    private final Object[] _rules;
+    
+    /**
+     * Private constructor. Use the Builder to create a schema.
+     *
+     * @param builder
+     *            The builder holding the columns.
+     */
+    private DelimitedSchema(final Builder builder)
+    {
+        this._names = builder._names.toArray(new String[builder._names.size()]);
+        this._rules = builder._rules.toArray();
+        this._charset = builder._charset;
+        this._delimiter = builder._delimiter;
+        this._quote = builder._quote;
+        this._isHeaderSkipped = builder._isHeaderSkipped;
+    }
+    
+    /**
+     * Gets the charset of the file.
+     *
+     * @return The <code>Charset</code>.
+     */
+    public Charset getCharset()
+    {
+        return (this._charset);
+    }
+    
+    /**
+     * Gets the names of the tested columns, in the order of the columns.
+     *
+     * @return An unmodifiable list of the names.
+     */
+    public List<String> getColumnNames()
+    {
+        final List<String> names = new ArrayList<String>();
+        for (final String name : this._names)
+        {
+            if (name != null)
+            {
+                names.add(name);
+            }
+        }
+        return (Collections.unmodifiableList(names));
+    }
+    
+    /**
+     * Gets the char between the fields of a row.
+     *
+     * @return The delimiter.
+     */
+    public char getDelimiter()
+    {
+        return (this._delimiter);
+    }
+    
+    /**
+     * Gets the char around a quoted field.
+     *
+     * @return The quote.
+     */
+    public char getQuote()
+    {
+        return (this._quote);
+    }
+    
+    /**
+     * Tests if the first row is a header that is not tested.
+     *
+     * @return A <code>boolean</code> value that is true if the header is
+     *         skipped.
+     */
+    public boolean isHeaderSkipped()
+    {
+        return (this._isHeaderSkipped);
+    }
+    
+    /*
+     * Gets the number of columns, including the skipped columns.
+     * @return The number of columns.
+     */
+    int getColumnCount()
+    {
+        return (this._names.length);
+    }
+    
+    /*
+     * Gets the name of a column.
+     * @param column The position of the column.
+     * @return The name, or null if the column is skipped.
+     */
+    String getColumnName(final int column)
+    {
+        return (this._names[column]);
+    }
+    
+    /*
+     * Gets the rule of a column.
+     * @param column The position of the column.
+     * @return The rule, or null if the column is skipped.
+     */
+    Object getRule(final int column)
+    {
+        return (this._rules[column]);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        final List<String> columns = new ArrayList<String>();
+        for (int i = 0; i < this._names.length; i++)
+        {
+            columns.add((this._names[i] != null) ? this._names[i] + "=" + this._rules[i] : "-");
+        }
+        return String.format(
+                "DelimitedSchema [_delimiter=%s, _quote=%s, _charset=%s, _isHeaderSkipped=%s, _columns=%s]",
+                this._delimiter, this._quote, this._charset, this._isHeaderSkipped, columns);
+    }
+    
+    /**
+     * This is a delimited schema builder. Call the xxxxColumn() methods to add
+     * the columns in the order of the file and then call build() to create the
+     * immutable schema. A builder is not thread-safe, the schemas it builds
+     * are.
+     * 
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        
+        /*
+         * The charset of the file.
+         */
+        private Charset            _charset         = StandardCharsets.UTF_8;
+        
+        /*
+         * The char between the fields of a row.
+         */
+        private char               _delimiter       = ',';
+        
+        /*
+         * Set if the first row is a header.
+         */
+        private boolean            _isHeaderSkipped = false;
+        
+        /*
+         * The name of each column, or null for a skipped column.
+         */
+        private final List<String> _names           = new ArrayList<String>();
+        
+        /*
+         * The char around a quoted field.
+         */
+        private char               _quote           = '"';
+        
+        /*
+         * The rule of each column, or null for a skipped column.
+         */
+        private final List<Object> _rules           = new ArrayList<Object>();
+        
+        /**
+         * Protected constructor. Use Validate.delimitedSchema() to create a
+         * builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+        
+        /**
+         * Builds an immutable schema from the added columns.
+         *
+         * @return A <code>DelimitedSchema</code> instance.
+         * @throws IllegalArgumentException
+         *             If no column is tested or the delimiter is the quote.
+         */
+        public DelimitedSchema build()
+        {
+            if (!this._rules.stream().anyMatch(rule -> rule != null))
+            {
+                throw (new IllegalArgumentException("The schema must have at least one tested column."));
+            }
+            if (this._delimiter == this._quote)
+            {
+                throw (new IllegalArgumentException("The delimiter and the quote must differ."));
+            }
+            return (new DelimitedSchema(this));
+        }
+        
+        /**
+         * Sets the charset of the file. It is UTF-8 by default.
+         * 
+         * @param charset
+         *            The charset.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder charset(final Charset charset)
+        {
+            if (charset == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'charset' must not be null."));
+            }
+            this._charset = charset;
+            return (this);
+        }
+        
+        /**
+         * Sets the char between the fields of a row. It is a comma by default.
+         * 
+         * @param delimiter
+         *            The delimiter. It must not be a line break.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder delimiter(final char delimiter)
+        {
+            this._delimiter = checkChar("delimiter", delimiter);
+            return (this);
+        }
+        
+        /**
+         * Adds a double column.
+         * 
+         * @param name
+         *            The name of the column.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder doubleColumn(final String name, final DoubleRule rule)
+        {
+            return (addColumn(name, rule));
+        }
+        
+        /**
+         * Adds an int column.
+         * 
+         * @param name
+         *            The name of the column.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder intColumn(final String name, final IntegerRule rule)
+        {
+            return (addColumn(name, rule));
+        }
+        
+        /**
+         * Adds a long column.
+         * 
+         * @param name
+         *            The name of the column.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder longColumn(final String name, final LongRule rule)
+        {
+            return (addColumn(name, rule));
+        }
+        
+        /**
+         * Sets the char around a quoted field. It is a double quote by
+         * default.
+         * 
+         * @param quote
+         *            The quote. It must not be a line break.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder quote(final char quote)
+        {
+            this._quote = checkChar("quote", quote);
+            return (this);
+        }
+        
+        /**
+         * Adds a column that is not tested.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder skipColumn()
+        {
+            this._names.add(null);
+            this._rules.add(null);
+            return (this);
+        }
+        
+        /**
+         * Marks the first row as a header that is not tested.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder skipHeader()
+        {
+            this._isHeaderSkipped = true;
+            return (this);
+        }
+        
+        /**
+         * Adds a string column.
+         * 
+         * @param name
+         *            The name of the column.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder stringColumn(final String name, final StringRule rule)
+        {
+            return (addColumn(name, rule));
+        }
+        
+        /*
+         * Adds a column.
+         * @param name The name of the column.
+         * @param rule The rule of the column.
+         * @return The same Builder instance.
+         */
+        private Builder addColumn(final String name, final Object rule)
+        {
+            if (name == null || rule == null)
+            {
+                throw (new IllegalArgumentException("The parameters 'name' and 'rule' must not be null."));
+            }
+            if (this._names.contains(name))
+            {
+                throw (new IllegalArgumentException("The column '" + name + "' has already been added."));
+            }
+            this._names.add(name);
+            this._rules.add(rule);
+            return (this);
+        }
+        
+        /*
+         * Tests that a char is not a line break.
+         * @param name The name of the char.
+         * @param c The char.
+         * @return The char.
+         */
+        private static char checkChar(final String name, final char c)
+        {
+            if (c == '\n' || c == '\r')
+            {
+                throw (new IllegalArgumentException("The " + name + " must not be a line break."));
+            }
+            return (c);
+        }
+    }
+}
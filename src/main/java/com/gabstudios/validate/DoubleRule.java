@@ -0,0 +1,364 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * This is an immutable double rule. The tests are configured once through a
+ * Builder and the rule can then be shared by any number of threads to test
+ * any number of values without boxing.
+ * 
+ *      DoubleRule rule = Validate.doubleRule().testMinValue(min).testMaxValue(max).build();
+ *
+ *      boolean isValid = rule.test(value);
+ *
+ *      long failedRules = rule.tryValidate(value);
+ *      if (RuleCode.MAX_VALUE.isIn(failedRules)) ...
+ *
+ * The rule is also a DoublePredicate, so it can filter a DoubleStream without
+ * allocating.
+ *
+ *      values.filter(rule)
+ *
+ * The comparisons follow Double.compare(), the same ordering used by the
+ * DoubleValidator, so -0.0 is less than 0.0 and NaN is greater than any other
+ * value.
+ *
+ * If no test method is called, test() returns a true.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class DoubleRule implements DoublePredicate
+{
+    
+    /*
+     * The value to use if an equals test is performed.
+     */
+    private final double    _equalsValue;
+    
+    /*
+     * The tests that will be performed, one RuleCode.mask() bit per test.
+     */
+    private final long   _rules;
+    
+    /*
+     * The max value to test for.
+     */
+    private final double    _maxValue;
+    
+    /*
+     * The min value to test for.
+     */
+    private final double    _minValue;
+    
+    /**
+     * Private constructor. Use the Builder to create a rule.
+     *
+     * @param builder
+     *            The builder holding the configured tests.
+     */
+    private DoubleRule(final Builder builder)
+    {
+        this._equalsValue = builder._equalsValue;
+        this._rules = builder._rules;
+        this._maxValue = builder._maxValue;
+        this._minValue = builder._minValue;
+    }
+    
+    /**
+     * Tests the value against the configured tests.
+     *
+     * @param value
+     *            The value to test.
+     * @return A boolean value that is true if the value is valid. Otherwise
+     *         false is return.
+     */
+    @Override
+    public boolean test(final double value)
+    {
+        return (tryValidate(value) == 0L);
+    }
+    
+    /**
+     * Tests the value against every configured test without throwing or
+     * allocating.
+     *
+     * @param value
+     *            The value to test.
+     * @return A mask with the RuleCode.mask() bit of each failed test set.
+     *         The mask is zero if the value is valid.
+     */
+    public long tryValidate(final double value)
+    {
+        long failedRules = 0L;
+        if (Double.compare(value, this._minValue) < 0)
+        {
+            failedRules |= RuleCode.MIN_VALUE.mask();
+        }
+        if (Double.compare(value, this._maxValue) > 0)
+        {
+            failedRules |= RuleCode.MAX_VALUE.mask();
+        }
+        if (Double.compare(value, 0.0D) != 0)
+        {
+            failedRules |= RuleCode.ZERO_VALUE.mask();
+        }
+        if (Double.compare(value, 0.0D) <= 0)
+        {
+            failedRules |= RuleCode.POSITIVE_VALUE.mask();
+        }
+        if (Double.compare(value, 0.0D) >= 0)
+        {
+            failedRules |= RuleCode.NEGATIVE_VALUE.mask();
+        }
+        if (Double.compare(value, this._equalsValue) != 0)
+        {
+            failedRules |= RuleCode.EQUALS.mask();
+        }
+        return (failedRules & this._rules);
+    }
+    
+    /*
+     * Validates a column of values. Each selected test is a range of valid
+     * values of sortable keys, which follow Double.compare(), so the tests are
+     * reduced to one range and the column is checked in one pass that marks
+     * the rows outside of it. Each test is then counted over the column, but
+     * only if a row failed.
+     * @param values The column to test.
+     * @param failedRows The bitmap of the rows that failed a test. It is added to.
+     * @param tally The tally to add the failures of each test to.
+     */
+    void validateColumn(final double[] values, final long[] failedRows, final RuleTally tally)
+    {
+        final long rules = this._rules;
+        final long minKey = ArrayKernels.toSortableKey(this._minValue);
+        final long maxKey = ArrayKernels.toSortableKey(this._maxValue);
+        final long equalsKey = ArrayKernels.toSortableKey(this._equalsValue);
+        long lo = Long.MIN_VALUE;
+        long hi = Long.MAX_VALUE;
+        if (RuleCode.MIN_VALUE.isIn(rules))
+        {
+            lo = Math.max(lo, minKey);
+        }
+        if (RuleCode.MAX_VALUE.isIn(rules))
+        {
+            hi = Math.min(hi, maxKey);
+        }
+        if (RuleCode.ZERO_VALUE.isIn(rules))
+        {
+            lo = Math.max(lo, 0L);
+            hi = Math.min(hi, 0L);
+        }
+        if (RuleCode.POSITIVE_VALUE.isIn(rules))
+        {
+            lo = Math.max(lo, 1L);
+        }
+        if (RuleCode.NEGATIVE_VALUE.isIn(rules))
+        {
+            hi = Math.min(hi, -1L);
+        }
+        if (RuleCode.EQUALS.isIn(rules))
+        {
+            lo = Math.max(lo, equalsKey);
+            hi = Math.min(hi, equalsKey);
+        }
+        
+        if (lo > hi)
+        {
+            // no value can pass.
+            ArrayKernels.markAll(values.length, failedRows);
+        }
+        else if (ArrayKernels.markOutOfRange(values, lo, hi, failedRows) == 0)
+        {
+            return;
+        }
+        
+        final int length = values.length;
+        if (RuleCode.MIN_VALUE.isIn(rules))
+        {
+            tally.addCount(RuleCode.MIN_VALUE, ArrayKernels.countOutOfRange(values, 0, length, minKey, Long.MAX_VALUE));
+        }
+        if (RuleCode.MAX_VALUE.isIn(rules))
+        {
+            tally.addCount(RuleCode.MAX_VALUE, ArrayKernels.countOutOfRange(values, 0, length, Long.MIN_VALUE, maxKey));
+        }
+        if (RuleCode.ZERO_VALUE.isIn(rules))
+        {
+            tally.addCount(RuleCode.ZERO_VALUE, ArrayKernels.countOutOfRange(values, 0, length, 0L, 0L));
+        }
+        if (RuleCode.POSITIVE_VALUE.isIn(rules))
+        {
+            tally.addCount(RuleCode.POSITIVE_VALUE,
+                    ArrayKernels.countOutOfRange(values, 0, length, 1L, Long.MAX_VALUE));
+        }
+        if (RuleCode.NEGATIVE_VALUE.isIn(rules))
+        {
+            tally.addCount(RuleCode.NEGATIVE_VALUE,
+                    ArrayKernels.countOutOfRange(values, 0, length, Long.MIN_VALUE, -1L));
+        }
+        if (RuleCode.EQUALS.isIn(rules))
+        {
+            tally.addCount(RuleCode.EQUALS, ArrayKernels.countOutOfRange(values, 0, length, equalsKey, equalsKey));
+        }
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "DoubleRule [_rules=%s, _maxValue=%s, _minValue=%s, _equalsValue=%s]",
+                RuleCode.fromMask(_rules), _maxValue, _minValue, _equalsValue);
+    }
+    
+    /**
+     * This is a double rule builder. Call the testXXXX() methods to select the
+     * tests and then call build() to create the immutable rule. A builder is
+     * not thread-safe, the rules it builds are.
+     * 
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        
+        /*
+         * The value to use if an equals test is performed.
+         */
+        private double    _equalsValue;
+        
+        /*
+         * The selected tests, one RuleCode.mask() bit per test.
+         */
+        private long   _rules               = 0L;
+        
+        /*
+         * The max value to test for. Defaults to Double.MAX_VALUE.
+         */
+        private double    _maxValue            = Double.MAX_VALUE;
+        
+        /*
+         * The min value to test for. Defaults to -Double.MAX_VALUE.
+         */
+        private double    _minValue            = -Double.MAX_VALUE;
+        
+        /**
+         * Protected constructor. Use Validate.doubleRule() to create a builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+        
+        /**
+         * Builds an immutable rule from the selected tests.
+         *
+         * @return A <code>DoubleRule</code> instance.
+         */
+        public DoubleRule build()
+        {
+            return (new DoubleRule(this));
+        }
+        
+        /**
+         * A method to mark that an "equals" test will be performed.
+         * 
+         * @param equalsValue
+         *            The value to perform the equate with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testEquals(final double equalsValue)
+        {
+            this._rules |= RuleCode.EQUALS.mask();
+            this._equalsValue = equalsValue;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "max value" test will be performed. Tests if
+         * the value is less than or equal to the max value.
+         * 
+         * @param maxValue
+         *            The value to perform the test with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMaxValue(final double maxValue)
+        {
+            this._rules |= RuleCode.MAX_VALUE.mask();
+            this._maxValue = maxValue;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "min value" test will be performed. Tests if
+         * the value is greater than or equal to the min value.
+         * 
+         * @param minValue
+         *            The value to perform the test with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMinValue(final double minValue)
+        {
+            this._rules |= RuleCode.MIN_VALUE.mask();
+            this._minValue = minValue;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "zero value" test will be performed. Tests
+         * if the value is equal to zero.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder isZeroValue()
+        {
+            this._rules |= RuleCode.ZERO_VALUE.mask();
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "positive value" test will be performed.
+         * Tests if the value is greater than zero.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder isPositiveValue()
+        {
+            this._rules |= RuleCode.POSITIVE_VALUE.mask();
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "negative value" test will be performed.
+         * Tests if the value is less than zero.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder isNegativeValue()
+        {
+            this._rules |= RuleCode.NEGATIVE_VALUE.mask();
+            return (this);
+        }
+    }
+}
@@ -38,7 +38,22 @@ package com.gabstudios.validate;
  */
 public final class DoubleValidator extends NumberValidator<Double>
 {
-       
+    
+    /*
+     * The max value to test for. Defaults to Double.MAX_VALUE.
+     */
+    private double       _maxValue       = Double.MAX_VALUE;
+    
+    /*
+     * The min value to test for. Defaults to -Double.MAX_VALUE.
+     */
+    private double       _minValue       = -Double.MAX_VALUE;
+    
+    /*
+     * The value that will be tested, kept unboxed for the comparisons.
+     */
+    private final double _primitiveValue;
+    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -47,19 +62,103 @@ public final class DoubleValidator extends NumberValidator<Double>
      */
     protected DoubleValidator(final double value)
     {
-        super(value, Double.MIN_VALUE, Double.MAX_VALUE, Double.valueOf(0));
+        super( value );
+        this._primitiveValue = value;
     }
-
-
+    
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same DoubleValidator instance. This allows for method chaining.
+     */
+    public DoubleValidator testMaxValue(final double maxValue)
+    {
+        this._rules |= RuleCode.MAX_VALUE.mask();
+        this._maxValue = maxValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMaxValue(java.lang.Number)
+     */
+    @Override
+    public DoubleValidator testMaxValue(final Double maxValue)
+    {
+        return (testMaxValue(maxValue.doubleValue()));
+    }
+    
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same DoubleValidator instance. This allows for method chaining.
+     */
+    public DoubleValidator testMinValue(final double minValue)
+    {
+        this._rules |= RuleCode.MIN_VALUE.mask();
+        this._minValue = minValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMinValue(java.lang.Number)
+     */
+    @Override
+    public DoubleValidator testMinValue(final Double minValue)
+    {
+        return (testMinValue(minValue.doubleValue()));
+    }
+    
+    @Override
+    protected int compareToMaxValue()
+    {
+        return (Double.compare(this._primitiveValue, this._maxValue));
+    }
+    
+    @Override
+    protected int compareToMinValue()
+    {
+        return (Double.compare(this._primitiveValue, this._minValue));
+    }
+    
+    @Override
+    protected int compareToZeroValue()
+    {
+        return (Double.compare(this._primitiveValue, 0.0D));
+    }
+    
+    @Override
+    protected Double getMaxValue()
+    {
+        return (this._maxValue);
+    }
+    
+    @Override
+    protected Double getMinValue()
+    {
+        return (this._minValue);
+    }
+    
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
 		return String.format(
-				"DoubleValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"DoubleValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _maxValue, _minValue, _isValidationExceptionThrownOnFail,
+				_equalsValue, _value);
 	}
     
     
@@ -38,7 +38,22 @@ package com.gabstudios.validate;
  */
 public final class FloatValidator extends NumberValidator<Float>
 {
-       
+    
+    /*
+     * The max value to test for. Defaults to Float.MAX_VALUE.
+     */
+    private float       _maxValue       = Float.MAX_VALUE;
+    
+    /*
+     * The min value to test for. Defaults to -Float.MAX_VALUE.
+     */
+    private float       _minValue       = -Float.MAX_VALUE;
+    
+    /*
+     * The value that will be tested, kept unboxed for the comparisons.
+     */
+    private final float _primitiveValue;
+    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -47,19 +62,103 @@ public final class FloatValidator extends NumberValidator<Float>
      */
     protected FloatValidator(final float value)
     {
-        super( value, Float.MIN_VALUE, Float.MAX_VALUE, Float.valueOf(0));
+        super( value );
+        this._primitiveValue = value;
     }
-
-
+    
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same FloatValidator instance. This allows for method chaining.
+     */
+    public FloatValidator testMaxValue(final float maxValue)
+    {
+        this._rules |= RuleCode.MAX_VALUE.mask();
+        this._maxValue = maxValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMaxValue(java.lang.Number)
+     */
+    @Override
+    public FloatValidator testMaxValue(final Float maxValue)
+    {
+        return (testMaxValue(maxValue.floatValue()));
+    }
+    
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same FloatValidator instance. This allows for method chaining.
+     */
+    public FloatValidator testMinValue(final float minValue)
+    {
+        this._rules |= RuleCode.MIN_VALUE.mask();
+        this._minValue = minValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMinValue(java.lang.Number)
+     */
+    @Override
+    public FloatValidator testMinValue(final Float minValue)
+    {
+        return (testMinValue(minValue.floatValue()));
+    }
+    
+    @Override
+    protected int compareToMaxValue()
+    {
+        return (Float.compare(this._primitiveValue, this._maxValue));
+    }
+    
+    @Override
+    protected int compareToMinValue()
+    {
+        return (Float.compare(this._primitiveValue, this._minValue));
+    }
+    
+    @Override
+    protected int compareToZeroValue()
+    {
+        return (Float.compare(this._primitiveValue, 0.0F));
+    }
+    
+    @Override
+    protected Float getMaxValue()
+    {
+        return (this._maxValue);
+    }
+    
+    @Override
+    protected Float getMinValue()
+    {
+        return (this._minValue);
+    }
+    
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
 		return String.format(
-				"FloatValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"FloatValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _maxValue, _minValue, _isValidationExceptionThrownOnFail,
+				_equalsValue, _value);
 	}
     
     
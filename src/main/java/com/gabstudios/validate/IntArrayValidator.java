@@ -0,0 +1,267 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This is a bulk int[] validator. After this class is created, call the
+ * testXXXX() methods to perform tests when the validate() method is called.
+ * The min, max, zero, positive and negative tests are applied to every
+ * element.
+ * 
+ *      final IntArrayValidator validator = Validate.defineIntArray(values).testMinValue(min).testMaxValue(max);
+ *      if (!validator.validate())
+ *      {
+ *          final int count = validator.getViolationCount();
+ *          final int index = validator.getFirstViolationIndex();
+ *      }
+ *
+ * If the throwValidationExceptionOnFail() method has been called and if the validate fails
+ * then a ValidateException will be thrown.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class IntArrayValidator extends NumberArrayValidator<int[]>
+{
+    
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The array that will be validated. It is not copied. This
+     *            value can be null or empty.
+     */
+    protected IntArrayValidator(final int[] value)
+    {
+        super( value );
+        this._maxKey = Integer.MAX_VALUE;
+        this._minKey = Integer.MIN_VALUE;
+    }
+    
+    /**
+     * A method to mark that an "equals" test will be performed when the
+     * validate() method is called. The arrays are compared element by element.
+     * 
+     * @param equalsValue
+     *            The value to perform the equate with.
+     * @return The same IntArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    @Override
+    public IntArrayValidator testEquals(final int[] equalsValue)
+    {
+        super.testEquals(equalsValue);
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "max value" test will be performed on each
+     * element when the validate() method is called. Tests if each element is
+     * less than or equal to the max value.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same IntArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    public IntArrayValidator testMaxValue(final int maxValue)
+    {
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MAX_VALUE.mask();
+        this._maxKey = maxValue;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "min value" test will be performed on each
+     * element when the validate() method is called. Tests if each element is
+     * greater than or equal to the min value.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same IntArrayValidator instance. This allows for method
+     *         chaining.
+     */
+    public IntArrayValidator testMinValue(final int minValue)
+    {
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MIN_VALUE.mask();
+        this._minKey = minValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.ObjectValidator#testNotNull()
+     */
+    @Override
+    public IntArrayValidator testNotNull()
+    {
+        super.testNotNull();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#testNotNullEmpty()
+     */
+    @Override
+    public IntArrayValidator testNotNullEmpty()
+    {
+        super.testNotNullEmpty();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#isZeroValue()
+     */
+    @Override
+    public IntArrayValidator isZeroValue()
+    {
+        super.isZeroValue();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#isPositiveValue()
+     */
+    @Override
+    public IntArrayValidator isPositiveValue()
+    {
+        super.isPositiveValue();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#isNegativeValue()
+     */
+    @Override
+    public IntArrayValidator isNegativeValue()
+    {
+        super.isNegativeValue();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#parallel()
+     */
+    @Override
+    public IntArrayValidator parallel()
+    {
+        super.parallel();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#parallel(int)
+     */
+    @Override
+    public IntArrayValidator parallel(final int threshold)
+    {
+        super.parallel(threshold);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#parallel(int, java.util.concurrent.ForkJoinPool)
+     */
+    @Override
+    public IntArrayValidator parallel(final int threshold, final ForkJoinPool pool)
+    {
+        super.parallel(threshold, pool);
+        return (this);
+    }
+    
+    @Override
+    protected int getLength()
+    {
+        return (this._value.length);
+    }
+    
+    @Override
+    protected int countOutOfRange(final int from, final int to, final long lo, final long hi, final long[] bounds)
+    {
+        return (ArrayKernels.countOutOfRange(this._value, from, to, (int) lo, (int) hi, bounds));
+    }
+    
+    @Override
+    protected int indexOfOutOfRange(final int from, final int to, final long lo, final long hi)
+    {
+        return (ArrayKernels.indexOfOutOfRange(this._value, from, to, (int) lo, (int) hi));
+    }
+    
+    @Override
+    protected long getElementKey(final int index)
+    {
+        return (this._value[index]);
+    }
+    
+    @Override
+    protected Number toNumber(final long key)
+    {
+        return (Integer.valueOf((int) key));
+    }
+    
+    /*
+     * Used as part of the validation process to test for equality.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    @Override
+    protected boolean validateEquals()
+    {
+        boolean isValid = true;
+        if (RuleCode.EQUALS.isIn(this._rules))
+        {
+            isValid = Arrays.equals(this._value, this._equalsValue);
+            if (!isValid && recordFailure(RuleCode.EQUALS))
+            {
+                reportViolation(RuleCode.EQUALS, Arrays.toString(this._value), Arrays.toString(this._equalsValue));
+            }
+        }
+        return (isValid);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "IntArrayValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _length=%s, _violationCount=%s, _firstViolationIndex=%s]",
+                RuleCode.fromMask(_rules), toNumber(_maxKey), toNumber(_minKey), _isValidationExceptionThrownOnFail,
+                (_value != null) ? Integer.valueOf(_value.length) : null, getViolationCount(), getFirstViolationIndex());
+    }
+}
@@ -0,0 +1,321 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This is a bulk validator of the int fields of a ByteBuffer.
+ * The fields are read in place with absolute reads: field i starts at byte
+ * offset + i * stride and is read in the given byte order. The data is not
+ * copied, the buffer is not changed and nothing is allocated unless a test fails.
+ * After this class is created, call the testXXXX() methods to perform tests
+ * when the validate() method is called. The min, max, zero, positive and
+ * negative tests are applied to every field.
+ * 
+ *      final IntBufferValidator validator = Validate.defineIntBuffer(frame, 8, 16, count,
+ *              ByteOrder.LITTLE_ENDIAN).testMinValue(min);
+ *      if (!validator.validate())
+ *      {
+ *          final int index = validator.getFirstViolationIndex();
+ *      }
+ *
+ * If the throwValidationExceptionOnFail() method has been called and if the validate fails
+ * then a ValidateException will be thrown.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class IntBufferValidator extends NumberArrayValidator<ByteBuffer>
+{
+    
+    /*
+     * The number of fields.
+     */
+    private final int _count;
+    
+    /*
+     * Set if the order of the data is not the order of the buffer, so each
+     * field is reversed after it is read.
+     */
+    private final boolean _isSwapped;
+    
+    /*
+     * The byte offset of the first field.
+     */
+    private final int _offset;
+    
+    /*
+     * The number of bytes from one field to the next.
+     */
+    private final int _stride;
+    
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param value
+     *            The buffer that will be validated. It is not copied. This
+     *            value can be null.
+     * @param offset
+     *            The byte offset of the first field.
+     * @param stride
+     *            The number of bytes from one field to the next. It is at
+     *            least the size of a field.
+     * @param count
+     *            The number of fields.
+     * @param order
+     *            The byte order of the fields.
+     * @throws IllegalArgumentException
+     *             Thrown if the order is null or if the fields are not inside
+     *             the buffer.
+     */
+    protected IntBufferValidator(final ByteBuffer value, final int offset, final int stride, final int count,
+            final ByteOrder order)
+    {
+        super( value );
+        if (order == null)
+        {
+            throw new IllegalArgumentException("The byte order must not be null.");
+        }
+        if (value != null)
+        {
+            checkLayout(value.limit(), offset, stride, count, Integer.BYTES);
+        }
+        this._offset = offset;
+        this._stride = stride;
+        this._count = count;
+        this._isSwapped = (value != null && value.order() != order);
+        this._maxKey = Integer.MAX_VALUE;
+        this._minKey = Integer.MIN_VALUE;
+    }
+    
+    /**
+     * A method to mark that an "max value" test will be performed on each
+     * field when the validate() method is called. Tests if each field is
+     * less than or equal to the max value.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same IntBufferValidator instance. This allows for method
+     *         chaining.
+     */
+    public IntBufferValidator testMaxValue(final int maxValue)
+    {
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MAX_VALUE.mask();
+        this._maxKey = maxValue;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "min value" test will be performed on each
+     * field when the validate() method is called. Tests if each field is
+     * greater than or equal to the min value.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same IntBufferValidator instance. This allows for method
+     *         chaining.
+     */
+    public IntBufferValidator testMinValue(final int minValue)
+    {
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MIN_VALUE.mask();
+        this._minKey = minValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.ObjectValidator#testNotNull()
+     */
+    @Override
+    public IntBufferValidator testNotNull()
+    {
+        super.testNotNull();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#testNotNullEmpty()
+     */
+    @Override
+    public IntBufferValidator testNotNullEmpty()
+    {
+        super.testNotNullEmpty();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#isZeroValue()
+     */
+    @Override
+    public IntBufferValidator isZeroValue()
+    {
+        super.isZeroValue();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#isPositiveValue()
+     */
+    @Override
+    public IntBufferValidator isPositiveValue()
+    {
+        super.isPositiveValue();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#isNegativeValue()
+     */
+    @Override
+    public IntBufferValidator isNegativeValue()
+    {
+        super.isNegativeValue();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#parallel()
+     */
+    @Override
+    public IntBufferValidator parallel()
+    {
+        super.parallel();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#parallel(int)
+     */
+    @Override
+    public IntBufferValidator parallel(final int threshold)
+    {
+        super.parallel(threshold);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberArrayValidator#parallel(int, java.util.concurrent.ForkJoinPool)
+     */
+    @Override
+    public IntBufferValidator parallel(final int threshold, final ForkJoinPool pool)
+    {
+        super.parallel(threshold, pool);
+        return (this);
+    }
+    
+    @Override
+    protected int getLength()
+    {
+        return (this._count);
+    }
+    
+    @Override
+    protected int countOutOfRange(final int from, final int to, final long lo, final long hi, final long[] bounds)
+    {
+        // an unsigned compare of (key - lo) tests both ends at once.
+        final int low = (int) lo;
+        final int span = ((int) hi - low) + Integer.MIN_VALUE;
+        long min = bounds[0];
+        long max = bounds[1];
+        int count = 0;
+        for (int i = from; i < to; i++)
+        {
+            final int key = getKey(i);
+            if ((key - low) + Integer.MIN_VALUE > span)
+            {
+                count++;
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+        }
+        bounds[0] = min;
+        bounds[1] = max;
+        return (count);
+    }
+    
+    @Override
+    protected int indexOfOutOfRange(final int from, final int to, final long lo, final long hi)
+    {
+        final int low = (int) lo;
+        final int high = (int) hi;
+        for (int i = from; i < to; i++)
+        {
+            final int key = getKey(i);
+            if (key < low || key > high)
+            {
+                return (i);
+            }
+        }
+        return (-1);
+    }
+    
+    @Override
+    protected long getElementKey(final int index)
+    {
+        return (getKey(index));
+    }
+    
+    @Override
+    protected Number toNumber(final long key)
+    {
+        return (Integer.valueOf((int) key));
+    }
+    
+    /*
+     * Gets the key of a field. It reverses the bytes of the field if the orders differ.
+     * @param index The index of the field.
+     * @return The key.
+     */
+    private int getKey(final int index)
+    {
+        final int value = this._value.getInt(this._offset + index * this._stride);
+        return (this._isSwapped ? Integer.reverseBytes(value) : value);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "IntBufferValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _offset=%s, _stride=%s, _count=%s, _violationCount=%s, _firstViolationIndex=%s]",
+                RuleCode.fromMask(_rules), toNumber(_maxKey), toNumber(_minKey), _isValidationExceptionThrownOnFail,
+                _offset, _stride, _count, getViolationCount(), getFirstViolationIndex());
+    }
+}
@@ -39,6 +39,21 @@ package com.gabstudios.validate;
 public final class IntegerValidator extends NumberValidator<Integer>
 {
     
+    /*
+     * The max value to test for. Defaults to Integer.MAX_VALUE.
+     */
+    private int       _maxValue       = Integer.MAX_VALUE;
+    
+    /*
+     * The min value to test for. Defaults to Integer.MIN_VALUE.
+     */
+    private int       _minValue       = Integer.MIN_VALUE;
+    
+    /*
+     * The value that will be tested, kept unboxed for the comparisons.
+     */
+    private final int _primitiveValue;
+    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -47,18 +62,103 @@ public final class IntegerValidator extends NumberValidator<Integer>
      */
     protected IntegerValidator(final int value)
     {
-        super( value, Integer.MIN_VALUE, Integer.MAX_VALUE, 0);
+        super( value );
+        this._primitiveValue = value;
     }
-
+    
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same IntegerValidator instance. This allows for method chaining.
+     */
+    public IntegerValidator testMaxValue(final int maxValue)
+    {
+        this._rules |= RuleCode.MAX_VALUE.mask();
+        this._maxValue = maxValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMaxValue(java.lang.Number)
+     */
+    @Override
+    public IntegerValidator testMaxValue(final Integer maxValue)
+    {
+        return (testMaxValue(maxValue.intValue()));
+    }
+    
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same IntegerValidator instance. This allows for method chaining.
+     */
+    public IntegerValidator testMinValue(final int minValue)
+    {
+        this._rules |= RuleCode.MIN_VALUE.mask();
+        this._minValue = minValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMinValue(java.lang.Number)
+     */
+    @Override
+    public IntegerValidator testMinValue(final Integer minValue)
+    {
+        return (testMinValue(minValue.intValue()));
+    }
+    
+    @Override
+    protected int compareToMaxValue()
+    {
+        return (Integer.compare(this._primitiveValue, this._maxValue));
+    }
+    
+    @Override
+    protected int compareToMinValue()
+    {
+        return (Integer.compare(this._primitiveValue, this._minValue));
+    }
+    
+    @Override
+    protected int compareToZeroValue()
+    {
+        return (Integer.compare(this._primitiveValue, 0));
+    }
+    
+    @Override
+    protected Integer getMaxValue()
+    {
+        return (this._maxValue);
+    }
+    
+    @Override
+    protected Integer getMinValue()
+    {
+        return (this._minValue);
+    }
+    
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
 		return String.format(
-				"IntegerValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"IntegerValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _maxValue, _minValue, _isValidationExceptionThrownOnFail,
+				_equalsValue, _value);
 	}
     
     
@@ -0,0 +1,1106 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This compiles the regular subset of the java.util.regex syntax into an
+ * automaton that matches in time linear to the length of the value. It is
+ * used by the LinearPattern.
+ * 
+ * The supported syntax is literals, escaped chars, ".", the classes [...]
+ * with ranges and negation, the predefined classes \d \w \s \D \W \S, the
+ * groups (...), (?:...) and (?&lt;name&gt;...), alternation and the greedy
+ * and lazy quantifiers * + ? {n} {n,} {n,m}. A "^" at the start and a "$" at
+ * the end are allowed, as they do not change a whole match. Anything else,
+ * such as a backreference, a lookaround, a possessive quantifier, a flag or
+ * a Unicode property, is not supported and the LinearPattern falls back to
+ * java.util.regex.
+ * 
+ * The regex is parsed into a tree and the tree into a Thompson NFA. The code
+ * points are split into the classes that no char set of the NFA tells apart,
+ * and the NFA is then turned into a DFA over those classes. If the DFA would
+ * be too big, the NFA is kept and simulated instead, which is slower but
+ * still linear.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class LinearCompiler
+{
+    
+    /*
+     * The most NFA states, so a quantifier such as {1000} does not blow up.
+     */
+    static final int            MAX_NFA_STATES  = 20000;
+    
+    /*
+     * The most DFA states before the NFA is simulated instead.
+     */
+    static final int            MAX_DFA_STATES  = 4096;
+    
+    /*
+     * The most entries of the DFA transition table.
+     */
+    static final int            MAX_DFA_ENTRIES = 1 << 20;
+    
+    /*
+     * The most NFA states visited while building the DFA.
+     */
+    static final int            MAX_DFA_WORK    = 1 << 24;
+    
+    /*
+     * The most entries of the table of the classes each NFA state moves on.
+     */
+    static final int            MAX_CLASS_TABLE = 1 << 24;
+    
+    /*
+     * The type of an NFA state that moves to out1 and out2 without a char.
+     */
+    static final int            SPLIT           = 0;
+    
+    /*
+     * The type of an NFA state that moves to out1 on a char of its set.
+     */
+    static final int            SET             = 1;
+    
+    /*
+     * The type of the NFA state that accepts.
+     */
+    static final int            MATCH           = 2;
+    
+    /*
+     * The kinds of tree node.
+     */
+    static final int            EMPTY           = 0;
+    
+    static final int            CHARS           = 1;
+    
+    static final int            CONCAT          = 2;
+    
+    static final int            ALTERNATE       = 3;
+    
+    static final int            REPEAT          = 4;
+    
+    /*
+     * The code points that "." does not match: the line feed, carriage
+     * return, next line, line separator and paragraph separator.
+     */
+    private static final int[]  LINE_BREAKS     = { '\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029 };
+    
+    /*
+     * The predefined classes.
+     */
+    private static final int[]  DIGITS          = { '0', '9' };
+    
+    private static final int[]  WORD_CHARS      = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+    
+    private static final int[]  SPACES          = { '\t', '\r', ' ', ' ' };
+    
+    /*
+     * The regular expression.
+     */
+    private final String        _regex;
+    
+    /*
+     * The index of the next char of the regex to parse.
+     */
+    private int                 _position;
+    
+    /*
+     * The NFA: the type, the next states and the code point ranges of each
+     * state.
+     */
+    private int[]               _types          = new int[64];
+    
+    private int[]               _out1           = new int[64];
+    
+    private int[]               _out2           = new int[64];
+    
+    private final List<int[]>   _sets           = new ArrayList<int[]>();
+    
+    private int                 _stateCount;
+    
+    /*
+     * Creates a compiler of a regular expression.
+     * @param regex The regular expression. It has been compiled by
+     * java.util.regex, so its syntax is valid.
+     */
+    private LinearCompiler(final String regex)
+    {
+        this._regex = regex;
+    }
+    
+    /*
+     * Compiles a regular expression into an automaton.
+     * @param regex The regular expression. It has been compiled by
+     * java.util.regex, so its syntax is valid.
+     * @return The automaton, or null if the regex is not supported.
+     */
+    static Automaton compile(final String regex)
+    {
+        try
+        {
+            return (new LinearCompiler(regex).compile());
+        }
+        catch (final UnsupportedSyntax e)
+        {
+            return (null);
+        }
+    }
+    
+    /*
+     * Parses a regular expression into a tree.
+     * @param regex The regular expression. It has been compiled by
+     * java.util.regex, so its syntax is valid.
+     * @return The tree, or null if the regex is not supported.
+     */
+    static Node parse(final String regex)
+    {
+        try
+        {
+            return (new LinearCompiler(regex).parse());
+        }
+        catch (final UnsupportedSyntax e)
+        {
+            return (null);
+        }
+    }
+    
+    /*
+     * Parses the whole regex.
+     * @return The tree.
+     */
+    private Node parse()
+    {
+        final Node tree = parseAlternation();
+        if (this._position < this._regex.length())
+        {
+            throw (new UnsupportedSyntax());
+        }
+        return (tree);
+    }
+    
+    /*
+     * Parses the regex and builds the automaton.
+     * @return The automaton.
+     */
+    private Automaton compile()
+    {
+        final Node tree = parse();
+        final int match = newState(MATCH, -1, -1, null);
+        final int start = build(tree, match);
+        
+        // splits the code points into the classes that no set tells apart.
+        final List<Integer> cuts = new ArrayList<Integer>();
+        cuts.add(0);
+        for (final int[] set : this._sets)
+        {
+            if (set == null)
+            {
+                continue;
+            }
+            for (int i = 0; i < set.length; i += 2)
+            {
+                cuts.add(set[i]);
+                if (set[i + 1] < Character.MAX_CODE_POINT)
+                {
+                    cuts.add(set[i + 1] + 1);
+                }
+            }
+        }
+        final int[] bounds = cuts.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        if ((long) bounds.length * this._stateCount > MAX_CLASS_TABLE)
+        {
+            throw (new UnsupportedSyntax());
+        }
+        
+        final Automaton automaton = new Automaton(bounds, start, Arrays.copyOf(this._types, this._stateCount),
+                Arrays.copyOf(this._out1, this._stateCount), Arrays.copyOf(this._out2, this._stateCount));
+        for (int state = 0; state < this._stateCount; state++)
+        {
+            if (this._types[state] == SET)
+            {
+                final int[] set = this._sets.get(state);
+                final boolean[] classes = new boolean[bounds.length];
+                for (int c = 0; c < bounds.length; c++)
+                {
+                    classes[c] = contains(set, bounds[c]);
+                }
+                automaton._classes[state] = classes;
+            }
+        }
+        automaton.buildDfa();
+        return (automaton);
+    }
+    
+    /*
+     * Builds the NFA of a tree, right to left.
+     * @param node The tree.
+     * @param next The state to move to after the tree.
+     * @return The first state of the tree.
+     */
+    private int build(final Node node, final int next)
+    {
+        switch (node._kind)
+        {
+            case CHARS:
+                return (newState(SET, next, -1, node._set));
+            case CONCAT:
+            {
+                int state = next;
+                for (int i = node._children.length - 1; i >= 0; i--)
+                {
+                    state = build(node._children[i], state);
+                }
+                return (state);
+            }
+            case ALTERNATE:
+            {
+                int state = build(node._children[node._children.length - 1], next);
+                for (int i = node._children.length - 2; i >= 0; i--)
+                {
+                    state = newState(SPLIT, build(node._children[i], next), state, null);
+                }
+                return (state);
+            }
+            case REPEAT:
+            {
+                final Node child = node._children[0];
+                int state = next;
+                if (node._max < 0)
+                {
+                    // set after the child is built, as building it can grow the arrays.
+                    final int loop = newState(SPLIT, -1, next, null);
+                    final int body = build(child, loop);
+                    this._out1[loop] = body;
+                    state = loop;
+                }
+                else
+                {
+                    for (int i = node._min; i < node._max; i++)
+                    {
+                        state = newState(SPLIT, build(child, state), next, null);
+                    }
+                }
+                for (int i = 0; i < node._min; i++)
+                {
+                    state = build(child, state);
+                }
+                return (state);
+            }
+            default:
+                return (next);
+        }
+    }
+    
+    /*
+     * Adds an NFA state.
+     * @param type The type of the state.
+     * @param out1 The first next state.
+     * @param out2 The second next state of a split.
+     * @param set The code point ranges of a set state.
+     * @return The new state.
+     */
+    private int newState(final int type, final int out1, final int out2, final int[] set)
+    {
+        if (this._stateCount == MAX_NFA_STATES)
+        {
+            throw (new UnsupportedSyntax());
+        }
+        if (this._stateCount == this._types.length)
+        {
+            final int length = this._types.length * 2;
+            this._types = Arrays.copyOf(this._types, length);
+            this._out1 = Arrays.copyOf(this._out1, length);
+            this._out2 = Arrays.copyOf(this._out2, length);
+        }
+        this._types[this._stateCount] = type;
+        this._out1[this._stateCount] = out1;
+        this._out2[this._stateCount] = out2;
+        this._sets.add(set);
+        return (this._stateCount++);
+    }
+    
+    /*
+     * alternation := concatenation ('|' concatenation)*
+     */
+    private Node parseAlternation()
+    {
+        final List<Node> children = new ArrayList<Node>();
+        children.add(parseConcatenation());
+        while (this._position < this._regex.length() && this._regex.charAt(this._position) == '|')
+        {
+            this._position++;
+            children.add(parseConcatenation());
+        }
+        return ((children.size() == 1) ? children.get(0) : new Node(ALTERNATE, children));
+    }
+    
+    /*
+     * concatenation := repeat*
+     */
+    private Node parseConcatenation()
+    {
+        final List<Node> children = new ArrayList<Node>();
+        while (this._position < this._regex.length())
+        {
+            final char c = this._regex.charAt(this._position);
+            if (c == '|' || c == ')')
+            {
+                break;
+            }
+            final Node child = parseRepeat();
+            if (child._kind != EMPTY)
+            {
+                children.add(child);
+            }
+        }
+        if (children.isEmpty())
+        {
+            return (new Node(EMPTY, children));
+        }
+        return ((children.size() == 1) ? children.get(0) : new Node(CONCAT, children));
+    }
+    
+    /*
+     * repeat := atom (('*' | '+' | '?' | '{' n (',' m?)? '}') '?'?)?
+     */
+    private Node parseRepeat()
+    {
+        final String regex = this._regex;
+        final boolean isAnchor = regex.charAt(this._position) == '^' || regex.charAt(this._position) == '$';
+        final Node atom = parseAtom();
+        if (this._position >= regex.length())
+        {
+            return (atom);
+        }
+        
+        int min;
+        int max;
+        switch (regex.charAt(this._position))
+        {
+            case '*':
+                min = 0;
+                max = -1;
+                this._position++;
+                break;
+            case '+':
+                min = 1;
+                max = -1;
+                this._position++;
+                break;
+            case '?':
+                min = 0;
+                max = 1;
+                this._position++;
+                break;
+            case '{':
+                this._position++;
+                min = parseNumber();
+                max = min;
+                if (peek() == ',')
+                {
+                    this._position++;
+                    max = (peek() == '}') ? -1 : parseNumber();
+                }
+                expect('}');
+                if (max >= 0 && max < min)
+                {
+                    throw (new UnsupportedSyntax());
+                }
+                break;
+            default:
+                return (atom);
+        }
+        if (isAnchor)
+        {
+            throw (new UnsupportedSyntax());
+        }
+        
+        // a lazy quantifier matches the same values; a possessive one does not.
+        if (peek() == '?')
+        {
+            this._position++;
+        }
+        final int c = peek();
+        if (c == '+' || c == '*' || c == '?' || c == '{')
+        {
+            throw (new UnsupportedSyntax());
+        }
+        if (atom._kind == EMPTY || max == 0)
+        {
+            return (new Node(EMPTY, new ArrayList<Node>()));
+        }
+        final Node repeat = new Node(REPEAT, Arrays.asList(atom));
+        repeat._min = min;
+        repeat._max = max;
+        return (repeat);
+    }
+    
+    /*
+     * atom := '(' ('?:' | '?<' name '>')? alternation ')' | '[' class ']' |
+     * '.' | '\' escape | '^' | '$' | char
+     */
+    private Node parseAtom()
+    {
+        final String regex = this._regex;
+        final int c = regex.codePointAt(this._position);
+        switch (c)
+        {
+            case '(':
+            {
+                this._position++;
+                if (peek() == '?')
+                {
+                    this._position++;
+                    final int kind = peek();
+                    if (kind == ':')
+                    {
+                        this._position++;
+                    }
+                    else if (kind == '<' && this._position + 1 < regex.length()
+                            && Character.isLetter(regex.charAt(this._position + 1)))
+                    {
+                        final int end = regex.indexOf('>', this._position);
+                        if (end < 0)
+                        {
+                            throw (new UnsupportedSyntax());
+                        }
+                        this._position = end + 1;
+                    }
+                    else
+                    {
+                        throw (new UnsupportedSyntax());
+                    }
+                }
+                final Node group = parseAlternation();
+                expect(')');
+                return (group);
+            }
+            case '[':
+                this._position++;
+                return (chars(parseClass()));
+            case '.':
+                this._position++;
+                return (chars(negate(LINE_BREAKS)));
+            case '\\':
+                this._position++;
+                return (chars(parseEscape()));
+            case '^':
+                // only at the start, where it does not change a whole match.
+                if (this._position != 0)
+                {
+                    throw (new UnsupportedSyntax());
+                }
+                this._position++;
+                return (new Node(EMPTY, new ArrayList<Node>()));
+            case '$':
+                // only at the end, where it does not change a whole match.
+                if (this._position != regex.length() - 1)
+                {
+                    throw (new UnsupportedSyntax());
+                }
+                this._position++;
+                return (new Node(EMPTY, new ArrayList<Node>()));
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                throw (new UnsupportedSyntax());
+            default:
+                this._position += Character.charCount(c);
+                return (chars(new int[] { c, c }));
+        }
+    }
+    
+    /*
+     * class := '^'? (item ('-' item)?)* ']'
+     * @return The code point ranges of the class.
+     */
+    private int[] parseClass()
+    {
+        final String regex = this._regex;
+        boolean isNegated = false;
+        if (peek() == '^')
+        {
+            isNegated = true;
+            this._position++;
+        }
+        if (peek() == ']')
+        {
+            throw (new UnsupportedSyntax());
+        }
+        
+        final List<int[]> items = new ArrayList<int[]>();
+        while (peek() != ']')
+        {
+            final int c = peek();
+            if (c < 0 || c == '[' || (c == '&' && this._position + 1 < regex.length()
+                    && regex.charAt(this._position + 1) == '&'))
+            {
+                throw (new UnsupportedSyntax());
+            }
+            final int[] item = parseClassItem();
+            if (item.length == 2 && item[0] == item[1] && peek() == '-' && this._position + 1 < regex.length()
+                    && regex.charAt(this._position + 1) != ']')
+            {
+                // a range.
+                this._position++;
+                if (peek() == '[' || peek() == '-')
+                {
+                    throw (new UnsupportedSyntax());
+                }
+                final int[] last = parseClassItem();
+                if (last.length != 2 || last[0] != last[1] || last[0] < item[0])
+                {
+                    throw (new UnsupportedSyntax());
+                }
+                items.add(new int[] { item[0], last[0] });
+            }
+            else if (item.length == 2 && item[0] == '-' && item[1] == '-' && !items.isEmpty() && peek() != ']')
+            {
+                // a '-' that is not first, last or in a range.
+                throw (new UnsupportedSyntax());
+            }
+            else
+            {
+                items.add(item);
+            }
+        }
+        this._position++;
+        final int[] set = union(items);
+        return (isNegated ? negate(set) : set);
+    }
+    
+    /*
+     * Parses a char or a predefined class of a class.
+     * @return The code point ranges of the item.
+     */
+    private int[] parseClassItem()
+    {
+        final int c = this._regex.codePointAt(this._position);
+        if (c == '\\')
+        {
+            this._position++;
+            return (parseEscape());
+        }
+        this._position += Character.charCount(c);
+        return (new int[] { c, c });
+    }
+    
+    /*
+     * Parses the escape after a '\'.
+     * @return The code point ranges of the escape.
+     */
+    private int[] parseEscape()
+    {
+        final int c = peek();
+        if (c < 0)
+        {
+            throw (new UnsupportedSyntax());
+        }
+        this._position++;
+        switch (c)
+        {
+            case 'd':
+                return (DIGITS);
+            case 'D':
+                return (negate(DIGITS));
+            case 'w':
+                return (WORD_CHARS);
+            case 'W':
+                return (negate(WORD_CHARS));
+            case 's':
+                return (SPACES);
+            case 'S':
+                return (negate(SPACES));
+            case 't':
+                return (new int[] { '\t', '\t' });
+            case 'n':
+                return (new int[] { '\n', '\n' });
+            case 'r':
+                return (new int[] { '\r', '\r' });
+            case 'f':
+                return (new int[] { '\f', '\f' });
+            case 'a':
+                return (new int[] { 7, 7 });
+            case 'e':
+                return (new int[] { 27, 27 });
+            case 'x':
+            {
+                final int value = parseHex(2);
+                return (new int[] { value, value });
+            }
+            case 'u':
+            {
+                final int value = parseHex(4);
+                if (Character.isSurrogate((char) value))
+                {
+                    throw (new UnsupportedSyntax());
+                }
+                return (new int[] { value, value });
+            }
+            default:
+                // an escaped ASCII char that is not a letter or a digit is itself.
+                if (c < 128 && !Character.isLetterOrDigit(c))
+                {
+                    return (new int[] { c, c });
+                }
+                throw (new UnsupportedSyntax());
+        }
+    }
+    
+    /*
+     * Parses a number of hex digits.
+     * @param digits The number of digits.
+     * @return The value.
+     */
+    private int parseHex(final int digits)
+    {
+        int value = 0;
+        for (int i = 0; i < digits; i++)
+        {
+            final int digit = Character.digit(peek(), 16);
+            if (digit < 0)
+            {
+                throw (new UnsupportedSyntax());
+            }
+            value = value * 16 + digit;
+            this._position++;
+        }
+        return (value);
+    }
+    
+    /*
+     * Parses the decimal number of a {n,m} quantifier.
+     * @return The number.
+     */
+    private int parseNumber()
+    {
+        int value = 0;
+        int digits = 0;
+        while (peek() >= '0' && peek() <= '9')
+        {
+            value = value * 10 + (peek() - '0');
+            this._position++;
+            if (++digits > 5)
+            {
+                throw (new UnsupportedSyntax());
+            }
+        }
+        if (digits == 0)
+        {
+            throw (new UnsupportedSyntax());
+        }
+        return (value);
+    }
+    
+    /*
+     * Gets the next char of the regex without moving.
+     * @return The char, or -1 at the end.
+     */
+    private int peek()
+    {
+        return ((this._position < this._regex.length()) ? this._regex.charAt(this._position) : -1);
+    }
+    
+    /*
+     * Moves past an expected char.
+     * @param c The expected char.
+     */
+    private void expect(final char c)
+    {
+        if (peek() != c)
+        {
+            throw (new UnsupportedSyntax());
+        }
+        this._position++;
+    }
+    
+    /*
+     * Creates a leaf of code point ranges.
+     * @param set The code point ranges.
+     * @return The node.
+     */
+    private static Node chars(final int[] set)
+    {
+        final Node node = new Node(CHARS, new ArrayList<Node>());
+        node._set = set;
+        return (node);
+    }
+    
+    /*
+     * Tests if a code point is in a set of ranges.
+     * @param set The sorted, disjoint ranges.
+     * @param codePoint The code point.
+     * @return A <code>boolean</code> value that is true if it is in the set.
+     */
+    private static boolean contains(final int[] set, final int codePoint)
+    {
+        for (int i = 0; i < set.length; i += 2)
+        {
+            if (codePoint >= set[i] && codePoint <= set[i + 1])
+            {
+                return (true);
+            }
+        }
+        return (false);
+    }
+    
+    /*
+     * Gets the code points that are not in a set.
+     * @param set The sorted, disjoint ranges.
+     * @return The sorted, disjoint ranges of the other code points.
+     */
+    private static int[] negate(final int[] set)
+    {
+        final List<int[]> ranges = new ArrayList<int[]>();
+        int next = 0;
+        for (int i = 0; i < set.length; i += 2)
+        {
+            if (set[i] > next)
+            {
+                ranges.add(new int[] { next, set[i] - 1 });
+            }
+            next = set[i + 1] + 1;
+        }
+        if (next <= Character.MAX_CODE_POINT)
+        {
+            ranges.add(new int[] { next, Character.MAX_CODE_POINT });
+        }
+        return (union(ranges));
+    }
+    
+    /*
+     * Merges sets of ranges.
+     * @param items The sets.
+     * @return The sorted, disjoint ranges of the union.
+     */
+    static int[] union(final List<int[]> items)
+    {
+        final List<int[]> ranges = new ArrayList<int[]>();
+        for (final int[] item : items)
+        {
+            for (int i = 0; i < item.length; i += 2)
+            {
+                ranges.add(new int[] { item[i], item[i + 1] });
+            }
+        }
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        final int[] set = new int[ranges.size() * 2];
+        int length = 0;
+        for (final int[] range : ranges)
+        {
+            if (length > 0 && range[0] <= set[length - 1] + 1)
+            {
+                set[length - 1] = Math.max(set[length - 1], range[1]);
+            }
+            else
+            {
+                set[length++] = range[0];
+                set[length++] = range[1];
+            }
+        }
+        return (Arrays.copyOf(set, length));
+    }
+    
+    /*
+     * A node of the parsed tree.
+     */
+    static final class Node
+    {
+        
+        /*
+         * The kind of node.
+         */
+        final int    _kind;
+        
+        /*
+         * The children of a concatenation, an alternation or a repeat.
+         */
+        final Node[] _children;
+        
+        /*
+         * The sorted, disjoint code point ranges of a set of chars.
+         */
+        int[]        _set;
+        
+        /*
+         * The min and max count of a repeat. The max is -1 if there is none.
+         */
+        int          _min;
+        
+        int          _max;
+        
+        Node(final int kind, final List<Node> children)
+        {
+            this._kind = kind;
+            this._children = children.toArray(new Node[children.size()]);
+        }
+    }
+    
+    /*
+     * Thrown when the regex uses syntax that is not supported. It has no
+     * stack trace, as it is caught by compile().
+     */
+    private static final class UnsupportedSyntax extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+        
+        UnsupportedSyntax()
+        {
+            super(null, null, false, false);
+        }
+    }
+    
+    /*
+     * The compiled automaton. It is immutable once built, so it can be
+     * shared by any number of threads.
+     */
+    static final class Automaton
+    {
+        
+        /*
+         * The first code point of each class, sorted.
+         */
+        final int[]       _bounds;
+        
+        /*
+         * The class of each ASCII code point.
+         */
+        final int[]       _asciiClasses = new int[128];
+        
+        /*
+         * The NFA: the first state, the type and the next states of each
+         * state, and the classes each set state moves on.
+         */
+        final int         _start;
+        
+        final int[]       _types;
+        
+        final int[]       _out1;
+        
+        final int[]       _out2;
+        
+        final boolean[][] _classes;
+        
+        /*
+         * The DFA: the next state of each state and class, -1 for no match,
+         * and if each state accepts. It is null if the DFA would be too big.
+         */
+        int[]             _transitions;
+        
+        boolean[]         _accepts;
+        
+        /*
+         * Creates an automaton of an NFA.
+         */
+        Automaton(final int[] bounds, final int start, final int[] types, final int[] out1, final int[] out2)
+        {
+            this._bounds = bounds;
+            this._start = start;
+            this._types = types;
+            this._out1 = out1;
+            this._out2 = out2;
+            this._classes = new boolean[types.length][];
+            for (int c = 0; c < 128; c++)
+            {
+                this._asciiClasses[c] = findClass(c);
+            }
+        }
+        
+        /*
+         * Gets the class of a code point.
+         * @param codePoint The code point.
+         * @return The index of the class.
+         */
+        int classOf(final int codePoint)
+        {
+            return ((codePoint < 128) ? this._asciiClasses[codePoint] : findClass(codePoint));
+        }
+        
+        /*
+         * Finds the class of a code point with a binary search of the bounds.
+         */
+        private int findClass(final int codePoint)
+        {
+            final int index = Arrays.binarySearch(this._bounds, codePoint);
+            return ((index >= 0) ? index : -index - 2);
+        }
+        
+        /*
+         * Adds the closure of a state to a list of states: the set and match
+         * states it reaches without a char.
+         * @param state The state.
+         * @param states The list of states. It is added to.
+         * @param count The number of states in the list.
+         * @param marks The mark of each state already in the closure.
+         * @param mark The mark of this closure.
+         * @param stack The work stack. It has room for twice the states.
+         * @return The new number of states in the list.
+         */
+        int addClosure(final int state, final int[] states, final int count, final int[] marks, final int mark,
+                final int[] stack)
+        {
+            int length = count;
+            int top = 0;
+            stack[top++] = state;
+            while (top > 0)
+            {
+                final int s = stack[--top];
+                if (marks[s] == mark)
+                {
+                    continue;
+                }
+                marks[s] = mark;
+                if (this._types[s] == SPLIT)
+                {
+                    // out1 is pushed last, so it is visited first.
+                    stack[top++] = this._out2[s];
+                    stack[top++] = this._out1[s];
+                }
+                else
+                {
+                    states[length++] = s;
+                }
+            }
+            return (length);
+        }
+        
+        /*
+         * Builds the DFA by subset construction, unless it would be too big.
+         */
+        void buildDfa()
+        {
+            final int classCount = this._bounds.length;
+            final int stateCount = this._types.length;
+            final int[] marks = new int[stateCount];
+            final int[] stack = new int[stateCount * 2 + 1];
+            int mark = 0;
+            long work = 0;
+            
+            final Map<StateKey, Integer> ids = new HashMap<StateKey, Integer>();
+            final List<int[]> subsets = new ArrayList<int[]>();
+            final int[] states = new int[stateCount];
+            int count = addClosure(this._start, states, 0, marks, ++mark, stack);
+            int[] subset = Arrays.copyOf(states, count);
+            Arrays.sort(subset);
+            ids.put(new StateKey(subset), 0);
+            subsets.add(subset);
+            
+            int[] transitions = new int[classCount * 16];
+            for (int id = 0; id < subsets.size(); id++)
+            {
+                if ((long) (id + 1) * classCount > MAX_DFA_ENTRIES)
+                {
+                    return;
+                }
+                if (transitions.length < (id + 1) * classCount)
+                {
+                    transitions = Arrays.copyOf(transitions, Math.min(transitions.length * 2,
+                            MAX_DFA_STATES * classCount));
+                }
+                final int[] from = subsets.get(id);
+                work += (long) from.length * classCount;
+                if (work > MAX_DFA_WORK)
+                {
+                    return;
+                }
+                for (int c = 0; c < classCount; c++)
+                {
+                    count = 0;
+                    mark++;
+                    for (final int s : from)
+                    {
+                        if (this._types[s] == SET && this._classes[s][c])
+                        {
+                            count = addClosure(this._out1[s], states, count, marks, mark, stack);
+                        }
+                    }
+                    if (count == 0)
+                    {
+                        transitions[id * classCount + c] = -1;
+                        continue;
+                    }
+                    subset = Arrays.copyOf(states, count);
+                    Arrays.sort(subset);
+                    final StateKey key = new StateKey(subset);
+                    Integer next = ids.get(key);
+                    if (next == null)
+                    {
+                        if (subsets.size() == MAX_DFA_STATES)
+                        {
+                            return;
+                        }
+                        next = Integer.valueOf(subsets.size());
+                        ids.put(key, next);
+                        subsets.add(subset);
+                    }
+                    transitions[id * classCount + c] = next.intValue();
+                }
+            }
+            
+            final boolean[] accepts = new boolean[subsets.size()];
+            for (int id = 0; id < accepts.length; id++)
+            {
+                for (final int s : subsets.get(id))
+                {
+                    accepts[id] |= this._types[s] == MATCH;
+                }
+            }
+            this._accepts = accepts;
+            this._transitions = Arrays.copyOf(transitions, subsets.size() * classCount);
+        }
+    }
+    
+    /*
+     * The key of a DFA state: its sorted NFA states.
+     */
+    private static final class StateKey
+    {
+        private final int[] _states;
+        
+        private final int   _hash;
+        
+        StateKey(final int[] states)
+        {
+            this._states = states;
+            this._hash = Arrays.hashCode(states);
+        }
+        
+        @Override
+        public boolean equals(final Object other)
+        {
+            return (other instanceof StateKey && Arrays.equals(this._states, ((StateKey) other)._states));
+        }
+        
+        @Override
+        public int hashCode()
+        {
+            return (this._hash);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.regex.Pattern;
+
+/**
+ * This is a regular expression that matches in time linear to the length of
+ * the value. The regular subset of the syntax, which has no backreferences
+ * or lookaround, is compiled into a DFA, so a pattern such as "(a+)+b" cannot
+ * backtrack for an exponential time on a long value of "a" chars.
+ * 
+ *      final LinearPattern pattern = LinearPattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+");
+ *      Validate.defineString(value).testMatch(pattern).validate();
+ *
+ * A regex that uses syntax outside the subset is still accepted, but is
+ * matched by java.util.regex. The isLinear() method tells which engine is
+ * used, so a caller that needs the linear time can check it.
+ * 
+ * The subset is literals, escaped chars, ".", the classes [...] with ranges
+ * and negation, \d \w \s \D \W \S, groups, alternation, the greedy and lazy
+ * quantifiers * + ? {n} {n,} {n,m}, a "^" at the start and a "$" at the end.
+ * The predefined classes are ASCII, as they are in java.util.regex without
+ * flags. The value is matched by code point, the same as java.util.regex.
+ * 
+ * A LinearPattern is immutable and can be shared by many threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class LinearPattern
+{
+    
+    /*
+     * The compiled automaton, or null if the regex is matched by
+     * java.util.regex.
+     */
+    private final LinearCompiler.Automaton _automaton;
+    
+    /*
+     * The regex compiled by java.util.regex.
+     */
+    private final Pattern                  _pattern;
+    
+    /*
+     * Creates a pattern.
+     * @param pattern The regex compiled by java.util.regex.
+     * @param automaton The compiled automaton, or null.
+     */
+    private LinearPattern(final Pattern pattern, final LinearCompiler.Automaton automaton)
+    {
+        this._pattern = pattern;
+        this._automaton = automaton;
+    }
+    
+    /**
+     * Compiles a regular expression. The regex is always compiled by
+     * java.util.regex too, so its syntax is checked the same way.
+     * 
+     * @param regex
+     *            The regular expression.
+     * @return A new LinearPattern instance.
+     * @throws java.util.regex.PatternSyntaxException
+     *             If the syntax of the regex is not valid.
+     */
+    public static LinearPattern compile(final String regex)
+    {
+        if (regex == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'regex' must not be null."));
+        }
+        final Pattern pattern = Pattern.compile(regex);
+        return (new LinearPattern(pattern, LinearCompiler.compile(regex)));
+    }
+    
+    /**
+     * Gets the regex compiled by java.util.regex.
+     * 
+     * @return The Pattern.
+     */
+    public Pattern getPattern()
+    {
+        return (this._pattern);
+    }
+    
+    /**
+     * Gets the regular expression.
+     * 
+     * @return The regular expression.
+     */
+    public String getRegex()
+    {
+        return (this._pattern.pattern());
+    }
+    
+    /**
+     * Tests if the regex is matched in linear time.
+     * 
+     * @return A <code>boolean</code> value that is true if the regex was
+     *         compiled into an automaton, or false if it is matched by
+     *         java.util.regex.
+     */
+    public boolean isLinear()
+    {
+        return (this._automaton != null);
+    }
+    
+    /**
+     * Tests if the whole value matches the regex, the same as
+     * Pattern.matcher(value).matches().
+     * 
+     * @param value
+     *            The value to match.
+     * @return A <code>boolean</code> value that is true if the value matches.
+     */
+    public boolean matches(final CharSequence value)
+    {
+        if (value == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'value' must not be null."));
+        }
+        final LinearCompiler.Automaton automaton = this._automaton;
+        if (automaton == null)
+        {
+            return (this._pattern.matcher(value).matches());
+        }
+        else if (automaton._transitions == null)
+        {
+            return (simulate(automaton, value));
+        }
+        
+        final int[] transitions = automaton._transitions;
+        final int classCount = automaton._bounds.length;
+        final int length = value.length();
+        int state = 0;
+        int i = 0;
+        while (i < length)
+        {
+            final char c = value.charAt(i++);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(value.charAt(i)))
+            {
+                codePoint = Character.toCodePoint(c, value.charAt(i++));
+            }
+            state = transitions[state * classCount + automaton.classOf(codePoint)];
+            if (state < 0)
+            {
+                return (false);
+            }
+        }
+        return (automaton._accepts[state]);
+    }
+    
+    /*
+     * Matches a value by simulating the NFA, when the DFA would be too big.
+     * Each char moves the whole set of current states, so the time is the
+     * length of the value times the number of states.
+     * @param automaton The automaton.
+     * @param value The value to match.
+     * @return A <code>boolean</code> value that is true if the value matches.
+     */
+    private static boolean simulate(final LinearCompiler.Automaton automaton, final CharSequence value)
+    {
+        final int stateCount = automaton._types.length;
+        final int[] marks = new int[stateCount];
+        final int[] stack = new int[stateCount * 2 + 1];
+        int[] current = new int[stateCount];
+        int[] next = new int[stateCount];
+        int mark = 1;
+        int count = automaton.addClosure(automaton._start, current, 0, marks, mark, stack);
+        
+        final int length = value.length();
+        int i = 0;
+        while (i < length && count > 0)
+        {
+            final char c = value.charAt(i++);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(value.charAt(i)))
+            {
+                codePoint = Character.toCodePoint(c, value.charAt(i++));
+            }
+            final int charClass = automaton.classOf(codePoint);
+            int nextCount = 0;
+            mark++;
+            for (int j = 0; j < count; j++)
+            {
+                final int s = current[j];
+                if (automaton._types[s] == LinearCompiler.SET && automaton._classes[s][charClass])
+                {
+                    nextCount = automaton.addClosure(automaton._out1[s], next, nextCount, marks, mark, stack);
+                }
+            }
+            final int[] swap = current;
+            current = next;
+            next = swap;
+            count = nextCount;
+        }
+        
+        for (int j = 0; j < count; j++)
+        {
+            if (automaton._types[current[j]] == LinearCompiler.MATCH)
+            {
+                return (true);
+            }
+        }
+        return (false);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return (this._pattern.pattern());
+    }
+}
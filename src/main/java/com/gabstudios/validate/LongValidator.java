@@ -36,9 +36,24 @@ package com.gabstudios.validate;
  * @author Gregory Brown (sysdevone)
  *
  */
-public final class LongValidator  extends NumberValidator<Long>
+public final class LongValidator extends NumberValidator<Long>
 {
-   
+    
+    /*
+     * The max value to test for. Defaults to Long.MAX_VALUE.
+     */
+    private long       _maxValue       = Long.MAX_VALUE;
+    
+    /*
+     * The min value to test for. Defaults to Long.MIN_VALUE.
+     */
+    private long       _minValue       = Long.MIN_VALUE;
+    
+    /*
+     * The value that will be tested, kept unboxed for the comparisons.
+     */
+    private final long _primitiveValue;
+    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -47,18 +62,103 @@ public final class LongValidator  extends NumberValidator<Long>
      */
     protected LongValidator(final long value)
     {
-        super( value, Long.MIN_VALUE, Long.MAX_VALUE, Long.valueOf(0) );
+        super( value );
+        this._primitiveValue = value;
     }
-
+    
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same LongValidator instance. This allows for method chaining.
+     */
+    public LongValidator testMaxValue(final long maxValue)
+    {
+        this._rules |= RuleCode.MAX_VALUE.mask();
+        this._maxValue = maxValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMaxValue(java.lang.Number)
+     */
+    @Override
+    public LongValidator testMaxValue(final Long maxValue)
+    {
+        return (testMaxValue(maxValue.longValue()));
+    }
+    
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same LongValidator instance. This allows for method chaining.
+     */
+    public LongValidator testMinValue(final long minValue)
+    {
+        this._rules |= RuleCode.MIN_VALUE.mask();
+        this._minValue = minValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMinValue(java.lang.Number)
+     */
+    @Override
+    public LongValidator testMinValue(final Long minValue)
+    {
+        return (testMinValue(minValue.longValue()));
+    }
+    
+    @Override
+    protected int compareToMaxValue()
+    {
+        return (Long.compare(this._primitiveValue, this._maxValue));
+    }
+    
+    @Override
+    protected int compareToMinValue()
+    {
+        return (Long.compare(this._primitiveValue, this._minValue));
+    }
+    
+    @Override
+    protected int compareToZeroValue()
+    {
+        return (Long.compare(this._primitiveValue, 0));
+    }
+    
+    @Override
+    protected Long getMaxValue()
+    {
+        return (this._maxValue);
+    }
+    
+    @Override
+    protected Long getMinValue()
+    {
+        return (this._minValue);
+    }
+    
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
 		return String.format(
-				"LongValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"LongValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _maxValue, _minValue, _isValidationExceptionThrownOnFail,
+				_equalsValue, _value);
 	}
     
     
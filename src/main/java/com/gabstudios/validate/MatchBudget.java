@@ -0,0 +1,382 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This is a limit on how much work a regular expression match may do. A
+ * regex that backtracks can run for a very long time on a crafted value, so
+ * a budget stops the match and the value fails with the
+ * MATCH_BUDGET_EXCEEDED rule code instead of the MATCH rule code.
+ * 
+ *      final MatchBudget budget = Validate.matchBudget().maxLength(1024).maxSteps(100000).build();
+ *      Validate.defineString(value).testMatch(regex).testMatchBudget(budget).validate();
+ *
+ * The budget has three limits, each optional:
+ * 
+ *      maxLength   a longer value is not matched at all.
+ *      maxSteps    the max number of chars the regex may read, counting
+ *                  every read of a char again when the regex backtracks.
+ *      maxTime     the max time a match may run.
+ *
+ * The steps and the time are counted by handing the regex a CharSequence
+ * that checks the budget as its chars are read. The time is only read every
+ * 1024 steps, so it costs little. A LinearPattern matches in linear time,
+ * so only the max length applies to it.
+ * 
+ * A MatchBudget is immutable and can be shared by many threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class MatchBudget
+{
+    
+    /*
+     * The number of steps between two reads of the time.
+     */
+    private static final int TIME_CHECK_STEPS = 1024;
+    
+    /*
+     * The max length of a value to match.
+     */
+    private final int        _maxLength;
+    
+    /*
+     * The max time of a match in nanoseconds.
+     */
+    private final long       _maxNanos;
+    
+    /*
+     * The max number of chars the regex may read.
+     */
+    private final long       _maxSteps;
+    
+    /*
+     * Private constructor. Use the Builder to create a budget.
+     * @param builder The builder holding the limits.
+     */
+    private MatchBudget(final Builder builder)
+    {
+        this._maxLength = builder._maxLength;
+        this._maxNanos = builder._maxNanos;
+        this._maxSteps = builder._maxSteps;
+    }
+    
+    /**
+     * Gets the max length of a value to match.
+     * 
+     * @return The max length, or Integer.MAX_VALUE if there is no limit.
+     */
+    public int getMaxLength()
+    {
+        return (this._maxLength);
+    }
+    
+    /**
+     * Gets the max time of a match.
+     * 
+     * @return The max time in nanoseconds, or Long.MAX_VALUE if there is no
+     *         limit.
+     */
+    public long getMaxNanos()
+    {
+        return (this._maxNanos);
+    }
+    
+    /**
+     * Gets the max number of chars the regex may read.
+     * 
+     * @return The max number of steps, or Long.MAX_VALUE if there is no
+     *         limit.
+     */
+    public long getMaxSteps()
+    {
+        return (this._maxSteps);
+    }
+    
+    /*
+     * Matches a value within the budget.
+     * @param value The value. It is not null.
+     * @param linearPattern The linear time pattern, or null if the pattern
+     * is used.
+     * @param pattern The compiled regex.
+     * @param matcher A Matcher of the pattern to reuse, or null.
+     * @return Zero if the value matches, RuleCode.MATCH.mask() if it does
+     * not, or RuleCode.MATCH_BUDGET_EXCEEDED.mask() if the budget ran out.
+     */
+    long tryMatch(final CharSequence value, final LinearPattern linearPattern, final Pattern pattern,
+            final Matcher matcher)
+    {
+        if (value.length() > this._maxLength)
+        {
+            return (RuleCode.MATCH_BUDGET_EXCEEDED.mask());
+        }
+        
+        boolean isMatch;
+        if (linearPattern != null)
+        {
+            isMatch = linearPattern.matches(value);
+        }
+        else if (this._maxSteps == Long.MAX_VALUE && this._maxNanos == Long.MAX_VALUE)
+        {
+            isMatch = ((matcher != null) ? matcher.reset(value) : pattern.matcher(value)).matches();
+        }
+        else
+        {
+            final BudgetedChars chars = new BudgetedChars(value, this._maxSteps, this._maxNanos);
+            try
+            {
+                isMatch = ((matcher != null) ? matcher.reset(chars) : pattern.matcher(chars)).matches();
+            }
+            catch (final BudgetExceeded e)
+            {
+                return (RuleCode.MATCH_BUDGET_EXCEEDED.mask());
+            }
+            finally
+            {
+                // the Matcher must not keep the value.
+                if (matcher != null)
+                {
+                    matcher.reset("");
+                }
+            }
+        }
+        return (isMatch ? 0L : RuleCode.MATCH.mask());
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("MatchBudget [_maxLength=%s, _maxSteps=%s, _maxNanos=%s]", _maxLength, _maxSteps,
+                _maxNanos);
+    }
+    
+    /*
+     * A CharSequence that counts each char the regex reads and stops the
+     * match when the budget runs out. It is used by one match only.
+     */
+    private static final class BudgetedChars implements CharSequence
+    {
+        
+        /*
+         * The time the match must end by, from System.nanoTime().
+         */
+        private final long         _deadline;
+        
+        /*
+         * If the match has a max time.
+         */
+        private final boolean      _hasDeadline;
+        
+        /*
+         * The number of steps left, shared with the sub sequences.
+         */
+        private final long[]       _stepsLeft;
+        
+        /*
+         * The value being matched.
+         */
+        private final CharSequence _value;
+        
+        /*
+         * Creates the chars of a match.
+         */
+        BudgetedChars(final CharSequence value, final long maxSteps, final long maxNanos)
+        {
+            this._value = value;
+            this._stepsLeft = new long[] { maxSteps };
+            this._hasDeadline = maxNanos != Long.MAX_VALUE;
+            this._deadline = System.nanoTime() + (this._hasDeadline ? maxNanos : 0L);
+        }
+        
+        /*
+         * Creates a sub sequence that shares the budget.
+         */
+        private BudgetedChars(final CharSequence value, final BudgetedChars budget)
+        {
+            this._value = value;
+            this._stepsLeft = budget._stepsLeft;
+            this._hasDeadline = budget._hasDeadline;
+            this._deadline = budget._deadline;
+        }
+        
+        @Override
+        public char charAt(final int index)
+        {
+            final long stepsLeft = --this._stepsLeft[0];
+            if (stepsLeft < 0 || (this._hasDeadline && stepsLeft % TIME_CHECK_STEPS == 0
+                    && System.nanoTime() - this._deadline > 0))
+            {
+                throw (BudgetExceeded.INSTANCE);
+            }
+            return (this._value.charAt(index));
+        }
+        
+        @Override
+        public int length()
+        {
+            return (this._value.length());
+        }
+        
+        @Override
+        public CharSequence subSequence(final int start, final int end)
+        {
+            return (new BudgetedChars(this._value.subSequence(start, end), this));
+        }
+        
+        @Override
+        public String toString()
+        {
+            return (this._value.toString());
+        }
+    }
+    
+    /*
+     * Thrown out of the regex when the budget runs out. It has no stack
+     * trace, as it is always caught by tryMatch().
+     */
+    private static final class BudgetExceeded extends RuntimeException
+    {
+        private static final long           serialVersionUID = 1L;
+        
+        /*
+         * The only instance.
+         */
+        private static final BudgetExceeded INSTANCE         = new BudgetExceeded();
+        
+        private BudgetExceeded()
+        {
+            super(null, null, false, false);
+        }
+    }
+    
+    /**
+     * This is a builder of an immutable MatchBudget. Each limit is optional.
+     * 
+     *      final MatchBudget budget = Validate.matchBudget().maxLength(1024).maxTime(5, TimeUnit.MILLISECONDS).build();
+     *
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        
+        /*
+         * The max length of a value to match.
+         */
+        private int  _maxLength = Integer.MAX_VALUE;
+        
+        /*
+         * The max time of a match in nanoseconds.
+         */
+        private long _maxNanos  = Long.MAX_VALUE;
+        
+        /*
+         * The max number of chars the regex may read.
+         */
+        private long _maxSteps  = Long.MAX_VALUE;
+        
+        /**
+         * Protected constructor. Use Validate.matchBudget() to create a
+         * builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+        
+        /**
+         * Builds an immutable budget from the limits.
+         *
+         * @return A <code>MatchBudget</code> instance.
+         */
+        public MatchBudget build()
+        {
+            return (new MatchBudget(this));
+        }
+        
+        /**
+         * Sets the max length of a value to match. A longer value is not
+         * matched and fails the budget.
+         * 
+         * @param maxLength
+         *            The max length in chars.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder maxLength(final int maxLength)
+        {
+            if (maxLength < 0)
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'maxLength' must be greater than or equal to zero (0)."));
+            }
+            this._maxLength = maxLength;
+            return (this);
+        }
+        
+        /**
+         * Sets the max number of chars the regex may read. A char that is
+         * read again when the regex backtracks is counted again.
+         * 
+         * @param maxSteps
+         *            The max number of steps.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder maxSteps(final long maxSteps)
+        {
+            if (maxSteps <= 0)
+            {
+                throw (new IllegalArgumentException("The parameter 'maxSteps' must be greater than zero (0)."));
+            }
+            this._maxSteps = maxSteps;
+            return (this);
+        }
+        
+        /**
+         * Sets the max time a match may run.
+         * 
+         * @param maxTime
+         *            The max time.
+         * @param unit
+         *            The unit of the max time.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder maxTime(final long maxTime, final TimeUnit unit)
+        {
+            if (maxTime <= 0)
+            {
+                throw (new IllegalArgumentException("The parameter 'maxTime' must be greater than zero (0)."));
+            }
+            else if (unit == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'unit' must not be null."));
+            }
+            this._maxNanos = Math.min(unit.toNanos(maxTime), Long.MAX_VALUE - 1);
+            return (this);
+        }
+    }
+}
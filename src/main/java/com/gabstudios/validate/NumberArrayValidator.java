@@ -0,0 +1,468 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This is an abstract primitive array validator. It is used to add bulk
+ * validators for arrays of numbers, such as a column of a batch.
+ * 
+ * The min, max, zero, positive and negative tests are applied to every
+ * element. They are reduced to a single range of valid values before the
+ * array is scanned, so each element is checked once in a tight loop without
+ * boxing or allocation. After validate() is called, getViolationCount() and
+ * getFirstViolationIndex() tell how many elements failed and where the first
+ * one is.
+ * 
+ * A very large array can be scanned in parallel with the parallel() methods.
+ * The array is split into chunks on a ForkJoinPool once it is at least as long
+ * as the threshold. The first violation index and the count are the same as a
+ * scan on one thread; in fail fast mode the chunks after a failure are skipped.
+ * 
+ * The subclasses keep the limits as longs ordered the same way as their
+ * elements, called keys. An int or a long is its own key.
+ *
+ * @author Gregory Brown (sysdevone)
+ * 
+ * @param <C>
+ *            A primitive array class such as int[], long[] or double[].
+ *
+ */
+public abstract class NumberArrayValidator<C> extends ObjectValidator<C> {
+
+	/*
+	 * The tests that are applied to each element.
+	 */
+	private static final long ELEMENT_RULES = RuleCode.MIN_VALUE.mask() | RuleCode.MAX_VALUE.mask()
+			| RuleCode.ZERO_VALUE.mask() | RuleCode.POSITIVE_VALUE.mask() | RuleCode.NEGATIVE_VALUE.mask();
+
+	/*
+	 * The key of the max value to test for. Defaults to the largest key.
+	 */
+	protected long _maxKey = Long.MAX_VALUE;
+
+	/*
+	 * The key of the min value to test for. Defaults to the smallest key.
+	 */
+	protected long _minKey = Long.MIN_VALUE;
+
+	/*
+	 * The index of the first element that failed, or -1.
+	 */
+	private int _firstViolationIndex = -1;
+
+	/*
+	 * The number of elements that failed.
+	 */
+	private int _violationCount = 0;
+
+	/*
+	 * The length at which the array is scanned in parallel. Defaults to never.
+	 */
+	private int _parallelThreshold = Integer.MAX_VALUE;
+
+	/*
+	 * The pool of the parallel scan. It is set by the parallel methods.
+	 */
+	private ForkJoinPool _pool = null;
+
+	/**
+	 * Protected constructor. Use Validate static method to create validator.
+	 *
+	 * @param value
+	 *            The array that will be validated. It is not copied.
+	 */
+	protected NumberArrayValidator(final C value) {
+		super(value);
+	}
+
+	/**
+	 * Gets the index of the first element that failed a test during the last
+	 * validate.
+	 *
+	 * @return An <code>int</code> index, or -1 if no element failed.
+	 */
+	public int getFirstViolationIndex() {
+		return (this._firstViolationIndex);
+	}
+
+	/**
+	 * Gets the number of elements that failed a test during the last
+	 * validate. If the failFast method has been called, the count stops at
+	 * the first element that failed.
+	 *
+	 * @return An <code>int</code> value of zero or greater.
+	 */
+	public int getViolationCount() {
+		return (this._violationCount);
+	}
+
+	/**
+	 * A method to scan the array in parallel on the common ForkJoinPool when
+	 * it has at least 65536 elements.
+	 * 
+	 * @return The same NumberArrayValidator instance. This allows for method
+	 *         chaining.
+	 */
+	public NumberArrayValidator<C> parallel() {
+		return (parallel(ParallelScan.DEFAULT_THRESHOLD));
+	}
+
+	/**
+	 * A method to scan the array in parallel on the common ForkJoinPool when
+	 * it has at least <code>threshold</code> elements.
+	 * 
+	 * @param threshold
+	 *            The length at which the array is scanned in parallel.
+	 * @return The same NumberArrayValidator instance. This allows for method
+	 *         chaining.
+	 */
+	public NumberArrayValidator<C> parallel(final int threshold) {
+		return (parallel(threshold, ForkJoinPool.commonPool()));
+	}
+
+	/**
+	 * A method to scan the array in parallel on a pool when it has at least
+	 * <code>threshold</code> elements.
+	 * 
+	 * @param threshold
+	 *            The length at which the array is scanned in parallel.
+	 * @param pool
+	 *            The pool to scan the array in.
+	 * @return The same NumberArrayValidator instance. This allows for method
+	 *         chaining.
+	 */
+	public NumberArrayValidator<C> parallel(final int threshold, final ForkJoinPool pool) {
+		ParallelScan.checkThreshold(threshold);
+		if (pool == null) {
+			throw (new IllegalArgumentException("The parameter 'pool' must not be null."));
+		}
+		this._parallelThreshold = threshold;
+		this._pool = pool;
+		return (this);
+	}
+
+	/**
+	 * A method to mark that a "zero value" test will be performed on each
+	 * element when the validate() method is called.
+	 * 
+	 * @return The same NumberArrayValidator instance. This allows for method
+	 *         chaining.
+	 */
+	public NumberArrayValidator<C> isZeroValue() {
+		this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.ZERO_VALUE.mask();
+		return (this);
+	}
+
+	/**
+	 * A method to mark that a "positive value" test will be performed on each
+	 * element when the validate() method is called.
+	 * 
+	 * @return The same NumberArrayValidator instance. This allows for method
+	 *         chaining.
+	 */
+	public NumberArrayValidator<C> isPositiveValue() {
+		this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.POSITIVE_VALUE.mask();
+		return (this);
+	}
+
+	/**
+	 * A method to mark that a "negative value" test will be performed on each
+	 * element when the validate() method is called.
+	 * 
+	 * @return The same NumberArrayValidator instance. This allows for method
+	 *         chaining.
+	 */
+	public NumberArrayValidator<C> isNegativeValue() {
+		this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.NEGATIVE_VALUE.mask();
+		return (this);
+	}
+
+	/**
+	 * A method to mark that a "not null or empty" test will be performed when
+	 * the validate() method is called.
+	 * 
+	 * @return The same NumberArrayValidator instance. This allows for method
+	 *         chaining.
+	 */
+	public NumberArrayValidator<C> testNotNullEmpty() {
+		this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.NOT_EMPTY.mask();
+		return (this);
+	}
+
+	/*
+	 * Tests that the fields of a strided layout are inside a buffer or
+	 * segment. Field i starts at offset + i * stride.
+	 * @param limit The number of readable bytes.
+	 * @param offset The byte offset of the first field.
+	 * @param stride The number of bytes from one field to the next.
+	 * @param count The number of fields.
+	 * @param size The number of bytes of a field.
+	 * @throws IllegalArgumentException Thrown if the layout is not valid.
+	 */
+	static void checkLayout(final long limit, final long offset, final long stride, final int count,
+			final int size) {
+		if (offset < 0L) {
+			throw new IllegalArgumentException("The offset must not be negative: " + offset);
+		}
+		if (stride < size) {
+			throw new IllegalArgumentException("The stride must be at least " + size + " bytes: " + stride);
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("The count must not be negative: " + count);
+		}
+		// divides instead of multiplying, so a huge layout can not overflow.
+		final long room = limit - size - offset;
+		if (count > 0 && (room < 0L || (count - 1) > room / stride)) {
+			throw new IllegalArgumentException(
+					"The " + count + " fields do not fit in " + limit + " bytes from offset " + offset);
+		}
+	}
+
+	/*
+	 * Gets the length of the array. The array is not null.
+	 * @return The length.
+	 */
+	protected abstract int getLength();
+
+	/*
+	 * Counts the elements outside of the range of keys and widens the bounds to
+	 * the smallest and the largest of their keys.
+	 * @param from The first index to test.
+	 * @param to The last index, exclusive.
+	 * @param lo The key of the lowest valid value.
+	 * @param hi The key of the highest valid value. It is not less than lo.
+	 * @param bounds The smallest and the largest key outside of the range so far.
+	 * @return The number of elements outside of the range.
+	 */
+	protected abstract int countOutOfRange(int from, int to, long lo, long hi, long[] bounds);
+
+	/*
+	 * Finds the first element outside of the range of keys.
+	 * @param from The first index to test.
+	 * @param to The last index, exclusive.
+	 * @param lo The key of the lowest valid value.
+	 * @param hi The key of the highest valid value. It is not less than lo.
+	 * @return The index of the first element outside of the range, or -1.
+	 */
+	protected abstract int indexOfOutOfRange(int from, int to, long lo, long hi);
+
+	/*
+	 * Gets the key of an element.
+	 * @param index The index of the element.
+	 * @return The key.
+	 */
+	protected abstract long getElementKey(int index);
+
+	/*
+	 * Converts a key to its number. It is only boxed to build an error message.
+	 * @param key The key.
+	 * @return The number.
+	 */
+	protected abstract Number toNumber(long key);
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.gabstudios.gabvalidate.Validator#validate()
+	 */
+	@Override
+	public boolean validate() {
+		this._firstViolationIndex = -1;
+		this._violationCount = 0;
+
+		if (this._isFailFast) {
+			// from the cheapest test to the most expensive.
+			return (validateNotNull() && validateNotEmpty() && validateElements() && validateEquals());
+		}
+
+		// call ObjectValidator validate method.
+		boolean isValid = super.validate();
+		isValid &= validateNotEmpty();
+		isValid &= validateElements();
+
+		return (isValid);
+	}
+
+	/*
+	 * Used as part of the validation process to test for an empty array.
+	 * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+	 */
+	protected boolean validateNotEmpty() {
+		boolean isValid = true;
+		if (RuleCode.NOT_EMPTY.isIn(this._rules)) {
+			isValid = (this._value != null && getLength() > 0);
+			if (!isValid && recordFailure(RuleCode.NOT_EMPTY)) {
+				reportViolation(RuleCode.NOT_EMPTY);
+			}
+		}
+		return (isValid);
+	}
+
+	/*
+	 * Used as part of the validation process to test each element. The element
+	 * tests are reduced to one range of keys and the array is scanned once for
+	 * the first failure and, unless failFast is set, once more to count the rest.
+	 * A long enough array is scanned in chunks in parallel.
+	 * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+	 */
+	protected boolean validateElements() {
+		final long rules = this._rules;
+		if ((rules & ELEMENT_RULES) == 0L || this._value == null) {
+			return (true);
+		}
+
+		long lo = this._minKey;
+		long hi = this._maxKey;
+		if (RuleCode.ZERO_VALUE.isIn(rules)) {
+			lo = Math.max(lo, 0L);
+			hi = Math.min(hi, 0L);
+		}
+		if (RuleCode.POSITIVE_VALUE.isIn(rules)) {
+			lo = Math.max(lo, 1L);
+		}
+		if (RuleCode.NEGATIVE_VALUE.isIn(rules)) {
+			hi = Math.min(hi, -1L);
+		}
+
+		final int length = getLength();
+		// the smallest and the largest key of the failing elements.
+		final long[] bounds = { Long.MAX_VALUE, Long.MIN_VALUE };
+		int index;
+		int count = 0;
+		if (lo > hi) {
+			// no value can pass.
+			index = (length > 0) ? 0 : -1;
+			count = length;
+			if (index >= 0 && !this._isFailFast) {
+				boundElements(0, length, bounds);
+			}
+		} else if (length >= this._parallelThreshold) {
+			final ParallelScan scan = ParallelScan.scan(new ElementScanner(lo, hi), length, this._isFailFast,
+					this._pool);
+			index = scan.getIndex();
+			count = scan.getCount();
+			bounds[0] = scan.getMinKey();
+			bounds[1] = scan.getMaxKey();
+		} else {
+			index = indexOfOutOfRange(0, length, lo, hi);
+			if (index >= 0 && !this._isFailFast) {
+				count = countOutOfRange(index, length, lo, hi, bounds);
+			}
+		}
+		if (index < 0) {
+			return (true);
+		}
+		if (this._isFailFast) {
+			// the first failing element tells which tests failed.
+			bounds[0] = getElementKey(index);
+			bounds[1] = bounds[0];
+		}
+
+		this._firstViolationIndex = index;
+		this._violationCount = this._isFailFast ? 1 : count;
+		reportElementViolations(rules, bounds[0], bounds[1]);
+		return (false);
+	}
+
+	/*
+	 * Widens the bounds to the smallest and the largest key of a range of
+	 * elements.
+	 * @param from The first index.
+	 * @param to The last index, exclusive.
+	 * @param bounds The smallest and the largest key so far.
+	 */
+	private void boundElements(final int from, final int to, final long[] bounds) {
+		for (int i = from; i < to; i++) {
+			final long key = getElementKey(i);
+			bounds[0] = Math.min(bounds[0], key);
+			bounds[1] = Math.max(bounds[1], key);
+		}
+	}
+
+	/*
+	 * Reports each element test that failed. Every element that fails a test
+	 * is outside of the range, so the smallest and the largest failing key
+	 * tell which tests failed.
+	 * @param rules The selected tests.
+	 * @param minKey The smallest key of the failing elements.
+	 * @param maxKey The largest key of the failing elements.
+	 */
+	private void reportElementViolations(final long rules, final long minKey, final long maxKey) {
+
+		if (RuleCode.MIN_VALUE.isIn(rules) && minKey < this._minKey && recordFailure(RuleCode.MIN_VALUE)) {
+			reportViolation(RuleCode.MIN_VALUE, toNumber(minKey), toNumber(this._minKey));
+		}
+		if (RuleCode.MAX_VALUE.isIn(rules) && maxKey > this._maxKey && recordFailure(RuleCode.MAX_VALUE)) {
+			reportViolation(RuleCode.MAX_VALUE, toNumber(maxKey), toNumber(this._maxKey));
+		}
+		if (RuleCode.ZERO_VALUE.isIn(rules) && (minKey != 0L || maxKey != 0L)
+				&& recordFailure(RuleCode.ZERO_VALUE)) {
+			reportViolation(RuleCode.ZERO_VALUE, toNumber((minKey != 0L) ? minKey : maxKey));
+		}
+		if (RuleCode.POSITIVE_VALUE.isIn(rules) && minKey <= 0L && recordFailure(RuleCode.POSITIVE_VALUE)) {
+			reportViolation(RuleCode.POSITIVE_VALUE, toNumber(minKey));
+		}
+		if (RuleCode.NEGATIVE_VALUE.isIn(rules) && maxKey >= 0L && recordFailure(RuleCode.NEGATIVE_VALUE)) {
+			reportViolation(RuleCode.NEGATIVE_VALUE, toNumber(maxKey));
+		}
+	}
+
+	/*
+	 * The scan of a chunk of the array against a range of keys.
+	 */
+	private final class ElementScanner implements ParallelScan.Scanner {
+
+		/*
+		 * The key of the highest valid value.
+		 */
+		private final long _hi;
+
+		/*
+		 * The key of the lowest valid value.
+		 */
+		private final long _lo;
+
+		/**
+		 * Creates the scan of a range of keys.
+		 * 
+		 * @param lo
+		 *            The key of the lowest valid value.
+		 * @param hi
+		 *            The key of the highest valid value.
+		 */
+		ElementScanner(final long lo, final long hi) {
+			this._lo = lo;
+			this._hi = hi;
+		}
+
+		@Override
+		public int count(final int from, final int to, final long[] bounds) {
+			return (countOutOfRange(from, to, this._lo, this._hi, bounds));
+		}
+
+		@Override
+		public int indexOf(final int from, final int to) {
+			return (indexOfOutOfRange(from, to, this._lo, this._hi));
+		}
+	}
+
+}
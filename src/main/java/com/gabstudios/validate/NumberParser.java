@@ -0,0 +1,262 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+/**
+ * This is a parser of numbers in text that does not allocate. It parses a
+ * CharSequence, such as a cell of a delimited file, in place; the value is
+ * kept in the parser, so one parser is reused by one thread for every cell.
+ * 
+ *      if (parser.parseLong(cell)) ... parser.getLongValue() ...
+ *
+ * An integer is an optional sign and decimal digits. A double is parsed on a
+ * fast path if it has at most 15 significant digits and a small exponent,
+ * where the result of one multiply or divide by an exact power of ten is
+ * correctly rounded; any other text is passed to Double.parseDouble().
+ * Leading or trailing whitespace is not a number.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class NumberParser
+{
+    
+    /*
+     * The powers of ten that are exact doubles.
+     */
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+    
+    /*
+     * The most significant digits of a mantissa that is exact in a double.
+     */
+    private static final int      MAX_FAST_DIGITS = 15;
+    
+    /*
+     * The value of the last double that was parsed.
+     */
+    private double                _doubleValue;
+    
+    /*
+     * The value of the last integer that was parsed.
+     */
+    private long                  _longValue;
+    
+    /*
+     * Gets the value of the last double that was parsed.
+     * @return The value.
+     */
+    double getDoubleValue()
+    {
+        return (this._doubleValue);
+    }
+    
+    /*
+     * Gets the value of the last integer that was parsed.
+     * @return The value.
+     */
+    long getLongValue()
+    {
+        return (this._longValue);
+    }
+    
+    /*
+     * Parses a double.
+     * @param text The text to parse.
+     * @return A <code>boolean</code> value that is true if the text is a
+     * double. The value is then set.
+     */
+    boolean parseDouble(final CharSequence text)
+    {
+        final int length = text.length();
+        int i = 0;
+        boolean isNegative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+'))
+        {
+            isNegative = (text.charAt(0) == '-');
+            i++;
+        }
+        
+        long mantissa = 0L;
+        int significantDigits = 0;
+        int digitCount = 0;
+        int exponent = 0;
+        for (; i < length; i++)
+        {
+            final int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+            {
+                break;
+            }
+            mantissa = mantissa * 10L + digit;
+            significantDigits += (mantissa != 0L) ? 1 : 0;
+            digitCount++;
+            if (significantDigits > MAX_FAST_DIGITS)
+            {
+                return (parseSlow(text));
+            }
+        }
+        if (i < length && text.charAt(i) == '.')
+        {
+            for (i++; i < length; i++)
+            {
+                final int digit = text.charAt(i) - '0';
+                if (digit < 0 || digit > 9)
+                {
+                    break;
+                }
+                mantissa = mantissa * 10L + digit;
+                significantDigits += (mantissa != 0L) ? 1 : 0;
+                digitCount++;
+                exponent--;
+                if (significantDigits > MAX_FAST_DIGITS)
+                {
+                    return (parseSlow(text));
+                }
+            }
+        }
+        if (digitCount == 0)
+        {
+            // NaN, Infinity and the hexadecimal forms.
+            return (parseSlow(text));
+        }
+        if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E'))
+        {
+            i++;
+            boolean isNegativeExponent = false;
+            if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+'))
+            {
+                isNegativeExponent = (text.charAt(i) == '-');
+                i++;
+            }
+            int exponentDigits = 0;
+            int value = 0;
+            for (; i < length; i++)
+            {
+                final int digit = text.charAt(i) - '0';
+                if (digit < 0 || digit > 9 || ++exponentDigits > 4)
+                {
+                    return (parseSlow(text));
+                }
+                value = value * 10 + digit;
+            }
+            if (exponentDigits == 0)
+            {
+                return (false);
+            }
+            exponent += isNegativeExponent ? -value : value;
+        }
+        if (i < length)
+        {
+            // a type suffix, such as 1.5d.
+            return (parseSlow(text));
+        }
+        
+        double value = mantissa;
+        if (mantissa != 0L)
+        {
+            if (exponent < -22 || exponent > 22)
+            {
+                return (parseSlow(text));
+            }
+            value = (exponent < 0) ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+        }
+        this._doubleValue = isNegative ? -value : value;
+        return (true);
+    }
+    
+    /*
+     * Parses an int.
+     * @param text The text to parse.
+     * @return A <code>boolean</code> value that is true if the text is an
+     * int. The value is then set.
+     */
+    boolean parseInt(final CharSequence text)
+    {
+        return (parseLong(text) && this._longValue == (int) this._longValue);
+    }
+    
+    /*
+     * Parses a long.
+     * @param text The text to parse.
+     * @return A <code>boolean</code> value that is true if the text is a
+     * long. The value is then set.
+     */
+    boolean parseLong(final CharSequence text)
+    {
+        final int length = text.length();
+        int i = 0;
+        boolean isNegative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+'))
+        {
+            isNegative = (text.charAt(0) == '-');
+            i++;
+        }
+        if (i == length)
+        {
+            return (false);
+        }
+        
+        // accumulates negatively, so Long.MIN_VALUE can be parsed.
+        final long limit = isNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / 10L;
+        long result = 0L;
+        for (; i < length; i++)
+        {
+            final int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit)
+            {
+                return (false);
+            }
+            result *= 10L;
+            if (result < limit + digit)
+            {
+                return (false);
+            }
+            result -= digit;
+        }
+        this._longValue = isNegative ? result : -result;
+        return (true);
+    }
+    
+    /*
+     * Parses a double with Double.parseDouble().
+     * @param text The text to parse.
+     * @return A <code>boolean</code> value that is true if the text is a
+     * double.
+     */
+    private boolean parseSlow(final CharSequence text)
+    {
+        final int length = text.length();
+        if (length == 0 || text.charAt(0) <= ' ' || text.charAt(length - 1) <= ' ')
+        {
+            return (false);
+        }
+        try
+        {
+            this._doubleValue = Double.parseDouble(text.toString());
+            return (true);
+        }
+        catch (final NumberFormatException e)
+        {
+            return (false);
+        }
+    }
+}
@@ -22,6 +22,10 @@ package com.gabstudios.validate;
 /**
  * This is an abstract Number validator. It is used to add number based
  * validators.
+ * 
+ * The subclasses keep the value and the min and max values unboxed and
+ * compare them as primitives, so the validate() method does not box or
+ * allocate.
  *
  * @author Gregory Brown (sysdevone)
  * 
@@ -32,68 +36,14 @@ package com.gabstudios.validate;
  */
 public abstract class NumberValidator<C extends Number> extends ObjectValidator<C> {
 
-	/*
-	 * A flag indicating that a max value test will be performed when the validate()
-	 * method is called.
-	 */
-	protected boolean _isTestMaxValue = false;
-
-	/*
-	 * A flag indicating that a min value test will be performed when the validate()
-	 * method is called.
-	 */
-	protected boolean _isTestMinValue = false;
-
-	/*
-	 * A flag indicating that a positive value test will be performed when the
-	 * validate() method is called.
-	 */
-	protected boolean _isTestPositiveValue = false;
-
-	/*
-	 * A flag indicating that a negative value test will be performed when the
-	 * validate() method is called.
-	 */
-	protected boolean _isTestNegativeValue = false;
-
-	/*
-	 * A flag indicating that a zero value test will be performed when the
-	 * validate() method is called.
-	 */
-	protected boolean _isTestZeroValue = false;
-
-	/*
-	 * The max value to test for. Defaults to Float.MAX_VALUE.
-	 */
-	protected C _maxValue;
-
-	/*
-	 * The min value to test for. Defaults to Float.MIN_VALUE.
-	 */
-	protected C _minValue;
-
-	/**
-	 * Used for the zero, negative, and postive testing against zero.
-	 */
-	protected C _zeroValue;
-
 	/**
 	 * Protected constructor. Use Validate static method to create validator.
 	 *
 	 * @param value
 	 *            The value that will be validated.
-	 * @param minValue
-	 *            The min value to use in tests.
-	 * @param maxValue
-	 *            The max value to use in tests.
-	 * @param zeroValue
-	 *            The zero value to use in tests.
 	 */
-	protected NumberValidator(final C value, final C minValue, final C maxValue, final C zeroValue ) {
+	protected NumberValidator(final C value) {
 		super(value);
-		this._minValue = minValue;
-		this._maxValue = maxValue;
-		this._zeroValue = zeroValue;
 	}
 
 	/**
@@ -103,13 +53,9 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	 * 
 	 * @param maxValue
 	 *            The value to perform the test with.
-	 * @return The same FloatValidator instance. This allows for method chaining.
+	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
-	public NumberValidator<C> testMaxValue(final C maxValue) {
-		this._isTestMaxValue = true;
-		this._maxValue = maxValue;
-		return (this);
-	}
+	public abstract NumberValidator<C> testMaxValue(final C maxValue);
 
 	/**
 	 * A method to mark that an "min value" test will be performed when the
@@ -118,49 +64,75 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	 * 
 	 * @param minValue
 	 *            The value to perform the test with.
-	 * @return The same FloatValidator instance. This allows for method chaining.
+	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
-	public NumberValidator<C> testMinValue(final C minValue) {
-		this._isTestMinValue = true;
-		this._minValue = minValue;
-		return (this);
-	}
+	public abstract NumberValidator<C> testMinValue(final C minValue);
 
 	/**
 	 * A method to mark that an "zero value" test will be performed when the
-	 * validate() method is called. Tests if the value is greater than or equal to
-	 * the min value when the validate method is called.
+	 * validate() method is called. Tests if the value is equal to zero when the
+	 * validate method is called.
 	 * 
 	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
 	public NumberValidator<C> isZeroValue() {
-		this._isTestZeroValue = true;
+		this._rules |= RuleCode.ZERO_VALUE.mask();
 		return (this);
 	}
 
 	/**
 	 * A method to mark that an "positive value" test will be performed when the
-	 * validate() method is called. Tests if the value is greater than or equal to
-	 * the min value when the validate method is called.
+	 * validate() method is called. Tests if the value is greater than zero when
+	 * the validate method is called.
 	 * 
 	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
 	public NumberValidator<C> isPositiveValue() {
-		this._isTestPositiveValue = true;
+		this._rules |= RuleCode.POSITIVE_VALUE.mask();
 		return (this);
 	}
 
 	/**
 	 * A method to mark that an "negative value" test will be performed when the
-	 * validate() method is called. Tests if the value is greater than or equal to
-	 * the min value when the validate method is called.
+	 * validate() method is called. Tests if the value is less than zero when the
+	 * validate method is called.
 	 * 
 	 * @return The same NumberValidator instance. This allows for method chaining.
 	 */
 	public NumberValidator<C> isNegativeValue() {
-		this._isTestNegativeValue = true;
+		this._rules |= RuleCode.NEGATIVE_VALUE.mask();
 		return (this);
 	}
+
+	/*
+	 * Compares the primitive value to the max value.
+	 * @return A negative, zero or positive value as the value is less than, equal to or greater than the max value.
+	 */
+	protected abstract int compareToMaxValue();
+
+	/*
+	 * Compares the primitive value to the min value.
+	 * @return A negative, zero or positive value as the value is less than, equal to or greater than the min value.
+	 */
+	protected abstract int compareToMinValue();
+
+	/*
+	 * Compares the primitive value to zero.
+	 * @return A negative, zero or positive value as the value is less than, equal to or greater than zero.
+	 */
+	protected abstract int compareToZeroValue();
+
+	/*
+	 * Gets the max value. It is only boxed to build an error message.
+	 * @return The max value.
+	 */
+	protected abstract C getMaxValue();
+
+	/*
+	 * Gets the min value. It is only boxed to build an error message.
+	 * @return The min value.
+	 */
+	protected abstract C getMinValue();
     
     /*
      * (non-Javadoc)
@@ -170,6 +142,12 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
     @Override
 	public boolean validate() 
     {
+        if (this._isFailFast)
+        {
+            return (validateNotNull() && validateMinValue() && validateMaxValue() && validateZeroValue()
+                    && validatePositiveValue() && validateNegativeValue() && validateEquals());
+        }
+
         // call ObjectValidator validate method.
         boolean isValid = super.validate();
         isValid &= validateMinValue();
@@ -186,12 +164,10 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	protected boolean validateMinValue()
 	{
 		boolean isValid = true;
-		if (this._isTestMinValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._minValue) >= 0);
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator
-						.throwValidateException("The value must be greater than or equal to the min value (value = '"
-								+ this._value + "' min value = '" + this._minValue + "').");
+		if (RuleCode.MIN_VALUE.isIn(this._rules)) {
+			isValid &= (compareToMinValue() >= 0);
+			if (!isValid && recordFailure(RuleCode.MIN_VALUE)) {
+				reportViolation(RuleCode.MIN_VALUE, this._value, getMinValue());
 			}
 
 		}
@@ -201,12 +177,10 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	protected boolean validateMaxValue()
 	{
 		boolean isValid = true;
-		if (this._isTestMaxValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._maxValue) <= 0);
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator
-						.throwValidateException("The value must be less than or equal to the max value (value = '"
-								+ this._value + "' max value = '" + this._maxValue + "').");
+		if (RuleCode.MAX_VALUE.isIn(this._rules)) {
+			isValid &= (compareToMaxValue() <= 0);
+			if (!isValid && recordFailure(RuleCode.MAX_VALUE)) {
+				reportViolation(RuleCode.MAX_VALUE, this._value, getMaxValue());
 			}
 		}
 		return( isValid );
@@ -215,11 +189,10 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	protected boolean validateZeroValue()
 	{
 		boolean isValid = true;
-		if (this._isTestZeroValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._zeroValue) == 0);
-			//System.out.println( "Zero: " + isValid );
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator.throwValidateException("The value is not a zero value x = 0 (value = '" + this._value + "').");
+		if (RuleCode.ZERO_VALUE.isIn(this._rules)) {
+			isValid &= (compareToZeroValue() == 0);
+			if (!isValid && recordFailure(RuleCode.ZERO_VALUE)) {
+				reportViolation(RuleCode.ZERO_VALUE, this._value);
 			}
 		}
 		return( isValid );
@@ -228,13 +201,10 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	protected boolean validatePositiveValue()
 	{
 		boolean isValid = true;
-		if (this._isTestPositiveValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._zeroValue) > 0);
-			//System.out.println( "Pos: " + isValid );
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator
-						.throwValidateException("The value must be be a positive value x > 0 (value = '"
-								+ this._value + "').");
+		if (RuleCode.POSITIVE_VALUE.isIn(this._rules)) {
+			isValid &= (compareToZeroValue() > 0);
+			if (!isValid && recordFailure(RuleCode.POSITIVE_VALUE)) {
+				reportViolation(RuleCode.POSITIVE_VALUE, this._value);
 			}
 		}
 		return( isValid );
@@ -243,13 +213,10 @@ public abstract class NumberValidator<C extends Number> extends ObjectValidator<
 	protected boolean validateNegativeValue()
 	{
 		boolean isValid = true;
-		if (this._isTestNegativeValue) {
-			isValid &= (((Comparable) this._value).compareTo((Comparable) this._zeroValue) < 0);
-			//System.out.println( "Neg: " + isValid );
-			if (this._isValidationExceptionThrownOnFail && !isValid) {
-				ObjectValidator
-				.throwValidateException("The value must be be a negative value x < 0 (value = '"
-				+ this._value + "').");
+		if (RuleCode.NEGATIVE_VALUE.isIn(this._rules)) {
+			isValid &= (compareToZeroValue() < 0);
+			if (!isValid && recordFailure(RuleCode.NEGATIVE_VALUE)) {
+				reportViolation(RuleCode.NEGATIVE_VALUE, this._value);
 			}
 		}
 		return( isValid );
@@ -19,6 +19,9 @@
 
 package com.gabstudios.validate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This is a Object validator. After this class is created, call the testXXXX()
  * methods to perform tests when the validate() method is called.
@@ -45,22 +48,43 @@ public abstract class ObjectValidator<C> implements Validator
      */
     protected boolean _isValidationExceptionThrownOnFail = false;
 
+    /*
+     * A flag indicating if the validate should stop at the first test that fails.
+     */
+    protected boolean _isFailFast = false;
+
+    /*
+     * A flag indicating if the exception thrown when the validate fails skips
+     * filling in its stack trace.
+     */
+    protected boolean _isStacklessException = false;
+
+    /*
+     * A flag indicating if the failed tests are being collected by validateAll.
+     */
+    private boolean _isCollectingViolations = false;
+
+    /*
+     * The failed tests collected by validateAll. It is only created when a
+     * test fails.
+     */
+    private List<Violation> _violations;
+
 	/*
 	 * The value to use if the testEquals(boolean) method has been called.
 	 */
 	protected C _equalsValue;
 
 	/*
-	 * A flag indicating if an "equals" test will be performed when the validate()
-	 * method is called.
+	 * The tests that will be performed when the validate() method is called,
+	 * one RuleCode.mask() bit per test.
 	 */
-	protected boolean _isTestEquals = false;
+	protected long _rules = 0L;
 
 	/*
-	 * A flag indicating if an "not null" test will be performed when the validate()
-	 * method is called.
+	 * The tests that failed during the last tryValidate().
 	 */
-	protected boolean _isTestNotNull = false;
+	private long _failedRules = 0L;
 
 	/*
 	 * The value that will be tested.
@@ -95,8 +119,7 @@ public abstract class ObjectValidator<C> implements Validator
 	 * @return The same BooleanValidator instance. This allows for method chaining.
 	 */
 	public ObjectValidator<C> testEquals(final C value) {
-		this._isTestNotNull = true;
-		this._isTestEquals = true;
+		this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.EQUALS.mask();
 		this._equalsValue = value;
 		return (this);
 	}
@@ -108,7 +131,7 @@ public abstract class ObjectValidator<C> implements Validator
 	 * @return The same StringValidator instance. This allows for method chaining.
 	 */
 	public ObjectValidator<C> testNotNull() {
-		this._isTestNotNull = true;
+		this._rules |= RuleCode.NOT_NULL.mask();
 		return (this);
 	}
 
@@ -118,12 +141,71 @@ public abstract class ObjectValidator<C> implements Validator
 	 * @see com.gabstudios.gabvalidate.Validator#validate()
 	 */
 	public boolean validate() {
+        if (this._isFailFast)
+        {
+            return (validateNotNull() && validateEquals());
+        }
+
         boolean isValid = validateNotNull();
         isValid &= validateEquals();
 
         return (isValid);
 	}
 
+    /**
+     * Performs the selected tests without throwing or allocating and returns
+     * the tests that failed as a mask. If the failFast method has been called
+     * only the first failed test is in the mask.
+     * 
+     *      final long failedRules = validator.tryValidate();
+     *      if (RuleCode.MAX_VALUE.isIn(failedRules)) ...
+     * 
+     * @return A mask with the RuleCode.mask() bit of each failed test set.
+     *         The mask is zero if the value is valid.
+     */
+    @Override
+    public long tryValidate()
+    {
+        final boolean isValidationExceptionThrownOnFail = this._isValidationExceptionThrownOnFail;
+        this._isValidationExceptionThrownOnFail = false;
+        this._failedRules = 0L;
+        try
+        {
+            validate();
+            return (this._failedRules);
+        }
+        finally
+        {
+            this._isValidationExceptionThrownOnFail = isValidationExceptionThrownOnFail;
+        }
+    }
+
+    /**
+     * Performs every selected test and collects each one that fails. No
+     * exception is thrown and the failFast setting is ignored.
+     * 
+     * @return The shared ValidationResult.VALID instance if every test
+     *         passed. Otherwise a result listing the failed tests.
+     */
+    @Override
+    public ValidationResult validateAll()
+    {
+        final boolean isFailFast = this._isFailFast;
+        this._isFailFast = false;
+        this._isCollectingViolations = true;
+        try
+        {
+            validate();
+            return ((this._violations == null) ? ValidationResult.VALID : ValidationResult.of(this._violations));
+        }
+        finally
+        {
+            this._isFailFast = isFailFast;
+            this._isCollectingViolations = false;
+            this._violations = null;
+        }
+    }
+
 	/*
      * Used as part of the validation process to test to not null.
      * @return A <code>boolean</code> value of true it is valid or false the validate failed.
@@ -131,13 +213,12 @@ public abstract class ObjectValidator<C> implements Validator
     protected boolean validateNotNull()
     {
 		boolean isValid = true;
-        if (this._isTestNotNull)
+        if (RuleCode.NOT_NULL.isIn(this._rules))
         {
 			isValid = (this._value != null);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
+            if (!isValid && recordFailure(RuleCode.NOT_NULL))
             {
-            	ObjectValidator
-                        .throwValidateException("The value must not be null");
+            	reportViolation(RuleCode.NOT_NULL);
             }
         }
         return(isValid);
@@ -150,34 +231,98 @@ public abstract class ObjectValidator<C> implements Validator
 	protected boolean validateEquals()
     {
 		boolean isValid = true;
-        if (this._isTestEquals)
+        if (RuleCode.EQUALS.isIn(this._rules))
         {
 		    isValid = this._value != null && this._value.equals(this._equalsValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid )
+            if (!isValid && recordFailure(RuleCode.EQUALS))
             {
-            	ObjectValidator
-                        .throwValidateException("The value does not equal the expected value (value = '"
-                                + this._value
-                                + "' expected value = '"
-                                + this._equalsValue + "').");
+            	reportViolation(RuleCode.EQUALS, this._value, this._equalsValue);
             }
         }
         return(isValid);
     }
     
     /*
-     * Forces an ValidateException to be thrown.
+     * Tests if a failed test has to be reported, either because an exception
+     * is thrown or because validateAll is collecting the failed tests. The
+     * arguments of a failure are only built when this is true.
+     * 
+     * @return A <code>boolean</code> value of true if a failure is reported.
+     */
+    protected boolean isReportingViolations()
+    {
+        return (this._isValidationExceptionThrownOnFail || this._isCollectingViolations);
+    }
+    
+    /*
+     * Records a failed test in the mask returned by tryValidate.
+     * 
+     * @param ruleCode The code of the rule that failed.
+     * @return A <code>boolean</code> value of true if the failure has to be
+     * reported with reportViolation.
+     */
+    protected boolean recordFailure(final RuleCode ruleCode)
+    {
+        this._failedRules |= ruleCode.mask();
+        return (isReportingViolations());
+    }
+    
+    /*
+     * Reports a failed test. The failure is collected if validateAll is
+     * running; otherwise a ValidateException is thrown.
+     * 
+     * @param ruleCode The code of the rule that failed.
+     * @param arguments The raw arguments of the failure.
+     */
+    protected void reportViolation(
+            final RuleCode ruleCode, final Object... arguments)
+    {
+        assert (ruleCode != null) : "The parameter 'ruleCode' is NULL.";
+        
+        if (this._isCollectingViolations)
+        {
+            if (this._violations == null)
+            {
+                this._violations = new ArrayList<Violation>(4);
+            }
+            this._violations.add(new Violation(ruleCode, arguments));
+        }
+        else
+        {
+            throwValidateException(ruleCode, arguments);
+        }
+    }
+    
+    /*
+     * Forces an ValidateException to be thrown. The exception is stackless if
+     * the throwStacklessValidationExceptionOnFail method has been called.
      * 
      * @param errorMessage The error message to include in an exception if it is
      * created.
      */
-    protected static void throwValidateException(
+    protected void throwValidateException(
             final String errorMessage)
     {
         assert (errorMessage != null) : "The parameter 'errorMessage' is NULL.";
         assert (errorMessage.length() > 0) : "The parameter 'errorMessage' must not be empty.";
         
-        throw (new ValidateException(errorMessage));
+        throw (new ValidateException(errorMessage, !this._isStacklessException));
+    }
+    
+    /*
+     * Forces an ValidateException to be thrown for a failed rule. The message
+     * is not built here; the exception renders it from the rule code and the
+     * arguments only if getMessage() is called.
+     * 
+     * @param ruleCode The code of the rule that failed.
+     * @param arguments The raw arguments of the failure.
+     */
+    protected void throwValidateException(
+            final RuleCode ruleCode, final Object... arguments)
+    {
+        assert (ruleCode != null) : "The parameter 'ruleCode' is NULL.";
+        
+        throw (new ValidateException(ruleCode, arguments, !this._isStacklessException));
     }
     
     /**
@@ -195,14 +340,48 @@ public abstract class ObjectValidator<C> implements Validator
         return ((T)this);
     }
 
+    /**
+     * A method to mark that a stackless ValidateException should be thrown if
+     * the validate method returns false. The exception does not fill in its
+     * stack trace or record suppressed exceptions, which makes throwing it far
+     * cheaper when many values are rejected.
+     * @param <T> A type of validator.
+     * @return The same validator instance. This allows for method
+     *         chaining.
+     */
+    @SuppressWarnings({ "hiding", "unchecked" })
+	@Override
+    public <T extends Validator> T throwStacklessValidationExceptionOnFail()
+    {
+        this._isValidationExceptionThrownOnFail = true;
+        this._isStacklessException = true;
+        return ((T)this);
+    }
+
+    /**
+     * A method to mark that the validate method should stop at the first test
+     * that fails. The tests are then performed from the cheapest to the most
+     * expensive.
+     * @param <T> A type of validator.
+     * @return The same validator instance. This allows for method
+     *         chaining.
+     */
+    @SuppressWarnings({ "hiding", "unchecked" })
+	@Override
+    public <T extends Validator> T failFast()
+    {
+        this._isFailFast = true;
+        return ((T)this);
+    }
+
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
 		return String.format(
-				"ObjectValidator [_isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isValidationExceptionThrownOnFail, _equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"ObjectValidator [_rules=%s, _isValidationExceptionThrownOnFail=%s, _isStacklessException=%s, _isFailFast=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _isValidationExceptionThrownOnFail, _isStacklessException, _isFailFast, _equalsValue, _value);
 	}
 
 
@@ -0,0 +1,289 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is a fork/join scan of a large array used by the parallel mode of the
+ * array validators. The array is split in halves until a chunk is small
+ * enough, each chunk is scanned with a Scanner, and the chunk results are
+ * merged: the lowest failing index wins, the counts are added and the key
+ * bounds of the failing elements are widened, so the result does not depend
+ * on the order the chunks ran in.
+ * 
+ * In fail fast mode the chunks share the lowest failing index found so far.
+ * A chunk that starts after it is skipped, since it cannot hold a lower
+ * failure, and a chunk stops counting at its first failure.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class ParallelScan extends RecursiveAction
+{
+    
+    /**
+     * The scan of one chunk of an array.
+     */
+    interface Scanner
+    {
+        
+        /**
+         * Finds the first failing element of a chunk.
+         * 
+         * @param from
+         *            The first index, inclusive.
+         * @param to
+         *            The last index, exclusive.
+         * @return The index of the first failing element, or -1.
+         */
+        int indexOf(int from, int to);
+        
+        /**
+         * Counts the failing elements of a chunk and widens the bounds to the
+         * smallest and the largest of their keys.
+         * 
+         * @param from
+         *            The first index, inclusive.
+         * @param to
+         *            The last index, exclusive.
+         * @param bounds
+         *            The smallest and the largest key of the failing elements
+         *            so far. A scan of elements without keys ignores it.
+         * @return The number of failing elements.
+         */
+        int count(int from, int to, long[] bounds);
+    }
+    
+    /**
+     * The default length at which an array is scanned in parallel.
+     */
+    static final int              DEFAULT_THRESHOLD = 1 << 16;
+    
+    /*
+     * The smallest chunk that is split further.
+     */
+    private static final int      MIN_CHUNK_LENGTH  = 1 << 13;
+    
+    private static final long     serialVersionUID  = 1L;
+    
+    /*
+     * The length of a chunk that is not split.
+     */
+    private final int             _chunkLength;
+    
+    /*
+     * The number of failing elements in this chunk.
+     */
+    private int                   _count            = 0;
+    
+    /*
+     * The first index, inclusive.
+     */
+    private final int             _from;
+    
+    /*
+     * The largest key of the failing elements in this chunk.
+     */
+    private long                  _maxKey           = Long.MIN_VALUE;
+    
+    /*
+     * The smallest key of the failing elements in this chunk.
+     */
+    private long                  _minKey           = Long.MAX_VALUE;
+    
+    /*
+     * The index of the first failing element in this chunk, or -1.
+     */
+    private int                   _index            = -1;
+    
+    /*
+     * The scan of a chunk.
+     */
+    private final Scanner         _scanner;
+    
+    /*
+     * The lowest failing index found by any chunk, or null if the scan counts
+     * every failure.
+     */
+    private final AtomicInteger   _stopIndex;
+    
+    /*
+     * The last index, exclusive.
+     */
+    private final int             _to;
+    
+    /**
+     * Private constructor. Use the scan method.
+     */
+    private ParallelScan(final Scanner scanner, final int from, final int to, final int chunkLength,
+            final AtomicInteger stopIndex)
+    {
+        this._scanner = scanner;
+        this._from = from;
+        this._to = to;
+        this._chunkLength = chunkLength;
+        this._stopIndex = stopIndex;
+    }
+    
+    /**
+     * Scans an array in parallel.
+     * 
+     * @param scanner
+     *            The scan of a chunk.
+     * @param length
+     *            The length of the array.
+     * @param isFailFast
+     *            If true, only the first failing element is looked for.
+     * @param pool
+     *            The pool to run the chunks in.
+     * @return The finished scan. Its index is the lowest failing index and its
+     *         count is the number of failing elements, or only the failing
+     *         chunks that ran in fail fast mode. The key bounds are only
+     *         kept when every failure is counted.
+     */
+    static ParallelScan scan(final Scanner scanner, final int length, final boolean isFailFast,
+            final ForkJoinPool pool)
+    {
+        final int chunkLength = Math.max(MIN_CHUNK_LENGTH, length / (pool.getParallelism() * 4));
+        final ParallelScan scan = new ParallelScan(scanner, 0, length, chunkLength,
+                isFailFast ? new AtomicInteger(Integer.MAX_VALUE) : null);
+        pool.invoke(scan);
+        return (scan);
+    }
+    
+    /**
+     * Tests a parallel threshold.
+     * 
+     * @param threshold
+     *            The length at which an array is scanned in parallel.
+     * @throws IllegalArgumentException
+     *             If the threshold is less than one (1).
+     */
+    static void checkThreshold(final int threshold)
+    {
+        if (threshold < 1)
+        {
+            throw (new IllegalArgumentException("The parameter 'threshold' must be greater than zero (0)."));
+        }
+    }
+    
+    /**
+     * Gets the number of failing elements.
+     * 
+     * @return An <code>int</code> value of zero or greater.
+     */
+    int getCount()
+    {
+        return (this._count);
+    }
+    
+    /**
+     * Gets the lowest failing index.
+     * 
+     * @return An <code>int</code> index, or -1 if no element failed.
+     */
+    int getIndex()
+    {
+        return (this._index);
+    }
+    
+    /**
+     * Gets the largest key of the failing elements.
+     * 
+     * @return A <code>long</code> key, or Long.MIN_VALUE if no key was kept.
+     */
+    long getMaxKey()
+    {
+        return (this._maxKey);
+    }
+    
+    /**
+     * Gets the smallest key of the failing elements.
+     * 
+     * @return A <code>long</code> key, or Long.MAX_VALUE if no key was kept.
+     */
+    long getMinKey()
+    {
+        return (this._minKey);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.util.concurrent.RecursiveAction#compute()
+     */
+    @Override
+    protected void compute()
+    {
+        if (this._stopIndex != null && this._from >= this._stopIndex.get())
+        {
+            // a lower chunk has already failed.
+            return;
+        }
+        
+        if (this._to - this._from <= this._chunkLength)
+        {
+            scanChunk();
+            return;
+        }
+        
+        final int middle = (this._from + this._to) >>> 1;
+        final ParallelScan left = new ParallelScan(this._scanner, this._from, middle, this._chunkLength,
+                this._stopIndex);
+        final ParallelScan right = new ParallelScan(this._scanner, middle, this._to, this._chunkLength,
+                this._stopIndex);
+        invokeAll(left, right);
+        
+        this._index = (left._index >= 0) ? left._index : right._index;
+        this._count = left._count + right._count;
+        this._minKey = Math.min(left._minKey, right._minKey);
+        this._maxKey = Math.max(left._maxKey, right._maxKey);
+    }
+    
+    /*
+     * Scans a chunk that is not split.
+     */
+    private void scanChunk()
+    {
+        final int index = this._scanner.indexOf(this._from, this._to);
+        if (index < 0)
+        {
+            return;
+        }
+        
+        this._index = index;
+        if (this._stopIndex != null)
+        {
+            this._count = 1;
+            this._stopIndex.accumulateAndGet(index, Math::min);
+        }
+        else
+        {
+            final long[] bounds = { Long.MAX_VALUE, Long.MIN_VALUE };
+            this._count = this._scanner.count(index, this._to, bounds);
+            this._minKey = bounds[0];
+            this._maxKey = bounds[1];
+        }
+    }
+}
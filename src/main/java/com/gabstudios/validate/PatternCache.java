@@ -0,0 +1,271 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * This is a bounded cache of compiled regular expressions. It is used by the
+ * StringValidator so that a regex passed to testMatch(String) is compiled
+ * once and not on every validation.
+ * 
+ *      Pattern pattern = PatternCache.getDefault().getPattern("[A-Za-z0-9_-]*");
+ *
+ * The cache is safe to use from many threads. A lookup that finds the pattern
+ * does not lock. When the cache is full, the least recently used pattern is
+ * evicted. Finding it scans the cache, so the scan only happens on a miss.
+ * 
+ * The hit, miss and eviction counters can be used to size the cache.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class PatternCache
+{
+    
+    /**
+     * The max size of the default cache.
+     */
+    public static final int                DEFAULT_MAX_SIZE = 256;
+    
+    /*
+     * The cache shared by the validators.
+     */
+    private static final PatternCache      DEFAULT_CACHE    = new PatternCache(DEFAULT_MAX_SIZE);
+    
+    /*
+     * A logical clock used to order the entries by their last access.
+     */
+    private final AtomicLong               _clock           = new AtomicLong();
+    
+    /*
+     * The compiled patterns keyed by their regular expression.
+     */
+    private final Map<String, CachedEntry> _entries;
+    
+    /*
+     * The number of patterns that have been evicted.
+     */
+    private final LongAdder                _evictionCount   = new LongAdder();
+    
+    /*
+     * The number of lookups that found a compiled pattern.
+     */
+    private final LongAdder                _hitCount        = new LongAdder();
+    
+    /*
+     * The max number of patterns to keep.
+     */
+    private final int                      _maxSize;
+    
+    /*
+     * The number of lookups that had to compile the pattern.
+     */
+    private final LongAdder                _missCount       = new LongAdder();
+    
+    /**
+     * Creates a cache that holds up to maxSize compiled patterns.
+     *
+     * @param maxSize
+     *            The max number of patterns to keep. Must be greater than zero
+     *            (0).
+     */
+    public PatternCache(final int maxSize)
+    {
+        if (maxSize <= 0)
+        {
+            throw (new IllegalArgumentException(
+                    "The parameter 'maxSize' must be greater than zero (0)."));
+        }
+        this._maxSize = maxSize;
+        this._entries = new ConcurrentHashMap<>(maxSize * 2);
+    }
+    
+    /**
+     * Gets the cache shared by the validators.
+     *
+     * @return The default <code>PatternCache</code> instance.
+     */
+    public static PatternCache getDefault()
+    {
+        return (DEFAULT_CACHE);
+    }
+    
+    /**
+     * Removes every pattern from the cache. The counters are not reset.
+     */
+    public void clear()
+    {
+        this._entries.clear();
+    }
+    
+    /**
+     * Gets the number of patterns that have been evicted.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictionCount()
+    {
+        return (this._evictionCount.sum());
+    }
+    
+    /**
+     * Gets the number of lookups that found a compiled pattern.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount()
+    {
+        return (this._hitCount.sum());
+    }
+    
+    /**
+     * Gets the max number of patterns to keep.
+     *
+     * @return The max size.
+     */
+    public int getMaxSize()
+    {
+        return (this._maxSize);
+    }
+    
+    /**
+     * Gets the number of lookups that had to compile the pattern.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount()
+    {
+        return (this._missCount.sum());
+    }
+    
+    /**
+     * Gets the compiled pattern for the regular expression. The pattern is
+     * compiled and added to the cache if it is not found.
+     *
+     * @param regex
+     *            The regular expression.
+     * @return The compiled <code>Pattern</code>.
+     * @throws java.util.regex.PatternSyntaxException
+     *             If the regular expression is not valid.
+     */
+    public Pattern getPattern(final String regex)
+    {
+        if (regex == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'regex' must not be null."));
+        }
+        
+        CachedEntry entry = this._entries.get(regex);
+        if (entry != null)
+        {
+            this._hitCount.increment();
+            
+            // a hit on the most recently used entry does not tick the clock,
+            // so a hot pattern does not contend on it.
+            if (entry._lastAccess != this._clock.get())
+            {
+                entry._lastAccess = this._clock.incrementAndGet();
+            }
+        }
+        else
+        {
+            this._missCount.increment();
+            final CachedEntry newEntry = new CachedEntry(Pattern.compile(regex), this._clock.incrementAndGet());
+            entry = this._entries.putIfAbsent(regex, newEntry);
+            if (entry == null)
+            {
+                entry = newEntry;
+                evict();
+            }
+        }
+        return (entry._pattern);
+    }
+    
+    /**
+     * Gets the number of patterns in the cache.
+     *
+     * @return The size of the cache.
+     */
+    public int size()
+    {
+        return (this._entries.size());
+    }
+    
+    /*
+     * Removes the least recently used entries until the cache is not over its
+     * max size.
+     */
+    private void evict()
+    {
+        while (this._entries.size() > this._maxSize)
+        {
+            Map.Entry<String, CachedEntry> oldest = null;
+            for (final Map.Entry<String, CachedEntry> candidate : this._entries.entrySet())
+            {
+                if (oldest == null || candidate.getValue()._lastAccess < oldest.getValue()._lastAccess)
+                {
+                    oldest = candidate;
+                }
+            }
+            
+            if (oldest != null && this._entries.remove(oldest.getKey(), oldest.getValue()))
+            {
+                this._evictionCount.increment();
+            }
+        }
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("PatternCache [_maxSize=%s, size=%s, hitCount=%s, missCount=%s, evictionCount=%s]",
+                _maxSize, size(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+    
+    /*
+     * A compiled pattern and the time it was last used.
+     */
+    private static final class CachedEntry
+    {
+        /*
+         * The logical time the pattern was last used.
+         */
+        private volatile long _lastAccess;
+        
+        /*
+         * The compiled pattern.
+         */
+        private final Pattern _pattern;
+        
+        private CachedEntry(final Pattern pattern, final long lastAccess)
+        {
+            this._pattern = pattern;
+            this._lastAccess = lastAccess;
+        }
+    }
+}
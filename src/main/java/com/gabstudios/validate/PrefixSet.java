@@ -0,0 +1,260 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * This is an immutable set of prefixes, used by the "has prefix in" and "not
+ * has prefix in" tests to route or reject a value by its prefix, such as a
+ * topic name, a SKU family or a URL path, without a regex alternation of
+ * thousands of prefixes.
+ * 
+ *      final PrefixSet topics = PrefixSet.of(Arrays.asList("orders.", "payments."));
+ *      Validate.defineString(value).testHasPrefixIn(topics).validate();
+ *
+ * The prefixes are compiled when the set is created into a trie encoded in
+ * two arrays. The nodes are numbered in breadth first order, so the edges of
+ * a node are next to each other, sorted by char, and the edge at index k
+ * leads to the node k + 1. A lookup walks the trie one char of the value at
+ * a time, so it costs time linear to the length of the value however many
+ * prefixes there are, and it allocates nothing.
+ * 
+ * A prefix that starts with another prefix adds nothing to the set, so it is
+ * dropped from the trie.
+ * 
+ * A PrefixSet is immutable and can be shared by many threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class PrefixSet
+{
+    
+    /*
+     * The most prefixes listed by toString().
+     */
+    private static final int MAX_LISTED_PREFIXES = 16;
+    
+    /*
+     * The prefixes listed by toString().
+     */
+    private final String     _description;
+    
+    /*
+     * The index of the first edge of each node, and the number of edges.
+     */
+    private final int[]      _edges;
+    
+    /*
+     * The char of each edge.
+     */
+    private final char[]     _labels;
+    
+    /*
+     * The number of prefixes, not counting the prefixes that start with
+     * another prefix.
+     */
+    private final int        _size;
+    
+    /*
+     * A bit per node that is the end of a prefix.
+     */
+    private final long[]     _terminals;
+    
+    /*
+     * Compiles a set.
+     * @param prefixes The prefixes.
+     */
+    private PrefixSet(final Collection<String> prefixes)
+    {
+        if (prefixes == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'prefixes' must not be null."));
+        }
+        final TreeSet<String> sorted = new TreeSet<String>();
+        for (final String prefix : prefixes)
+        {
+            if (prefix == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'prefixes' must not contain null."));
+            }
+            sorted.add(prefix);
+        }
+        
+        // a sorted prefix that starts with the last kept prefix is dropped.
+        final String[] values = new String[sorted.size()];
+        int count = 0;
+        for (final String prefix : sorted)
+        {
+            if (count == 0 || !prefix.startsWith(values[count - 1]))
+            {
+                values[count++] = prefix;
+            }
+        }
+        
+        // a node is a range of the sorted prefixes that share their first
+        // depth chars. The queue holds the from, to and depth of each node.
+        int maxNodes = 1;
+        for (int i = 0; i < count; i++)
+        {
+            maxNodes += values[i].length();
+        }
+        final int[] queue = new int[maxNodes * 3];
+        final int[] edges = new int[maxNodes + 1];
+        final char[] labels = new char[maxNodes];
+        final long[] terminals = new long[(maxNodes + 63) >>> 6];
+        queue[0] = 0;
+        queue[1] = count;
+        queue[2] = 0;
+        int nodeCount = count > 0 ? 1 : 0;
+        int edgeCount = 0;
+        for (int node = 0; node < nodeCount; node++)
+        {
+            int from = queue[node * 3];
+            final int to = queue[node * 3 + 1];
+            final int depth = queue[node * 3 + 2];
+            edges[node] = edgeCount;
+            if (values[from].length() == depth)
+            {
+                // the other prefixes of the range start with this one, so
+                // they were dropped.
+                terminals[node >>> 6] |= 1L << node;
+                continue;
+            }
+            while (from < to)
+            {
+                final char c = values[from].charAt(depth);
+                int end = from + 1;
+                while (end < to && values[end].charAt(depth) == c)
+                {
+                    end++;
+                }
+                labels[edgeCount++] = c;
+                queue[nodeCount * 3] = from;
+                queue[nodeCount * 3 + 1] = end;
+                queue[nodeCount * 3 + 2] = depth + 1;
+                nodeCount++;
+                from = end;
+            }
+        }
+        edges[nodeCount] = edgeCount;
+        
+        this._edges = Arrays.copyOf(edges, nodeCount + 1);
+        this._labels = Arrays.copyOf(labels, edgeCount);
+        this._terminals = Arrays.copyOf(terminals, (nodeCount + 63) >>> 6);
+        this._size = count;
+        
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < count && i < MAX_LISTED_PREFIXES; i++)
+        {
+            builder.append((i > 0) ? ", " : "").append(values[i]);
+        }
+        this._description = builder.append((count > MAX_LISTED_PREFIXES) ? ", ...]" : "]").toString();
+    }
+    
+    /**
+     * Creates a set of prefixes.
+     * 
+     * @param prefixes
+     *            The prefixes. A duplicate is ignored.
+     * @return A new PrefixSet instance.
+     */
+    public static PrefixSet of(final Collection<String> prefixes)
+    {
+        return (new PrefixSet(prefixes));
+    }
+    
+    /**
+     * Tests if a value starts with one of the prefixes. Nothing is
+     * allocated.
+     * 
+     * @param value
+     *            The value to test. A null value has no prefix.
+     * @return A <code>boolean</code> value that is true if the value starts
+     *         with one of the prefixes.
+     */
+    public boolean containsPrefixOf(final CharSequence value)
+    {
+        return (value != null && prefixLength(value) >= 0);
+    }
+    
+    /**
+     * Gets the length of the prefix the value starts with. Nothing is
+     * allocated.
+     * 
+     * @param value
+     *            The value to test.
+     * @return The length of the prefix the value starts with, or -1 if it
+     *         starts with none of the prefixes.
+     */
+    public int prefixLength(final CharSequence value)
+    {
+        if (value == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'value' must not be null."));
+        }
+        if (this._size == 0)
+        {
+            return (-1);
+        }
+        
+        final int[] edges = this._edges;
+        final char[] labels = this._labels;
+        final int length = value.length();
+        int node = 0;
+        for (int i = 0; i < length; i++)
+        {
+            if ((this._terminals[node >>> 6] & (1L << node)) != 0L)
+            {
+                return (i);
+            }
+            final int edge = Arrays.binarySearch(labels, edges[node], edges[node + 1], value.charAt(i));
+            if (edge < 0)
+            {
+                return (-1);
+            }
+            node = edge + 1;
+        }
+        return (((this._terminals[node >>> 6] & (1L << node)) != 0L) ? length : -1);
+    }
+    
+    /**
+     * Gets the number of prefixes, not counting duplicates or the prefixes
+     * that start with another prefix.
+     * 
+     * @return The number of prefixes.
+     */
+    public int size()
+    {
+        return (this._size);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return (this._description);
+    }
+}
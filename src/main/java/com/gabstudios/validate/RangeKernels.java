@@ -0,0 +1,140 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+/**
+ * The range loops that ArrayKernels can hand to a faster implementation, such
+ * as the Vector API kernels in the multi-release part of the jar. Each method
+ * must return the same value as the scalar loop of the same name in
+ * ArrayKernels.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+interface RangeKernels
+{
+    
+    /**
+     * Counts the elements outside of the range.
+     * 
+     * @param values
+     *            The array to test.
+     * @param from
+     *            The first index, inclusive.
+     * @param to
+     *            The last index, exclusive.
+     * @param lo
+     *            The lowest valid value.
+     * @param hi
+     *            The highest valid value. It must not be less than lo.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    int countOutOfRange(int[] values, int from, int to, int lo, int hi);
+    
+    /**
+     * Counts the elements outside of the range.
+     * 
+     * @param values
+     *            The array to test.
+     * @param from
+     *            The first index, inclusive.
+     * @param to
+     *            The last index, exclusive.
+     * @param lo
+     *            The lowest valid value.
+     * @param hi
+     *            The highest valid value. It must not be less than lo.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    int countOutOfRange(long[] values, int from, int to, long lo, long hi);
+    
+    /**
+     * Counts the elements outside of the range of sortable keys.
+     * 
+     * @param values
+     *            The array to test.
+     * @param from
+     *            The first index, inclusive.
+     * @param to
+     *            The last index, exclusive.
+     * @param lo
+     *            The sortable key of the lowest valid value.
+     * @param hi
+     *            The sortable key of the highest valid value. It must not be
+     *            less than lo.
+     * @return The number of elements less than lo or greater than hi.
+     */
+    int countOutOfRange(double[] values, int from, int to, long lo, long hi);
+    
+    /**
+     * Finds the first element outside of the range.
+     * 
+     * @param values
+     *            The array to test.
+     * @param from
+     *            The first index, inclusive.
+     * @param to
+     *            The last index, exclusive.
+     * @param lo
+     *            The lowest valid value.
+     * @param hi
+     *            The highest valid value.
+     * @return The index of the first element less than lo or greater than hi,
+     *         or -1.
+     */
+    int indexOfOutOfRange(int[] values, int from, int to, int lo, int hi);
+    
+    /**
+     * Finds the first element outside of the range.
+     * 
+     * @param values
+     *            The array to test.
+     * @param from
+     *            The first index, inclusive.
+     * @param to
+     *            The last index, exclusive.
+     * @param lo
+     *            The lowest valid value.
+     * @param hi
+     *            The highest valid value.
+     * @return The index of the first element less than lo or greater than hi,
+     *         or -1.
+     */
+    int indexOfOutOfRange(long[] values, int from, int to, long lo, long hi);
+    
+    /**
+     * Finds the first element outside of the range of sortable keys.
+     * 
+     * @param values
+     *            The array to test.
+     * @param from
+     *            The first index, inclusive.
+     * @param to
+     *            The last index, exclusive.
+     * @param lo
+     *            The sortable key of the lowest valid value.
+     * @param hi
+     *            The sortable key of the highest valid value.
+     * @return The index of the first element less than lo or greater than hi,
+     *         or -1.
+     */
+    int indexOfOutOfRange(double[] values, int from, int to, long lo, long hi);
+}
@@ -0,0 +1,171 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+/**
+ * The result of validating a fixed-width record file with a
+ * RecordFileValidator, or a delimited file with a DelimitedFileValidator,
+ * where a record is a row and a field is a column. The violations themselves are streamed to the sink
+ * while the file is read; the result only keeps the counts, so it stays small
+ * however large the file is.
+ * 
+ *      RecordFileResult result = Validate.defineRecordFile(path, layout).validate(report::write);
+ *      if (!result.isValid())
+ *      {
+ *          long tooOld = result.getTally("age").getCount(RuleCode.MAX_VALUE);
+ *      }
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class RecordFileResult
+{
+    
+    /*
+     * The number of records that failed at least one field.
+     */
+    private final long        _invalidRecordCount;
+    
+    /*
+     * The names of the fields, in the order of the layout.
+     */
+    private final String[]    _names;
+    
+    /*
+     * The number of whole records of the file.
+     */
+    private final long        _recordCount;
+    
+    /*
+     * The failures of each field.
+     */
+    private final RuleTally[] _tallies;
+    
+    /*
+     * The number of bytes after the last whole record.
+     */
+    private final long        _trailingByteCount;
+    
+    /*
+     * Package-private constructor. Use a RecordFileValidator to get a result.
+     * 
+     * @param recordCount The number of whole records.
+     * @param invalidRecordCount The number of records that failed a field.
+     * @param trailingByteCount The number of bytes after the last record.
+     * @param names The names of the fields. It is not copied.
+     * @param tallies The failures of each field. It is not copied.
+     */
+    RecordFileResult(final long recordCount, final long invalidRecordCount, final long trailingByteCount,
+            final String[] names, final RuleTally[] tallies)
+    {
+        this._recordCount = recordCount;
+        this._invalidRecordCount = invalidRecordCount;
+        this._trailingByteCount = trailingByteCount;
+        this._names = names;
+        this._tallies = tallies;
+    }
+    
+    /**
+     * Gets the number of records that failed at least one field.
+     *
+     * @return A <code>long</code> value of zero or greater.
+     */
+    public long getInvalidRecordCount()
+    {
+        return (this._invalidRecordCount);
+    }
+    
+    /**
+     * Gets the number of whole records of the file.
+     *
+     * @return A <code>long</code> value of zero or greater.
+     */
+    public long getRecordCount()
+    {
+        return (this._recordCount);
+    }
+    
+    /**
+     * Gets the failures of a field.
+     *
+     * @param name
+     *            The name of the field.
+     * @return A <code>RuleTally</code> instance.
+     * @throws IllegalArgumentException
+     *             If the result has no such field.
+     */
+    public RuleTally getTally(final String name)
+    {
+        for (int i = 0; i < this._names.length; i++)
+        {
+            if (this._names[i].equals(name))
+            {
+                return (this._tallies[i]);
+            }
+        }
+        throw (new IllegalArgumentException("The result has no field '" + name + "'."));
+    }
+    
+    /**
+     * Gets the number of bytes after the last whole record. They are not a
+     * record and are not tested.
+     *
+     * @return A <code>long</code> value less than the record length.
+     */
+    public long getTrailingByteCount()
+    {
+        return (this._trailingByteCount);
+    }
+    
+    /**
+     * Gets the number of records that passed every field.
+     *
+     * @return A <code>long</code> value of zero or greater.
+     */
+    public long getValidRecordCount()
+    {
+        return (this._recordCount - this._invalidRecordCount);
+    }
+    
+    /**
+     * Tests if every record passed every field and the file has no trailing
+     * bytes.
+     *
+     * @return A <code>boolean</code> value that is true if the file is valid.
+     */
+    public boolean isValid()
+    {
+        return (this._invalidRecordCount == 0L && this._trailingByteCount == 0L);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "RecordFileResult [_recordCount=%s, _invalidRecordCount=%s, _trailingByteCount=%s, _fields=%s, _tallies=%s]",
+                this._recordCount, this._invalidRecordCount, this._trailingByteCount, Arrays.toString(this._names),
+                Arrays.toString(this._tallies));
+    }
+}
@@ -0,0 +1,519 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * This is a validator of a file of fixed-width records. The file is mapped
+ * into memory with FileChannel.map() one chunk of whole records at a time and
+ * each field is tested in place with the rule of its RecordLayout. The mapped
+ * chunks are outside of the heap and the violations are streamed to a sink as
+ * they are found, so the size of the file is not bounded by the heap.
+ * 
+ *      RecordFileResult result = Validate.defineRecordFile(path, layout)
+ *          .headerLength(128)
+ *          .parallel()
+ *          .validate(violation -&gt; report.println(violation));
+ *
+ * In parallel mode the chunks are scanned on a ForkJoinPool, a few chunks
+ * ahead of the one being reported. The sink is still called on the calling
+ * thread in the order of the records, so it does not need to be thread-safe.
+ * A chunk ahead only keeps the record, field and failed rules of a bounded
+ * number of violations; the values are read back from the mapped chunk when
+ * it is reported. A chunk is unmapped when it is garbage collected.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class RecordFileValidator
+{
+    
+    /**
+     * The default number of bytes mapped at a time.
+     */
+    public static final int     DEFAULT_CHUNK_SIZE = 16 << 20;
+    
+    /*
+     * The most violations a chunk keeps until it is reported. The records
+     * after them are tested again when the chunk is reported.
+     */
+    private static final int    MAX_VIOLATIONS     = 1 << 16;
+    
+    /*
+     * The number of bytes mapped at a time. A chunk holds at least one record.
+     */
+    private int                 _chunkSize         = DEFAULT_CHUNK_SIZE;
+    
+    /*
+     * The file to validate.
+     */
+    private final Path          _file;
+    
+    /*
+     * The number of bytes before the first record.
+     */
+    private long                _headerLength      = 0L;
+    
+    /*
+     * The layout of a record.
+     */
+    private final RecordLayout  _layout;
+    
+    /*
+     * The pool of the parallel scan, or null to scan on the calling thread.
+     */
+    private ForkJoinPool        _pool              = null;
+    
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     *
+     * @param file
+     *            The file of fixed-width records.
+     * @param layout
+     *            The layout of a record.
+     * @throws IllegalArgumentException
+     *             If the file or the layout is null.
+     */
+    protected RecordFileValidator(final Path file, final RecordLayout layout)
+    {
+        if (file == null || layout == null)
+        {
+            throw (new IllegalArgumentException("The parameters 'file' and 'layout' must not be null."));
+        }
+        this._file = file;
+        this._layout = layout;
+    }
+    
+    /**
+     * Sets the number of bytes mapped at a time. It is rounded down to whole
+     * records, and a chunk always holds at least one record.
+     * 
+     * @param chunkSize
+     *            The number of bytes.
+     * @return The same RecordFileValidator instance. This allows for method
+     *         chaining.
+     * @throws IllegalArgumentException
+     *             If the chunk size is not greater than zero.
+     */
+    public RecordFileValidator chunkSize(final int chunkSize)
+    {
+        if (chunkSize <= 0)
+        {
+            throw (new IllegalArgumentException("The chunk size must be greater than zero: " + chunkSize));
+        }
+        this._chunkSize = chunkSize;
+        return (this);
+    }
+    
+    /**
+     * Sets the number of bytes of the file header. The header is skipped and
+     * the first record starts after it.
+     * 
+     * @param headerLength
+     *            The number of bytes.
+     * @return The same RecordFileValidator instance. This allows for method
+     *         chaining.
+     * @throws IllegalArgumentException
+     *             If the header length is negative.
+     */
+    public RecordFileValidator headerLength(final long headerLength)
+    {
+        if (headerLength < 0L)
+        {
+            throw (new IllegalArgumentException("The header length must not be negative: " + headerLength));
+        }
+        this._headerLength = headerLength;
+        return (this);
+    }
+    
+    /**
+     * A method to scan the chunks in parallel on the common ForkJoinPool.
+     * 
+     * @return The same RecordFileValidator instance. This allows for method
+     *         chaining.
+     */
+    public RecordFileValidator parallel()
+    {
+        return (parallel(ForkJoinPool.commonPool()));
+    }
+    
+    /**
+     * A method to scan the chunks in parallel on a pool.
+     * 
+     * @param pool
+     *            The pool to scan the chunks on.
+     * @return The same RecordFileValidator instance. This allows for method
+     *         chaining.
+     * @throws IllegalArgumentException
+     *             If the pool is null.
+     */
+    public RecordFileValidator parallel(final ForkJoinPool pool)
+    {
+        if (pool == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'pool' must not be null."));
+        }
+        this._pool = pool;
+        return (this);
+    }
+    
+    /**
+     * Validates every record of the file. Each field that fails its rule is
+     * passed to the sink, in the order of the records and then of the fields.
+     * 
+     * @param sink
+     *            The consumer of the violations. It can be null to only
+     *            count them, which skips reading the values that failed.
+     * @return A new <code>RecordFileResult</code> instance.
+     * @throws IOException
+     *             If the file can not be read.
+     */
+    public RecordFileResult validate(final Consumer<? super RecordViolation> sink) throws IOException
+    {
+        final int fieldCount = this._layout.getFieldCount();
+        final RuleTally[] tallies = new RuleTally[fieldCount];
+        for (int i = 0; i < fieldCount; i++)
+        {
+            tallies[i] = new RuleTally();
+        }
+        
+        try (final FileChannel channel = FileChannel.open(this._file, StandardOpenOption.READ))
+        {
+            final int recordLength = this._layout.getRecordLength();
+            final long dataLength = Math.max(0L, channel.size() - this._headerLength);
+            final long recordCount = dataLength / recordLength;
+            final int chunkRecords = Math.max(1, this._chunkSize / recordLength);
+            
+            final ArrayDeque<Chunk> window = new ArrayDeque<Chunk>();
+            final int windowSize = (this._pool != null) ? 2 * this._pool.getParallelism() : 1;
+            long invalidCount = 0L;
+            long nextRecord = 0L;
+            try
+            {
+                while (nextRecord < recordCount || !window.isEmpty())
+                {
+                    while (nextRecord < recordCount && window.size() < windowSize)
+                    {
+                        final Chunk chunk = new Chunk(channel, nextRecord,
+                                (int) Math.min(chunkRecords, recordCount - nextRecord), sink != null);
+                        if (this._pool != null)
+                        {
+                            this._pool.execute(chunk);
+                        }
+                        window.add(chunk);
+                        nextRecord += chunk._recordCount;
+                    }
+                    
+                    final Chunk chunk = window.poll();
+                    if (this._pool != null)
+                    {
+                        chunk.join();
+                    }
+                    else
+                    {
+                        chunk.scan();
+                    }
+                    invalidCount += chunk.report(sink, tallies);
+                }
+            }
+            finally
+            {
+                // stops the chunks ahead of a failure.
+                for (final Chunk chunk : window)
+                {
+                    chunk.cancel(false);
+                }
+            }
+            
+            final String[] names = this._layout.getFieldNames().toArray(new String[fieldCount]);
+            return (new RecordFileResult(recordCount, invalidCount, dataLength % recordLength, names, tallies));
+        }
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "RecordFileValidator [_file=%s, _headerLength=%s, _chunkSize=%s, _isParallel=%s, _layout=%s]", this._file, this._headerLength, this._chunkSize, this._pool != null, this._layout);
+    }
+    
+    /*
+     * The scan of a chunk of whole records. The counts and violations are kept
+     * until the chunk is reported, in order, on the calling thread. A
+     * violation is kept as its record, field and failed rules, and at most
+     * MAX_VIOLATIONS are kept: the records after the last one kept are
+     * tested again when the chunk is reported.
+     */
+    private final class Chunk extends RecursiveAction
+    {
+        
+        private static final long     serialVersionUID = 1L;
+        
+        /*
+         * The mapped records, kept to read the values of the violations.
+         */
+        private MappedByteBuffer      _buffer;
+        
+        /*
+         * The channel of the file.
+         */
+        private final FileChannel     _channel;
+        
+        /*
+         * The failure to map the chunk, if any.
+         */
+        private IOException           _exception;
+        
+        /*
+         * The index of the first record.
+         */
+        private final long            _firstRecord;
+        
+        /*
+         * The number of records that failed at least one field.
+         */
+        private long                  _invalidCount;
+        
+        /*
+         * Set to keep the violations.
+         */
+        private final boolean         _isCollecting;
+        
+        /*
+         * The failed rules of each kept violation.
+         */
+        private long[]                _failedRules;
+        
+        /*
+         * The number of records.
+         */
+        private final int             _recordCount;
+        
+        /*
+         * The index in the chunk of the first record whose violations were
+         * not kept.
+         */
+        private int                   _retestRecord;
+        
+        /*
+         * The failures of each field in the chunk.
+         */
+        private RuleTally[]           _tallies;
+        
+        /*
+         * The number of kept violations.
+         */
+        private int                   _violationCount;
+        
+        /*
+         * The index in the chunk of the record of each kept violation in the
+         * high 32 bits, and the index of its field in the low 32 bits.
+         */
+        private long[]                _violations;
+        
+        /**
+         * Creates the scan of a chunk.
+         * 
+         * @param channel
+         *            The channel of the file.
+         * @param firstRecord
+         *            The index of the first record.
+         * @param recordCount
+         *            The number of records.
+         * @param isCollecting
+         *            Set to keep the violations.
+         */
+        Chunk(final FileChannel channel, final long firstRecord, final int recordCount, final boolean isCollecting)
+        {
+            this._channel = channel;
+            this._firstRecord = firstRecord;
+            this._recordCount = recordCount;
+            this._isCollecting = isCollecting;
+            this._retestRecord = recordCount;
+        }
+        
+        @Override
+        protected void compute()
+        {
+            try
+            {
+                scan();
+            }
+            catch (final IOException e)
+            {
+                this._exception = e;
+            }
+        }
+        
+        /*
+         * Maps the chunk and tests every field of every record.
+         * @throws IOException If the chunk can not be mapped.
+         */
+        void scan() throws IOException
+        {
+            final RecordLayout layout = RecordFileValidator.this._layout;
+            final int recordLength = layout.getRecordLength();
+            final int fieldCount = layout.getFieldCount();
+            final MappedByteBuffer buffer = this._channel.map(FileChannel.MapMode.READ_ONLY,
+                    RecordFileValidator.this._headerLength + this._firstRecord * recordLength,
+                    (long) this._recordCount * recordLength);
+            buffer.order(layout.getOrder());
+            
+            final char[] text = new char[layout.getMaxTextWidth()];
+            final CharSlice slice = new CharSlice();
+            final RuleTally[] tallies = new RuleTally[fieldCount];
+            for (int i = 0; i < fieldCount; i++)
+            {
+                tallies[i] = new RuleTally();
+            }
+            
+            for (int r = 0; r < this._recordCount; r++)
+            {
+                final int record = r * recordLength;
+                final int recordViolationCount = this._violationCount;
+                boolean isValid = true;
+                for (int f = 0; f < fieldCount; f++)
+                {
+                    final long failedRules = layout.testField(f, buffer, record, text, slice);
+                    if (!tallies[f].add(failedRules))
+                    {
+                        isValid = false;
+                        if (r < this._retestRecord && !keep(r, f, failedRules))
+                        {
+                            // drops the violations of this record, so the
+                            // record is tested again as a whole.
+                            this._violationCount = recordViolationCount;
+                            this._retestRecord = r;
+                        }
+                    }
+                }
+                if (!isValid)
+                {
+                    this._invalidCount++;
+                }
+            }
+            this._tallies = tallies;
+            if (this._violationCount > 0 || this._retestRecord < this._recordCount)
+            {
+                this._buffer = buffer;
+            }
+        }
+        
+        /*
+         * Keeps a violation if the chunk collects them and has room for it.
+         * @param record The index of the record in the chunk.
+         * @param field The index of the field.
+         * @param failedRules The failed rules.
+         * @return A boolean value that is false if the violation could not
+         *         be kept.
+         */
+        private boolean keep(final int record, final int field, final long failedRules)
+        {
+            if (!this._isCollecting)
+            {
+                return (true);
+            }
+            if (this._violationCount == MAX_VIOLATIONS)
+            {
+                return (false);
+            }
+            if (this._violations == null)
+            {
+                this._violations = new long[16];
+                this._failedRules = new long[16];
+            }
+            else if (this._violationCount == this._violations.length)
+            {
+                this._violations = Arrays.copyOf(this._violations, this._violationCount * 2);
+                this._failedRules = Arrays.copyOf(this._failedRules, this._violationCount * 2);
+            }
+            this._violations[this._violationCount] = ((long) record << 32) | field;
+            this._failedRules[this._violationCount] = failedRules;
+            this._violationCount++;
+            return (true);
+        }
+        
+        /*
+         * Passes the violations of the scanned chunk to the sink and adds its
+         * counts to the tallies of the file.
+         * @param sink The consumer of the violations, or null.
+         * @param tallies The failures of each field in the file.
+         * @return The number of records of the chunk that failed a field.
+         * @throws IOException If the chunk could not be mapped.
+         */
+        long report(final Consumer<? super RecordViolation> sink, final RuleTally[] tallies) throws IOException
+        {
+            if (this._exception != null)
+            {
+                throw (this._exception);
+            }
+            final RecordLayout layout = RecordFileValidator.this._layout;
+            final int recordLength = layout.getRecordLength();
+            final MappedByteBuffer buffer = this._buffer;
+            for (int i = 0; i < this._violationCount; i++)
+            {
+                final int record = (int) (this._violations[i] >>> 32);
+                final int field = (int) this._violations[i];
+                sink.accept(new RecordViolation(this._firstRecord + record, layout.getFieldName(field),
+                        layout.getValue(field, buffer, record * recordLength), this._failedRules[i]));
+            }
+            if (this._retestRecord < this._recordCount)
+            {
+                // the violations that were not kept are streamed to the sink.
+                final char[] text = new char[layout.getMaxTextWidth()];
+                final CharSlice slice = new CharSlice();
+                for (int r = this._retestRecord; r < this._recordCount; r++)
+                {
+                    final int record = r * recordLength;
+                    for (int f = 0; f < tallies.length; f++)
+                    {
+                        final long failedRules = layout.testField(f, buffer, record, text, slice);
+                        if (failedRules != 0L)
+                        {
+                            sink.accept(new RecordViolation(this._firstRecord + r, layout.getFieldName(f),
+                                    layout.getValue(f, buffer, record), failedRules));
+                        }
+                    }
+                }
+            }
+            this._buffer = null;
+            this._violations = null;
+            this._failedRules = null;
+            for (int i = 0; i < tallies.length; i++)
+            {
+                tallies[i].merge(this._tallies[i]);
+            }
+            return (this._invalidCount);
+        }
+    }
+}
@@ -0,0 +1,457 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This is an immutable layout of a fixed-width record. It maps each field of
+ * the record, at a byte offset, to a rule. The binary fields are read in the
+ * byte order of the layout; a text field is a fixed number of ISO-8859-1
+ * bytes and its trailing spaces are padding that is not part of the value.
+ * 
+ *      RecordLayout layout = Validate.recordLayout(32)
+ *          .order(ByteOrder.LITTLE_ENDIAN)
+ *          .intField("age", 0, Validate.integerRule().testMinValue(0).testMaxValue(150).build())
+ *          .doubleField("balance", 4, Validate.doubleRule().testMinValue(0.0).build())
+ *          .textField("code", 12, 20, Validate.stringRule().testNotNullEmpty().testMatch("[A-Z]+").build())
+ *          .build();
+ *
+ *      RecordFileResult result = Validate.defineRecordFile(path, layout).validate(violations::add);
+ *
+ * A layout can be shared by any number of threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class RecordLayout
+{
+    
+    /*
+     * The names of the fields, in the order they were added.
+     */
+    private final String[]  _names;
+    
+    /*
+     * The byte offset of each field in the record.
+     */
+    private final int[]     _offsets;
+    
+    /*
+     * The byte order of the binary fields.
+     */
+    private final ByteOrder _order;
+    
+    /*
+     * The number of bytes of a record.
+     */
+    private final int       _recordLength;
+    
+    /*
+     * The rule of each field.
+     */
+    private final Object[]  _rules;
+    
+    /*
+     * The number of bytes of each field.
+     */
+    private final int[]     _widths;
+    
+    /**
+     * Private constructor. Use the Builder to create a layout.
+     *
+     * @param builder
+     *            The builder holding the fields.
+     */
+    private RecordLayout(final Builder builder)
+    {
+        final int count = builder._names.size();
+        this._names = builder._names.toArray(new String[count]);
+        this._rules = builder._rules.toArray();
+        this._offsets = new int[count];
+        this._widths = new int[count];
+        for (int i = 0; i < count; i++)
+        {
+            this._offsets[i] = builder._offsets.get(i).intValue();
+            this._widths[i] = builder._widths.get(i).intValue();
+        }
+        this._order = builder._order;
+        this._recordLength = builder._recordLength;
+    }
+    
+    /**
+     * Gets the names of the fields, in the order they were added.
+     *
+     * @return An unmodifiable list of the names.
+     */
+    public List<String> getFieldNames()
+    {
+        return (Collections.unmodifiableList(Arrays.asList(this._names)));
+    }
+    
+    /**
+     * Gets the byte order of the binary fields.
+     *
+     * @return The <code>ByteOrder</code>.
+     */
+    public ByteOrder getOrder()
+    {
+        return (this._order);
+    }
+    
+    /**
+     * Gets the number of bytes of a record.
+     *
+     * @return An <code>int</code> value greater than zero.
+     */
+    public int getRecordLength()
+    {
+        return (this._recordLength);
+    }
+    
+    /*
+     * Gets the number of fields.
+     * @return The number of fields.
+     */
+    int getFieldCount()
+    {
+        return (this._names.length);
+    }
+    
+    /*
+     * Gets the name of a field.
+     * @param field The index of the field.
+     * @return The name.
+     */
+    String getFieldName(final int field)
+    {
+        return (this._names[field]);
+    }
+    
+    /*
+     * Gets the value of a field. The value is only boxed or decoded to report
+     * a violation.
+     * @param field The index of the field.
+     * @param buffer The buffer holding the record, in the order of the layout.
+     * @param record The position of the record in the buffer.
+     * @return The value of the field.
+     */
+    Object getValue(final int field, final ByteBuffer buffer, final int record)
+    {
+        final Object rule = this._rules[field];
+        final int position = record + this._offsets[field];
+        if (rule instanceof IntegerRule)
+        {
+            return (Integer.valueOf(buffer.getInt(position)));
+        }
+        if (rule instanceof LongRule)
+        {
+            return (Long.valueOf(buffer.getLong(position)));
+        }
+        if (rule instanceof DoubleRule)
+        {
+            return (Double.valueOf(buffer.getDouble(position)));
+        }
+        final char[] text = new char[this._widths[field]];
+        return (new String(text, 0, decodeText(buffer, position, text.length, text)));
+    }
+    
+    /*
+     * Tests a field of a record with its rule. The binary fields are read
+     * with absolute reads and the text fields are decoded into the text
+     * buffer and tested through the slice, so neither allocates.
+     * @param field The index of the field.
+     * @param buffer The buffer holding the record, in the order of the layout.
+     * @param record The position of the record in the buffer.
+     * @param text A buffer of at least the width of the widest text field.
+     * @param slice The view used to test a text field.
+     * @return A mask with the RuleCode.mask() bit of each failed test set.
+     */
+    long testField(final int field, final ByteBuffer buffer, final int record, final char[] text,
+            final CharSlice slice)
+    {
+        final Object rule = this._rules[field];
+        final int position = record + this._offsets[field];
+        if (rule instanceof IntegerRule)
+        {
+            return (((IntegerRule) rule).tryValidate(buffer.getInt(position)));
+        }
+        if (rule instanceof LongRule)
+        {
+            return (((LongRule) rule).tryValidate(buffer.getLong(position)));
+        }
+        if (rule instanceof DoubleRule)
+        {
+            return (((DoubleRule) rule).tryValidate(buffer.getDouble(position)));
+        }
+        final int length = decodeText(buffer, position, this._widths[field], text);
+        return (((StringRule) rule).tryValidate(slice.set(text, 0, length)));
+    }
+    
+    /*
+     * Gets the width of the widest text field.
+     * @return The number of bytes, or zero if there is no text field.
+     */
+    int getMaxTextWidth()
+    {
+        int width = 0;
+        for (int i = 0; i < this._rules.length; i++)
+        {
+            if (this._rules[i] instanceof StringRule)
+            {
+                width = Math.max(width, this._widths[i]);
+            }
+        }
+        return (width);
+    }
+    
+    /*
+     * Decodes a text field as ISO-8859-1, without its trailing spaces.
+     * @param buffer The buffer holding the field.
+     * @param position The position of the field.
+     * @param width The number of bytes of the field.
+     * @param text A buffer of at least width chars.
+     * @return The number of chars decoded.
+     */
+    private static int decodeText(final ByteBuffer buffer, final int position, final int width, final char[] text)
+    {
+        int length = width;
+        while (length > 0 && buffer.get(position + length - 1) == ' ')
+        {
+            length--;
+        }
+        for (int i = 0; i < length; i++)
+        {
+            text[i] = (char) (buffer.get(position + i) & 0xFF);
+        }
+        return (length);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        final List<String> fields = new ArrayList<String>();
+        for (int i = 0; i < this._names.length; i++)
+        {
+            fields.add(this._names[i] + "@" + this._offsets[i] + "=" + this._rules[i]);
+        }
+        return String.format("RecordLayout [_recordLength=%s, _order=%s, _fields=%s]", this._recordLength,
+                this._order, fields);
+    }
+    
+    /**
+     * This is a record layout builder. Call the xxxxField() methods to add the
+     * fields and then call build() to create the immutable layout. A builder
+     * is not thread-safe, the layouts it builds are.
+     * 
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        
+        /*
+         * The names of the fields, in the order they were added.
+         */
+        private final List<String>  _names        = new ArrayList<String>();
+        
+        /*
+         * The byte offset of each field.
+         */
+        private final List<Integer> _offsets      = new ArrayList<Integer>();
+        
+        /*
+         * The byte order of the binary fields.
+         */
+        private ByteOrder           _order        = ByteOrder.BIG_ENDIAN;
+        
+        /*
+         * The number of bytes of a record.
+         */
+        private final int           _recordLength;
+        
+        /*
+         * The rule of each field.
+         */
+        private final List<Object>  _rules        = new ArrayList<Object>();
+        
+        /*
+         * The number of bytes of each field.
+         */
+        private final List<Integer> _widths       = new ArrayList<Integer>();
+        
+        /**
+         * Protected constructor. Use Validate.recordLayout() to create a
+         * builder.
+         * 
+         * @param recordLength
+         *            The number of bytes of a record.
+         * @throws IllegalArgumentException
+         *             If the record length is not greater than zero.
+         */
+        protected Builder(final int recordLength)
+        {
+            if (recordLength <= 0)
+            {
+                throw (new IllegalArgumentException("The record length must be greater than zero: " + recordLength));
+            }
+            this._recordLength = recordLength;
+        }
+        
+        /**
+         * Builds an immutable layout from the added fields.
+         *
+         * @return A <code>RecordLayout</code> instance.
+         * @throws IllegalArgumentException
+         *             If no field has been added.
+         */
+        public RecordLayout build()
+        {
+            if (this._names.isEmpty())
+            {
+                throw (new IllegalArgumentException("The layout must have at least one field."));
+            }
+            return (new RecordLayout(this));
+        }
+        
+        /**
+         * Adds an 8 byte double field.
+         * 
+         * @param name
+         *            The name of the field.
+         * @param offset
+         *            The byte offset of the field in the record.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder doubleField(final String name, final int offset, final DoubleRule rule)
+        {
+            return (addField(name, offset, Double.BYTES, rule));
+        }
+        
+        /**
+         * Adds a 4 byte int field.
+         * 
+         * @param name
+         *            The name of the field.
+         * @param offset
+         *            The byte offset of the field in the record.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder intField(final String name, final int offset, final IntegerRule rule)
+        {
+            return (addField(name, offset, Integer.BYTES, rule));
+        }
+        
+        /**
+         * Adds an 8 byte long field.
+         * 
+         * @param name
+         *            The name of the field.
+         * @param offset
+         *            The byte offset of the field in the record.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder longField(final String name, final int offset, final LongRule rule)
+        {
+            return (addField(name, offset, Long.BYTES, rule));
+        }
+        
+        /**
+         * Sets the byte order of the binary fields. It is big endian by
+         * default.
+         * 
+         * @param order
+         *            The byte order.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder order(final ByteOrder order)
+        {
+            if (order == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'order' must not be null."));
+            }
+            this._order = order;
+            return (this);
+        }
+        
+        /**
+         * Adds a fixed-width ISO-8859-1 text field. Its trailing spaces are
+         * padding and are not part of the value.
+         * 
+         * @param name
+         *            The name of the field.
+         * @param offset
+         *            The byte offset of the field in the record.
+         * @param width
+         *            The number of bytes of the field.
+         * @param rule
+         *            The rule to test each value with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder textField(final String name, final int offset, final int width, final StringRule rule)
+        {
+            return (addField(name, offset, width, rule));
+        }
+        
+        /*
+         * Adds a field.
+         * @param name The name of the field.
+         * @param offset The byte offset of the field.
+         * @param width The number of bytes of the field.
+         * @param rule The rule of the field.
+         * @return The same Builder instance.
+         */
+        private Builder addField(final String name, final int offset, final int width, final Object rule)
+        {
+            if (name == null || rule == null)
+            {
+                throw (new IllegalArgumentException("The parameters 'name' and 'rule' must not be null."));
+            }
+            if (this._names.contains(name))
+            {
+                throw (new IllegalArgumentException("The field '" + name + "' has already been added."));
+            }
+            if (offset < 0 || width <= 0 || width > this._recordLength - offset)
+            {
+                throw (new IllegalArgumentException("The field '" + name + "' at offset " + offset + " with width "
+                        + width + " is not inside the " + this._recordLength + " byte record."));
+            }
+            this._names.add(name);
+            this._offsets.add(Integer.valueOf(offset));
+            this._widths.add(Integer.valueOf(width));
+            this._rules.add(rule);
+            return (this);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Set;
+
+/**
+ * A field of a record that failed its rule, reported by a
+ * RecordFileValidator or a DelimitedFileValidator. It carries the index of
+ * the record, the name of the field, the value that was read and the mask of
+ * the failed tests.
+ * 
+ *      for (final RuleCode ruleCode : violation.getRuleCodes())
+ *      {
+ *          report.println(violation.getRecordIndex() + "," + violation.getFieldName() + "," + ruleCode);
+ *      }
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class RecordViolation
+{
+    
+    /*
+     * The mask of the failed tests.
+     */
+    private final long   _failedRules;
+    
+    /*
+     * The name of the field.
+     */
+    private final String _fieldName;
+    
+    /*
+     * The index of the record in the file, from zero.
+     */
+    private final long   _recordIndex;
+    
+    /*
+     * The value of the field.
+     */
+    private final Object _value;
+    
+    /*
+     * Package-private constructor. Violations are created by the
+     * RecordFileValidator.
+     * 
+     * @param recordIndex The index of the record.
+     * @param fieldName The name of the field.
+     * @param value The value of the field.
+     * @param failedRules The mask of the failed tests.
+     */
+    RecordViolation(final long recordIndex, final String fieldName, final Object value, final long failedRules)
+    {
+        assert (fieldName != null) : "The parameter 'fieldName' is NULL.";
+        
+        this._recordIndex = recordIndex;
+        this._fieldName = fieldName;
+        this._value = value;
+        this._failedRules = failedRules;
+    }
+    
+    /**
+     * Gets the mask of the failed tests, in the form returned by
+     * tryValidate().
+     *
+     * @return A <code>long</code> mask with a RuleCode.mask() bit set for
+     *         each failed test.
+     */
+    public long getFailedRules()
+    {
+        return (this._failedRules);
+    }
+    
+    /**
+     * Gets the name of the field.
+     *
+     * @return The name given to the RecordLayout.
+     */
+    public String getFieldName()
+    {
+        return (this._fieldName);
+    }
+    
+    /**
+     * Gets the index of the record in the file. The first record after the
+     * header is record zero.
+     *
+     * @return A <code>long</code> value of zero or greater.
+     */
+    public long getRecordIndex()
+    {
+        return (this._recordIndex);
+    }
+    
+    /**
+     * Gets the codes of the failed tests.
+     *
+     * @return A new set of the <code>RuleCode</code>s.
+     */
+    public Set<RuleCode> getRuleCodes()
+    {
+        return (RuleCode.fromMask(this._failedRules));
+    }
+    
+    /**
+     * Gets the value of the field. It is an Integer, Long, Double or String
+     * for a fixed-width record and the text of the field for a delimited
+     * row.
+     *
+     * @return The value that failed.
+     */
+    public Object getValue()
+    {
+        return (this._value);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("RecordViolation [_recordIndex=%s, _fieldName=%s, _value=%s, _ruleCodes=%s]",
+                this._recordIndex, this._fieldName, this._value, getRuleCodes());
+    }
+}
@@ -0,0 +1,506 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * This holds the cheap conditions a value must meet to match a regular
+ * expression: the min and max length, a literal prefix and suffix and the
+ * chars the value can start with. A StringRule tests them before it runs the
+ * regex, so most values that do not match are rejected without it. A regex
+ * that is a literal, such as "ORD-0001", is tested as an equals.
+ * 
+ *      "^ORD-[0-9]{10}$"   the length is 14 and the prefix is "ORD-"
+ *      "[a-z]+\.(csv|txt)" the length is at least 5, the value starts with
+ *                          [a-z] and the suffix is "."
+ *
+ * The regex is parsed with the LinearCompiler, so a regex outside its
+ * subset, or a Pattern compiled with flags, has no prefilter.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class RegexPrefilter
+{
+    
+    /*
+     * The chars a value can start with, or null if any char.
+     */
+    private final CharClass _firstChars;
+    
+    /*
+     * The value the regex matches, or null if it is not a literal.
+     */
+    private final String    _literal;
+    
+    /*
+     * The max length of a value in chars, or -1 if there is none.
+     */
+    private final int       _maxLength;
+    
+    /*
+     * The min length of a value in chars.
+     */
+    private final int       _minLength;
+    
+    /*
+     * The chars every value starts with.
+     */
+    private final String    _prefix;
+    
+    /*
+     * The chars every value ends with.
+     */
+    private final String    _suffix;
+    
+    /*
+     * Creates a prefilter.
+     */
+    private RegexPrefilter(final int minLength, final int maxLength, final String prefix, final String suffix,
+            final CharClass firstChars, final String literal)
+    {
+        this._minLength = minLength;
+        this._maxLength = maxLength;
+        this._prefix = prefix;
+        this._suffix = suffix;
+        this._firstChars = firstChars;
+        this._literal = literal;
+    }
+    
+    /*
+     * Analyzes a compiled regular expression.
+     * @param pattern The compiled regular expression.
+     * @return The prefilter, or null if the regex is not supported or has no
+     * condition that is worth testing.
+     */
+    static RegexPrefilter analyze(final Pattern pattern)
+    {
+        if (pattern.flags() != 0)
+        {
+            return (null);
+        }
+        final LinearCompiler.Node tree = LinearCompiler.parse(pattern.pattern());
+        if (tree == null)
+        {
+            return (null);
+        }
+        
+        final int minLength = (int) Math.min(minLength(tree), Integer.MAX_VALUE);
+        final long max = maxLength(tree);
+        final int maxLength = (max < 0 || max > Integer.MAX_VALUE) ? -1 : (int) max;
+        final String literal = literal(tree);
+        final String prefix = (literal != null) ? literal : prefix(tree);
+        final String suffix = (literal != null) ? "" : suffix(tree);
+        
+        // the first chars only help if they are not already in the prefix.
+        CharClass firstChars = null;
+        if (prefix.isEmpty())
+        {
+            final int[] set = LinearCompiler.union(firstSets(tree, new ArrayList<int[]>()));
+            if (!(set.length == 2 && set[0] == 0 && set[1] >= Character.MAX_VALUE))
+            {
+                firstChars = toCharClass(set);
+            }
+        }
+        
+        if (minLength == 0 && maxLength < 0 && prefix.isEmpty() && suffix.isEmpty() && firstChars == null)
+        {
+            return (null);
+        }
+        return (new RegexPrefilter(minLength, maxLength, prefix, suffix, firstChars, literal));
+    }
+    
+    /*
+     * Gets the value the regex matches.
+     * @return The value, or null if the regex is not a literal.
+     */
+    String getLiteral()
+    {
+        return (this._literal);
+    }
+    
+    /*
+     * Tests if the regex is a literal. A value that passes the prefilter of
+     * a literal then matches, so the regex does not have to be run.
+     * @return A <code>boolean</code> value that is true if it is a literal.
+     */
+    boolean isLiteral()
+    {
+        return (this._literal != null);
+    }
+    
+    /*
+     * Tests if a value meets the conditions. A value that does not can not
+     * match the regex.
+     * @param value The value. It is not null.
+     * @return A <code>boolean</code> value that is false if the value can
+     * not match.
+     */
+    boolean mayMatch(final CharSequence value)
+    {
+        final int length = value.length();
+        if (length < this._minLength || (this._maxLength >= 0 && length > this._maxLength))
+        {
+            return (false);
+        }
+        if (length > 0 && this._firstChars != null && !this._firstChars.contains(value.charAt(0)))
+        {
+            return (false);
+        }
+        final String prefix = this._prefix;
+        for (int i = 0; i < prefix.length(); i++)
+        {
+            if (value.charAt(i) != prefix.charAt(i))
+            {
+                return (false);
+            }
+        }
+        final String suffix = this._suffix;
+        final int offset = length - suffix.length();
+        for (int i = 0; i < suffix.length(); i++)
+        {
+            if (value.charAt(offset + i) != suffix.charAt(i))
+            {
+                return (false);
+            }
+        }
+        return (true);
+    }
+    
+    /*
+     * Gets the min length in chars of a value a tree matches. A code point
+     * above the BMP is two chars.
+     */
+    private static long minLength(final LinearCompiler.Node node)
+    {
+        switch (node._kind)
+        {
+            case LinearCompiler.CHARS:
+                return ((node._set.length == 0 || node._set[0] <= Character.MAX_VALUE) ? 1 : 2);
+            case LinearCompiler.CONCAT:
+            {
+                long length = 0;
+                for (final LinearCompiler.Node child : node._children)
+                {
+                    length = Math.min(length + minLength(child), Integer.MAX_VALUE);
+                }
+                return (length);
+            }
+            case LinearCompiler.ALTERNATE:
+            {
+                long length = Integer.MAX_VALUE;
+                for (final LinearCompiler.Node child : node._children)
+                {
+                    length = Math.min(length, minLength(child));
+                }
+                return (length);
+            }
+            case LinearCompiler.REPEAT:
+                return (Math.min(node._min * minLength(node._children[0]), Integer.MAX_VALUE));
+            default:
+                return (0);
+        }
+    }
+    
+    /*
+     * Gets the max length in chars of a value a tree matches.
+     * @return The max length, or -1 if there is none.
+     */
+    private static long maxLength(final LinearCompiler.Node node)
+    {
+        switch (node._kind)
+        {
+            case LinearCompiler.CHARS:
+                return ((node._set.length == 0 || node._set[node._set.length - 1] <= Character.MAX_VALUE) ? 1 : 2);
+            case LinearCompiler.CONCAT:
+            {
+                long length = 0;
+                for (final LinearCompiler.Node child : node._children)
+                {
+                    final long childLength = maxLength(child);
+                    if (childLength < 0 || length + childLength > Integer.MAX_VALUE)
+                    {
+                        return (-1);
+                    }
+                    length += childLength;
+                }
+                return (length);
+            }
+            case LinearCompiler.ALTERNATE:
+            {
+                long length = 0;
+                for (final LinearCompiler.Node child : node._children)
+                {
+                    final long childLength = maxLength(child);
+                    if (childLength < 0)
+                    {
+                        return (-1);
+                    }
+                    length = Math.max(length, childLength);
+                }
+                return (length);
+            }
+            case LinearCompiler.REPEAT:
+            {
+                final long childLength = maxLength(node._children[0]);
+                if (childLength == 0)
+                {
+                    return (0);
+                }
+                else if (childLength < 0 || node._max < 0 || node._max * childLength > Integer.MAX_VALUE)
+                {
+                    return (-1);
+                }
+                return (node._max * childLength);
+            }
+            default:
+                return (0);
+        }
+    }
+    
+    /*
+     * Gets the only value a tree matches.
+     * @return The value, or null if the tree matches more than one value.
+     */
+    private static String literal(final LinearCompiler.Node node)
+    {
+        switch (node._kind)
+        {
+            case LinearCompiler.EMPTY:
+                return ("");
+            case LinearCompiler.CHARS:
+                return ((node._set.length == 2 && node._set[0] == node._set[1])
+                        ? new String(Character.toChars(node._set[0])) : null);
+            case LinearCompiler.CONCAT:
+            {
+                final StringBuilder builder = new StringBuilder();
+                for (final LinearCompiler.Node child : node._children)
+                {
+                    final String literal = literal(child);
+                    if (literal == null)
+                    {
+                        return (null);
+                    }
+                    builder.append(literal);
+                }
+                return (builder.toString());
+            }
+            case LinearCompiler.REPEAT:
+            {
+                final String literal = literal(node._children[0]);
+                if (literal == null || node._min != node._max || (long) node._min * literal.length() > 4096)
+                {
+                    return (null);
+                }
+                return (repeat(literal, node._min));
+            }
+            default:
+                return (null);
+        }
+    }
+    
+    /*
+     * Gets the chars every value a tree matches starts with.
+     */
+    private static String prefix(final LinearCompiler.Node node)
+    {
+        switch (node._kind)
+        {
+            case LinearCompiler.CHARS:
+            {
+                final String literal = literal(node);
+                return ((literal != null) ? literal : "");
+            }
+            case LinearCompiler.CONCAT:
+            {
+                final StringBuilder builder = new StringBuilder();
+                for (final LinearCompiler.Node child : node._children)
+                {
+                    final String literal = literal(child);
+                    if (literal == null)
+                    {
+                        builder.append(prefix(child));
+                        break;
+                    }
+                    builder.append(literal);
+                }
+                return (builder.toString());
+            }
+            case LinearCompiler.ALTERNATE:
+            {
+                String prefix = prefix(node._children[0]);
+                for (int i = 1; i < node._children.length && !prefix.isEmpty(); i++)
+                {
+                    final String other = prefix(node._children[i]);
+                    int length = 0;
+                    while (length < prefix.length() && length < other.length()
+                            && prefix.charAt(length) == other.charAt(length))
+                    {
+                        length++;
+                    }
+                    prefix = prefix.substring(0, length);
+                }
+                return (prefix);
+            }
+            case LinearCompiler.REPEAT:
+                return ((node._min > 0) ? prefix(node._children[0]) : "");
+            default:
+                return ("");
+        }
+    }
+    
+    /*
+     * Gets the chars every value a tree matches ends with.
+     */
+    private static String suffix(final LinearCompiler.Node node)
+    {
+        switch (node._kind)
+        {
+            case LinearCompiler.CHARS:
+            {
+                final String literal = literal(node);
+                return ((literal != null) ? literal : "");
+            }
+            case LinearCompiler.CONCAT:
+            {
+                final StringBuilder builder = new StringBuilder();
+                for (int i = node._children.length - 1; i >= 0; i--)
+                {
+                    final String literal = literal(node._children[i]);
+                    if (literal == null)
+                    {
+                        builder.insert(0, suffix(node._children[i]));
+                        break;
+                    }
+                    builder.insert(0, literal);
+                }
+                return (builder.toString());
+            }
+            case LinearCompiler.ALTERNATE:
+            {
+                String suffix = suffix(node._children[0]);
+                for (int i = 1; i < node._children.length && !suffix.isEmpty(); i++)
+                {
+                    final String other = suffix(node._children[i]);
+                    int length = 0;
+                    while (length < suffix.length() && length < other.length() && suffix
+                            .charAt(suffix.length() - 1 - length) == other.charAt(other.length() - 1 - length))
+                    {
+                        length++;
+                    }
+                    suffix = suffix.substring(suffix.length() - length);
+                }
+                return (suffix);
+            }
+            case LinearCompiler.REPEAT:
+                return ((node._min > 0) ? suffix(node._children[0]) : "");
+            default:
+                return ("");
+        }
+    }
+    
+    /*
+     * Adds the code point ranges a value a tree matches can start with.
+     * @param node The tree.
+     * @param sets The list of ranges. It is added to.
+     * @return The list of ranges.
+     */
+    private static List<int[]> firstSets(final LinearCompiler.Node node, final List<int[]> sets)
+    {
+        switch (node._kind)
+        {
+            case LinearCompiler.CHARS:
+                sets.add(node._set);
+                break;
+            case LinearCompiler.CONCAT:
+                for (final LinearCompiler.Node child : node._children)
+                {
+                    firstSets(child, sets);
+                    if (minLength(child) > 0)
+                    {
+                        break;
+                    }
+                }
+                break;
+            case LinearCompiler.ALTERNATE:
+                for (final LinearCompiler.Node child : node._children)
+                {
+                    firstSets(child, sets);
+                }
+                break;
+            case LinearCompiler.REPEAT:
+                firstSets(node._children[0], sets);
+                break;
+            default:
+                break;
+        }
+        return (sets);
+    }
+    
+    /*
+     * Creates the class of the first chars of code point ranges. A code
+     * point above the BMP starts with a high surrogate.
+     * @param set The sorted, disjoint ranges.
+     * @return The CharClass.
+     */
+    private static CharClass toCharClass(final int[] set)
+    {
+        final CharClass.Builder builder = Validate.charClass();
+        for (int i = 0; i < set.length; i += 2)
+        {
+            if (set[i] <= Character.MAX_VALUE)
+            {
+                builder.range((char) set[i], (char) Math.min(set[i + 1], Character.MAX_VALUE));
+            }
+            if (set[i + 1] > Character.MAX_VALUE)
+            {
+                builder.range(Character.MIN_HIGH_SURROGATE, Character.MAX_HIGH_SURROGATE);
+            }
+        }
+        return (builder.build());
+    }
+    
+    /*
+     * Repeats a String.
+     */
+    private static String repeat(final String value, final int count)
+    {
+        final StringBuilder builder = new StringBuilder(value.length() * count);
+        for (int i = 0; i < count; i++)
+        {
+            builder.append(value);
+        }
+        return (builder.toString());
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "RegexPrefilter [_minLength=%s, _maxLength=%s, _prefix=%s, _suffix=%s, _firstChars=%s, _literal=%s]",
+                _minLength, _maxLength, _prefix, _suffix, _firstChars, _literal);
+    }
+}
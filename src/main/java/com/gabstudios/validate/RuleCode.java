@@ -0,0 +1,293 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * This is the code of a validation rule. A failed test is reported as a rule
+ * code and the raw arguments of the failure. The human readable message is
+ * only rendered from them when it is asked for. Each code also has a bit, so
+ * a set of failed rules can be returned as a <code>long</code> mask.
+ * 
+ *      try
+ *      {
+ *          Validate.defineInteger(x).testMaxValue(10).throwValidationExceptionOnFail().validate();
+ *      }
+ *      catch (final ValidateException e)
+ *      {
+ *          if (e.getRuleCode() == RuleCode.MAX_VALUE) ...
+ *      }
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public enum RuleCode
+{
+    
+    /**
+     * The value is null. No arguments.
+     */
+    NOT_NULL("The value must not be null"),
+    
+    /**
+     * The value does not equal the expected value. The arguments are the value
+     * and the expected value.
+     */
+    EQUALS("The value does not equal the expected value (value = '%s' expected value = '%s')."),
+    
+    /**
+     * The value does not equal the expected value, ignoring case. The
+     * arguments are the value and the expected value.
+     */
+    EQUALS_NO_CASE("The value does not equal the expected value (string value = '%s' expected value = '%s')."),
+    
+    /**
+     * The value is not one of the allowed values. The arguments are the value
+     * and the set of allowed values.
+     */
+    ONE_OF("The value is not one of the allowed values (value = '%s' values = '%s')."),
+    
+    /**
+     * The value does not start with one of the prefixes. The arguments are
+     * the value and the set of prefixes.
+     */
+    HAS_PREFIX_IN("The value does not start with one of the prefixes (value = '%s' prefixes = '%s')."),
+    
+    /**
+     * The value starts with one of the forbidden prefixes. The arguments are
+     * the value, the length of its prefix and the set of prefixes.
+     */
+    NOT_HAS_PREFIX_IN("The value starts with a forbidden prefix (value = '%s' prefix length = '%s' prefixes = '%s')."),
+    
+    /**
+     * The value is empty. No arguments.
+     */
+    NOT_EMPTY("The value must not be empty."),
+    
+    /**
+     * An element of the array is null. The arguments are the index of the
+     * first null element and the number of null elements.
+     */
+    NOT_NULL_ELEMENTS("The value must not have a null element (index = '%s' count = '%s')."),
+    
+    /**
+     * The length is less than the min length. The arguments are the value, its
+     * length and the min length.
+     */
+    MIN_LENGTH("The value must be greater than or equal to the min value (value = '%s' length = '%s' min value = '%s')."),
+    
+    /**
+     * The length is greater than the max length. The arguments are the value,
+     * its length and the max length.
+     */
+    MAX_LENGTH("The value must be less than or equal to the max value (value = '%s' length = '%s' max value = '%s')."),
+    
+    /**
+     * The value does not match the regular expression. The arguments are the
+     * value and the regular expression.
+     */
+    MATCH("The value does not match the reqular expression (value = '%s' regex = '%s')."),
+    
+    /**
+     * The match of the regular expression ran out of its MatchBudget. The
+     * arguments are the value, the regular expression and the budget.
+     */
+    MATCH_BUDGET_EXCEEDED("The match of the regular expression ran out of its budget (value = '%s' regex = '%s' budget = '%s')."),
+    
+    /**
+     * The value has a char that is not in the allowed CharClass. The
+     * arguments are the value, the index of the char and the class.
+     */
+    ALLOWED_CHARS("The value has a char that is not allowed (value = '%s' index = '%s' allowed chars = '%s')."),
+    
+    /**
+     * The value has a char that is in the forbidden CharClass. The arguments
+     * are the value, the index of the char and the class.
+     */
+    FORBIDDEN_CHARS("The value has a char that is forbidden (value = '%s' index = '%s' forbidden chars = '%s')."),
+    
+    /**
+     * The value is less than the min value. The arguments are the value and the
+     * min value.
+     */
+    MIN_VALUE("The value must be greater than or equal to the min value (value = '%s' min value = '%s')."),
+    
+    /**
+     * The value is greater than the max value. The arguments are the value and
+     * the max value.
+     */
+    MAX_VALUE("The value must be less than or equal to the max value (value = '%s' max value = '%s')."),
+    
+    /**
+     * The value is not zero. The argument is the value.
+     */
+    ZERO_VALUE("The value is not a zero value x = 0 (value = '%s')."),
+    
+    /**
+     * The value is not positive. The argument is the value.
+     */
+    POSITIVE_VALUE("The value must be be a positive value x > 0 (value = '%s')."),
+    
+    /**
+     * The value is not negative. The argument is the value.
+     */
+    NEGATIVE_VALUE("The value must be be a negative value x < 0 (value = '%s')."),
+    
+    /**
+     * The text is not a number of the expected type. The argument is the
+     * text.
+     */
+    NUMBER_FORMAT("The value is not a number (value = '%s')."),
+    
+    /**
+     * The char is not a digit. The argument is the value.
+     */
+    IS_DIGIT("The char is not a digit (value = '%s')."),
+    
+    /**
+     * The char is not lower case. The argument is the value.
+     */
+    IS_LOWER_CASE("The char is not lower case (value = '%s')."),
+    
+    /**
+     * The char is not upper case. The argument is the value.
+     */
+    IS_UPPER_CASE("The char is not upper case (value = '%s')."),
+    
+    /**
+     * The char is not a whitespace. The argument is the value.
+     */
+    IS_WHITESPACE("The char is not a whitespace (value = '%s')."),
+    
+    /**
+     * The value is not true. The argument is the value.
+     */
+    TRUE("The value is not true. (value = '%s')."),
+    
+    /**
+     * The value is not false. The argument is the value.
+     */
+    FALSE("The value is not false. (value = '%s').");
+    
+    /*
+     * The bit of this rule in a mask of rules.
+     */
+    private final long   _mask;
+    
+    /*
+     * The String.format() pattern of the message.
+     */
+    private final String _messageFormat;
+    
+    /**
+     * Private constructor.
+     *
+     * @param messageFormat
+     *            The String.format() pattern of the message.
+     */
+    private RuleCode(final String messageFormat)
+    {
+        this._mask = 1L << ordinal();
+        this._messageFormat = messageFormat;
+    }
+    
+    /**
+     * Gets the rule codes that have their bit set in a mask, such as the
+     * mask returned by tryValidate().
+     *
+     * @param mask
+     *            A mask of rules.
+     * @return A new set of the rule codes in the mask.
+     */
+    public static Set<RuleCode> fromMask(final long mask)
+    {
+        final Set<RuleCode> ruleCodes = EnumSet.noneOf(RuleCode.class);
+        for (final RuleCode ruleCode : values())
+        {
+            if (ruleCode.isIn(mask))
+            {
+                ruleCodes.add(ruleCode);
+            }
+        }
+        return (ruleCodes);
+    }
+    
+    /**
+     * Gets the bit of this rule in a mask of rules. Each rule code has its
+     * own bit, so a set of rules fits in a <code>long</code>.
+     *
+     * @return A <code>long</code> value with a single bit set.
+     */
+    public long mask()
+    {
+        return (this._mask);
+    }
+    
+    /**
+     * Tests if the bit of this rule is set in a mask of rules.
+     *
+     *      if (RuleCode.MAX_VALUE.isIn(validator.tryValidate())) ...
+     *
+     * @param mask
+     *            A mask of rules.
+     * @return A <code>boolean</code> value that is true if the bit is set.
+     */
+    public boolean isIn(final long mask)
+    {
+        return ((mask & this._mask) != 0L);
+    }
+    
+    /**
+     * Gets the String.format() pattern of the message.
+     *
+     * @return The message format.
+     */
+    public String getMessageFormat()
+    {
+        return (this._messageFormat);
+    }
+    
+    /**
+     * Renders the message of a failure. An array argument is rendered as its
+     * elements.
+     *
+     * @param arguments
+     *            The raw arguments of the failure.
+     * @return The human readable message.
+     */
+    public String format(final Object... arguments)
+    {
+        if (arguments == null || arguments.length == 0)
+        {
+            return (this._messageFormat);
+        }
+        
+        final Object[] rendered = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++)
+        {
+            final Object argument = arguments[i];
+            rendered[i] = (argument instanceof Object[]) ? Arrays.toString((Object[]) argument) : argument;
+        }
+        return (String.format(this._messageFormat, rendered));
+    }
+}
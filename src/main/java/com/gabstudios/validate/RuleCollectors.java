@@ -0,0 +1,165 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Collectors that validate the values of a stream with a rule. A rule is
+ * given as a function that returns the mask of the failed rules, such as the
+ * tryValidate() method of a rule, so no validator is created per value.
+ * 
+ *      final StringRule rule = Validate.stringRule().testNotNullEmpty().testMaxLength(64).build();
+ *      final RulePartition&lt;String&gt; partition = names.parallelStream().collect(RuleCollectors.partitioning(rule::tryValidate));
+ *
+ *      final RuleTally tally = RuleCollectors.tally(IntStream.of(ages), ageRule);
+ *
+ * The collectors keep the order of the stream and are safe to use with a
+ * parallel stream: each thread fills its own partition or tally and they are
+ * merged in order.
+ * 
+ * A rule can also filter a stream directly, since IntegerRule, LongRule,
+ * DoubleRule and StringRule are predicates.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class RuleCollectors
+{
+    
+    /**
+     * Prevent a new instance.
+     */
+    private RuleCollectors()
+    {
+        // void - ignore this.
+    }
+    
+    /**
+     * Creates a collector that splits the values into the ones that passed
+     * every rule and the ones that failed, and tallies the failures of each
+     * rule.
+     * 
+     * @param <T>
+     *            The class of the values.
+     * @param rule
+     *            The function that returns the mask of the rules a value
+     *            failed. The mask is zero for a valid value.
+     * @return A new <code>Collector</code> instance.
+     */
+    public static <T> Collector<T, ?, RulePartition<T>> partitioning(final ToLongFunction<? super T> rule)
+    {
+        if (rule == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'rule' must not be null."));
+        }
+        
+        return (Collector.<T, RulePartition<T>, RulePartition<T>> of(RulePartition::new,
+                (partition, value) -> partition.add(value, rule.applyAsLong(value)), RulePartition::merge,
+                RulePartition::finish));
+    }
+    
+    /**
+     * Creates a collector that tallies the failures of each rule without
+     * keeping the values.
+     * 
+     * @param <T>
+     *            The class of the values.
+     * @param rule
+     *            The function that returns the mask of the rules a value
+     *            failed. The mask is zero for a valid value.
+     * @return A new <code>Collector</code> instance.
+     */
+    public static <T> Collector<T, ?, RuleTally> tallying(final ToLongFunction<? super T> rule)
+    {
+        if (rule == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'rule' must not be null."));
+        }
+        
+        return (Collector.<T, RuleTally> of(RuleTally::new, (tally, value) -> tally.add(rule.applyAsLong(value)),
+                RuleTally::merge, Collector.Characteristics.UNORDERED));
+    }
+    
+    /**
+     * Tallies the failures of each rule over an int stream, without boxing.
+     * 
+     * @param values
+     *            The stream to validate. It is consumed.
+     * @param rule
+     *            The rule to test each value with.
+     * @return A new <code>RuleTally</code> instance.
+     */
+    public static RuleTally tally(final IntStream values, final IntegerRule rule)
+    {
+        if (values == null || rule == null)
+        {
+            throw (new IllegalArgumentException("The parameters 'values' and 'rule' must not be null."));
+        }
+        
+        return (values.collect(RuleTally::new, (tally, value) -> tally.add(rule.tryValidate(value)),
+                RuleTally::merge));
+    }
+    
+    /**
+     * Tallies the failures of each rule over a long stream, without boxing.
+     * 
+     * @param values
+     *            The stream to validate. It is consumed.
+     * @param rule
+     *            The rule to test each value with.
+     * @return A new <code>RuleTally</code> instance.
+     */
+    public static RuleTally tally(final LongStream values, final LongRule rule)
+    {
+        if (values == null || rule == null)
+        {
+            throw (new IllegalArgumentException("The parameters 'values' and 'rule' must not be null."));
+        }
+        
+        return (values.collect(RuleTally::new, (tally, value) -> tally.add(rule.tryValidate(value)),
+                RuleTally::merge));
+    }
+    
+    /**
+     * Tallies the failures of each rule over a double stream, without boxing.
+     * 
+     * @param values
+     *            The stream to validate. It is consumed.
+     * @param rule
+     *            The rule to test each value with.
+     * @return A new <code>RuleTally</code> instance.
+     */
+    public static RuleTally tally(final DoubleStream values, final DoubleRule rule)
+    {
+        if (values == null || rule == null)
+        {
+            throw (new IllegalArgumentException("The parameters 'values' and 'rule' must not be null."));
+        }
+        
+        return (values.collect(RuleTally::new, (tally, value) -> tally.add(rule.tryValidate(value)),
+                RuleTally::merge));
+    }
+}
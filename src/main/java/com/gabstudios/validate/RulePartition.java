@@ -0,0 +1,150 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The values of a stream split into the ones that passed every rule and the
+ * ones that failed, collected by RuleCollectors.partitioning(). Both lists
+ * keep the order of the stream, also for a parallel stream, and the tally
+ * counts the failures of each rule.
+ * 
+ *      final RulePartition&lt;String&gt; partition = names.stream().collect(RuleCollectors.partitioning(rule::tryValidate));
+ *      for (final String name : partition.getInvalid()) ...
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <T>
+ *            The class of the values.
+ */
+public final class RulePartition<T>
+{
+    
+    /*
+     * The values that failed at least one rule.
+     */
+    private List<T>         _invalid = new ArrayList<T>();
+    
+    /*
+     * The failures of each rule.
+     */
+    private final RuleTally _tally   = new RuleTally();
+    
+    /*
+     * The values that passed every rule.
+     */
+    private List<T>         _valid   = new ArrayList<T>();
+    
+    /*
+     * Package-private constructor. Use RuleCollectors to create a partition.
+     */
+    RulePartition()
+    {
+        // void - ignore this.
+    }
+    
+    /*
+     * Adds a tested value.
+     * 
+     * @param value The value.
+     * @param failedRules The mask of the rules the value failed.
+     */
+    void add(final T value, final long failedRules)
+    {
+        if (this._tally.add(failedRules))
+        {
+            this._valid.add(value);
+        }
+        else
+        {
+            this._invalid.add(value);
+        }
+    }
+    
+    /*
+     * Adds the values of a partition of the later part of the stream.
+     * 
+     * @param partition The partition to add.
+     * @return This partition.
+     */
+    RulePartition<T> merge(final RulePartition<T> partition)
+    {
+        this._valid.addAll(partition._valid);
+        this._invalid.addAll(partition._invalid);
+        this._tally.merge(partition._tally);
+        return (this);
+    }
+    
+    /*
+     * Makes the lists unmodifiable once the stream is collected.
+     * 
+     * @return This partition.
+     */
+    RulePartition<T> finish()
+    {
+        this._valid = Collections.unmodifiableList(this._valid);
+        this._invalid = Collections.unmodifiableList(this._invalid);
+        return (this);
+    }
+    
+    /**
+     * Gets the values that failed at least one rule.
+     *
+     * @return An unmodifiable list in the order of the stream.
+     */
+    public List<T> getInvalid()
+    {
+        return (this._invalid);
+    }
+    
+    /**
+     * Gets the number of values that failed each rule.
+     *
+     * @return A <code>RuleTally</code> instance.
+     */
+    public RuleTally getTally()
+    {
+        return (this._tally);
+    }
+    
+    /**
+     * Gets the values that passed every rule.
+     *
+     * @return An unmodifiable list in the order of the stream.
+     */
+    public List<T> getValid()
+    {
+        return (this._valid);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("RulePartition [_valid=%s, _invalid=%s, _tally=%s]", this._valid.size(),
+                this._invalid.size(), this._tally);
+    }
+}
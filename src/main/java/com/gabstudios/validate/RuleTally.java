@@ -0,0 +1,231 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The number of values that failed each rule, counted by the collectors of
+ * RuleCollectors. A value that failed several rules is counted once for each
+ * of them and once in the invalid count.
+ * 
+ *      final RuleTally tally = records.stream().collect(RuleCollectors.tallying(r -&gt; rule.tryValidate(r.getAge())));
+ *      final long tooOld = tally.getCount(RuleCode.MAX_VALUE);
+ *
+ * A tally is filled by one thread at a time; the tallies of a parallel stream
+ * are merged by the collector.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class RuleTally
+{
+    
+    /*
+     * The number of values that failed each rule, indexed by the ordinal of
+     * the RuleCode.
+     */
+    private final long[] _counts = new long[RuleCode.values().length];
+    
+    /*
+     * The number of values that failed at least one rule.
+     */
+    private long         _invalidCount = 0L;
+    
+    /*
+     * The number of values that were tested.
+     */
+    private long         _testedCount  = 0L;
+    
+    /*
+     * Package-private constructor. Use RuleCollectors to create a tally.
+     */
+    RuleTally()
+    {
+        // void - ignore this.
+    }
+    
+    /*
+     * Counts a tested value.
+     * 
+     * @param failedRules The mask of the rules the value failed, as returned
+     * by tryValidate().
+     * @return A <code>boolean</code> value that is true if the value is valid.
+     */
+    boolean add(final long failedRules)
+    {
+        this._testedCount++;
+        if (failedRules == 0L)
+        {
+            return (true);
+        }
+        
+        this._invalidCount++;
+        long rules = failedRules;
+        while (rules != 0L)
+        {
+            this._counts[Long.numberOfTrailingZeros(rules)]++;
+            rules &= rules - 1L;
+        }
+        return (false);
+    }
+    
+    /*
+     * Adds the failures of a rule counted over a column.
+     * 
+     * @param ruleCode The code of the rule.
+     * @param count The number of values that failed the rule.
+     */
+    void addCount(final RuleCode ruleCode, final long count)
+    {
+        this._counts[ruleCode.ordinal()] += count;
+    }
+    
+    /*
+     * Adds the rows of a column.
+     * 
+     * @param testedCount The number of values that were tested.
+     * @param invalidCount The number of values that failed at least one rule.
+     */
+    void addRows(final long testedCount, final long invalidCount)
+    {
+        this._testedCount += testedCount;
+        this._invalidCount += invalidCount;
+    }
+    
+    /*
+     * Adds the counts of another tally to this one.
+     * 
+     * @param tally The tally to add.
+     * @return This tally.
+     */
+    RuleTally merge(final RuleTally tally)
+    {
+        for (int i = 0; i < this._counts.length; i++)
+        {
+            this._counts[i] += tally._counts[i];
+        }
+        this._invalidCount += tally._invalidCount;
+        this._testedCount += tally._testedCount;
+        return (this);
+    }
+    
+    /**
+     * Gets the number of values that failed a rule.
+     *
+     * @param ruleCode
+     *            The code of the rule.
+     * @return A <code>long</code> value of zero or greater.
+     */
+    public long getCount(final RuleCode ruleCode)
+    {
+        return (this._counts[ruleCode.ordinal()]);
+    }
+    
+    /**
+     * Gets the number of values that failed each rule. Only the rules that
+     * failed at least once are in the map.
+     *
+     * @return A new map of the counts, in the order of the rule codes.
+     */
+    public Map<RuleCode, Long> getCounts()
+    {
+        final Map<RuleCode, Long> counts = new EnumMap<RuleCode, Long>(RuleCode.class);
+        for (final RuleCode ruleCode : RuleCode.values())
+        {
+            if (this._counts[ruleCode.ordinal()] != 0L)
+            {
+                counts.put(ruleCode, Long.valueOf(this._counts[ruleCode.ordinal()]));
+            }
+        }
+        return (counts);
+    }
+    
+    /**
+     * Gets the number of values that failed at least one rule.
+     *
+     * @return A <code>long</code> value of zero or greater.
+     */
+    public long getInvalidCount()
+    {
+        return (this._invalidCount);
+    }
+    
+    /**
+     * Gets the number of values that were tested.
+     *
+     * @return A <code>long</code> value of zero or greater.
+     */
+    public long getTestedCount()
+    {
+        return (this._testedCount);
+    }
+    
+    /**
+     * Gets the number of values that passed every rule.
+     *
+     * @return A <code>long</code> value of zero or greater.
+     */
+    public long getValidCount()
+    {
+        return (this._testedCount - this._invalidCount);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("RuleTally [_testedCount=%s, _invalidCount=%s, _counts=%s]", this._testedCount,
+                this._invalidCount, getCounts());
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode()
+    {
+        return (Arrays.hashCode(this._counts) * 31 + Long.hashCode(this._invalidCount));
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return (true);
+        }
+        if (!(obj instanceof RuleTally))
+        {
+            return (false);
+        }
+        final RuleTally other = (RuleTally) obj;
+        return (this._testedCount == other._testedCount && this._invalidCount == other._invalidCount
+                && Arrays.equals(this._counts, other._counts));
+    }
+}
@@ -37,7 +37,22 @@ package com.gabstudios.validate;
  *
  */
 public final class ShortValidator extends NumberValidator<Short>
-{   
+{
+    
+    /*
+     * The max value to test for. Defaults to Short.MAX_VALUE.
+     */
+    private short       _maxValue       = Short.MAX_VALUE;
+    
+    /*
+     * The min value to test for. Defaults to Short.MIN_VALUE.
+     */
+    private short       _minValue       = Short.MIN_VALUE;
+    
+    /*
+     * The value that will be tested, kept unboxed for the comparisons.
+     */
+    private final short _primitiveValue;
     
     /**
      * Protected constructor. Use Validate static method to create validator.
@@ -47,18 +62,103 @@ public final class ShortValidator extends NumberValidator<Short>
      */
     protected ShortValidator(final short value)
     {
-        super( value, Short.MIN_VALUE, Short.MAX_VALUE, (short)0);
+        super( value );
+        this._primitiveValue = value;
     }
-
+    
+    /**
+     * A method to mark that an "max value" test will be performed when the
+     * validate() method is called. Tests if the value is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxValue
+     *            The value to perform the test with.
+     * @return The same ShortValidator instance. This allows for method chaining.
+     */
+    public ShortValidator testMaxValue(final short maxValue)
+    {
+        this._rules |= RuleCode.MAX_VALUE.mask();
+        this._maxValue = maxValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMaxValue(java.lang.Number)
+     */
+    @Override
+    public ShortValidator testMaxValue(final Short maxValue)
+    {
+        return (testMaxValue(maxValue.shortValue()));
+    }
+    
+    /**
+     * A method to mark that an "min value" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minValue
+     *            The value to perform the test with.
+     * @return The same ShortValidator instance. This allows for method chaining.
+     */
+    public ShortValidator testMinValue(final short minValue)
+    {
+        this._rules |= RuleCode.MIN_VALUE.mask();
+        this._minValue = minValue;
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.NumberValidator#testMinValue(java.lang.Number)
+     */
+    @Override
+    public ShortValidator testMinValue(final Short minValue)
+    {
+        return (testMinValue(minValue.shortValue()));
+    }
+    
+    @Override
+    protected int compareToMaxValue()
+    {
+        return (Short.compare(this._primitiveValue, this._maxValue));
+    }
+    
+    @Override
+    protected int compareToMinValue()
+    {
+        return (Short.compare(this._primitiveValue, this._minValue));
+    }
+    
+    @Override
+    protected int compareToZeroValue()
+    {
+        return (Short.compare(this._primitiveValue, (short) 0));
+    }
+    
+    @Override
+    protected Short getMaxValue()
+    {
+        return (this._maxValue);
+    }
+    
+    @Override
+    protected Short getMinValue()
+    {
+        return (this._minValue);
+    }
+    
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
 	@Override
 	public String toString() {
 		return String.format(
-				"ShortValidator [_isTestMaxValue=%s, _isTestMinValue=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_isTestMaxValue, _isTestMinValue, _maxValue, _minValue, _isValidationExceptionThrownOnFail,
-				_equalsValue, _isTestEquals, _isTestNotNull, _value);
+				"ShortValidator [_rules=%s, _maxValue=%s, _minValue=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+				RuleCode.fromMask(_rules), _maxValue, _minValue, _isValidationExceptionThrownOnFail,
+				_equalsValue, _value);
 	}
     
     
@@ -0,0 +1,1049 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This is an immutable String rule. The tests are configured once through a
+ * Builder and the rule can then be shared by any number of threads to test
+ * any number of values.
+ * 
+ *      StringRule rule = Validate.stringRule().testMaxLength(64)
+ *          .testMatch("[A-Za-z0-9_-]*").build();
+ *
+ * A test of the chars of the value, such as "only [A-Za-z0-9_-]", is much
+ * cheaper with testAllowedChars(CharClass) than with a regular expression.
+ *
+ *      boolean isValid = rule.test(value);
+ *
+ *      long failedRules = rule.tryValidate(value);
+ *      if (RuleCode.MATCH.isIn(failedRules)) ...
+ *
+ * The rule is also a Predicate&lt;String&gt;, so it can filter a
+ * Stream&lt;String&gt; without allocating.
+ *
+ *      values.filter(rule)
+ *
+ * The tests run from the cheapest to the most expensive and stop at the first
+ * failure. The regular expression is compiled once when the rule is built.
+ *
+ * If no test method is called, test() returns a true.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class StringRule implements Predicate<String>
+{
+    
+    /*
+     * The value to use if an equals test is performed.
+     */
+    private final String         _equalsValue;
+    
+    /*
+     * The tests that will be performed, one RuleCode.mask() bit per test.
+     */
+    private final long           _rules;
+    
+    /*
+     * The compiled regular expression used by the match test.
+     */
+    private final Pattern        _matchPattern;
+    
+    /*
+     * The linear time pattern used by the match test, or null if the
+     * _matchPattern is used.
+     */
+    private final LinearPattern  _linearPattern;
+    
+    /*
+     * The conditions a value must meet to match the _matchPattern, tested
+     * before the regex is run, or null if there are none.
+     */
+    private final RegexPrefilter _prefilter;
+    
+    /*
+     * The limit on the work of the match test, or null if there is none.
+     */
+    private final MatchBudget    _matchBudget;
+    
+    /*
+     * The chars the value may have, used by the allowed chars test.
+     */
+    private final CharClass      _allowedChars;
+    
+    /*
+     * The chars the value must not have, used by the forbidden chars test.
+     */
+    private final CharClass      _forbiddenChars;
+    
+    /*
+     * The max length to test for.
+     */
+    private final int            _maxLength;
+    
+    /*
+     * The min length to test for.
+     */
+    private final int            _minLength;
+    
+    /*
+     * The set the value must be in if a one of test is performed.
+     */
+    private final StringSet      _oneOf;
+    
+    /*
+     * The prefixes the value must start with one of if a has prefix in test
+     * is performed.
+     */
+    private final PrefixSet      _prefixes;
+    
+    /*
+     * The prefixes the value must not start with if a not has prefix in
+     * test is performed.
+     */
+    private final PrefixSet      _forbiddenPrefixes;
+    
+    /**
+     * Private constructor. Use the Builder to create a rule.
+     *
+     * @param builder
+     *            The builder holding the configured tests.
+     */
+    private StringRule(final Builder builder)
+    {
+        this._equalsValue = builder._equalsValue;
+        this._rules = builder._rules;
+        this._matchPattern = builder._matchPattern;
+        this._linearPattern = builder._linearPattern;
+        this._prefilter = (this._matchPattern != null && this._linearPattern == null)
+                ? RegexPrefilter.analyze(this._matchPattern) : null;
+        this._matchBudget = builder._matchBudget;
+        this._allowedChars = builder._allowedChars;
+        this._forbiddenChars = builder._forbiddenChars;
+        this._maxLength = builder._maxLength;
+        this._minLength = builder._minLength;
+        this._oneOf = builder._oneOf;
+        this._prefixes = builder._prefixes;
+        this._forbiddenPrefixes = builder._forbiddenPrefixes;
+    }
+    
+    /**
+     * Tests the value against the configured tests.
+     *
+     * @param value
+     *            The value to test. This value can be null or empty.
+     * @return A boolean value that is true if the value is valid. Otherwise
+     *         false is return.
+     */
+    @Override
+    public boolean test(final String value)
+    {
+        if (value == null)
+        {
+            return (!RuleCode.NOT_NULL.isIn(this._rules));
+        }
+        
+        final int length = value.length();
+        return ((!RuleCode.NOT_EMPTY.isIn(this._rules) || length > 0)
+                && (!RuleCode.MIN_LENGTH.isIn(this._rules) || length >= this._minLength)
+                && (!RuleCode.MAX_LENGTH.isIn(this._rules) || length <= this._maxLength)
+                && (!RuleCode.EQUALS.isIn(this._rules) || value.equals(this._equalsValue))
+                && (!RuleCode.EQUALS_NO_CASE.isIn(this._rules) || value.equalsIgnoreCase(this._equalsValue))
+                && (!RuleCode.ONE_OF.isIn(this._rules) || this._oneOf.contains(value))
+                && (!RuleCode.HAS_PREFIX_IN.isIn(this._rules) || this._prefixes.containsPrefixOf(value))
+                && (!RuleCode.NOT_HAS_PREFIX_IN.isIn(this._rules) || !this._forbiddenPrefixes.containsPrefixOf(value))
+                && (!RuleCode.ALLOWED_CHARS.isIn(this._rules) || this._allowedChars.indexOfNotIn(value) < 0)
+                && (!RuleCode.FORBIDDEN_CHARS.isIn(this._rules) || this._forbiddenChars.indexOfIn(value) < 0)
+                && (!RuleCode.MATCH.isIn(this._rules) || failedMatch(value, null) == 0L));
+    }
+    
+    /**
+     * Tests the value against every configured test without throwing. The
+     * regular expression is only run if a match test is configured.
+     *
+     * @param value
+     *            The value to test. This value can be null or empty.
+     * @return A mask with the RuleCode.mask() bit of each failed test set.
+     *         The mask is zero if the value is valid.
+     */
+    public long tryValidate(final String value)
+    {
+        final long rules = this._rules;
+        if (value == null)
+        {
+            return (rules & RuleCode.NOT_NULL.mask());
+        }
+        
+        final int length = value.length();
+        long failedRules = 0L;
+        if (length == 0)
+        {
+            failedRules |= RuleCode.NOT_EMPTY.mask();
+        }
+        if (length < this._minLength)
+        {
+            failedRules |= RuleCode.MIN_LENGTH.mask();
+        }
+        if (length > this._maxLength)
+        {
+            failedRules |= RuleCode.MAX_LENGTH.mask();
+        }
+        if (RuleCode.EQUALS.isIn(rules) && !value.equals(this._equalsValue))
+        {
+            failedRules |= RuleCode.EQUALS.mask();
+        }
+        if (RuleCode.EQUALS_NO_CASE.isIn(rules) && !value.equalsIgnoreCase(this._equalsValue))
+        {
+            failedRules |= RuleCode.EQUALS_NO_CASE.mask();
+        }
+        if (RuleCode.ONE_OF.isIn(rules) && !this._oneOf.contains(value))
+        {
+            failedRules |= RuleCode.ONE_OF.mask();
+        }
+        if (RuleCode.HAS_PREFIX_IN.isIn(rules) && !this._prefixes.containsPrefixOf(value))
+        {
+            failedRules |= RuleCode.HAS_PREFIX_IN.mask();
+        }
+        if (RuleCode.NOT_HAS_PREFIX_IN.isIn(rules) && this._forbiddenPrefixes.containsPrefixOf(value))
+        {
+            failedRules |= RuleCode.NOT_HAS_PREFIX_IN.mask();
+        }
+        if (RuleCode.ALLOWED_CHARS.isIn(rules) && this._allowedChars.indexOfNotIn(value) >= 0)
+        {
+            failedRules |= RuleCode.ALLOWED_CHARS.mask();
+        }
+        if (RuleCode.FORBIDDEN_CHARS.isIn(rules) && this._forbiddenChars.indexOfIn(value) >= 0)
+        {
+            failedRules |= RuleCode.FORBIDDEN_CHARS.mask();
+        }
+        if (RuleCode.MATCH.isIn(rules))
+        {
+            failedRules |= failedMatch(value, null);
+        }
+        return (failedRules & rules);
+    }
+    
+    /**
+     * Tests a StringBuilder, a CharBuffer or any other CharSequence against
+     * every configured test, in the same way as tryValidate(String), without
+     * copying it to a String.
+     *
+     * @param value
+     *            The value to test. This value can be null or empty.
+     * @return A mask with the RuleCode.mask() bit of each failed test set.
+     *         The mask is zero if the value is valid.
+     */
+    public long tryValidate(final CharSequence value)
+    {
+        return (tryValidate(value, null));
+    }
+    
+    /**
+     * Tests a range of UTF-8 encoded bytes against every configured test, in
+     * the same way as tryValidate(String). An ASCII value is tested in place
+     * and any other value is decoded once.
+     *
+     * @param value
+     *            The UTF-8 bytes to test. This value can be null.
+     * @param offset
+     *            The index of the first byte of the value.
+     * @param length
+     *            The number of bytes of the value.
+     * @return A mask with the RuleCode.mask() bit of each failed test set.
+     *         The mask is zero if the value is valid.
+     */
+    public long tryValidate(final byte[] value, final int offset, final int length)
+    {
+        return (tryValidate(AsciiBytes.decode(value, offset, length), null));
+    }
+    
+    /*
+     * Tests a CharSequence against every configured test, in the same way as
+     * tryValidate(String), without copying it to a String.
+     * @param value The value to test. This value can be null or empty.
+     * @param matcher A Matcher of the pattern to reuse, or null.
+     * @return A mask with the RuleCode.mask() bit of each failed test set.
+     */
+    long tryValidate(final CharSequence value, final Matcher matcher)
+    {
+        final long rules = this._rules;
+        if (value == null)
+        {
+            return (rules & RuleCode.NOT_NULL.mask());
+        }
+        
+        final int length = value.length();
+        long failedRules = 0L;
+        if (length == 0)
+        {
+            failedRules |= RuleCode.NOT_EMPTY.mask();
+        }
+        if (length < this._minLength)
+        {
+            failedRules |= RuleCode.MIN_LENGTH.mask();
+        }
+        if (length > this._maxLength)
+        {
+            failedRules |= RuleCode.MAX_LENGTH.mask();
+        }
+        if (RuleCode.EQUALS.isIn(rules) && (this._equalsValue == null || !this._equalsValue.contentEquals(value)))
+        {
+            failedRules |= RuleCode.EQUALS.mask();
+        }
+        if (RuleCode.EQUALS_NO_CASE.isIn(rules) && !equalsNoCase(this._equalsValue, value))
+        {
+            failedRules |= RuleCode.EQUALS_NO_CASE.mask();
+        }
+        if (RuleCode.ONE_OF.isIn(rules) && !this._oneOf.contains(value))
+        {
+            failedRules |= RuleCode.ONE_OF.mask();
+        }
+        if (RuleCode.HAS_PREFIX_IN.isIn(rules) && !this._prefixes.containsPrefixOf(value))
+        {
+            failedRules |= RuleCode.HAS_PREFIX_IN.mask();
+        }
+        if (RuleCode.NOT_HAS_PREFIX_IN.isIn(rules) && this._forbiddenPrefixes.containsPrefixOf(value))
+        {
+            failedRules |= RuleCode.NOT_HAS_PREFIX_IN.mask();
+        }
+        if (RuleCode.ALLOWED_CHARS.isIn(rules) && this._allowedChars.indexOfNotIn(value) >= 0)
+        {
+            failedRules |= RuleCode.ALLOWED_CHARS.mask();
+        }
+        if (RuleCode.FORBIDDEN_CHARS.isIn(rules) && this._forbiddenChars.indexOfIn(value) >= 0)
+        {
+            failedRules |= RuleCode.FORBIDDEN_CHARS.mask();
+        }
+        if (RuleCode.MATCH.isIn(rules))
+        {
+            failedRules |= failedMatch(value, matcher);
+        }
+        return (failedRules & rules);
+    }
+    
+    /*
+     * Tests if a value matches the pattern of the match test.
+     * @param value The value to match.
+     * @param matcher A Matcher of the pattern to reuse, or null.
+     * @return Zero if the value matches, RuleCode.MATCH.mask() if it does
+     * not, or RuleCode.MATCH_BUDGET_EXCEEDED.mask() if the budget ran out.
+     */
+    private long failedMatch(final CharSequence value, final Matcher matcher)
+    {
+        final MatchBudget budget = this._matchBudget;
+        if (budget != null && value.length() > budget.getMaxLength())
+        {
+            return (RuleCode.MATCH_BUDGET_EXCEEDED.mask());
+        }
+        
+        // most values that do not match fail the prefilter, and a literal
+        // needs no regex at all.
+        final RegexPrefilter prefilter = this._prefilter;
+        if (prefilter != null)
+        {
+            if (!prefilter.mayMatch(value))
+            {
+                return (RuleCode.MATCH.mask());
+            }
+            else if (prefilter.isLiteral())
+            {
+                return (0L);
+            }
+        }
+        
+        if (budget != null)
+        {
+            return (budget.tryMatch(value, this._linearPattern, this._matchPattern, matcher));
+        }
+        final boolean isMatch = (this._linearPattern != null) ? this._linearPattern.matches(value)
+                : ((matcher != null) ? matcher.reset(value) : this._matchPattern.matcher(value)).matches();
+        return (isMatch ? 0L : RuleCode.MATCH.mask());
+    }
+    
+    /*
+     * Creates a Matcher of the pattern, to be reused by one thread.
+     * @return A new Matcher, or null if there is no match test or the match
+     * test uses a LinearPattern, which needs no Matcher.
+     */
+    Matcher newMatcher()
+    {
+        return ((this._matchPattern != null && this._linearPattern == null) ? this._matchPattern.matcher("") : null);
+    }
+    
+    /*
+     * Compares a String and a CharSequence ignoring case, in the same way as
+     * String.equalsIgnoreCase(): a surrogate pair is compared as one code
+     * point, so a supplementary char equals its other case.
+     * @param expected The expected value. It can be null.
+     * @param value The value.
+     * @return A <code>boolean</code> value that is true if they are equal.
+     */
+    static boolean equalsNoCase(final String expected, final CharSequence value)
+    {
+        if (expected == null || value.length() != expected.length())
+        {
+            return (false);
+        }
+        if (value instanceof String)
+        {
+            return (expected.equalsIgnoreCase((String) value));
+        }
+        final int length = expected.length();
+        int i = 0;
+        while (i < length)
+        {
+            final int a = Character.codePointAt(expected, i);
+            final int b = Character.codePointAt(value, i);
+            if (a != b)
+            {
+                final int upperA = Character.toUpperCase(a);
+                final int upperB = Character.toUpperCase(b);
+                if (Character.charCount(a) != Character.charCount(b)
+                        || (upperA != upperB && Character.toLowerCase(upperA) != Character.toLowerCase(upperB)))
+                {
+                    return (false);
+                }
+            }
+            i += Character.charCount(a);
+        }
+        return (true);
+    }
+    
+    /*
+     * Validates a column of values one test at a time, from the cheapest test
+     * to the most expensive. As with tryValidate(), a null value only fails
+     * the "not null" test. The regular expression reuses one Matcher for the
+     * whole column.
+     * @param values The column to test.
+     * @param failedRows The bitmap of the rows that failed a test. It is added to.
+     * @param tally The tally to add the failures of each test to.
+     */
+    void validateColumn(final String[] values, final long[] failedRows, final RuleTally tally)
+    {
+        final long rules = this._rules;
+        if (RuleCode.NOT_NULL.isIn(rules))
+        {
+            int count = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                if (values[i] == null)
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            tally.addCount(RuleCode.NOT_NULL, count);
+        }
+        if ((rules & (RuleCode.NOT_EMPTY.mask() | RuleCode.MIN_LENGTH.mask() | RuleCode.MAX_LENGTH.mask())) != 0L)
+        {
+            final boolean isTestNotEmpty = RuleCode.NOT_EMPTY.isIn(rules);
+            final int minLength = RuleCode.MIN_LENGTH.isIn(rules) ? this._minLength : 0;
+            final int maxLength = RuleCode.MAX_LENGTH.isIn(rules) ? this._maxLength : Integer.MAX_VALUE;
+            int emptyCount = 0;
+            int minCount = 0;
+            int maxCount = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                final String value = values[i];
+                if (value == null)
+                {
+                    continue;
+                }
+                final int length = value.length();
+                final boolean isEmpty = isTestNotEmpty && length == 0;
+                final boolean isShort = length < minLength;
+                final boolean isLong = length > maxLength;
+                if (isEmpty || isShort || isLong)
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    emptyCount += isEmpty ? 1 : 0;
+                    minCount += isShort ? 1 : 0;
+                    maxCount += isLong ? 1 : 0;
+                }
+            }
+            tally.addCount(RuleCode.NOT_EMPTY, emptyCount);
+            tally.addCount(RuleCode.MIN_LENGTH, minCount);
+            tally.addCount(RuleCode.MAX_LENGTH, maxCount);
+        }
+        if (RuleCode.EQUALS.isIn(rules))
+        {
+            int count = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                if (values[i] != null && !values[i].equals(this._equalsValue))
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            tally.addCount(RuleCode.EQUALS, count);
+        }
+        if (RuleCode.EQUALS_NO_CASE.isIn(rules))
+        {
+            int count = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                if (values[i] != null && !values[i].equalsIgnoreCase(this._equalsValue))
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            tally.addCount(RuleCode.EQUALS_NO_CASE, count);
+        }
+        if (RuleCode.ONE_OF.isIn(rules))
+        {
+            int count = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                if (values[i] != null && !this._oneOf.contains(values[i]))
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            tally.addCount(RuleCode.ONE_OF, count);
+        }
+        if (RuleCode.HAS_PREFIX_IN.isIn(rules))
+        {
+            int count = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                if (values[i] != null && !this._prefixes.containsPrefixOf(values[i]))
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            tally.addCount(RuleCode.HAS_PREFIX_IN, count);
+        }
+        if (RuleCode.NOT_HAS_PREFIX_IN.isIn(rules))
+        {
+            int count = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                if (values[i] != null && this._forbiddenPrefixes.containsPrefixOf(values[i]))
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            tally.addCount(RuleCode.NOT_HAS_PREFIX_IN, count);
+        }
+        if (RuleCode.ALLOWED_CHARS.isIn(rules))
+        {
+            int count = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                if (values[i] != null && this._allowedChars.indexOfNotIn(values[i]) >= 0)
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            tally.addCount(RuleCode.ALLOWED_CHARS, count);
+        }
+        if (RuleCode.FORBIDDEN_CHARS.isIn(rules))
+        {
+            int count = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                if (values[i] != null && this._forbiddenChars.indexOfIn(values[i]) >= 0)
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    count++;
+                }
+            }
+            tally.addCount(RuleCode.FORBIDDEN_CHARS, count);
+        }
+        if (RuleCode.MATCH.isIn(rules))
+        {
+            final Matcher matcher = newMatcher();
+            int count = 0;
+            int budgetCount = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                final long failedRule = (values[i] != null) ? failedMatch(values[i], matcher) : 0L;
+                if (failedRule != 0L)
+                {
+                    failedRows[i >>> 6] |= 1L << i;
+                    if (failedRule == RuleCode.MATCH.mask())
+                    {
+                        count++;
+                    }
+                    else
+                    {
+                        budgetCount++;
+                    }
+                }
+            }
+            tally.addCount(RuleCode.MATCH, count);
+            tally.addCount(RuleCode.MATCH_BUDGET_EXCEEDED, budgetCount);
+        }
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "StringRule [_rules=%s, _matchPattern=%s, _matchBudget=%s, _oneOf=%s, _prefixes=%s, _forbiddenPrefixes=%s, _allowedChars=%s, _forbiddenChars=%s, _maxLength=%s, _minLength=%s, _equalsValue=%s]",
+                RuleCode.fromMask(_rules), _matchPattern, _matchBudget, _oneOf, _prefixes, _forbiddenPrefixes,
+                _allowedChars, _forbiddenChars, _maxLength, _minLength, _equalsValue);
+    }
+    
+    /**
+     * This is a String rule builder. Call the testXXXX() methods to select the
+     * tests and then call build() to create the immutable rule. A builder is
+     * not thread-safe, the rules it builds are.
+     * 
+     * @author Gregory Brown (sysdevone)
+     *
+     */
+    public static final class Builder
+    {
+        
+        /*
+         * The value to use if an equals test is performed.
+         */
+        private String        _equalsValue;
+        
+        /*
+         * The selected tests, one RuleCode.mask() bit per test.
+         */
+        private long          _rules              = 0L;
+        
+        /*
+         * The compiled regular expression used by the match test.
+         */
+        private Pattern       _matchPattern;
+        
+        /*
+         * The linear time pattern used by the match test.
+         */
+        private LinearPattern _linearPattern;
+        
+        /*
+         * The chars the value may have, used by the allowed chars test.
+         */
+        private CharClass     _allowedChars;
+        
+        /*
+         * The chars the value must not have, used by the forbidden chars test.
+         */
+        private CharClass     _forbiddenChars;
+        
+        /*
+         * The max length to test for. Defaults to 0.
+         */
+        private int           _maxLength          = 0;
+        
+        /*
+         * The min length to test for. Defaults to 0.
+         */
+        private int           _minLength          = 0;
+        
+        /*
+         * The limit on the work of the match test.
+         */
+        private MatchBudget   _matchBudget;
+        
+        /*
+         * The set the value must be in.
+         */
+        private StringSet     _oneOf;
+        
+        /*
+         * The prefixes the value must start with one of.
+         */
+        private PrefixSet     _prefixes;
+        
+        /*
+         * The prefixes the value must not start with.
+         */
+        private PrefixSet     _forbiddenPrefixes;
+        
+        /**
+         * Protected constructor. Use Validate.stringRule() to create a builder.
+         */
+        protected Builder()
+        {
+            // void - ignore this.
+        }
+        
+        /**
+         * Builds an immutable rule from the selected tests.
+         *
+         * @return A <code>StringRule</code> instance.
+         */
+        public StringRule build()
+        {
+            return (new StringRule(this));
+        }
+        
+        /**
+         * A method to mark that an "allowed chars" test will be performed.
+         * Tests if every char of the String is in the class.
+         * 
+         * @param allowedChars
+         *            The chars the value may have.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testAllowedChars(final CharClass allowedChars)
+        {
+            if (allowedChars == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'allowedChars' must not be null."));
+            }
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.ALLOWED_CHARS.mask();
+            this._allowedChars = allowedChars;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "forbidden chars" test will be performed.
+         * Tests if no char of the String is in the class.
+         * 
+         * @param forbiddenChars
+         *            The chars the value must not have.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testForbiddenChars(final CharClass forbiddenChars)
+        {
+            if (forbiddenChars == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'forbiddenChars' must not be null."));
+            }
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.FORBIDDEN_CHARS.mask();
+            this._forbiddenChars = forbiddenChars;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that an "equals" test will be performed.
+         * 
+         * @param equalsValue
+         *            The value to perform the equate with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testEquals(final String equalsValue)
+        {
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.EQUALS.mask();
+            this._rules &= ~RuleCode.EQUALS_NO_CASE.mask();
+            this._equalsValue = equalsValue;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that an "equals no case" test will be performed.
+         * 
+         * @param equalsValue
+         *            The value to perform the equate with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testEqualsNoCase(final String equalsValue)
+        {
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.EQUALS_NO_CASE.mask();
+            this._rules &= ~RuleCode.EQUALS.mask();
+            this._equalsValue = equalsValue;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "match" test using regex will be performed.
+         * The regular expression is compiled once by this method.
+         * 
+         * @param regex
+         *            A regular expression that be used to see if the String
+         *            value is a match.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMatch(final String regex)
+        {
+            if (regex == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'regex' must not be null."));
+            }
+            return (testMatch(Pattern.compile(regex)));
+        }
+        
+        /**
+         * A method to mark that a "match" test using a compiled regex will be
+         * performed.
+         * 
+         * @param pattern
+         *            A compiled regular expression that be used to see if the
+         *            String value is a match.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMatch(final Pattern pattern)
+        {
+            if (pattern == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'pattern' must not be null."));
+            }
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MATCH.mask();
+            this._matchPattern = pattern;
+            this._linearPattern = null;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "match" test using a linear time pattern
+         * will be performed. The match takes time linear to the length of the
+         * value, unless the pattern has fallen back to java.util.regex.
+         * 
+         * @param pattern
+         *            A linear time pattern that be used to see if the String
+         *            value is a match.
+         * @return The same Builder instance. This allows for method chaining.
+         * @see LinearPattern#isLinear()
+         */
+        public Builder testMatch(final LinearPattern pattern)
+        {
+            if (pattern == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'pattern' must not be null."));
+            }
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MATCH.mask();
+            this._matchPattern = pattern.getPattern();
+            this._linearPattern = pattern;
+            return (this);
+        }
+        
+        /**
+         * A method to limit the work of the "match" test. If the value is
+         * longer than the max length of the budget, or the regex reads more
+         * chars or runs longer than the budget allows, the match stops and
+         * the test fails with the MATCH_BUDGET_EXCEEDED rule code.
+         * 
+         * @param budget
+         *            The limit on the work of a match.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMatchBudget(final MatchBudget budget)
+        {
+            if (budget == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'budget' must not be null."));
+            }
+            this._rules |= RuleCode.MATCH_BUDGET_EXCEEDED.mask();
+            this._matchBudget = budget;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "has prefix in" test will be performed.
+         * Tests if the value starts with one of the prefixes. The prefixes
+         * are compiled into a PrefixSet when this method is called.
+         * 
+         * @param prefixes
+         *            The prefixes the value may start with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testHasPrefixIn(final Collection<String> prefixes)
+        {
+            return (testHasPrefixIn(PrefixSet.of(prefixes)));
+        }
+        
+        /**
+         * A method to mark that a "has prefix in" test will be performed.
+         * Tests if the value starts with one of the prefixes of the set.
+         * 
+         * @param prefixes
+         *            The prefixes the value may start with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testHasPrefixIn(final PrefixSet prefixes)
+        {
+            if (prefixes == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'prefixes' must not be null."));
+            }
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.HAS_PREFIX_IN.mask();
+            this._prefixes = prefixes;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "not has prefix in" test will be performed.
+         * Tests if the value starts with none of the prefixes. The prefixes
+         * are compiled into a PrefixSet when this method is called.
+         * 
+         * @param prefixes
+         *            The prefixes the value must not start with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testNotHasPrefixIn(final Collection<String> prefixes)
+        {
+            return (testNotHasPrefixIn(PrefixSet.of(prefixes)));
+        }
+        
+        /**
+         * A method to mark that a "not has prefix in" test will be performed.
+         * Tests if the value starts with none of the prefixes of the set.
+         * 
+         * @param prefixes
+         *            The prefixes the value must not start with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testNotHasPrefixIn(final PrefixSet prefixes)
+        {
+            if (prefixes == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'prefixes' must not be null."));
+            }
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.NOT_HAS_PREFIX_IN.mask();
+            this._forbiddenPrefixes = prefixes;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "max length" test will be performed. Tests
+         * if the length is less than or equal to the max value.
+         * 
+         * @param maxLength
+         *            The value to perform the test with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMaxLength(final int maxLength)
+        {
+            if (maxLength < 0)
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'maxLength' must be greater than zero (0)."));
+            }
+            else if (maxLength < this._minLength)
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'maxLength' must be greater than the min length value."));
+            }
+            else
+            {
+                this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MAX_LENGTH.mask();
+                this._maxLength = maxLength;
+            }
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "min length" test will be performed. Tests
+         * if the length is greater than or equal to the min value.
+         * 
+         * @param minLength
+         *            The value to perform the test with.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testMinLength(final int minLength)
+        {
+            if (minLength < 0)
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'minLength' must be greater than zero (0)."));
+            }
+            else if ((minLength > this._maxLength) && (this._maxLength != 0))
+            {
+                throw (new IllegalArgumentException(
+                        "The parameter 'minLength' must be less than the max length value."));
+            }
+            else
+            {
+                this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MIN_LENGTH.mask();
+                this._minLength = minLength;
+            }
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "one of" test will be performed. Tests if
+         * the value equals one of the values. The values are compiled into a
+         * StringSet when this method is called.
+         * 
+         * @param values
+         *            The values the value may equal.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testOneOf(final Collection<String> values)
+        {
+            return (testOneOf(StringSet.of(values)));
+        }
+        
+        /**
+         * A method to mark that a "one of" test will be performed. Tests if
+         * the value equals one of the values, ignoring case.
+         * 
+         * @param values
+         *            The values the value may equal, ignoring case.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testOneOfIgnoreCase(final Collection<String> values)
+        {
+            return (testOneOf(StringSet.ofIgnoreCase(values)));
+        }
+        
+        /**
+         * A method to mark that a "one of" test will be performed. Tests if
+         * the value is in the set.
+         * 
+         * @param values
+         *            The set the value must be in.
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testOneOf(final StringSet values)
+        {
+            if (values == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'values' must not be null."));
+            }
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.ONE_OF.mask();
+            this._oneOf = values;
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "not null" test will be performed.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testNotNull()
+        {
+            this._rules |= RuleCode.NOT_NULL.mask();
+            return (this);
+        }
+        
+        /**
+         * A method to mark that a "not null or empty" test will be performed.
+         * 
+         * @return The same Builder instance. This allows for method chaining.
+         */
+        public Builder testNotNullEmpty()
+        {
+            this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.NOT_EMPTY.mask();
+            return (this);
+        }
+    }
+}
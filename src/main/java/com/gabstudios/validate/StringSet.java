@@ -0,0 +1,421 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * This is an immutable set of Strings, used by the "one of" test to check a
+ * value against an allowlist of thousands of codes, such as country,
+ * currency or product codes, without a regex alternation or a loop of
+ * equals tests.
+ * 
+ *      final StringSet currencies = StringSet.of(Arrays.asList("EUR", "GBP", "USD"));
+ *      Validate.defineString(value).testOneOf(currencies).validate();
+ *
+ * The set is compiled when it is created into an open addressing hash table
+ * over one array of chars. The entries are bucketed by length, so a value
+ * whose length no entry has is rejected before it is hashed. A lookup hashes
+ * the value in place, so it allocates nothing and works on any
+ * CharSequence.
+ * 
+ * A set created with ofIgnoreCase() compares chars the same way as
+ * String.equalsIgnoreCase(), with a surrogate pair folded as one code point.
+ * Its entries are stored case folded and the value is folded one char at a
+ * time, so no lower case copy is created.
+ * 
+ * A StringSet is immutable and can be shared by many threads.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class StringSet
+{
+    
+    /*
+     * The most entries listed by toString().
+     */
+    private static final int MAX_LISTED_ENTRIES = 16;
+    
+    /*
+     * The chars of every entry, one after the other.
+     */
+    private final char[]     _chars;
+    
+    /*
+     * If the entries and the values are case folded.
+     */
+    private final boolean    _isIgnoreCase;
+    
+    /*
+     * A bit per entry length below 64. Bit 63 stands for every length of 63
+     * or more.
+     */
+    private final long       _lengths;
+    
+    /*
+     * The mask of a slot index. The table has a power of two slots.
+     */
+    private final int        _mask;
+    
+    /*
+     * The max length of an entry.
+     */
+    private final int        _maxLength;
+    
+    /*
+     * The min length of an entry.
+     */
+    private final int        _minLength;
+    
+    /*
+     * The offset of each entry in the chars, and the end of the last entry.
+     */
+    private final int[]      _offsets;
+    
+    /*
+     * The table: the hash of the entry in the high 32 bits and the entry
+     * index plus one in the low 32 bits, or zero if the slot is empty.
+     */
+    private final long[]     _slots;
+    
+    /*
+     * Compiles a set.
+     * @param values The entries.
+     * @param isIgnoreCase If the set ignores case.
+     */
+    private StringSet(final Collection<String> values, final boolean isIgnoreCase)
+    {
+        if (values == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'values' must not be null."));
+        }
+        this._isIgnoreCase = isIgnoreCase;
+        
+        int capacity = 2;
+        while (capacity < values.size() * 2)
+        {
+            capacity <<= 1;
+        }
+        int totalLength = 0;
+        for (final String value : values)
+        {
+            if (value == null)
+            {
+                throw (new IllegalArgumentException("The parameter 'values' must not contain null."));
+            }
+            totalLength += value.length();
+        }
+        
+        final char[] chars = new char[totalLength];
+        final int[] offsets = new int[values.size() + 1];
+        final long[] slots = new long[capacity];
+        final int mask = capacity - 1;
+        int count = 0;
+        int length = 0;
+        long lengths = 0L;
+        int minLength = Integer.MAX_VALUE;
+        int maxLength = 0;
+        for (final String value : values)
+        {
+            // the entry is added to the chars, then dropped if it is a duplicate.
+            for (int i = 0; i < value.length(); i++)
+            {
+                chars[length + i] = isIgnoreCase ? foldAt(value, i) : value.charAt(i);
+            }
+            offsets[count] = length;
+            offsets[count + 1] = length + value.length();
+            
+            final int hash = hash(chars, length, value.length());
+            int slot = hash & mask;
+            boolean isDuplicate = false;
+            while (slots[slot] != 0L)
+            {
+                final long entry = slots[slot];
+                if ((int) (entry >>> 32) == hash && isEqual((int) entry - 1, chars, offsets, length, value.length()))
+                {
+                    isDuplicate = true;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (!isDuplicate)
+            {
+                slots[slot] = ((long) hash << 32) | (count + 1);
+                count++;
+                length += value.length();
+                lengths |= 1L << Math.min(value.length(), 63);
+                minLength = Math.min(minLength, value.length());
+                maxLength = Math.max(maxLength, value.length());
+            }
+        }
+        
+        this._chars = (length == chars.length) ? chars : Arrays.copyOf(chars, length);
+        this._offsets = Arrays.copyOf(offsets, count + 1);
+        this._slots = slots;
+        this._mask = mask;
+        this._lengths = lengths;
+        this._minLength = (count > 0) ? minLength : 0;
+        this._maxLength = (count > 0) ? maxLength : -1;
+    }
+    
+    /**
+     * Creates a set of Strings that are compared exactly.
+     * 
+     * @param values
+     *            The entries. A duplicate is ignored.
+     * @return A new StringSet instance.
+     */
+    public static StringSet of(final Collection<String> values)
+    {
+        return (new StringSet(values, false));
+    }
+    
+    /**
+     * Creates a set of Strings that are compared ignoring case, in the same
+     * way as String.equalsIgnoreCase().
+     * 
+     * @param values
+     *            The entries. A duplicate is ignored.
+     * @return A new StringSet instance.
+     */
+    public static StringSet ofIgnoreCase(final Collection<String> values)
+    {
+        return (new StringSet(values, true));
+    }
+    
+    /**
+     * Tests if a value is in the set. Nothing is allocated.
+     * 
+     * @param value
+     *            The value to find. A null value is not in the set.
+     * @return A <code>boolean</code> value that is true if the value is in
+     *         the set.
+     */
+    public boolean contains(final CharSequence value)
+    {
+        if (value == null)
+        {
+            return (false);
+        }
+        final int length = value.length();
+        if (length < this._minLength || length > this._maxLength
+                || (this._lengths & (1L << Math.min(length, 63))) == 0L)
+        {
+            return (false);
+        }
+        
+        final int hash = hash(value);
+        final long[] slots = this._slots;
+        int slot = hash & this._mask;
+        long entry;
+        while ((entry = slots[slot]) != 0L)
+        {
+            if ((int) (entry >>> 32) == hash && isEqual((int) entry - 1, value))
+            {
+                return (true);
+            }
+            slot = (slot + 1) & this._mask;
+        }
+        return (false);
+    }
+    
+    /**
+     * Tests if the set ignores case.
+     * 
+     * @return A <code>boolean</code> value that is true if the set was
+     *         created with ofIgnoreCase().
+     */
+    public boolean isIgnoreCase()
+    {
+        return (this._isIgnoreCase);
+    }
+    
+    /**
+     * Gets the number of entries, not counting duplicates.
+     * 
+     * @return The number of entries.
+     */
+    public int size()
+    {
+        return (this._offsets.length - 1);
+    }
+    
+    /*
+     * Folds the case of the char at an index, so two values are equal ignoring
+     * case if their chars fold to the same chars, the same as
+     * String.equalsIgnoreCase(). A char of a surrogate pair is folded with the
+     * other char of its pair, as one code point.
+     */
+    private static char foldAt(final CharSequence value, final int index)
+    {
+        final char c = value.charAt(index);
+        if (c < 128)
+        {
+            return ((c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c);
+        }
+        if (!Character.isSurrogate(c))
+        {
+            return (Character.toLowerCase(Character.toUpperCase(c)));
+        }
+        
+        final boolean isHigh = Character.isHighSurrogate(c);
+        final int start = isHigh ? index : index - 1;
+        if (start < 0 || start + 1 >= value.length() || !Character.isHighSurrogate(value.charAt(start))
+                || !Character.isLowSurrogate(value.charAt(start + 1)))
+        {
+            // an unpaired surrogate has no case.
+            return (c);
+        }
+        final int codePoint = Character.toCodePoint(value.charAt(start), value.charAt(start + 1));
+        final int folded = Character.toLowerCase(Character.toUpperCase(codePoint));
+        if (!Character.isSupplementaryCodePoint(folded))
+        {
+            // the fold must keep the length of the value.
+            return (c);
+        }
+        return (isHigh ? Character.highSurrogate(folded) : Character.lowSurrogate(folded));
+    }
+    
+    /*
+     * Hashes chars and mixes the bits, so the low bits pick a slot.
+     */
+    private static int hash(final char[] chars, final int offset, final int length)
+    {
+        int hash = 0;
+        for (int i = 0; i < length; i++)
+        {
+            hash = hash * 31 + chars[offset + i];
+        }
+        return (mix(hash));
+    }
+    
+    /*
+     * Hashes a value in the same way as its chars would be hashed as an
+     * entry. Before it is mixed, the hash of chars is the same as
+     * String.hashCode(), so the hash a String has cached is used.
+     */
+    private int hash(final CharSequence value)
+    {
+        final int length = value.length();
+        int hash = 0;
+        if (!this._isIgnoreCase && value instanceof String)
+        {
+            hash = value.hashCode();
+        }
+        else if (this._isIgnoreCase)
+        {
+            for (int i = 0; i < length; i++)
+            {
+                hash = hash * 31 + foldAt(value, i);
+            }
+        }
+        else
+        {
+            for (int i = 0; i < length; i++)
+            {
+                hash = hash * 31 + value.charAt(i);
+            }
+        }
+        return (mix(hash));
+    }
+    
+    /*
+     * Mixes the bits of a hash, from MurmurHash3.
+     */
+    private static int mix(final int hash)
+    {
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return (h);
+    }
+    
+    /*
+     * Tests if an entry equals chars of the same array, while the set is
+     * being compiled.
+     */
+    private static boolean isEqual(final int index, final char[] chars, final int[] offsets, final int offset,
+            final int length)
+    {
+        final int start = offsets[index];
+        if (offsets[index + 1] - start != length)
+        {
+            return (false);
+        }
+        for (int i = 0; i < length; i++)
+        {
+            if (chars[start + i] != chars[offset + i])
+            {
+                return (false);
+            }
+        }
+        return (true);
+    }
+    
+    /*
+     * Tests if an entry equals a value.
+     */
+    private boolean isEqual(final int index, final CharSequence value)
+    {
+        final int start = this._offsets[index];
+        final int length = value.length();
+        if (this._offsets[index + 1] - start != length)
+        {
+            return (false);
+        }
+        final char[] chars = this._chars;
+        for (int i = 0; i < length; i++)
+        {
+            if (chars[start + i] != (this._isIgnoreCase ? foldAt(value, i) : value.charAt(i)))
+            {
+                return (false);
+            }
+        }
+        return (true);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder("[");
+        final int size = size();
+        for (int i = 0; i < size && i < MAX_LISTED_ENTRIES; i++)
+        {
+            if (i > 0)
+            {
+                builder.append(", ");
+            }
+            builder.append(this._chars, this._offsets[i], this._offsets[i + 1] - this._offsets[i]);
+        }
+        if (size > MAX_LISTED_ENTRIES)
+        {
+            builder.append(", ...");
+        }
+        return (builder.append(']').toString());
+    }
+}
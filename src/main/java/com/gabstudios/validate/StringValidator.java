@@ -19,6 +19,7 @@
 
 package com.gabstudios.validate;
 
+import java.util.Collection;
 import java.util.regex.Pattern;
 
 /**
@@ -38,55 +39,9 @@ import java.util.regex.Pattern;
  * @author Gregory Brown (sysdevone)
  *
  */
-public final class StringValidator extends ObjectValidator<String>
+public final class StringValidator extends TextValidator<String>
 {
     
-    /*
-     * The value to use if the testMatch(String) method has been called.
-     */
-    private String       _matchValue;
-    
-    
-    /*
-     * A flag indicating if an "equals no case" test will be performed when the
-     * validate() method is called.
-     */
-    private boolean      _isTestEqualsNoCase = false;
-    
-    /*
-     * A flag indicating that a max length test will be performed when the
-     * validate() method is called.
-     */
-    private boolean      _isTestMaxLength    = false;
-    
-    /*
-     * A flag indicating that a min length test will be performed when the
-     * validate() method is called.
-     */
-    private boolean      _isTestMinLength    = false;
-    
-    /*
-     * A flag indicating if an "not empty" test will be performed when the
-     * validate() method is called.
-     */
-    private boolean      _isTestNotEmpty     = false;
-    
-    /*
-     * A flag indicating if a "match" will be performed using regrex expressions
-     * when the validate() method is called.
-     */
-    private boolean      _isTestMatch        = false;
-    
-    /*
-     * The max length to test for. Defaults to 0.
-     */
-    private int          _maxLength          = 0;
-    
-    /*
-     * The min length to test for. Defaults to 0.
-     */
-    private int          _minLength          = 0;
-    
     /**
      * Protected constructor. Use Validate static method to create validator.
      *
@@ -99,7 +54,6 @@ public final class StringValidator extends ObjectValidator<String>
         super( value );
     }
     
-    
     /**
      * A method to mark that an "equals" test will be performed when the
      * validate() method is called.
@@ -113,9 +67,9 @@ public final class StringValidator extends ObjectValidator<String>
     public StringValidator testEquals(final String equalsValue)
     {
         // have to test for null if empty is selected.
-        this._isTestEqualsNoCase = false;
-    		super.testEquals(equalsValue);
-    		return( this );
+        this._rules &= ~RuleCode.EQUALS_NO_CASE.mask();
+        super.testEquals(equalsValue);
+        return (this);
     }
     
     /**
@@ -130,242 +84,218 @@ public final class StringValidator extends ObjectValidator<String>
     public StringValidator testEqualsNoCase(final String equalsValue)
     {
         // have to test for null if empty is selected.
-        this._isTestNotNull = true;
-        this._isTestEqualsNoCase = true;
-        this._isTestEquals = false;
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.EQUALS_NO_CASE.mask();
+        this._rules &= ~RuleCode.EQUALS.mask();
         this._equalsValue = equalsValue;
-    	return( this );
+        return (this);
     }
     
-    /**
-     * A method to mark that an "match" test using regex will be performed when
-     * the validate() method is called.
+    /*
+     * (non-Javadoc)
      * 
-     * @param value
-     *            A regular expression that be used to see if the String value
-     *            is a match.
+     * @see com.gabstudios.validate.ObjectValidator#testNotNull()
+     */
+    @Override
+    public StringValidator testNotNull()
+    {
+        super.testNotNull();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
      * 
-     * @return The same StringValidator instance. This allows for method
-     *         chaining.
+     * @see com.gabstudios.validate.TextValidator#testAllowedChars(com.gabstudios.validate.CharClass)
      */
-    public StringValidator testMatch(String value)
+    @Override
+    public StringValidator testAllowedChars(final CharClass allowedChars)
     {
-        // have to test for null if match is selected.
-        this._isTestNotNull = true;
-        this._isTestMatch = true;
-        this._matchValue = value;
+        super.testAllowedChars(allowedChars);
         return (this);
     }
     
-    /**
-     * A method to mark that an "max length" test will be performed when the
-     * validate() method is called. Tests if the length is less than or equal to
-     * the max value when the validate method is called.
+    /*
+     * (non-Javadoc)
      * 
-     * @param maxLength
-     *            The value to perform the test with.
-     * @return The same StringValidator instance. This allows for method
-     *         chaining.
+     * @see com.gabstudios.validate.TextValidator#testForbiddenChars(com.gabstudios.validate.CharClass)
      */
-    public StringValidator testMaxLength(final int maxLength)
+    @Override
+    public StringValidator testForbiddenChars(final CharClass forbiddenChars)
     {
-        if (maxLength < 0)
-        {
-            throw (new IllegalArgumentException(
-                    "The parameter 'maxLength' must be greater than zero (0)."));
-        }
-        else if (maxLength < this._minLength) 
-        {
-            throw (new IllegalArgumentException(
-                    "The parameter 'maxLength' must be greater than the min length value."));
-        }
-        else
-        {
-            // have to test for null if empty is selected.
-            this._isTestNotNull = true;
-            this._isTestMaxLength = true;
-            this._maxLength = maxLength;
-        }
+        super.testForbiddenChars(forbiddenChars);
         return (this);
     }
     
-    /**
-     * A method to mark that an "min length" test will be performed when the
-     * validate() method is called. Tests if the value is greater than or equal
-     * to the min value when the validate method is called.
+    /*
+     * (non-Javadoc)
      * 
-     * @param minLength
-     *            The value to perform the test with.
-     * @return The same StringValidator instance. This allows for method
-     *         chaining.
+     * @see com.gabstudios.validate.TextValidator#testMatch(java.lang.String)
      */
-    public StringValidator testMinLength(final int minLength)
+    @Override
+    public StringValidator testMatch(final String value)
     {
-        if (minLength < 0)
-        {
-            throw( new IllegalArgumentException("The parameter 'minLength' must be greater than zero (0)."));
-        }
-        else if ((minLength > this._maxLength) && (this._maxLength != 0))
-        {
-            throw( new IllegalArgumentException("The parameter 'minLength' must be less than the max length value."));
-        }
-        else
-        {
-            // have to test for null if empty is selected.
-            this._isTestNotNull = true;
-            this._isTestMinLength = true;
-            this._minLength = minLength;
-        }
+        super.testMatch(value);
         return (this);
     }
     
-    /**
-     * A method to mark that an "not null or empty" test will be performed when
-     * the validate() method is called.
+    /*
+     * (non-Javadoc)
      * 
-     * @return The same StringValidator instance. This allows for method
-     *         chaining.
+     * @see com.gabstudios.validate.TextValidator#testMatch(java.util.regex.Pattern)
      */
-    public StringValidator testNotNullEmpty()
+    @Override
+    public StringValidator testMatch(final Pattern pattern)
     {
-        // have to test for null if empty is selected.
-        this._isTestNotNull = true;
-        this._isTestNotEmpty = true;
+        super.testMatch(pattern);
         return (this);
     }
     
-	protected boolean notNullValue()
-	{
-		return( this._value != null && this._value.length() > 0 );
-	}
-
-   /*
-    * (non-Javadoc)
-    * 
-    * @see com.gabstudios.gabvalidate.Validator#validate()
-    */
-   @Override
-   public boolean validate() 
-   {
-       // call ObjectValidator validate method.
-        boolean isValid = super.validate();
-        isValid &= validateNotEmpty();
-        isValid &= validateEqualsNoCase();
-        isValid &= validateMinLength();
-        isValid &= validateMaxLength();
-        isValid &= validateMatch();
-
-        return ( isValid );
-
-   }
-
-   protected boolean validateNotEmpty()
-   {
-       boolean isValid = true;
-       if (this._isTestNotEmpty)
-       {
-           
-           isValid = (this._value != null && this._value.length() > 0);
-           if (this._isValidationExceptionThrownOnFail && !isValid)
-           {
-               ObjectValidator
-                       .throwValidateException("The value must not be empty.");
-           }
-       }
-       return(isValid);
-   }
-
-   protected boolean validateEqualsNoCase()
-   {
-        boolean isValid = true;
-        if (this._isTestEqualsNoCase)
-        {
-            isValid &= this._value != null && this._value.equalsIgnoreCase(this._equalsValue);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-                ObjectValidator
-                        .throwValidateException("The value does not equal the expected value (string value = '"
-                                + this._value
-                                + "' expected value = '"
-                                + this._equalsValue + "').");
-            }
-        }
-        return(isValid);
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMatch(com.gabstudios.validate.LinearPattern)
+     */
+    @Override
+    public StringValidator testMatch(final LinearPattern pattern)
+    {
+        super.testMatch(pattern);
+        return (this);
     }
-
-    protected boolean validateMinLength()
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMatchBudget(com.gabstudios.validate.MatchBudget)
+     */
+    @Override
+    public StringValidator testMatchBudget(final MatchBudget budget)
     {
-        boolean isValid = true;
-        if (this._isTestMinLength)
-        {
-            isValid &= (this._value != null && this._value.length() >= this._minLength);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must be greater than or equal to the min value (value = '"
-                                + this._value
-                                + "' length = '"
-                                + ((this._value != null) ? this._value.length() : "null" )
-                                + "' min value = '"
-                                + this._minLength + "').");
-            }
-            
-        }
-        return(isValid);
+        super.testMatchBudget(budget);
+        return (this);
     }
-
-    protected boolean validateMaxLength()
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testHasPrefixIn(java.util.Collection)
+     */
+    @Override
+    public StringValidator testHasPrefixIn(final Collection<String> prefixes)
     {
-        boolean isValid = true;
-        if (this._isTestMaxLength)
-        {
-            isValid &= (this._value != null && this._value.length() <= this._maxLength);
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value must be less than or equal to the max value (value = '"
-                                + this._value
-                                + "' length = '"
-                                + ((this._value != null) ? this._value.length() : "null" )
-                                + "' max value = '"
-                                + this._maxLength + "').");
-            }
-        }
-        return(isValid);
+        super.testHasPrefixIn(prefixes);
+        return (this);
     }
-
-    protected boolean validateMatch()
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testHasPrefixIn(com.gabstudios.validate.PrefixSet)
+     */
+    @Override
+    public StringValidator testHasPrefixIn(final PrefixSet prefixes)
     {
-        boolean isValid = true;
-        if (this._isTestMatch)
-        {
-            isValid &= this._value != null && (Pattern.matches(this._matchValue, this._value));
-            if (this._isValidationExceptionThrownOnFail && !isValid)
-            {
-            	ObjectValidator
-                        .throwValidateException("The value does not match the reqular expression (value = '"
-                                + this._value
-                                + "' regex = '"
-                                + this._matchValue + "').");
-            }
-        }
-        return(isValid);
+        super.testHasPrefixIn(prefixes);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testNotHasPrefixIn(java.util.Collection)
+     */
+    @Override
+    public StringValidator testNotHasPrefixIn(final Collection<String> prefixes)
+    {
+        super.testNotHasPrefixIn(prefixes);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testNotHasPrefixIn(com.gabstudios.validate.PrefixSet)
+     */
+    @Override
+    public StringValidator testNotHasPrefixIn(final PrefixSet prefixes)
+    {
+        super.testNotHasPrefixIn(prefixes);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMaxLength(int)
+     */
+    @Override
+    public StringValidator testMaxLength(final int maxLength)
+    {
+        super.testMaxLength(maxLength);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testMinLength(int)
+     */
+    @Override
+    public StringValidator testMinLength(final int minLength)
+    {
+        super.testMinLength(minLength);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testOneOf(java.util.Collection)
+     */
+    @Override
+    public StringValidator testOneOf(final Collection<String> values)
+    {
+        super.testOneOf(values);
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testOneOfIgnoreCase(java.util.Collection)
+     */
+    @Override
+    public StringValidator testOneOfIgnoreCase(final Collection<String> values)
+    {
+        super.testOneOfIgnoreCase(values);
+        return (this);
     }
-
-
-	/* (non-Javadoc)
-	 * @see java.lang.Object#toString()
-	 */
-	@Override
-	public String toString() {
-		return String.format(
-				"StringValidator [_matchValue=%s, _isTestEqualsNoCase=%s, _isTestMaxLength=%s, _isTestMinLength=%s, _isTestNotEmpty=%s, _isTestMatch=%s, _maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _isTestEquals=%s, _isTestNotNull=%s, _value=%s]",
-				_matchValue, _isTestEqualsNoCase, _isTestMaxLength, _isTestMinLength, _isTestNotEmpty, _isTestMatch,
-				_maxLength, _minLength, _isValidationExceptionThrownOnFail, _equalsValue, _isTestEquals, _isTestNotNull,
-				_value);
-	}
-
-
     
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testOneOf(com.gabstudios.validate.StringSet)
+     */
+    @Override
+    public StringValidator testOneOf(final StringSet values)
+    {
+        super.testOneOf(values);
+        return (this);
+    }
     
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.TextValidator#testNotNullEmpty()
+     */
+    @Override
+    public StringValidator testNotNullEmpty()
+    {
+        super.testNotNullEmpty();
+        return (this);
+    }
+    
+    protected boolean notNullValue()
+    {
+        return (this._value != null && this._value.length() > 0);
+    }
 }
@@ -0,0 +1,665 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Collection;
+import java.util.regex.Pattern;
+
+/**
+ * This is the abstract validator of the StringValidator and the
+ * CharSequenceValidator. It keeps the tests of a text value and runs them on
+ * the chars of the value, so a String and a StringBuilder are validated by
+ * the same code. The subclasses only add their equals tests and return their
+ * own type from the testXXXX() methods.
+ *
+ * A failure is described with a String copy of the value, so a buffer can be
+ * reused once validate() returns. A String is not copied.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ * @param <C>
+ *            The class of the value, a String or a CharSequence.
+ *
+ */
+abstract class TextValidator<C extends CharSequence> extends ObjectValidator<C>
+{
+    
+    /*
+     * The chars the value may have if the testAllowedChars() method has been
+     * called.
+     */
+    private CharClass     _allowedChars;
+    
+    /*
+     * The chars the value must not have if the testForbiddenChars() method
+     * has been called.
+     */
+    private CharClass     _forbiddenChars;
+    
+    /*
+     * The compiled regular expression to use if the testMatch() method has
+     * been called.
+     */
+    private Pattern       _matchPattern;
+    
+    /*
+     * The linear time pattern to use if the testMatch(LinearPattern) method
+     * has been called. The _matchPattern is then its java.util.regex pattern.
+     */
+    private LinearPattern _linearPattern;
+    
+    /*
+     * The limit on the work of the match test if the testMatchBudget()
+     * method has been called.
+     */
+    private MatchBudget   _matchBudget;
+    
+    /*
+     * The max length to test for. Defaults to 0.
+     */
+    private int           _maxLength = 0;
+    
+    /*
+     * The min length to test for. Defaults to 0.
+     */
+    private int           _minLength = 0;
+    
+    /*
+     * The set the value must be in if the testOneOf() method has been
+     * called.
+     */
+    private StringSet     _oneOf;
+    
+    /*
+     * The prefixes the value must start with one of if the
+     * testHasPrefixIn() method has been called.
+     */
+    private PrefixSet     _prefixes;
+    
+    /*
+     * The prefixes the value must not start with if the
+     * testNotHasPrefixIn() method has been called.
+     */
+    private PrefixSet     _forbiddenPrefixes;
+    
+    /**
+     * Protected constructor. Use Validate static method to create validator.
+     * 
+     * @param value
+     *            The value that will be validated. It is not copied. This
+     *            value can be null or empty.
+     */
+    protected TextValidator(final C value)
+    {
+        super( value );
+    }
+    
+    /**
+     * A method to mark that an "allowed chars" test will be performed when the
+     * validate() method is called. Tests if every char of the value is in the
+     * class. The class is a table lookup, so it is much cheaper than a
+     * regular expression such as "[A-Za-z0-9_-]*".
+     * 
+     * @param allowedChars
+     *            The chars the value may have.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testAllowedChars(final CharClass allowedChars)
+    {
+        if (allowedChars == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'allowedChars' must not be null."));
+        }
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.ALLOWED_CHARS.mask();
+        this._allowedChars = allowedChars;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that a "forbidden chars" test will be performed when
+     * the validate() method is called. Tests if no char of the value is in
+     * the class.
+     * 
+     * @param forbiddenChars
+     *            The chars the value must not have.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testForbiddenChars(final CharClass forbiddenChars)
+    {
+        if (forbiddenChars == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'forbiddenChars' must not be null."));
+        }
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.FORBIDDEN_CHARS.mask();
+        this._forbiddenChars = forbiddenChars;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "match" test using regex will be performed when
+     * the validate() method is called. The compiled regex is taken from the
+     * default PatternCache, so it is only compiled the first time it is used.
+     * 
+     * @param value
+     *            A regular expression that be used to see if the value is a
+     *            match.
+     * 
+     * @return The same validator instance. This allows for method chaining.
+     * @see PatternCache#getDefault()
+     */
+    public TextValidator<C> testMatch(final String value)
+    {
+        return (testMatch(PatternCache.getDefault().getPattern(value)));
+    }
+    
+    /**
+     * A method to mark that an "match" test using a compiled regex will be
+     * performed when the validate() method is called.
+     * 
+     * @param pattern
+     *            A compiled regular expression that be used to see if the
+     *            value is a match.
+     * 
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testMatch(final Pattern pattern)
+    {
+        if (pattern == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'pattern' must not be null."));
+        }
+        
+        // have to test for null if match is selected.
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MATCH.mask();
+        this._matchPattern = pattern;
+        this._linearPattern = null;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "match" test using a linear time pattern will
+     * be performed when the validate() method is called. The match takes
+     * time linear to the length of the value, unless the pattern has fallen
+     * back to java.util.regex.
+     * 
+     * @param pattern
+     *            A linear time pattern that be used to see if the value is a
+     *            match.
+     * 
+     * @return The same validator instance. This allows for method chaining.
+     * @see LinearPattern#isLinear()
+     */
+    public TextValidator<C> testMatch(final LinearPattern pattern)
+    {
+        if (pattern == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'pattern' must not be null."));
+        }
+        
+        // have to test for null if match is selected.
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MATCH.mask();
+        this._matchPattern = pattern.getPattern();
+        this._linearPattern = pattern;
+        return (this);
+    }
+    
+    /**
+     * A method to limit the work of the "match" test. If the value is longer
+     * than the max length of the budget, or the regex reads more chars or
+     * runs longer than the budget allows, the match stops and the validate
+     * fails with the MATCH_BUDGET_EXCEEDED rule code.
+     * 
+     * @param budget
+     *            The limit on the work of a match.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testMatchBudget(final MatchBudget budget)
+    {
+        if (budget == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'budget' must not be null."));
+        }
+        this._rules |= RuleCode.MATCH_BUDGET_EXCEEDED.mask();
+        this._matchBudget = budget;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that a "has prefix in" test will be performed when the
+     * validate() method is called. Tests if the value starts with one of the
+     * prefixes. The prefixes are compiled into a PrefixSet, so use
+     * testHasPrefixIn(PrefixSet) to share the set between validators.
+     * 
+     * @param prefixes
+     *            The prefixes the value may start with.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testHasPrefixIn(final Collection<String> prefixes)
+    {
+        return (testHasPrefixIn(PrefixSet.of(prefixes)));
+    }
+    
+    /**
+     * A method to mark that a "has prefix in" test will be performed when the
+     * validate() method is called. Tests if the value starts with one of the
+     * prefixes of the set, in time linear to the length of the value.
+     * 
+     * @param prefixes
+     *            The prefixes the value may start with.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testHasPrefixIn(final PrefixSet prefixes)
+    {
+        if (prefixes == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'prefixes' must not be null."));
+        }
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.HAS_PREFIX_IN.mask();
+        this._prefixes = prefixes;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that a "not has prefix in" test will be performed when
+     * the validate() method is called. Tests if the value starts with none of
+     * the prefixes.
+     * 
+     * @param prefixes
+     *            The prefixes the value must not start with.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testNotHasPrefixIn(final Collection<String> prefixes)
+    {
+        return (testNotHasPrefixIn(PrefixSet.of(prefixes)));
+    }
+    
+    /**
+     * A method to mark that a "not has prefix in" test will be performed when
+     * the validate() method is called. Tests if the value starts with none of
+     * the prefixes of the set, in time linear to the length of the value.
+     * 
+     * @param prefixes
+     *            The prefixes the value must not start with.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testNotHasPrefixIn(final PrefixSet prefixes)
+    {
+        if (prefixes == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'prefixes' must not be null."));
+        }
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.NOT_HAS_PREFIX_IN.mask();
+        this._forbiddenPrefixes = prefixes;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "max length" test will be performed when the
+     * validate() method is called. Tests if the length is less than or equal to
+     * the max value when the validate method is called.
+     * 
+     * @param maxLength
+     *            The value to perform the test with.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testMaxLength(final int maxLength)
+    {
+        if (maxLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than zero (0)."));
+        }
+        else if (maxLength < this._minLength)
+        {
+            throw (new IllegalArgumentException("The parameter 'maxLength' must be greater than the min length value."));
+        }
+        
+        // have to test for null if empty is selected.
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MAX_LENGTH.mask();
+        this._maxLength = maxLength;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "min length" test will be performed when the
+     * validate() method is called. Tests if the value is greater than or equal
+     * to the min value when the validate method is called.
+     * 
+     * @param minLength
+     *            The value to perform the test with.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testMinLength(final int minLength)
+    {
+        if (minLength < 0)
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be greater than zero (0)."));
+        }
+        else if ((minLength > this._maxLength) && (this._maxLength != 0))
+        {
+            throw (new IllegalArgumentException("The parameter 'minLength' must be less than the max length value."));
+        }
+        
+        // have to test for null if empty is selected.
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.MIN_LENGTH.mask();
+        this._minLength = minLength;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that a "one of" test will be performed when the
+     * validate() method is called. Tests if the value equals one of the
+     * values. The values are compiled into a StringSet, so use
+     * testOneOf(StringSet) to share the set between validators.
+     * 
+     * @param values
+     *            The values the value may equal.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testOneOf(final Collection<String> values)
+    {
+        return (testOneOf(StringSet.of(values)));
+    }
+    
+    /**
+     * A method to mark that a "one of" test will be performed when the
+     * validate() method is called. Tests if the value equals one of the
+     * values, ignoring case.
+     * 
+     * @param values
+     *            The values the value may equal, ignoring case.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testOneOfIgnoreCase(final Collection<String> values)
+    {
+        return (testOneOf(StringSet.ofIgnoreCase(values)));
+    }
+    
+    /**
+     * A method to mark that a "one of" test will be performed when the
+     * validate() method is called. Tests if the value is in the set. The
+     * lookup allocates nothing.
+     * 
+     * @param values
+     *            The set the value must be in.
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testOneOf(final StringSet values)
+    {
+        if (values == null)
+        {
+            throw (new IllegalArgumentException("The parameter 'values' must not be null."));
+        }
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.ONE_OF.mask();
+        this._oneOf = values;
+        return (this);
+    }
+    
+    /**
+     * A method to mark that an "not null or empty" test will be performed when
+     * the validate() method is called.
+     * 
+     * @return The same validator instance. This allows for method chaining.
+     */
+    public TextValidator<C> testNotNullEmpty()
+    {
+        // have to test for null if empty is selected.
+        this._rules |= RuleCode.NOT_NULL.mask() | RuleCode.NOT_EMPTY.mask();
+        return (this);
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.Validator#validate()
+     */
+    @Override
+    public boolean validate()
+    {
+        if (this._isFailFast)
+        {
+            // from the cheapest test to the most expensive.
+            return (validateNotNull() && validateNotEmpty() && validateMinLength() && validateMaxLength()
+                    && validateEquals() && validateEqualsNoCase() && validateOneOf() && validateHasPrefixIn()
+                    && validateNotHasPrefixIn() && validateAllowedChars()
+                    && validateForbiddenChars() && validateMatch());
+        }
+        
+        // call ObjectValidator validate method.
+        boolean isValid = super.validate();
+        isValid &= validateNotEmpty();
+        isValid &= validateEqualsNoCase();
+        isValid &= validateOneOf();
+        isValid &= validateHasPrefixIn();
+        isValid &= validateNotHasPrefixIn();
+        isValid &= validateMinLength();
+        isValid &= validateMaxLength();
+        isValid &= validateAllowedChars();
+        isValid &= validateForbiddenChars();
+        isValid &= validateMatch();
+        return (isValid);
+    }
+    
+    /*
+     * Used as part of the validation process to test for equality. The chars
+     * are compared, so a StringBuilder can equal a String.
+     * @return A <code>boolean</code> value of true it is valid or false the validate failed.
+     */
+    @Override
+    protected boolean validateEquals()
+    {
+        boolean isValid = true;
+        if (RuleCode.EQUALS.isIn(this._rules))
+        {
+            isValid = this._value != null && this._equalsValue != null
+                    && this._equalsValue.toString().contentEquals(this._value);
+            if (!isValid && recordFailure(RuleCode.EQUALS))
+            {
+                reportViolation(RuleCode.EQUALS, copyValue(), this._equalsValue);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateNotEmpty()
+    {
+        boolean isValid = true;
+        if (RuleCode.NOT_EMPTY.isIn(this._rules))
+        {
+            isValid = (this._value != null && this._value.length() > 0);
+            if (!isValid && recordFailure(RuleCode.NOT_EMPTY))
+            {
+                reportViolation(RuleCode.NOT_EMPTY);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateEqualsNoCase()
+    {
+        boolean isValid = true;
+        if (RuleCode.EQUALS_NO_CASE.isIn(this._rules))
+        {
+            isValid = this._value != null && this._equalsValue != null
+                    && StringRule.equalsNoCase(this._equalsValue.toString(), this._value);
+            if (!isValid && recordFailure(RuleCode.EQUALS_NO_CASE))
+            {
+                reportViolation(RuleCode.EQUALS_NO_CASE, copyValue(), this._equalsValue);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateOneOf()
+    {
+        boolean isValid = true;
+        if (RuleCode.ONE_OF.isIn(this._rules))
+        {
+            isValid = this._oneOf.contains(this._value);
+            if (!isValid && recordFailure(RuleCode.ONE_OF))
+            {
+                reportViolation(RuleCode.ONE_OF, copyValue(), this._oneOf);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateHasPrefixIn()
+    {
+        boolean isValid = true;
+        if (RuleCode.HAS_PREFIX_IN.isIn(this._rules))
+        {
+            isValid = this._prefixes.containsPrefixOf(this._value);
+            if (!isValid && recordFailure(RuleCode.HAS_PREFIX_IN))
+            {
+                reportViolation(RuleCode.HAS_PREFIX_IN, copyValue(), this._prefixes);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateNotHasPrefixIn()
+    {
+        boolean isValid = true;
+        if (RuleCode.NOT_HAS_PREFIX_IN.isIn(this._rules))
+        {
+            final int length = (this._value != null) ? this._forbiddenPrefixes.prefixLength(this._value) : -1;
+            isValid = (this._value != null && length < 0);
+            if (!isValid && recordFailure(RuleCode.NOT_HAS_PREFIX_IN))
+            {
+                reportViolation(RuleCode.NOT_HAS_PREFIX_IN, copyValue(), length, this._forbiddenPrefixes);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateMinLength()
+    {
+        boolean isValid = true;
+        if (RuleCode.MIN_LENGTH.isIn(this._rules))
+        {
+            isValid = (this._value != null && this._value.length() >= this._minLength);
+            if (!isValid && recordFailure(RuleCode.MIN_LENGTH))
+            {
+                reportViolation(RuleCode.MIN_LENGTH, copyValue(),
+                        (this._value != null) ? Integer.valueOf(this._value.length()) : null, this._minLength);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateMaxLength()
+    {
+        boolean isValid = true;
+        if (RuleCode.MAX_LENGTH.isIn(this._rules))
+        {
+            isValid = (this._value != null && this._value.length() <= this._maxLength);
+            if (!isValid && recordFailure(RuleCode.MAX_LENGTH))
+            {
+                reportViolation(RuleCode.MAX_LENGTH, copyValue(),
+                        (this._value != null) ? Integer.valueOf(this._value.length()) : null, this._maxLength);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateAllowedChars()
+    {
+        boolean isValid = true;
+        if (RuleCode.ALLOWED_CHARS.isIn(this._rules))
+        {
+            final int index = (this._value != null) ? this._allowedChars.indexOfNotIn(this._value) : -1;
+            isValid = (this._value != null && index < 0);
+            if (!isValid && recordFailure(RuleCode.ALLOWED_CHARS))
+            {
+                reportViolation(RuleCode.ALLOWED_CHARS, copyValue(), index, this._allowedChars);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateForbiddenChars()
+    {
+        boolean isValid = true;
+        if (RuleCode.FORBIDDEN_CHARS.isIn(this._rules))
+        {
+            final int index = (this._value != null) ? this._forbiddenChars.indexOfIn(this._value) : -1;
+            isValid = (this._value != null && index < 0);
+            if (!isValid && recordFailure(RuleCode.FORBIDDEN_CHARS))
+            {
+                reportViolation(RuleCode.FORBIDDEN_CHARS, copyValue(), index, this._forbiddenChars);
+            }
+        }
+        return (isValid);
+    }
+    
+    protected boolean validateMatch()
+    {
+        boolean isValid = true;
+        if (RuleCode.MATCH.isIn(this._rules))
+        {
+            long failedRule = RuleCode.MATCH.mask();
+            if (this._value != null && this._matchBudget != null)
+            {
+                failedRule = this._matchBudget.tryMatch(this._value, this._linearPattern, this._matchPattern, null);
+            }
+            else if (this._value != null && ((this._linearPattern != null) ? this._linearPattern.matches(this._value)
+                    : this._matchPattern.matcher(this._value).matches()))
+            {
+                failedRule = 0L;
+            }
+            
+            isValid = failedRule == 0L;
+            if (failedRule == RuleCode.MATCH_BUDGET_EXCEEDED.mask())
+            {
+                if (recordFailure(RuleCode.MATCH_BUDGET_EXCEEDED))
+                {
+                    reportViolation(RuleCode.MATCH_BUDGET_EXCEEDED, copyValue(), this._matchPattern, this._matchBudget);
+                }
+            }
+            else if (!isValid && recordFailure(RuleCode.MATCH))
+            {
+                reportViolation(RuleCode.MATCH, copyValue(), this._matchPattern);
+            }
+        }
+        return (isValid);
+    }
+    
+    /*
+     * Copies the value to describe a failure. The message is rendered later,
+     * when the caller may have reused the buffer of the value.
+     * @return The value as a String, or null. A String value is returned as it is.
+     */
+    private String copyValue()
+    {
+        return ((this._value != null) ? this._value.toString() : null);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+                "%s [_rules=%s, _matchPattern=%s, _matchBudget=%s, _oneOf=%s, _prefixes=%s, _forbiddenPrefixes=%s, _allowedChars=%s, _forbiddenChars=%s, _maxLength=%s, _minLength=%s, _isValidationExceptionThrownOnFail=%s, _equalsValue=%s, _value=%s]",
+                getClass().getSimpleName(), RuleCode.fromMask(_rules), _matchPattern, _matchBudget, _oneOf, _prefixes, _forbiddenPrefixes, _allowedChars, _forbiddenChars, _maxLength, _minLength,
+                _isValidationExceptionThrownOnFail, _equalsValue, _value);
+    }
+}
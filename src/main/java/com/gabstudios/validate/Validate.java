@@ -19,6 +19,10 @@
 
 package com.gabstudios.validate;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+
 /**
  * The purpose of this class is to help validate arguments. 
  * 
@@ -27,6 +31,10 @@ package com.gabstudios.validate;
  * when the validate() method is called.
  * 
  * The default return from a validate() - if no tests are selected is TRUE.
+ * 
+ * Use the appropriate xxxxxRule() method to get a rule builder. The rule it
+ * builds is immutable and can be reused to test any number of values from any
+ * number of threads.
  *
  * @author Gregory Brown (sysdevone)
  */
@@ -78,6 +86,20 @@ public class Validate
         return (new CharValidator(value));
     }
     
+    /**
+     * This method defines a CharSequence validator. Each call creates a new
+     * validator. The value is validated in place, so a StringBuilder or a
+     * CharBuffer does not have to be copied to a String.
+     *
+     * @param value
+     *            The CharSequence value to validate.
+     * @return A <code>CharSequenceValidator</code> instance.
+     */
+    public static final CharSequenceValidator defineCharSequence(final CharSequence value)
+    {
+        return (new CharSequenceValidator(value));
+    }
+    
     /**
      * This method defines a double validator. Each call creates a new
      * validator.
@@ -128,6 +150,22 @@ public class Validate
         return (new LongValidator(value));
     }
     
+    /**
+     * This method defines a validator of a file of fixed-width records. The
+     * file is mapped one chunk at a time and each field is tested with the
+     * rule of the layout. Each call creates a new validator.
+     *
+     * @param file
+     *            The file to validate.
+     * @param layout
+     *            The layout of a record.
+     * @return A <code>RecordFileValidator</code> instance.
+     */
+    public static final RecordFileValidator defineRecordFile(final Path file, final RecordLayout layout)
+    {
+        return (new RecordFileValidator(file, layout));
+    }
+    
     /**
      * This method defines a short validator. Each call creates a new validator.
      *
@@ -153,6 +191,40 @@ public class Validate
         return (new StringValidator(value));
     }
     
+    /**
+     * This method defines a validator of a UTF-8 encoded value, such as a
+     * field of a message. Each call creates a new validator. An ASCII value
+     * is validated in place and any other value is decoded once.
+     *
+     * @param value
+     *            The UTF-8 bytes to validate. They are not copied.
+     * @return A <code>CharSequenceValidator</code> instance.
+     */
+    public static final CharSequenceValidator defineUtf8(final byte[] value)
+    {
+        return (defineUtf8(value, 0, (value != null) ? value.length : 0));
+    }
+    
+    /**
+     * This method defines a validator of a range of UTF-8 encoded bytes, such
+     * as a field of a message. Each call creates a new validator. An ASCII
+     * value is validated in place and any other value is decoded once.
+     *
+     * @param value
+     *            The UTF-8 bytes to validate. They are not copied, except to
+     *            describe a failure, so they can be reused once validate()
+     *            returns.
+     * @param offset
+     *            The index of the first byte of the value.
+     * @param length
+     *            The number of bytes of the value.
+     * @return A <code>CharSequenceValidator</code> instance.
+     */
+    public static final CharSequenceValidator defineUtf8(final byte[] value, final int offset, final int length)
+    {
+        return (new CharSequenceValidator(AsciiBytes.decode(value, offset, length)));
+    }
+    
     // /**
     //  * This method defines a String validator. Each call creates a new
     //  * validator.
@@ -177,4 +249,292 @@ public class Validate
     {
         return (new ArrayValidator(value));
     }
+    
+    /**
+     * This method defines a streaming validator of a delimited file, such as
+     * a CSV file. Each field is tested with the rule of its column of the
+     * schema. Each call creates a new validator.
+     *
+     * @param file
+     *            The file to validate.
+     * @param schema
+     *            The schema of the file.
+     * @return A <code>DelimitedFileValidator</code> instance.
+     */
+    public static final DelimitedFileValidator defineDelimitedFile(final Path file, final DelimitedSchema schema)
+    {
+        return (new DelimitedFileValidator(file, schema));
+    }
+    
+    /**
+     * This method defines a bulk validator of the double fields of a
+     * ByteBuffer, such as a direct buffer or a mapped file. Field i starts at
+     * byte offset + i * stride. The fields are read in place. Each call
+     * creates a new validator.
+     *
+     * @param buffer
+     *            The buffer to validate. It is not copied or changed.
+     * @param offset
+     *            The byte offset of the first field.
+     * @param stride
+     *            The number of bytes from one field to the next.
+     * @param count
+     *            The number of fields.
+     * @param order
+     *            The byte order of the fields. It may differ from the order
+     *            of the buffer.
+     * @return A <code>DoubleBufferValidator</code> instance.
+     * @throws IllegalArgumentException
+     *             Thrown if the order is null or if the fields are not inside
+     *             the limit of the buffer.
+     */
+    public static final DoubleBufferValidator defineDoubleBuffer(final ByteBuffer buffer, final int offset,
+            final int stride, final int count, final ByteOrder order)
+    {
+        return (new DoubleBufferValidator(buffer, offset, stride, count, order));
+    }
+    
+    /**
+     * This method defines a bulk double[] validator. The element tests are
+     * applied to every element of the array. Each call creates a new
+     * validator.
+     *
+     * @param value
+     *            The double[] value to validate. It is not copied.
+     * @return A <code>DoubleArrayValidator</code> instance.
+     */
+    public static final DoubleArrayValidator defineDoubleArray(final double[] value)
+    {
+        return (new DoubleArrayValidator(value));
+    }
+    
+    /**
+     * This method defines a bulk validator of the int fields of a
+     * ByteBuffer, such as a direct buffer or a mapped file. Field i starts at
+     * byte offset + i * stride. The fields are read in place. Each call
+     * creates a new validator.
+     *
+     * @param buffer
+     *            The buffer to validate. It is not copied or changed.
+     * @param offset
+     *            The byte offset of the first field.
+     * @param stride
+     *            The number of bytes from one field to the next.
+     * @param count
+     *            The number of fields.
+     * @param order
+     *            The byte order of the fields. It may differ from the order
+     *            of the buffer.
+     * @return A <code>IntBufferValidator</code> instance.
+     * @throws IllegalArgumentException
+     *             Thrown if the order is null or if the fields are not inside
+     *             the limit of the buffer.
+     */
+    public static final IntBufferValidator defineIntBuffer(final ByteBuffer buffer, final int offset,
+            final int stride, final int count, final ByteOrder order)
+    {
+        return (new IntBufferValidator(buffer, offset, stride, count, order));
+    }
+    
+    /**
+     * This method defines a bulk int[] validator. The element tests are
+     * applied to every element of the array. Each call creates a new
+     * validator.
+     *
+     * @param value
+     *            The int[] value to validate. It is not copied.
+     * @return A <code>IntArrayValidator</code> instance.
+     */
+    public static final IntArrayValidator defineIntArray(final int[] value)
+    {
+        return (new IntArrayValidator(value));
+    }
+    
+    /**
+     * This method defines a bulk validator of the long fields of a
+     * ByteBuffer, such as a direct buffer or a mapped file. Field i starts at
+     * byte offset + i * stride. The fields are read in place. Each call
+     * creates a new validator.
+     *
+     * @param buffer
+     *            The buffer to validate. It is not copied or changed.
+     * @param offset
+     *            The byte offset of the first field.
+     * @param stride
+     *            The number of bytes from one field to the next.
+     * @param count
+     *            The number of fields.
+     * @param order
+     *            The byte order of the fields. It may differ from the order
+     *            of the buffer.
+     * @return A <code>LongBufferValidator</code> instance.
+     * @throws IllegalArgumentException
+     *             Thrown if the order is null or if the fields are not inside
+     *             the limit of the buffer.
+     */
+    public static final LongBufferValidator defineLongBuffer(final ByteBuffer buffer, final int offset,
+            final int stride, final int count, final ByteOrder order)
+    {
+        return (new LongBufferValidator(buffer, offset, stride, count, order));
+    }
+    
+    /**
+     * This method defines a bulk long[] validator. The element tests are
+     * applied to every element of the array. Each call creates a new
+     * validator.
+     *
+     * @param value
+     *            The long[] value to validate. It is not copied.
+     * @return A <code>LongArrayValidator</code> instance.
+     */
+    public static final LongArrayValidator defineLongArray(final long[] value)
+    {
+        return (new LongArrayValidator(value));
+    }
+    
+    /**
+     * This method creates a batch schema builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>BatchSchema.Builder</code> instance.
+     */
+    public static final BatchSchema.Builder batchSchema()
+    {
+        return (new BatchSchema.Builder());
+    }
+    
+    /**
+     * This method creates a byte rule builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>ByteRule.Builder</code> instance.
+     */
+    public static final ByteRule.Builder byteRule()
+    {
+        return (new ByteRule.Builder());
+    }
+    
+    /**
+     * This method creates a builder of an immutable CharClass, used by the
+     * allowed chars and forbidden chars tests. Each call creates a new
+     * builder.
+     *
+     * @return A <code>CharClass.Builder</code> instance.
+     */
+    public static final CharClass.Builder charClass()
+    {
+        return (new CharClass.Builder());
+    }
+    
+    /**
+     * This method creates a char rule builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>CharRule.Builder</code> instance.
+     */
+    public static final CharRule.Builder charRule()
+    {
+        return (new CharRule.Builder());
+    }
+    
+    /**
+     * This method creates a delimited file schema builder, for the
+     * defineDelimitedFile() validator. Each call creates a new builder.
+     *
+     * @return A <code>DelimitedSchema.Builder</code> instance.
+     */
+    public static final DelimitedSchema.Builder delimitedSchema()
+    {
+        return (new DelimitedSchema.Builder());
+    }
+    
+    /**
+     * This method creates a double rule builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>DoubleRule.Builder</code> instance.
+     */
+    public static final DoubleRule.Builder doubleRule()
+    {
+        return (new DoubleRule.Builder());
+    }
+    
+    /**
+     * This method creates a float rule builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>FloatRule.Builder</code> instance.
+     */
+    public static final FloatRule.Builder floatRule()
+    {
+        return (new FloatRule.Builder());
+    }
+    
+    /**
+     * This method creates a integer rule builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>IntegerRule.Builder</code> instance.
+     */
+    public static final IntegerRule.Builder integerRule()
+    {
+        return (new IntegerRule.Builder());
+    }
+    
+    /**
+     * This method creates a long rule builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>LongRule.Builder</code> instance.
+     */
+    public static final LongRule.Builder longRule()
+    {
+        return (new LongRule.Builder());
+    }
+    
+    /**
+     * This method creates a builder of an immutable MatchBudget, used to
+     * limit the work of a match test. Each call creates a new builder.
+     *
+     * @return A <code>MatchBudget.Builder</code> instance.
+     */
+    public static final MatchBudget.Builder matchBudget()
+    {
+        return (new MatchBudget.Builder());
+    }
+    
+    /**
+     * This method creates a fixed-width record layout builder, for the
+     * defineRecordFile() validator. Each call creates a new builder.
+     *
+     * @param recordLength
+     *            The number of bytes of a record.
+     * @return A <code>RecordLayout.Builder</code> instance.
+     */
+    public static final RecordLayout.Builder recordLayout(final int recordLength)
+    {
+        return (new RecordLayout.Builder(recordLength));
+    }
+    
+    /**
+     * This method creates a short rule builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>ShortRule.Builder</code> instance.
+     */
+    public static final ShortRule.Builder shortRule()
+    {
+        return (new ShortRule.Builder());
+    }
+    
+    /**
+     * This method creates a String rule builder. Each call creates a new
+     * builder.
+     *
+     * @return A <code>StringRule.Builder</code> instance.
+     */
+    public static final StringRule.Builder stringRule()
+    {
+        return (new StringRule.Builder());
+    }
 }
@@ -19,8 +19,14 @@
 
 package com.gabstudios.validate;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
 /**
- *
+ * This exception is thrown when a validate fails. It carries the code of the
+ * rule that failed and the raw arguments of the failure. The message is only
+ * rendered from them the first time getMessage() is called.
  * 
  * @author Gregory Brown (sysdevone)
  *
@@ -33,6 +39,24 @@ public class ValidateException extends RuntimeException
      */
     private static final long serialVersionUID = 2153424671222831231L;
     
+    /*
+     * The raw arguments of the failure. They are not serialized; the message
+     * is rendered before the exception is written.
+     */
+    private transient final Object[] _arguments;
+    
+    /*
+     * The message. It is rendered from the rule code and the arguments when it
+     * is first asked for.
+     */
+    private String                   _message;
+    
+    /*
+     * The code of the rule that failed, or null if the exception was created
+     * with a message.
+     */
+    private final RuleCode           _ruleCode;
+    
     /**
      * Constructor that takes a message.
      * 
@@ -41,6 +65,92 @@ public class ValidateException extends RuntimeException
      */
     protected ValidateException(final String message)
     {
-        super(message);
+        this(message, true);
+    }
+    
+    /**
+     * Constructor that takes a message and if the stack trace is filled in.
+     * A stackless exception does not fill in its stack trace and does not
+     * record suppressed exceptions, so it is cheap to create.
+     * 
+     * @param message
+     *            A <code>String</code> message.
+     * @param writableStackTrace
+     *            A <code>boolean</code> value that is false to skip filling
+     *            in the stack trace.
+     */
+    protected ValidateException(final String message, final boolean writableStackTrace)
+    {
+        super(null, null, writableStackTrace, writableStackTrace);
+        this._message = message;
+        this._ruleCode = null;
+        this._arguments = null;
+    }
+    
+    /**
+     * Constructor that takes the code of the rule that failed and the raw
+     * arguments of the failure.
+     * 
+     * @param ruleCode
+     *            The code of the rule that failed.
+     * @param arguments
+     *            The raw arguments of the failure.
+     * @param writableStackTrace
+     *            A <code>boolean</code> value that is false to skip filling
+     *            in the stack trace.
+     */
+    protected ValidateException(final RuleCode ruleCode, final Object[] arguments,
+            final boolean writableStackTrace)
+    {
+        super(null, null, writableStackTrace, writableStackTrace);
+        this._ruleCode = ruleCode;
+        this._arguments = arguments;
+    }
+    
+    /**
+     * Gets the raw arguments of the failure.
+     *
+     * @return A copy of the arguments. The array is empty if there are none.
+     */
+    public Object[] getArguments()
+    {
+        return ((this._arguments != null) ? Arrays.copyOf(this._arguments, this._arguments.length) : new Object[0]);
+    }
+    
+    /**
+     * Gets the message. It is rendered from the rule code and the arguments
+     * the first time it is called.
+     *
+     * @return A <code>String</code> message.
+     */
+    @Override
+    public String getMessage()
+    {
+        if (this._message == null && this._ruleCode != null)
+        {
+            this._message = this._ruleCode.format(this._arguments);
+        }
+        return (this._message);
+    }
+    
+    /**
+     * Gets the code of the rule that failed.
+     *
+     * @return The <code>RuleCode</code>, or null if the exception was created
+     *         with a message.
+     */
+    public RuleCode getRuleCode()
+    {
+        return (this._ruleCode);
+    }
+    
+    /*
+     * Renders the message before the exception is written, since the
+     * arguments are not serialized.
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException
+    {
+        getMessage();
+        out.defaultWriteObject();
     }
 }
@@ -0,0 +1,134 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of validating a value against every selected test. It lists
+ * each test that failed, in the order the tests were performed.
+ * 
+ *      final ValidationResult result = Validate.defineString(name).testNotNullEmpty().testMaxLength(10).validateAll();
+ *      if (!result.isValid())
+ *      {
+ *          for (final Violation violation : result.getViolations()) ...
+ *      }
+ *
+ * A valid value is always reported with the shared VALID instance, so the
+ * success path does not allocate.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class ValidationResult
+{
+    
+    /**
+     * The shared result of a value that passed every test.
+     */
+    public static final ValidationResult VALID = new ValidationResult(Collections.<Violation> emptyList());
+    
+    /*
+     * The failed tests. The list is never modified.
+     */
+    private final List<Violation> _violations;
+    
+    /*
+     * Private constructor. Use VALID or the validators to get a result.
+     */
+    private ValidationResult(final List<Violation> violations)
+    {
+        this._violations = violations;
+    }
+    
+    /*
+     * Creates the result of a value that failed at least one test.
+     * 
+     * @param violations The failed tests. The list is copied.
+     * @return A new <code>ValidationResult</code> instance.
+     */
+    static ValidationResult of(final List<Violation> violations)
+    {
+        assert (violations != null) : "The parameter 'violations' is NULL.";
+        assert (!violations.isEmpty()) : "The parameter 'violations' must not be empty.";
+        
+        return (new ValidationResult(Collections.unmodifiableList(new ArrayList<Violation>(violations))));
+    }
+    
+    /**
+     * Gets the number of tests that failed.
+     *
+     * @return An <code>int</code> value of zero or greater.
+     */
+    public int getViolationCount()
+    {
+        return (this._violations.size());
+    }
+    
+    /**
+     * Gets the tests that failed.
+     *
+     * @return An unmodifiable list. The list is empty if the value is valid.
+     */
+    public List<Violation> getViolations()
+    {
+        return (this._violations);
+    }
+    
+    /**
+     * Tests if a rule failed.
+     *
+     * @param ruleCode
+     *            The code of the rule.
+     * @return A <code>boolean</code> value that is true if the rule failed.
+     */
+    public boolean hasViolation(final RuleCode ruleCode)
+    {
+        for (final Violation violation : this._violations)
+        {
+            if (violation.getRuleCode() == ruleCode)
+            {
+                return (true);
+            }
+        }
+        return (false);
+    }
+    
+    /**
+     * Tests if the value passed every test.
+     *
+     * @return A <code>boolean</code> value that is true if no test failed.
+     */
+    public boolean isValid()
+    {
+        return (this._violations.isEmpty());
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("ValidationResult [_violations=%s]", this._violations);
+    }
+}
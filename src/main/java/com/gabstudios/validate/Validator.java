@@ -39,6 +39,26 @@ public abstract interface Validator
      */
     public abstract boolean validate();
     
+    /**
+     * Performs every selected test and collects each one that fails, with its
+     * rule code and arguments. No exception is thrown and the failFast
+     * setting is ignored.
+     * 
+     * @return The shared ValidationResult.VALID instance if the value is
+     *         valid. Otherwise a result listing the failed tests.
+     */
+    public abstract ValidationResult validateAll();
+    
+    /**
+     * Performs the selected tests and returns the tests that failed as a
+     * mask, with the RuleCode.mask() bit of each failed test set. No
+     * exception is thrown and nothing is allocated.
+     * 
+     * @return A <code>long</code> mask that is zero if the value is valid.
+     * @see RuleCode#isIn(long)
+     */
+    public abstract long tryValidate();
+    
     /**
      * A method to mark that an ValidateException should be thrown if the
      * validate method returns false.
@@ -50,4 +70,32 @@ public abstract interface Validator
      */
     @SuppressWarnings("hiding")
 	public <T extends Validator> T throwValidationExceptionOnFail();
+    
+    /**
+     * A method to mark that a stackless ValidateException should be thrown if
+     * the validate method returns false. The exception does not fill in its
+     * stack trace or record suppressed exceptions.
+     * 
+     * @param <T> The Validator class to return.
+     * 
+     * @return The same Validator instance. This allows for method
+     *         chaining.
+     */
+    @SuppressWarnings("hiding")
+	public <T extends Validator> T throwStacklessValidationExceptionOnFail();
+    
+    /**
+     * A method to mark that the validate method should stop at the first test
+     * that fails. The tests are then performed from the cheapest to the most
+     * expensive, so an invalid value is rejected with the least work.
+     * 
+     * By default every selected test is performed.
+     * 
+     * @param <T> The Validator class to return.
+     * 
+     * @return The same Validator instance. This allows for method
+     *         chaining.
+     */
+    @SuppressWarnings("hiding")
+	public <T extends Validator> T failFast();
 }
@@ -0,0 +1,53 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+/**
+ * Loads the Vector API kernels for ArrayKernels. This is the Java 8 version,
+ * which has no vector kernels; the jar carries a Java 17 version of this class
+ * under META-INF/versions/17 that loads them when the jdk.incubator.vector
+ * module is present.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class VectorSupport
+{
+    
+    /**
+     * Prevent a new instance.
+     */
+    private VectorSupport()
+    {
+        // void - ignore this.
+    }
+    
+    /**
+     * Loads the vector kernels.
+     * 
+     * @return A <code>RangeKernels</code> instance, or null if the scalar loops
+     *         are to be used.
+     */
+    static RangeKernels loadRangeKernels()
+    {
+        return (null);
+    }
+}
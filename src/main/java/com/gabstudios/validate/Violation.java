@@ -0,0 +1,100 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+
+/**
+ * A single failed test reported in a ValidationResult. It carries the code of
+ * the rule that failed and the raw arguments of the failure. The message is
+ * only rendered from them when getMessage() is called.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class Violation
+{
+    
+    /*
+     * The raw arguments of the failure.
+     */
+    private final Object[] _arguments;
+    
+    /*
+     * The code of the rule that failed.
+     */
+    private final RuleCode _ruleCode;
+    
+    /**
+     * Protected constructor. Violations are created by the validators.
+     * 
+     * @param ruleCode
+     *            The code of the rule that failed.
+     * @param arguments
+     *            The raw arguments of the failure.
+     */
+    protected Violation(final RuleCode ruleCode, final Object[] arguments)
+    {
+        assert (ruleCode != null) : "The parameter 'ruleCode' is NULL.";
+        
+        this._ruleCode = ruleCode;
+        this._arguments = arguments;
+    }
+    
+    /**
+     * Gets the raw arguments of the failure.
+     *
+     * @return A copy of the arguments. The array is empty if there are none.
+     */
+    public Object[] getArguments()
+    {
+        return ((this._arguments != null) ? Arrays.copyOf(this._arguments, this._arguments.length) : new Object[0]);
+    }
+    
+    /**
+     * Gets the message rendered from the rule code and the arguments.
+     *
+     * @return A <code>String</code> message.
+     */
+    public String getMessage()
+    {
+        return (this._ruleCode.format(this._arguments));
+    }
+    
+    /**
+     * Gets the code of the rule that failed.
+     *
+     * @return The <code>RuleCode</code>.
+     */
+    public RuleCode getRuleCode()
+    {
+        return (this._ruleCode);
+    }
+    
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("Violation [_ruleCode=%s, _arguments=%s]", this._ruleCode,
+                Arrays.toString(this._arguments));
+    }
+}
@@ -0,0 +1,230 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The range loops of ArrayKernels written with the Vector API. Each loop runs
+ * over whole vectors of the preferred species and hands the tail to the scalar
+ * loop in ArrayKernels, so the results are the same as the scalar loops.
+ * 
+ * An element is tested with one unsigned compare of (value - lo) against
+ * (hi - lo), the same trick as the scalar counting loops. A double is turned
+ * into its sortable key in the vector, with NaN lanes set to the key of the
+ * canonical NaN, as Double.doubleToLongBits() does.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class VectorRangeKernels implements RangeKernels
+{
+    
+    /*
+     * The species of the int loops.
+     */
+    private static final VectorSpecies<Integer> INT_SPECIES    = IntVector.SPECIES_PREFERRED;
+    
+    /*
+     * The species of the double loops.
+     */
+    private static final VectorSpecies<Double>  DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    
+    /*
+     * The species of the long loops. It has the shape of the double species so
+     * a double vector can be reinterpreted as a long vector lane for lane.
+     */
+    private static final VectorSpecies<Long>    LONG_SPECIES   = VectorSpecies.of(long.class,
+            DOUBLE_SPECIES.vectorShape());
+    
+    /*
+     * The sortable key of every NaN.
+     */
+    private static final long                   NAN_KEY        = ArrayKernels.toSortableKey(Double.NaN);
+    
+    /*
+     * The bits of positive infinity.
+     */
+    private static final long                   INFINITY_BITS  = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+    
+    /**
+     * Creates the kernels.
+     */
+    VectorRangeKernels()
+    {
+        // void - ignore this.
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.RangeKernels#countOutOfRange(int[], int, int, int, int)
+     */
+    @Override
+    public int countOutOfRange(final int[] values, final int from, final int to, final int lo, final int hi)
+    {
+        final int span = hi - lo;
+        final int bound = from + INT_SPECIES.loopBound(to - from);
+        IntVector counts = IntVector.zero(INT_SPECIES);
+        int i = from;
+        for (; i < bound; i += INT_SPECIES.length())
+        {
+            final VectorMask<Integer> outside = IntVector.fromArray(INT_SPECIES, values, i).sub(lo)
+                    .compare(VectorOperators.UNSIGNED_GT, span);
+            counts = counts.add(1, outside);
+        }
+        return (counts.reduceLanes(VectorOperators.ADD) + ArrayKernels.scalarCountOutOfRange(values, i, to, lo, hi));
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.RangeKernels#countOutOfRange(long[], int, int, long, long)
+     */
+    @Override
+    public int countOutOfRange(final long[] values, final int from, final int to, final long lo, final long hi)
+    {
+        final long span = hi - lo;
+        final int bound = from + LONG_SPECIES.loopBound(to - from);
+        LongVector counts = LongVector.zero(LONG_SPECIES);
+        int i = from;
+        for (; i < bound; i += LONG_SPECIES.length())
+        {
+            final VectorMask<Long> outside = LongVector.fromArray(LONG_SPECIES, values, i).sub(lo)
+                    .compare(VectorOperators.UNSIGNED_GT, span);
+            counts = counts.add(1L, outside);
+        }
+        return ((int) counts.reduceLanes(VectorOperators.ADD)
+                + ArrayKernels.scalarCountOutOfRange(values, i, to, lo, hi));
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.RangeKernels#countOutOfRange(double[], int, int, long, long)
+     */
+    @Override
+    public int countOutOfRange(final double[] values, final int from, final int to, final long lo, final long hi)
+    {
+        final long span = hi - lo;
+        final int bound = from + DOUBLE_SPECIES.loopBound(to - from);
+        int count = 0;
+        int i = from;
+        for (; i < bound; i += DOUBLE_SPECIES.length())
+        {
+            final VectorMask<Long> outside = toSortableKeys(values, i).sub(lo)
+                    .compare(VectorOperators.UNSIGNED_GT, span);
+            // a vector of counts is slow here once the keys are blended, so the mask is counted.
+            count += outside.trueCount();
+        }
+        return (count + ArrayKernels.scalarCountOutOfRange(values, i, to, lo, hi));
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.RangeKernels#indexOfOutOfRange(int[], int, int, int, int)
+     */
+    @Override
+    public int indexOfOutOfRange(final int[] values, final int from, final int to, final int lo, final int hi)
+    {
+        final int span = hi - lo;
+        final int bound = from + INT_SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += INT_SPECIES.length())
+        {
+            final VectorMask<Integer> outside = IntVector.fromArray(INT_SPECIES, values, i).sub(lo)
+                    .compare(VectorOperators.UNSIGNED_GT, span);
+            if (outside.anyTrue())
+            {
+                return (i + outside.firstTrue());
+            }
+        }
+        return (ArrayKernels.scalarIndexOfOutOfRange(values, i, to, lo, hi));
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.RangeKernels#indexOfOutOfRange(long[], int, int, long, long)
+     */
+    @Override
+    public int indexOfOutOfRange(final long[] values, final int from, final int to, final long lo, final long hi)
+    {
+        final long span = hi - lo;
+        final int bound = from + LONG_SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += LONG_SPECIES.length())
+        {
+            final VectorMask<Long> outside = LongVector.fromArray(LONG_SPECIES, values, i).sub(lo)
+                    .compare(VectorOperators.UNSIGNED_GT, span);
+            if (outside.anyTrue())
+            {
+                return (i + outside.firstTrue());
+            }
+        }
+        return (ArrayKernels.scalarIndexOfOutOfRange(values, i, to, lo, hi));
+    }
+    
+    /*
+     * (non-Javadoc)
+     * 
+     * @see com.gabstudios.validate.RangeKernels#indexOfOutOfRange(double[], int, int, long, long)
+     */
+    @Override
+    public int indexOfOutOfRange(final double[] values, final int from, final int to, final long lo, final long hi)
+    {
+        final long span = hi - lo;
+        final int bound = from + DOUBLE_SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += DOUBLE_SPECIES.length())
+        {
+            final VectorMask<Long> outside = toSortableKeys(values, i).sub(lo)
+                    .compare(VectorOperators.UNSIGNED_GT, span);
+            if (outside.anyTrue())
+            {
+                return (i + outside.firstTrue());
+            }
+        }
+        return (ArrayKernels.scalarIndexOfOutOfRange(values, i, to, lo, hi));
+    }
+    
+    /*
+     * Loads a vector of doubles as their sortable keys.
+     * @param values The array to load from.
+     * @param index The index of the first lane.
+     * @return A <code>LongVector</code> of the sortable keys.
+     */
+    private static LongVector toSortableKeys(final double[] values, final int index)
+    {
+        final LongVector bits = DoubleVector.fromArray(DOUBLE_SPECIES, values, index).reinterpretAsLongs();
+        final LongVector magnitudes = bits.and(Long.MAX_VALUE);
+        final LongVector keys = bits.lanewise(VectorOperators.XOR,
+                bits.lanewise(VectorOperators.ASHR, 63).and(Long.MAX_VALUE));
+        // a NaN has a magnitude above the bits of infinity.
+        return (keys.blend(NAN_KEY, magnitudes.compare(VectorOperators.GT, INFINITY_BITS)));
+    }
+}
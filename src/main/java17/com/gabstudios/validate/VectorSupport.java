@@ -0,0 +1,89 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import jdk.incubator.vector.VectorShape;
+
+/**
+ * Loads the Vector API kernels for ArrayKernels. This is the Java 17 version,
+ * packed under META-INF/versions/17 of the jar. The kernels are used when the
+ * jdk.incubator.vector module has been added to the JVM with
+ * <code>--add-modules jdk.incubator.vector</code>, and can be turned off with
+ * <code>-Dcom.gabstudios.validate.vector=false</code>. Otherwise the scalar
+ * loops are used.
+ * 
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+final class VectorSupport
+{
+    
+    /*
+     * The system property that turns the vector kernels off.
+     */
+    static final String         VECTOR_PROPERTY = "com.gabstudios.validate.vector";
+    
+    /*
+     * The module of the Vector API.
+     */
+    private static final String VECTOR_MODULE   = "jdk.incubator.vector";
+    
+    /**
+     * Prevent a new instance.
+     */
+    private VectorSupport()
+    {
+        // void - ignore this.
+    }
+    
+    /**
+     * Loads the vector kernels.
+     * 
+     * @return A <code>RangeKernels</code> instance, or null if the scalar loops
+     *         are to be used.
+     */
+    static RangeKernels loadRangeKernels()
+    {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true")))
+        {
+            return (null);
+        }
+        
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty())
+        {
+            return (null);
+        }
+        
+        try
+        {
+            // a 64 bit vector holds a single long, no better than the scalar loop.
+            if (VectorShape.preferredShape().vectorBitSize() < 128)
+            {
+                return (null);
+            }
+            return (new VectorRangeKernels());
+        }
+        catch (final LinkageError | RuntimeException e)
+        {
+            return (null);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+/**
+ * The purpose of this class is to define the MemorySegment validators. It is
+ * only in the Java 22 layer of the multi-release jar, so it is kept apart from
+ * the Validate class, which must load on Java 8.
+ * 
+ *      final boolean isValid = SegmentValidate.defineIntSegment(segment, 0L, 16L, count, ByteOrder.LITTLE_ENDIAN)
+ *              .isPositiveValue().validate();
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public final class SegmentValidate
+{
+    
+    /**
+     * Prevent a new instance.
+     */
+    private SegmentValidate()
+    {
+        // void - ignore this.
+    }
+    
+    /**
+     * This method defines a bulk validator of the double fields of a
+     * MemorySegment. Field i starts at byte offset + i * stride. The fields
+     * are read in place. Each call creates a new validator.
+     *
+     * @param segment
+     *            The segment to validate. It is not copied or changed.
+     * @param offset
+     *            The byte offset of the first field.
+     * @param stride
+     *            The number of bytes from one field to the next.
+     * @param count
+     *            The number of fields.
+     * @param order
+     *            The byte order of the fields.
+     * @return A <code>DoubleSegmentValidator</code> instance.
+     * @throws IllegalArgumentException
+     *             Thrown if the order is null or if the fields are not inside
+     *             the segment.
+     */
+    public static final DoubleSegmentValidator defineDoubleSegment(final MemorySegment segment, final long offset,
+            final long stride, final int count, final ByteOrder order)
+    {
+        return (new DoubleSegmentValidator(segment, offset, stride, count, order));
+    }
+    
+    /**
+     * This method defines a bulk validator of the int fields of a
+     * MemorySegment. Field i starts at byte offset + i * stride. The fields
+     * are read in place. Each call creates a new validator.
+     *
+     * @param segment
+     *            The segment to validate. It is not copied or changed.
+     * @param offset
+     *            The byte offset of the first field.
+     * @param stride
+     *            The number of bytes from one field to the next.
+     * @param count
+     *            The number of fields.
+     * @param order
+     *            The byte order of the fields.
+     * @return A <code>IntSegmentValidator</code> instance.
+     * @throws IllegalArgumentException
+     *             Thrown if the order is null or if the fields are not inside
+     *             the segment.
+     */
+    public static final IntSegmentValidator defineIntSegment(final MemorySegment segment, final long offset,
+            final long stride, final int count, final ByteOrder order)
+    {
+        return (new IntSegmentValidator(segment, offset, stride, count, order));
+    }
+    
+    /**
+     * This method defines a bulk validator of the long fields of a
+     * MemorySegment. Field i starts at byte offset + i * stride. The fields
+     * are read in place. Each call creates a new validator.
+     *
+     * @param segment
+     *            The segment to validate. It is not copied or changed.
+     * @param offset
+     *            The byte offset of the first field.
+     * @param stride
+     *            The number of bytes from one field to the next.
+     * @param count
+     *            The number of fields.
+     * @param order
+     *            The byte order of the fields.
+     * @return A <code>LongSegmentValidator</code> instance.
+     * @throws IllegalArgumentException
+     *             Thrown if the order is null or if the fields are not inside
+     *             the segment.
+     */
+    public static final LongSegmentValidator defineLongSegment(final MemorySegment segment, final long offset,
+            final long stride, final int count, final ByteOrder order)
+    {
+        return (new LongSegmentValidator(segment, offset, stride, count, order));
+    }
+}
@@ -0,0 +1,132 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+
+package com.gabstudios.validate;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * An integration test for the ArrayKernels that runs against the packaged jar,
+ * so on Java 17 the vector kernels are compared with the scalar loops.
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ArrayKernelsIT {
+
+    private Random _random;
+
+    @Before
+    public void setUp() {
+        this._random = new Random(42);
+    }
+
+    @After
+    public void tearDown() {
+        this._random = null;
+    }
+
+    @Test
+    public void testVectorized() {
+        if (Boolean.getBoolean("com.gabstudios.validate.vector.expected")) {
+            Assert.assertTrue(ArrayKernels.isVectorized());
+        }
+    }
+
+    @Test
+    public void testIntKernels() {
+        int[] values = new int[1031];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this._random.nextInt(2001) - 1000;
+        }
+        values[7] = Integer.MIN_VALUE;
+        values[500] = Integer.MAX_VALUE;
+        int[][] ranges = { { -1000, 1000 }, { -500, 500 }, { 0, 0 }, { 1, Integer.MAX_VALUE },
+                { Integer.MIN_VALUE, -1 }, { Integer.MIN_VALUE, Integer.MAX_VALUE }, { 990, 1000 } };
+        for (int[] range : ranges) {
+            for (int from = 0; from < 20; from += 3) {
+                for (int to = values.length - 20; to <= values.length; to += 5) {
+                    Assert.assertEquals(ArrayKernels.scalarCountOutOfRange(values, from, to, range[0], range[1]),
+                            ArrayKernels.countOutOfRange(values, from, to, range[0], range[1]));
+                    Assert.assertEquals(ArrayKernels.scalarIndexOfOutOfRange(values, from, to, range[0], range[1]),
+                            ArrayKernels.indexOfOutOfRange(values, from, to, range[0], range[1]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLongKernels() {
+        long[] values = new long[1031];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this._random.nextInt(2001) - 1000L;
+        }
+        values[7] = Long.MIN_VALUE;
+        values[500] = Long.MAX_VALUE;
+        long[][] ranges = { { -1000L, 1000L }, { -500L, 500L }, { 0L, 0L }, { 1L, Long.MAX_VALUE },
+                { Long.MIN_VALUE, -1L }, { Long.MIN_VALUE, Long.MAX_VALUE }, { 990L, 1000L } };
+        for (long[] range : ranges) {
+            for (int from = 0; from < 20; from += 3) {
+                for (int to = values.length - 20; to <= values.length; to += 5) {
+                    Assert.assertEquals(ArrayKernels.scalarCountOutOfRange(values, from, to, range[0], range[1]),
+                            ArrayKernels.countOutOfRange(values, from, to, range[0], range[1]));
+                    Assert.assertEquals(ArrayKernels.scalarIndexOfOutOfRange(values, from, to, range[0], range[1]),
+                            ArrayKernels.indexOfOutOfRange(values, from, to, range[0], range[1]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleKernels() {
+        double[] values = new double[1031];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this._random.nextDouble() * 2000.0 - 1000.0;
+        }
+        values[3] = -0.0;
+        values[5] = 0.0;
+        values[7] = Double.NEGATIVE_INFINITY;
+        values[300] = Double.POSITIVE_INFINITY;
+        values[400] = Double.NaN;
+        values[600] = Double.longBitsToDouble(0xfff0000000000001L);
+        values[700] = Double.longBitsToDouble(0x7ff0000000000123L);
+        double[][] ranges = { { -1000.0, 1000.0 }, { -500.0, 500.0 }, { 0.0, 0.0 }, { -0.0, 0.0 },
+                { Double.MIN_VALUE, Double.NaN }, { Double.NEGATIVE_INFINITY, -Double.MIN_VALUE },
+                { Double.NEGATIVE_INFINITY, Double.NaN }, { Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY } };
+        for (double[] range : ranges) {
+            long lo = ArrayKernels.toSortableKey(range[0]);
+            long hi = ArrayKernels.toSortableKey(range[1]);
+            for (int from = 0; from < 20; from += 3) {
+                for (int to = values.length - 20; to <= values.length; to += 5) {
+                    Assert.assertEquals(ArrayKernels.scalarCountOutOfRange(values, from, to, lo, hi),
+                            ArrayKernels.countOutOfRange(values, from, to, lo, hi));
+                    Assert.assertEquals(ArrayKernels.scalarIndexOfOutOfRange(values, from, to, lo, hi),
+                            ArrayKernels.indexOfOutOfRange(values, from, to, lo, hi));
+                }
+            }
+        }
+    }
+}
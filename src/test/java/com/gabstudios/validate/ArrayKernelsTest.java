@@ -0,0 +1,160 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the ArrayKernels
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ArrayKernelsTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testSortableKey() {
+        double[] values = { Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.0, -Double.MIN_VALUE, -0.0, 0.0,
+                Double.MIN_VALUE, 1.0, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN };
+        for (int i = 0; i < values.length; i++) {
+            long key = ArrayKernels.toSortableKey(values[i]);
+            Assert.assertEquals(Double.doubleToLongBits(values[i]),
+                    Double.doubleToLongBits(ArrayKernels.fromSortableKey(key)));
+            for (int j = 0; j < values.length; j++) {
+                Assert.assertEquals(Integer.signum(Double.compare(values[i], values[j])),
+                        Integer.signum(Long.compare(key, ArrayKernels.toSortableKey(values[j]))));
+            }
+        }
+        Assert.assertEquals(0L, ArrayKernels.toSortableKey(0.0));
+    }
+
+    @Test
+    public void testIntKernels() {
+        Random random = new Random(42);
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+        int lo = -1 << 30;
+        int hi = 1 << 29;
+        int count = 0;
+        int first = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < lo || values[i] > hi) {
+                count++;
+                first = (first < 0) ? i : first;
+            }
+        }
+        Assert.assertEquals(count, ArrayKernels.countOutOfRange(values, 0, values.length, lo, hi));
+        Assert.assertEquals(first, ArrayKernels.indexOfOutOfRange(values, 0, values.length, lo, hi));
+        Assert.assertEquals(0, ArrayKernels.countOutOfRange(values, 0, values.length, Integer.MIN_VALUE,
+                Integer.MAX_VALUE));
+
+        long[] bounds = { Long.MAX_VALUE, Long.MIN_VALUE };
+        Assert.assertEquals(count, ArrayKernels.countOutOfRange(values, 0, values.length, lo, hi, bounds));
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int value : values) {
+            if (value < lo || value > hi) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        Assert.assertArrayEquals(new long[] { min, max }, bounds);
+    }
+
+    @Test
+    public void testLongKernels() {
+        Random random = new Random(42);
+        long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        values[10] = Long.MIN_VALUE;
+        values[20] = Long.MAX_VALUE;
+        long lo = -1L << 62;
+        long hi = 1L << 61;
+        int count = 0;
+        int first = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < lo || values[i] > hi) {
+                count++;
+                first = (first < 0) ? i : first;
+            }
+        }
+        Assert.assertEquals(count, ArrayKernels.countOutOfRange(values, 0, values.length, lo, hi));
+        Assert.assertEquals(first, ArrayKernels.indexOfOutOfRange(values, 0, values.length, lo, hi));
+        Assert.assertEquals(0, ArrayKernels.countOutOfRange(values, 0, values.length, Long.MIN_VALUE,
+                Long.MAX_VALUE));
+        long[] bounds = { Long.MAX_VALUE, Long.MIN_VALUE };
+        Assert.assertEquals(count, ArrayKernels.countOutOfRange(values, 0, values.length, lo, hi, bounds));
+        Assert.assertArrayEquals(new long[] { Long.MIN_VALUE, Long.MAX_VALUE }, bounds);
+    }
+
+    @Test
+    public void testDoubleKernels() {
+        double[] values = { 1.0, -0.0, Double.NaN, 0.5, -2.0, 0.0 };
+        long lo = ArrayKernels.toSortableKey(0.0);
+        long hi = ArrayKernels.toSortableKey(1.0);
+        long[] bounds = { Long.MAX_VALUE, Long.MIN_VALUE };
+        Assert.assertEquals(1, ArrayKernels.indexOfOutOfRange(values, 0, values.length, lo, hi));
+        Assert.assertEquals(3, ArrayKernels.countOutOfRange(values, 0, values.length, lo, hi, bounds));
+        Assert.assertEquals(-2.0, ArrayKernels.fromSortableKey(bounds[0]), 0.0);
+        Assert.assertTrue(Double.isNaN(ArrayKernels.fromSortableKey(bounds[1])));
+    }
+
+    @Test
+    public void testMarkOutOfRange() {
+        int[] values = new int[130];
+        values[0] = -1;
+        values[63] = 11;
+        values[64] = 11;
+        values[129] = Integer.MIN_VALUE;
+        long[] failedRows = new long[3];
+        failedRows[1] = 1L << 5;
+        Assert.assertEquals(4, ArrayKernels.markOutOfRange(values, 0, 10, failedRows));
+        Assert.assertArrayEquals(new long[] { 1L | (1L << 63), 1L | (1L << 5), 1L << 1 }, failedRows);
+
+        long[] longs = { 5L, Long.MAX_VALUE, Long.MIN_VALUE };
+        failedRows = new long[1];
+        Assert.assertEquals(1, ArrayKernels.markOutOfRange(longs, Long.MIN_VALUE, 10L, failedRows));
+        Assert.assertArrayEquals(new long[] { 1L << 1 }, failedRows);
+
+        double[] doubles = { -0.0, 0.0, Double.NaN };
+        failedRows = new long[1];
+        Assert.assertEquals(2, ArrayKernels.markOutOfRange(doubles, 0L, 0L, failedRows));
+        Assert.assertArrayEquals(new long[] { 1L | (1L << 2) }, failedRows);
+    }
+}
@@ -139,4 +139,11 @@ public class ArrayValidatorNegativeTest {
 
     }
 
+    @Test
+    public void testFailFast() {
+        Object[] array = { "a", "b" };
+        boolean retVal = Validate.defineArray(array).testMinLength(3).testEquals(array).failFast().validate();
+        Assert.assertFalse(retVal);
+    }
+
 }
@@ -205,6 +205,53 @@ public class ArrayValidatorTest
         }
 
     }
-    
-        
+    @Test
+    public void testNotNullElements()
+    {
+        String[] strArray = { "Hello", null, "is", null };
+        ArrayValidator validator = Validate.defineArray(strArray).testNotNullElements();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+        Assert.assertEquals(2, validator.getViolationCount());
+
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineArray(strArray).testNotNullElements().failFast().throwValidationExceptionOnFail()
+                        .validate());
+        Assert.assertEquals(RuleCode.NOT_NULL_ELEMENTS, e.getRuleCode());
+
+        validator = Validate.defineArray(new String[] { "Hello", "World" }).testNotNullElements();
+        Assert.assertTrue(validator.validate());
+        Assert.assertEquals(-1, validator.getFirstViolationIndex());
+        Assert.assertEquals(0, validator.getViolationCount());
+    }
+
+    @Test
+    public void testParallel()
+    {
+        String[] strArray1 = new String[300000];
+        String[] strArray2 = new String[strArray1.length];
+        for (int i = 0; i < strArray1.length; i++)
+        {
+            strArray1[i] = (i % 7 == 0) ? "seven" : "other";
+            strArray2[i] = new String(strArray1[i]);
+        }
+        Assert.assertTrue(Validate.defineArray(strArray1).testNotNullElements().testEquals(strArray2).parallel(1000)
+                .validate());
+
+        strArray2[200000] = "changed";
+        Assert.assertFalse(Validate.defineArray(strArray1).testEquals(strArray2).parallel(1000).validate());
+
+        strArray1[150000] = null;
+        strArray1[299999] = null;
+        ArrayValidator validator = Validate.defineArray(strArray1).testNotNullElements().parallel(1000);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(150000, validator.getFirstViolationIndex());
+        Assert.assertEquals(2, validator.getViolationCount());
+
+        validator = Validate.defineArray(strArray1).testNotNullElements().parallel(1000).failFast();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(150000, validator.getFirstViolationIndex());
+        Assert.assertEquals(1, validator.getViolationCount());
+    }
+
 }
@@ -0,0 +1,108 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the AsciiBytes
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class AsciiBytesTest
+{
+    @Before
+    public void setUp()
+    {
+        //
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    @Test
+    public void testIndexOfNonAscii()
+    {
+        byte[] bytes = new byte[40];
+        for (int i = 0; i < bytes.length; i++)
+        {
+            bytes[i] = (byte) ('a' + i % 26);
+        }
+        for (int from = 0; from < 10; from++)
+        {
+            for (int to = from; to <= bytes.length; to++)
+            {
+                Assert.assertEquals(-1, AsciiBytes.indexOfNonAscii(bytes, from, to));
+            }
+        }
+        for (int at = 0; at < bytes.length; at++)
+        {
+            byte[] copy = bytes.clone();
+            copy[at] = (byte) 0x80;
+            for (int from = 0; from <= at; from++)
+            {
+                Assert.assertEquals(at, AsciiBytes.indexOfNonAscii(copy, from, bytes.length));
+                Assert.assertEquals(-1, AsciiBytes.indexOfNonAscii(copy, from, at));
+            }
+        }
+    }
+
+    @Test
+    public void testDecode()
+    {
+        byte[] bytes = "xx-HelloWorld-xx".getBytes(StandardCharsets.UTF_8);
+        CharSequence chars = AsciiBytes.decode(bytes, 3, 10);
+        Assert.assertTrue(chars instanceof AsciiBytes);
+        Assert.assertEquals("HelloWorld", chars.toString());
+        Assert.assertEquals(10, chars.length());
+        Assert.assertEquals('W', chars.charAt(5));
+        Assert.assertEquals("World", chars.subSequence(5, 10).toString());
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> chars.charAt(10));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> chars.subSequence(4, 11));
+
+        String text = "x-héllo € 😀-x";
+        bytes = text.getBytes(StandardCharsets.UTF_8);
+        CharSequence decoded = AsciiBytes.decode(bytes, 2, bytes.length - 4);
+        Assert.assertTrue(decoded instanceof String);
+        Assert.assertEquals(text.substring(2, text.length() - 2), decoded);
+
+        // malformed bytes are replaced, as by new String().
+        bytes = new byte[] { 'a', (byte) 0xff, (byte) 0xc3, 'b' };
+        Assert.assertEquals(new String(bytes, StandardCharsets.UTF_8), AsciiBytes.decode(bytes, 0, 4));
+
+        Assert.assertNull(AsciiBytes.decode(null, 0, 0));
+        Assert.assertEquals(0, AsciiBytes.decode(new byte[0], 0, 0).length());
+        final byte[] small = new byte[4];
+        Assert.assertThrows(IllegalArgumentException.class, () -> AsciiBytes.decode(small, -1, 2));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AsciiBytes.decode(small, 2, 3));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AsciiBytes.decode(small, 0, -1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> AsciiBytes.decode(small, Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+}
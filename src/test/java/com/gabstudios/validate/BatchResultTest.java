@@ -0,0 +1,96 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the BatchResult
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class BatchResultTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    /*
+     * Creates a result of 130 rows where rows 3, 64 and 129 are invalid.
+     */
+    private static BatchResult createResult() {
+        long[] validRows = { -1L & ~(1L << 3), -1L & ~1L, 0x1L };
+        return (new BatchResult(130, validRows, new String[] { "a" }, new RuleTally[] { new RuleTally() }));
+    }
+
+    @Test
+    public void testCounts() {
+        BatchResult result = createResult();
+        Assert.assertEquals(130, result.getRowCount());
+        Assert.assertEquals(3, result.getInvalidRowCount());
+        Assert.assertEquals(127, result.getValidRowCount());
+        Assert.assertFalse(result.isValid());
+        Assert.assertFalse(result.isValid(129));
+        Assert.assertTrue(result.isValid(128));
+        Assert.assertThrows(IllegalArgumentException.class, () -> result.isValid(130));
+    }
+
+    @Test
+    public void testNextInvalidRow() {
+        BatchResult result = createResult();
+        Assert.assertEquals(3, result.nextInvalidRow(0));
+        Assert.assertEquals(3, result.nextInvalidRow(-5));
+        Assert.assertEquals(64, result.nextInvalidRow(4));
+        Assert.assertEquals(129, result.nextInvalidRow(65));
+        Assert.assertEquals(-1, result.nextInvalidRow(130));
+
+        BatchResult valid = new BatchResult(3, new long[] { 0x7L }, new String[] { "a" },
+                new RuleTally[] { new RuleTally() });
+        Assert.assertEquals(-1, valid.nextInvalidRow(0));
+        Assert.assertTrue(valid.isValid());
+    }
+
+    @Test
+    public void testGetValidityBitmap() {
+        BatchResult result = createResult();
+        long[] bitmap = result.getValidityBitmap();
+        bitmap[0] = 0L;
+        Assert.assertTrue(result.isValid(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> result.getTally("b"));
+        Assert.assertNotNull(result.getTally("a"));
+    }
+
+    @Test
+    public void testToString() {
+        String desc = createResult().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+}
@@ -0,0 +1,204 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+
+package com.gabstudios.validate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the BatchSchema
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class BatchSchemaTest {
+
+    private IntegerRule _ageRule;
+    private LongRule _idRule;
+    private DoubleRule _scoreRule;
+    private StringRule _nameRule;
+    private BatchSchema _schema;
+
+    @Before
+    public void setUp() {
+        this._ageRule = Validate.integerRule().testMinValue(0).testMaxValue(150).build();
+        this._idRule = Validate.longRule().isPositiveValue().build();
+        this._scoreRule = Validate.doubleRule().testMinValue(0.0).testMaxValue(1.0).build();
+        this._nameRule = Validate.stringRule().testNotNullEmpty().testMaxLength(8).testMatch("[A-Za-z]*").build();
+        this._schema = Validate.batchSchema().intColumn("age", this._ageRule).longColumn("id", this._idRule)
+                .doubleColumn("score", this._scoreRule).stringColumn("name", this._nameRule).build();
+    }
+
+    @After
+    public void tearDown() {
+        this._schema = null;
+    }
+
+    @Test
+    public void testValidate() {
+        Map<String, Object> columns = new HashMap<String, Object>();
+        columns.put("age", new int[] { 30, -1, 40, 200 });
+        columns.put("id", new long[] { 1L, 2L, 0L, 4L });
+        columns.put("score", new double[] { 0.5, 0.5, 0.5, Double.NaN });
+        columns.put("name", new String[] { "Ann", "Bob", null, "Dave" });
+        columns.put("ignored", "not in the schema");
+
+        BatchResult result = this._schema.validate(columns);
+        Assert.assertEquals(4, result.getRowCount());
+        Assert.assertEquals(1, result.getValidRowCount());
+        Assert.assertEquals(3, result.getInvalidRowCount());
+        Assert.assertFalse(result.isValid());
+        Assert.assertTrue(result.isValid(0));
+        Assert.assertFalse(result.isValid(1));
+        Assert.assertArrayEquals(new long[] { 1L }, result.getValidityBitmap());
+
+        Assert.assertEquals(1L, result.getTally("age").getCount(RuleCode.MIN_VALUE));
+        Assert.assertEquals(1L, result.getTally("age").getCount(RuleCode.MAX_VALUE));
+        Assert.assertEquals(2L, result.getTally("age").getInvalidCount());
+        Assert.assertEquals(1L, result.getTally("id").getCount(RuleCode.POSITIVE_VALUE));
+        Assert.assertEquals(1L, result.getTally("score").getCount(RuleCode.MAX_VALUE));
+        Assert.assertEquals(1L, result.getTally("name").getCount(RuleCode.NOT_NULL));
+        Assert.assertEquals(0L, result.getTally("name").getCount(RuleCode.NOT_EMPTY));
+    }
+
+    @Test
+    public void testValidateMatchesRowByRow() {
+        Random random = new Random(42);
+        int rowCount = 1000;
+        int[] ages = new int[rowCount];
+        long[] ids = new long[rowCount];
+        double[] scores = new double[rowCount];
+        String[] names = new String[rowCount];
+        String[] words = { "Ann", "", null, "Bartholomew", "R2D2", "Eve" };
+        for (int i = 0; i < rowCount; i++) {
+            ages[i] = random.nextInt(200) - 20;
+            ids[i] = random.nextInt(100) - 5;
+            scores[i] = random.nextDouble() * 1.2 - 0.1;
+            names[i] = words[random.nextInt(words.length)];
+        }
+        scores[7] = -0.0;
+        scores[8] = Double.NaN;
+        Map<String, Object> columns = new HashMap<String, Object>();
+        columns.put("age", ages);
+        columns.put("id", ids);
+        columns.put("score", scores);
+        columns.put("name", names);
+
+        BatchResult result = this._schema.validate(columns);
+        RuleTally ageTally = new RuleTally();
+        RuleTally nameTally = new RuleTally();
+        int invalidCount = 0;
+        for (int i = 0; i < rowCount; i++) {
+            long ageRules = this._ageRule.tryValidate(ages[i]);
+            long nameRules = this._nameRule.tryValidate(names[i]);
+            ageTally.add(ageRules);
+            nameTally.add(nameRules);
+            boolean isValid = (ageRules | nameRules | this._idRule.tryValidate(ids[i])
+                    | this._scoreRule.tryValidate(scores[i])) == 0L;
+            Assert.assertEquals("row " + i, isValid, result.isValid(i));
+            invalidCount += isValid ? 0 : 1;
+        }
+        Assert.assertEquals(invalidCount, result.getInvalidRowCount());
+        Assert.assertEquals(ageTally, result.getTally("age"));
+        Assert.assertEquals(nameTally.getCounts(), result.getTally("name").getCounts());
+        Assert.assertEquals(nameTally.getInvalidCount(), result.getTally("name").getInvalidCount());
+    }
+
+    @Test
+    public void testEqualsColumns() {
+        BatchSchema schema = Validate.batchSchema()
+                .stringColumn("code", Validate.stringRule().testEqualsNoCase("ok").build())
+                .doubleColumn("zero", Validate.doubleRule().isZeroValue().build()).build();
+        Map<String, Object> columns = new HashMap<String, Object>();
+        columns.put("code", new String[] { "OK", "ok", "no" });
+        columns.put("zero", new double[] { 0.0, -0.0, 0.0 });
+        BatchResult result = schema.validate(columns);
+        Assert.assertArrayEquals(new long[] { 1L }, result.getValidityBitmap());
+    }
+
+    @Test
+    public void testBadBatch() {
+        Map<String, Object> columns = new HashMap<String, Object>();
+        columns.put("age", new int[] { 1, 2 });
+        columns.put("id", new long[] { 1L, 2L });
+        columns.put("score", new double[] { 0.5, 0.5 });
+        Assert.assertThrows(IllegalArgumentException.class, () -> this._schema.validate(columns));
+
+        columns.put("name", new String[] { "a" });
+        Assert.assertThrows(IllegalArgumentException.class, () -> this._schema.validate(columns));
+
+        columns.put("name", new int[] { 1, 2 });
+        Assert.assertThrows(IllegalArgumentException.class, () -> this._schema.validate(columns));
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> this._schema.validate(null));
+    }
+
+    @Test
+    public void testBuilder() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.batchSchema().build());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.batchSchema().intColumn("age", this._ageRule).intColumn("age", this._ageRule));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.batchSchema().intColumn(null, this._ageRule));
+        Assert.assertEquals(Arrays.asList("age", "id", "score", "name"), this._schema.getColumnNames());
+    }
+
+    @Test
+    public void testToString() {
+        String desc = this._schema.toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testCharsColumn() {
+        CharClass digits = Validate.charClass().digits().build();
+        BatchSchema schema = Validate.batchSchema()
+                .stringColumn("code", Validate.stringRule().testAllowedChars(digits).build())
+                .stringColumn("name", Validate.stringRule().testForbiddenChars(digits).build()).build();
+        Map<String, Object> columns = new HashMap<String, Object>();
+        columns.put("code", new String[] { "123", "12a", "9", null });
+        columns.put("name", new String[] { "ann", "bob", "r2d2", "x" });
+        BatchResult result = schema.validate(columns);
+        Assert.assertArrayEquals(new long[] { 1L }, result.getValidityBitmap());
+        Assert.assertEquals(1L, result.getTally("code").getCount(RuleCode.ALLOWED_CHARS));
+        Assert.assertEquals(1L, result.getTally("name").getCount(RuleCode.FORBIDDEN_CHARS));
+    }
+
+    @Test
+    public void testLinearPatternColumn() {
+        BatchSchema schema = Validate.batchSchema()
+                .stringColumn("code", Validate.stringRule().testMatch(LinearPattern.compile("[A-Z]{3}-\\d+")).build())
+                .build();
+        Map<String, Object> columns = new HashMap<String, Object>();
+        columns.put("code", new String[] { "ORD-1", "ord-1", "ORD-", "ABC-42", null });
+        BatchResult result = schema.validate(columns);
+        Assert.assertArrayEquals(new long[] { 9L }, result.getValidityBitmap());
+        Assert.assertEquals(2L, result.getTally("code").getCount(RuleCode.MATCH));
+    }
+}
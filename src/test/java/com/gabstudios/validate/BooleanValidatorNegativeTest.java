@@ -73,4 +73,10 @@ public class BooleanValidatorNegativeTest {
 
     }
 
+    @Test
+    public void testFailFast() {
+        boolean retVal = Validate.defineBoolean(true).testFalse().failFast().validate();
+        Assert.assertFalse(retVal);
+    }
+
 }
@@ -0,0 +1,105 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the ByteRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ByteRuleTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.byteRule().build().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        ByteRule rule = Validate.byteRule().build();
+        Assert.assertTrue(rule.test((byte) 5));
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        ByteRule rule = Validate.byteRule().testMinValue((byte) 4).testMaxValue((byte) 10).build();
+        Assert.assertTrue(rule.test((byte) 4));
+        Assert.assertTrue(rule.test((byte) 5));
+        Assert.assertTrue(rule.test((byte) 10));
+        Assert.assertFalse(rule.test((byte) 3));
+        Assert.assertFalse(rule.test((byte) 11));
+    }
+
+    @Test
+    public void testZeroValue() {
+        ByteRule rule = Validate.byteRule().isZeroValue().build();
+        Assert.assertTrue(rule.test((byte) 0));
+        Assert.assertFalse(rule.test((byte) 5));
+    }
+
+    @Test
+    public void testPositiveValue() {
+        ByteRule rule = Validate.byteRule().isPositiveValue().build();
+        Assert.assertTrue(rule.test((byte) 5));
+        Assert.assertFalse(rule.test((byte) 0));
+        Assert.assertFalse(rule.test((byte) -5));
+    }
+
+    @Test
+    public void testNegativeValue() {
+        ByteRule rule = Validate.byteRule().isNegativeValue().build();
+        Assert.assertTrue(rule.test((byte) -5));
+        Assert.assertFalse(rule.test((byte) 0));
+        Assert.assertFalse(rule.test((byte) 5));
+    }
+
+    @Test
+    public void testEquals() {
+        ByteRule rule = Validate.byteRule().testEquals((byte) 5).build();
+        Assert.assertTrue(rule.test((byte) 5));
+        Assert.assertFalse(rule.test((byte) 4));
+    }
+
+    @Test
+    public void testReuse() {
+        ByteRule.Builder builder = Validate.byteRule().testMaxValue((byte) 10);
+        ByteRule rule = builder.build();
+        builder.testMaxValue((byte) 3);
+        Assert.assertTrue(rule.test((byte) 5));
+        Assert.assertFalse(builder.build().test((byte) 5));
+    }
+
+}
@@ -0,0 +1,154 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the CharClass
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CharClassTest
+{
+    @Before
+    public void setUp()
+    {
+        //
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        CharClass empty = Validate.charClass().build();
+        for (int c = 0; c <= Character.MAX_VALUE; c++)
+        {
+            Assert.assertFalse(empty.contains((char) c));
+        }
+        Assert.assertEquals("[]", empty.toString());
+        Assert.assertEquals(-1, empty.indexOfIn("abc"));
+        Assert.assertEquals(0, empty.indexOfNotIn("abc"));
+        Assert.assertEquals(-1, empty.indexOfNotIn(""));
+    }
+
+    @Test
+    public void testIdentifier()
+    {
+        CharClass identifier = Validate.charClass().range('a', 'z').range('A', 'Z').range('0', '9').chars("_-")
+                .build();
+        for (int c = 0; c <= Character.MAX_VALUE; c++)
+        {
+            boolean expected = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '_' || c == '-';
+            Assert.assertEquals(String.valueOf(c), expected, identifier.contains((char) c));
+        }
+        Assert.assertEquals("[\\u002d0-9A-Z_a-z]", identifier.toString());
+        Assert.assertEquals(-1, identifier.indexOfNotIn("Hello_World-42"));
+        Assert.assertEquals(5, identifier.indexOfNotIn(new StringBuilder("Hello World")));
+        Assert.assertEquals(1, identifier.indexOfIn("!a!"));
+    }
+
+    @Test
+    public void testPredicates()
+    {
+        CharClass chars = Validate.charClass().digits().upperCase().build();
+        CharClass lower = Validate.charClass().lowerCase().build();
+        CharClass space = Validate.charClass().whitespace().build();
+        for (int c = 0; c <= Character.MAX_VALUE; c++)
+        {
+            char value = (char) c;
+            Assert.assertEquals(Character.isDigit(value) || Character.isUpperCase(value), chars.contains(value));
+            Assert.assertEquals(Character.isLowerCase(value), lower.contains(value));
+            Assert.assertEquals(Character.isWhitespace(value), space.contains(value));
+        }
+    }
+
+    @Test
+    public void testAddRuleAndClass()
+    {
+        CharRule upperAscii = Validate.charRule().testIsUpperCase().testMaxValue('\u007f').build();
+        CharClass chars = Validate.charClass().add(upperAscii).add(Validate.charClass().chars("é￿").build())
+                .build();
+        for (int c = 0; c <= Character.MAX_VALUE; c++)
+        {
+            boolean expected = (c >= 'A' && c <= 'Z') || c == 'é' || c == '￿';
+            Assert.assertEquals(String.valueOf(c), expected, chars.contains((char) c));
+        }
+        Assert.assertEquals("[A-Z\\u00e9\\uffff]", chars.toString());
+    }
+
+    @Test
+    public void testRandom()
+    {
+        // random sets, so the shared blocks of the table are tested.
+        Random random = new Random(42);
+        for (int n = 0; n < 20; n++)
+        {
+            boolean[] expected = new boolean[Character.MAX_VALUE + 1];
+            CharClass.Builder builder = Validate.charClass();
+            for (int r = 0; r < 30; r++)
+            {
+                int first = random.nextInt(expected.length);
+                int last = Math.min(expected.length - 1, first + random.nextInt((r % 3 == 0) ? 2000 : 20));
+                builder.range((char) first, (char) last);
+                for (int c = first; c <= last; c++)
+                {
+                    expected[c] = true;
+                }
+            }
+            CharClass chars = builder.build();
+            for (int c = 0; c <= Character.MAX_VALUE; c++)
+            {
+                Assert.assertEquals(String.valueOf(c), expected[c], chars.contains((char) c));
+            }
+        }
+        CharClass all = Validate.charClass().range('\u0000', '￿').build();
+        Assert.assertTrue(all.contains('￿'));
+        Assert.assertEquals("[\\u0000-\\uffff]", all.toString());
+    }
+
+    @Test
+    public void testToStringLimit()
+    {
+        CharClass chars = Validate.charClass().chars("acegikmoqsuwy").chars("ACEGIKMOQ").build();
+        Assert.assertEquals("[ACEGIKMOQacegikm...]", chars.toString());
+    }
+
+    @Test
+    public void testErrors()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.charClass().range('z', 'a'));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.charClass().chars(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.charClass().add((CharRule) null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.charClass().add((CharClass) null));
+    }
+}
@@ -0,0 +1,113 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the CharRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CharRuleTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.charRule().build().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        Assert.assertTrue(Validate.charRule().build().test('a'));
+    }
+
+    @Test
+    public void testNotEmpty() {
+        CharRule rule = Validate.charRule().testNotEmpty().build();
+        Assert.assertTrue(rule.test('a'));
+        Assert.assertFalse(rule.test('\0'));
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        CharRule rule = Validate.charRule().testMinValue('b').testMaxValue('y').build();
+        Assert.assertTrue(rule.test('b'));
+        Assert.assertTrue(rule.test('y'));
+        Assert.assertFalse(rule.test('a'));
+        Assert.assertFalse(rule.test('z'));
+    }
+
+    @Test
+    public void testEquals() {
+        CharRule rule = Validate.charRule().testEquals('a').build();
+        Assert.assertTrue(rule.test('a'));
+        Assert.assertFalse(rule.test('b'));
+    }
+
+    @Test
+    public void testIsDigit() {
+        CharRule rule = Validate.charRule().testIsDigit().build();
+        Assert.assertTrue(rule.test('7'));
+        Assert.assertFalse(rule.test('a'));
+    }
+
+    @Test
+    public void testIsLowerCase() {
+        CharRule rule = Validate.charRule().testIsUpperCase().testIsLowerCase().build();
+        Assert.assertTrue(rule.test('a'));
+        Assert.assertFalse(rule.test('A'));
+    }
+
+    @Test
+    public void testIsUpperCase() {
+        CharRule rule = Validate.charRule().testIsLowerCase().testIsUpperCase().build();
+        Assert.assertTrue(rule.test('A'));
+        Assert.assertFalse(rule.test('a'));
+    }
+
+    @Test
+    public void testIsWhitespace() {
+        CharRule rule = Validate.charRule().testIsWhitespace().build();
+        Assert.assertTrue(rule.test(' '));
+        Assert.assertFalse(rule.test('a'));
+    }
+
+    @Test
+    public void testTryValidate() {
+        CharRule rule = Validate.charRule().testNotEmpty().testIsDigit().testMaxValue('5').build();
+        Assert.assertEquals(0L, rule.tryValidate('3'));
+        Assert.assertEquals(RuleCode.IS_DIGIT.mask() | RuleCode.MAX_VALUE.mask(), rule.tryValidate('a'));
+        Assert.assertEquals(RuleCode.NOT_EMPTY.mask() | RuleCode.IS_DIGIT.mask(), rule.tryValidate('\0'));
+    }
+}
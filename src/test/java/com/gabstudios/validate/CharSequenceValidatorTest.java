@@ -0,0 +1,342 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the CharSequenceValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CharSequenceValidatorTest
+{
+    @Before
+    public void setUp()
+    {
+        //
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    @Test
+    public void testToString()
+    {
+        String desc = Validate.defineCharSequence(new StringBuilder("5")).toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testGetValue()
+    {
+        StringBuilder x = new StringBuilder("5");
+        Assert.assertSame(x, Validate.defineCharSequence(x).getValue());
+    }
+
+    @Test
+    public void testNoTest()
+    {
+        Assert.assertTrue(Validate.defineCharSequence(new StringBuilder("5")).throwValidationExceptionOnFail()
+                .validate());
+        Assert.assertTrue(Validate.defineCharSequence(null).validate());
+    }
+
+    @Test
+    public void testLength()
+    {
+        StringBuilder x = new StringBuilder("HelloWorld");
+        Assert.assertTrue(Validate.defineCharSequence(x).testMinLength(10).testMaxLength(10).validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testMaxLength(9).validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testMinLength(11).validate());
+        Assert.assertFalse(Validate.defineCharSequence(null).testMinLength(1).validate());
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharSequence(x).testMaxLength(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.defineCharSequence(x).testMinLength(-1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence(x).testMaxLength(5).testMinLength(6));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence(x).testMinLength(6).testMaxLength(5));
+    }
+
+    @Test
+    public void testNotNullEmpty()
+    {
+        Assert.assertTrue(Validate.defineCharSequence(new StringBuilder("a")).testNotNullEmpty().validate());
+        Assert.assertFalse(Validate.defineCharSequence(new StringBuilder()).testNotNullEmpty().validate());
+        Assert.assertFalse(Validate.defineCharSequence(null).testNotNullEmpty().validate());
+        Assert.assertFalse(Validate.defineCharSequence(null).testNotNull().validate());
+    }
+
+    @Test
+    public void testEquals()
+    {
+        StringBuilder x = new StringBuilder("HelloWorld");
+        Assert.assertTrue(Validate.defineCharSequence(x).testEquals("HelloWorld").validate());
+        Assert.assertTrue(Validate.defineCharSequence(x).testEquals(new StringBuilder("HelloWorld")).validate());
+        Assert.assertTrue(Validate.defineCharSequence(CharBuffer.wrap("xHelloWorldx", 1, 11))
+                .testEquals("HelloWorld").validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testEquals("helloworld").validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testEquals(null).validate());
+        Assert.assertFalse(Validate.defineCharSequence(null).testEquals("HelloWorld").validate());
+    }
+
+    @Test
+    public void testSameAsString()
+    {
+        // the tests are shared, so a StringBuilder fails the same tests in the
+        // same order as a String.
+        CharClass letters = Validate.charClass().range('a', 'z').range('A', 'Z').build();
+        ValidationResult expected = Validate.defineString("Hello World").testMaxLength(5).testEquals("Hello")
+                .testAllowedChars(letters).testNotNullEmpty().validateAll();
+        ValidationResult result = Validate.defineCharSequence(new StringBuilder("Hello World")).testMaxLength(5)
+                .testEquals("Hello").testAllowedChars(letters).testNotNullEmpty().validateAll();
+        Assert.assertEquals(3, result.getViolationCount());
+        Assert.assertEquals(expected.toString(), result.toString());
+    }
+
+    @Test
+    public void testEqualsNoCaseSupplementary()
+    {
+        // U+10400 and U+10428 are the two cases of a surrogate pair.
+        StringBuilder x = new StringBuilder("\uD801\uDC00");
+        Assert.assertTrue(Validate.defineCharSequence(x).testEqualsNoCase("\uD801\uDC28").validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testEqualsNoCase("\uD801\uDC29").validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testEqualsNoCase("\uD801").validate());
+        Assert.assertTrue(Validate.defineCharSequence(new StringBuilder("\uD801\uDC28"))
+                .testOneOfIgnoreCase(Arrays.asList("\uD801\uDC00")).validate());
+    }
+
+    @Test
+    public void testEqualsNoCase()
+    {
+        StringBuilder x = new StringBuilder("HelloWorld");
+        Assert.assertTrue(Validate.defineCharSequence(x).testEqualsNoCase("hELLOwORLD").validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testEqualsNoCase("hELLOwORL").validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testEqualsNoCase(null).validate());
+        // the last test wins.
+        Assert.assertTrue(Validate.defineCharSequence(x).testEquals("x").testEqualsNoCase("HELLOWORLD").validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testEqualsNoCase("HELLOWORLD").testEquals("x").validate());
+    }
+
+    @Test
+    public void testMatch()
+    {
+        StringBuilder x = new StringBuilder("HelloWorld");
+        Assert.assertTrue(Validate.defineCharSequence(x).testMatch("[A-Za-z]+").validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testMatch(Pattern.compile("[a-z]+")).validate());
+        Assert.assertFalse(Validate.defineCharSequence(null).testMatch("[a-z]*").validate());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence(x).testMatch((Pattern) null));
+    }
+
+    @Test
+    public void testMatchLinearPattern()
+    {
+        StringBuilder x = new StringBuilder("HelloWorld");
+        Assert.assertTrue(Validate.defineCharSequence(x).testMatch(LinearPattern.compile("[A-Za-z]+")).validate());
+        Assert.assertFalse(Validate.defineCharSequence(x).testMatch(LinearPattern.compile("[a-z]+")).validate());
+        Assert.assertFalse(Validate.defineCharSequence(null).testMatch(LinearPattern.compile("[a-z]*")).validate());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence(x).testMatch((LinearPattern) null));
+    }
+
+    @Test
+    public void testOneOf()
+    {
+        StringBuilder x = new StringBuilder("usd");
+        Assert.assertFalse(Validate.defineCharSequence(x).testOneOf(Arrays.asList("EUR", "USD")).validate());
+        Assert.assertTrue(Validate.defineCharSequence(x).testOneOfIgnoreCase(Arrays.asList("EUR", "USD")).validate());
+        x.setLength(2);
+        Assert.assertEquals(RuleCode.ONE_OF.mask(),
+                Validate.defineCharSequence(x).testOneOfIgnoreCase(Arrays.asList("EUR", "USD")).tryValidate());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence(x).testOneOf((StringSet) null));
+    }
+
+    @Test
+    public void testHasPrefixIn()
+    {
+        StringBuilder x = new StringBuilder("orders.created");
+        Assert.assertTrue(Validate.defineCharSequence(x).testHasPrefixIn(Arrays.asList("orders.")).validate());
+        Assert.assertEquals(RuleCode.NOT_HAS_PREFIX_IN.mask(),
+                Validate.defineCharSequence(x).testNotHasPrefixIn(Arrays.asList("orders.")).tryValidate());
+        x.setLength(6);
+        Assert.assertEquals(RuleCode.HAS_PREFIX_IN.mask(),
+                Validate.defineCharSequence(x).testHasPrefixIn(Arrays.asList("orders.")).tryValidate());
+        Assert.assertTrue(Validate.defineCharSequence(x).testNotHasPrefixIn(Arrays.asList("orders.")).validate());
+    }
+
+    @Test
+    public void testMatchBudget()
+    {
+        MatchBudget budget = Validate.matchBudget().maxLength(8).build();
+        StringBuilder x = new StringBuilder("HelloWorld");
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(),
+                Validate.defineCharSequence(x).testMatch("[A-Za-z]+").testMatchBudget(budget).tryValidate());
+        x.setLength(5);
+        Assert.assertTrue(Validate.defineCharSequence(x).testMatch("[A-Za-z]+").testMatchBudget(budget).validate());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence(x).testMatchBudget(null));
+    }
+
+    @Test
+    public void testThrowAndCollect()
+    {
+        StringBuilder x = new StringBuilder("HelloWorld");
+        try
+        {
+            Validate.defineCharSequence(x).testMaxLength(5).throwValidationExceptionOnFail().validate();
+            Assert.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assert.assertEquals(RuleCode.MAX_LENGTH, e.getRuleCode());
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("HelloWorld"));
+        }
+
+        ValidationResult result = Validate.defineCharSequence(x).testMaxLength(5).testMatch("[a-z]+").validateAll();
+        Assert.assertEquals(2, result.getViolations().size());
+        Assert.assertEquals(RuleCode.MAX_LENGTH.mask() | RuleCode.MATCH.mask(),
+                Validate.defineCharSequence(x).testMaxLength(5).testMatch("[a-z]+").tryValidate());
+    }
+
+    @Test
+    public void testReusedBuffer()
+    {
+        // the value of a failure is copied, so the buffer can be reused.
+        StringBuilder x = new StringBuilder("HelloWorld");
+        ValidateException exception = null;
+        try
+        {
+            Validate.defineCharSequence(x).testEquals("Hello").throwValidationExceptionOnFail().validate();
+            Assert.fail();
+        }
+        catch (ValidateException e)
+        {
+            exception = e;
+        }
+        ValidationResult result = Validate.defineCharSequence(x).testMaxLength(5).testMatch("[a-z]+").validateAll();
+        x.setLength(0);
+        x.append("OVERWRITTEN");
+        Assert.assertTrue(exception.getMessage(), exception.getMessage().contains("value = 'HelloWorld'"));
+        for (Violation violation : result.getViolations())
+        {
+            Assert.assertEquals("HelloWorld", violation.getArguments()[0]);
+            Assert.assertFalse(violation.getMessage(), violation.getMessage().contains("OVERWRITTEN"));
+        }
+    }
+
+    @Test
+    public void testSameAsStringValidator()
+    {
+        String[] values = { "hello", "HELLO", "HelloWorld", "a", "", null };
+        for (String value : values)
+        {
+            CharSequence chars = (value != null) ? new StringBuilder(value) : null;
+            Assert.assertEquals(value,
+                    Validate.defineString(value).testMinLength(2).testMaxLength(5).testMatch("[a-z]*").tryValidate(),
+                    Validate.defineCharSequence(chars).testMinLength(2).testMaxLength(5).testMatch("[a-z]*")
+                            .tryValidate());
+            Assert.assertEquals(value, Validate.defineString(value).testEqualsNoCase("hello").tryValidate(),
+                    Validate.defineCharSequence(chars).testEqualsNoCase("hello").tryValidate());
+        }
+    }
+
+    @Test
+    public void testUtf8()
+    {
+        byte[] bytes = "id=ORD-0123456789;".getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(Validate.defineUtf8(bytes, 3, 14).testMaxLength(14).testMatch("ORD-[0-9]{10}")
+                .testEquals("ORD-0123456789").validate());
+        Assert.assertFalse(Validate.defineUtf8(bytes).testMatch("ORD-[0-9]{10}").validate());
+        Assert.assertEquals(18, Validate.defineUtf8(bytes).getValue().length());
+
+        // the length is counted in chars, as for a String.
+        byte[] text = "héllo 😀".getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(Validate.defineUtf8(text).testMinLength(8).testMaxLength(8).validate());
+        Assert.assertTrue(Validate.defineUtf8(text).testEqualsNoCase("HÉLLO 😀").validate());
+
+        Assert.assertFalse(Validate.defineUtf8(null).testNotNull().validate());
+        Assert.assertFalse(Validate.defineUtf8(new byte[0]).testNotNullEmpty().validate());
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.defineUtf8(bytes, 10, 10));
+        try
+        {
+            Validate.defineUtf8(bytes, 3, 14).testMaxLength(5).throwValidationExceptionOnFail().validate();
+            Assert.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("ORD-0123456789"));
+        }
+    }
+
+    @Test
+    public void testUtf8ReusedBuffer()
+    {
+        // the bytes of a failure are copied, so the buffer can be reused.
+        byte[] bytes = "id=ORD-0123456789;".getBytes(StandardCharsets.UTF_8);
+        ValidateException exception = null;
+        try
+        {
+            Validate.defineUtf8(bytes, 3, 14).testMaxLength(3).throwValidationExceptionOnFail().validate();
+            Assert.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e)
+        {
+            exception = e;
+        }
+        ValidationResult result = Validate.defineUtf8(bytes, 3, 14).testMatch("[0-9]+").validateAll();
+        Arrays.fill(bytes, (byte) 'X');
+        Assert.assertTrue(exception.getMessage(), exception.getMessage().contains("value = 'ORD-0123456789'"));
+        Assert.assertEquals("ORD-0123456789", result.getViolations().get(0).getArguments()[0]);
+    }
+
+    @Test
+    public void testChars()
+    {
+        CharClass digits = Validate.charClass().digits().build();
+        Assert.assertTrue(Validate.defineCharSequence(new StringBuilder("0123")).testAllowedChars(digits).validate());
+        Assert.assertFalse(Validate.defineCharSequence(new StringBuilder("01a3")).testAllowedChars(digits).validate());
+        Assert.assertTrue(Validate.defineCharSequence(new StringBuilder("abc")).testForbiddenChars(digits).validate());
+        Assert.assertFalse(Validate.defineCharSequence(new StringBuilder("ab3")).testForbiddenChars(digits)
+                .validate());
+        byte[] bytes = "id=0123;".getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(Validate.defineUtf8(bytes, 3, 4).testAllowedChars(digits).validate());
+        Assert.assertEquals(RuleCode.ALLOWED_CHARS.mask(),
+                Validate.defineUtf8(bytes).testAllowedChars(digits).tryValidate());
+        Assert.assertFalse(Validate.defineCharSequence(null).testForbiddenChars(digits).validate());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence("x").testAllowedChars(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineCharSequence("x").testForbiddenChars(null));
+    }
+}
@@ -0,0 +1,58 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the CharSlice
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class CharSliceTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testView() {
+        char[] chars = "a,bcd,e".toCharArray();
+        CharSlice slice = new CharSlice();
+        Assert.assertEquals(0, slice.length());
+        Assert.assertEquals("bcd", slice.set(chars, 2, 3).toString());
+        Assert.assertEquals(3, slice.length());
+        Assert.assertEquals('c', slice.charAt(1));
+        Assert.assertEquals("cd", slice.subSequence(1, 3).toString());
+        Assert.assertTrue("bcd".contentEquals(slice));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> slice.charAt(3));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> slice.charAt(-1));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> slice.subSequence(2, 4));
+    }
+}
@@ -118,4 +118,10 @@ public class CharValidatorNegativeTest {
 
     }
 
+    @Test
+    public void testFailFast() {
+        boolean retVal = Validate.defineChar('a').testIsDigit().testIsUpperCase().failFast().validate();
+        Assert.assertFalse(retVal);
+    }
+
 }
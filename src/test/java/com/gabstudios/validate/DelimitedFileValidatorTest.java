@@ -0,0 +1,208 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the DelimitedFileValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class DelimitedFileValidatorTest {
+
+    private Path            _file;
+
+    private DelimitedSchema _schema;
+
+    @Before
+    public void setUp() throws IOException {
+        this._file = Files.createTempFile("rows", ".csv");
+        this._schema = Validate.delimitedSchema().skipHeader()
+                .stringColumn("name", Validate.stringRule().testNotNullEmpty().testMaxLength(8).build())
+                .intColumn("age", Validate.integerRule().testMinValue(0).testMaxValue(150).build())
+                .skipColumn()
+                .doubleColumn("balance", Validate.doubleRule().testMinValue(0.0).build()).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this._file);
+    }
+
+    private void write(final String text) throws IOException {
+        Files.write(this._file, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<RecordViolation> validate(final int bufferSize) throws IOException {
+        List<RecordViolation> violations = new ArrayList<RecordViolation>();
+        Validate.defineDelimitedFile(this._file, this._schema).bufferSize(bufferSize).validate(violations::add);
+        return (violations);
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineDelimitedFile(this._file, this._schema).toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testValid() throws IOException {
+        write("name,age,note,balance\nann,30,x,10.5\n\"bob\",40,\"a, \"\"b\"\"\nc\",0\r\nzoe,150,,1e3");
+        List<RecordViolation> violations = new ArrayList<RecordViolation>();
+        RecordFileResult result = Validate.defineDelimitedFile(this._file, this._schema).validate(violations::add);
+        Assert.assertTrue(violations.toString(), result.isValid());
+        Assert.assertEquals(3L, result.getRecordCount());
+        Assert.assertEquals(3L, result.getTally("balance").getTestedCount());
+        Assert.assertEquals(0L, result.getTrailingByteCount());
+    }
+
+    @Test
+    public void testViolations() throws IOException {
+        write("name,age,note,balance\n"
+                + "ann,-1,x,10.5\n"
+                + ",30,x,abc\n"
+                + "\n"
+                + "\"toolongname\",999\n"
+                + "\"x\"\"y\",1,x,1\n");
+        List<RecordViolation> violations = new ArrayList<RecordViolation>();
+        RecordFileResult result = Validate.defineDelimitedFile(this._file, this._schema).validate(violations::add);
+        Assert.assertEquals(4L, result.getRecordCount());
+        Assert.assertEquals(3L, result.getInvalidRecordCount());
+        Assert.assertEquals(1L, result.getTally("age").getCount(RuleCode.MIN_VALUE));
+        Assert.assertEquals(1L, result.getTally("age").getCount(RuleCode.MAX_VALUE));
+        Assert.assertEquals(1L, result.getTally("name").getCount(RuleCode.NOT_EMPTY));
+        Assert.assertEquals(1L, result.getTally("balance").getCount(RuleCode.NUMBER_FORMAT));
+        Assert.assertEquals(1L, result.getTally("balance").getCount(RuleCode.NOT_NULL));
+
+        Assert.assertEquals(6, violations.size());
+        Assert.assertEquals(0L, violations.get(0).getRecordIndex());
+        Assert.assertEquals("age", violations.get(0).getFieldName());
+        Assert.assertEquals("-1", violations.get(0).getValue());
+        Assert.assertEquals("name", violations.get(1).getFieldName());
+        Assert.assertEquals("", violations.get(1).getValue());
+        Assert.assertEquals(RuleCode.NUMBER_FORMAT.mask(), violations.get(2).getFailedRules());
+        Assert.assertEquals(2L, violations.get(3).getRecordIndex());
+        Assert.assertEquals("toolongname", violations.get(3).getValue());
+        Assert.assertEquals("999", violations.get(4).getValue());
+        Assert.assertNull(violations.get(5).getValue());
+        Assert.assertEquals(RuleCode.NOT_NULL.mask(), violations.get(5).getFailedRules());
+    }
+
+    @Test
+    public void testSmallBuffer() throws IOException {
+        // rows, quotes and multi-byte chars across the buffer boundaries.
+        StringBuilder text = new StringBuilder("name,age,note,balance\n");
+        for (int i = 0; i < 500; i++) {
+            text.append((i % 7 == 0) ? "\"éé\"\"€\"" : "né" + i % 10).append(',')
+                    .append((i % 11 == 0) ? -i : i % 150).append(',').append("\"a,\nb\"").append(',')
+                    .append(i * 0.25).append((i % 2 == 0) ? "\r\n" : "\n");
+        }
+        write(text.toString());
+        List<RecordViolation> expected = validate(1 << 20);
+        Assert.assertEquals(45, expected.size());
+        for (int bufferSize = 16; bufferSize < 64; bufferSize += 5) {
+            List<RecordViolation> violations = validate(bufferSize);
+            Assert.assertEquals(expected.toString(), violations.toString());
+        }
+        RecordFileResult result = Validate.defineDelimitedFile(this._file, Validate.delimitedSchema().skipHeader()
+                .stringColumn("name", Validate.stringRule().testMaxLength(3).build()).build()).bufferSize(16)
+                .validate(null);
+        Assert.assertEquals(72L, result.getInvalidRecordCount());
+    }
+
+    @Test
+    public void testLongRow() throws IOException {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            name.append('x');
+        }
+        write("h\nann,1,,1\n" + name + ",1,,1\nbob,1,,1\n");
+        List<RecordViolation> violations = validate(16);
+        Assert.assertEquals(1, violations.size());
+        Assert.assertEquals(1L, violations.get(0).getRecordIndex());
+        Assert.assertEquals(name.toString(), violations.get(0).getValue());
+    }
+
+    @Test(timeout = 10000)
+    public void testSupplementaryCharOnBufferBoundary() throws IOException {
+        // a surrogate pair needs two chars, so it does not fit the last free
+        // char of the buffer.
+        for (int length = 1; length < 40; length++) {
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                name.append('x');
+            }
+            name.append("\uD83D\uDE00").append("xxxxxxxxxxxxxxxxxxxx");
+            write("h\n" + name + ",1,,1\nbob,1,,1\n");
+            List<RecordViolation> violations = validate(16);
+            Assert.assertEquals(1, violations.size());
+            Assert.assertEquals(name.toString(), violations.get(0).getValue());
+        }
+    }
+
+    @Test
+    public void testMalformedQuote() throws IOException {
+        write("\"ab\"c,1\n\"ok\",2\n\"open,3");
+        DelimitedSchema schema = Validate.delimitedSchema()
+                .stringColumn("name", Validate.stringRule().testMaxLength(3).build()).build();
+        List<RecordViolation> violations = new ArrayList<RecordViolation>();
+        RecordFileResult result = Validate.defineDelimitedFile(this._file, schema).validate(violations::add);
+        Assert.assertEquals(3L, result.getRecordCount());
+        Assert.assertEquals(2, violations.size());
+        Assert.assertEquals("\"ab\"c", violations.get(0).getValue());
+        Assert.assertEquals("\"open", violations.get(1).getValue());
+        Assert.assertEquals(RuleCode.MAX_LENGTH.mask(), violations.get(1).getFailedRules());
+    }
+
+    @Test
+    public void testWriteReport() throws IOException {
+        write("name,age,note,balance\nann,-1,x,10.5\n\"a\"\"b\",30,x,-2\n");
+        StringBuilder report = new StringBuilder();
+        RecordFileResult result = Validate.defineDelimitedFile(this._file, this._schema).writeReport(report);
+        Assert.assertEquals(2L, result.getInvalidRecordCount());
+        Assert.assertEquals("row,column,rules,value\n0,\"age\",MIN_VALUE,\"-1\"\n1,\"balance\",MIN_VALUE,\"-2\"\n",
+                report.toString());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineDelimitedFile(this._file, this._schema).writeReport(null));
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.defineDelimitedFile(null, this._schema));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.defineDelimitedFile(this._file, null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineDelimitedFile(this._file, this._schema).bufferSize(15));
+        Files.delete(this._file);
+        Assert.assertThrows(IOException.class,
+                () -> Validate.defineDelimitedFile(this._file, this._schema).validate(null));
+    }
+}
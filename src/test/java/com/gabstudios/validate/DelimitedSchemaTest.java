@@ -0,0 +1,83 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the DelimitedSchema
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class DelimitedSchemaTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testBuild() {
+        DelimitedSchema schema = Validate.delimitedSchema().delimiter('|').quote('\'').skipHeader()
+                .charset(StandardCharsets.ISO_8859_1).stringColumn("name", Validate.stringRule().build())
+                .skipColumn().intColumn("age", Validate.integerRule().build()).build();
+        Assert.assertEquals('|', schema.getDelimiter());
+        Assert.assertEquals('\'', schema.getQuote());
+        Assert.assertTrue(schema.isHeaderSkipped());
+        Assert.assertEquals(StandardCharsets.ISO_8859_1, schema.getCharset());
+        Assert.assertEquals(Arrays.asList("name", "age"), schema.getColumnNames());
+        Assert.assertEquals(3, schema.getColumnCount());
+        Assert.assertNull(schema.getRule(1));
+        Assert.assertTrue(schema.toString().length() != 0);
+
+        schema = Validate.delimitedSchema().longColumn("id", Validate.longRule().build()).build();
+        Assert.assertEquals(',', schema.getDelimiter());
+        Assert.assertEquals('"', schema.getQuote());
+        Assert.assertFalse(schema.isHeaderSkipped());
+        Assert.assertEquals(StandardCharsets.UTF_8, schema.getCharset());
+    }
+
+    @Test
+    public void testBadSchema() {
+        DoubleRule rule = Validate.doubleRule().build();
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.delimitedSchema().build());
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.delimitedSchema().skipColumn().build());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.delimitedSchema().doubleColumn("a", rule).doubleColumn("a", rule));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.delimitedSchema().doubleColumn(null, rule));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.delimitedSchema().doubleColumn("a", null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.delimitedSchema().delimiter('\n'));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.delimitedSchema().quote('\r'));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.delimitedSchema().charset(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.delimitedSchema().quote(',').doubleColumn("a", rule).build());
+    }
+}
@@ -0,0 +1,126 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the DoubleArrayValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class DoubleArrayValidatorTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineDoubleArray(new double[] { 1.0, 2.0 }).testMaxValue(5.0).toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        double[] values = { 5.0, 1.0, 10.0, 10.5, 4.0, -12.0, 7.0 };
+        DoubleArrayValidator validator = Validate.defineDoubleArray(values).testMinValue(4.0).testMaxValue(10.0);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testNaN() {
+        double[] values = { 1.0, Double.NaN };
+        Assert.assertTrue(Validate.defineDoubleArray(values).validate());
+        Assert.assertTrue(Validate.defineDoubleArray(values).testMinValue(0.0).validate());
+        DoubleArrayValidator validator = Validate.defineDoubleArray(values).testMaxValue(Double.MAX_VALUE);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+        Assert.assertFalse(Validate.defineDoubleArray(values).testMaxValue(Double.POSITIVE_INFINITY).validate());
+    }
+
+    @Test
+    public void testInfinity() {
+        double[] values = { Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY };
+        Assert.assertTrue(Validate.defineDoubleArray(values).validate());
+        DoubleArrayValidator validator = Validate.defineDoubleArray(values).testMinValue(-Double.MAX_VALUE)
+                .testMaxValue(Double.MAX_VALUE);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+    }
+
+    @Test
+    public void testNegativeZero() {
+        double[] values = { -0.0 };
+        Assert.assertFalse(Validate.defineDoubleArray(values).isZeroValue().validate());
+        Assert.assertTrue(Validate.defineDoubleArray(values).isNegativeValue().validate());
+        Assert.assertFalse(Validate.defineDoubleArray(values).isPositiveValue().validate());
+        Assert.assertTrue(Validate.defineDoubleArray(new double[] { 0.0 }).isZeroValue().validate());
+        Assert.assertTrue(Validate.defineDoubleArray(new double[] { Double.MIN_VALUE }).isPositiveValue().validate());
+    }
+
+    @Test
+    public void testSameAsDoubleValidator() {
+        double[] values = { -1.5, -0.0, 0.0, 2.5, Double.NaN, Double.NEGATIVE_INFINITY, 100.0 };
+        for (double value : values) {
+            Assert.assertEquals(Validate.defineDouble(value).testMinValue(-1.0).testMaxValue(50.0).validate(),
+                    Validate.defineDoubleArray(new double[] { value }).testMinValue(-1.0).testMaxValue(50.0)
+                            .validate());
+            Assert.assertEquals(Validate.defineDouble(value).isPositiveValue().validate(),
+                    Validate.defineDoubleArray(new double[] { value }).isPositiveValue().validate());
+            Assert.assertEquals(Validate.defineDouble(value).isNegativeValue().validate(),
+                    Validate.defineDoubleArray(new double[] { value }).isNegativeValue().validate());
+            Assert.assertEquals(Validate.defineDouble(value).isZeroValue().validate(),
+                    Validate.defineDoubleArray(new double[] { value }).isZeroValue().validate());
+        }
+    }
+
+    @Test
+    public void testValidateAll() {
+        ValidationResult result = Validate.defineDoubleArray(new double[] { 5.0, -1.5 }).isPositiveValue()
+                .validateAll();
+        Assert.assertEquals(1, result.getViolationCount());
+        Assert.assertArrayEquals(new Object[] { -1.5 }, result.getViolations().get(0).getArguments());
+    }
+
+    @Test
+    public void testParallel() {
+        double[] values = new double[200000];
+        values[123457] = Double.NaN;
+        values[150000] = -0.0;
+        DoubleArrayValidator validator = Validate.defineDoubleArray(values).testMinValue(0.0).testMaxValue(1.0)
+                .parallel(1000);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        Assert.assertEquals(123457, validator.getFirstViolationIndex());
+    }
+}
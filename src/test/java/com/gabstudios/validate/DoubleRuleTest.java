@@ -0,0 +1,138 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.stream.DoubleStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the DoubleRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class DoubleRuleTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.doubleRule().build().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        DoubleRule rule = Validate.doubleRule().build();
+        Assert.assertTrue(rule.test(5D));
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        DoubleRule rule = Validate.doubleRule().testMinValue(4D).testMaxValue(10D).build();
+        Assert.assertTrue(rule.test(4D));
+        Assert.assertTrue(rule.test(5D));
+        Assert.assertTrue(rule.test(10D));
+        Assert.assertFalse(rule.test(3D));
+        Assert.assertFalse(rule.test(11D));
+    }
+
+    @Test
+    public void testZeroValue() {
+        DoubleRule rule = Validate.doubleRule().isZeroValue().build();
+        Assert.assertTrue(rule.test(0D));
+        Assert.assertFalse(rule.test(5D));
+    }
+
+    @Test
+    public void testPositiveValue() {
+        DoubleRule rule = Validate.doubleRule().isPositiveValue().build();
+        Assert.assertTrue(rule.test(5D));
+        Assert.assertFalse(rule.test(0D));
+        Assert.assertFalse(rule.test(-5D));
+    }
+
+    @Test
+    public void testNegativeValue() {
+        DoubleRule rule = Validate.doubleRule().isNegativeValue().build();
+        Assert.assertTrue(rule.test(-5D));
+        Assert.assertFalse(rule.test(0D));
+        Assert.assertFalse(rule.test(5D));
+    }
+
+    @Test
+    public void testEquals() {
+        DoubleRule rule = Validate.doubleRule().testEquals(5D).build();
+        Assert.assertTrue(rule.test(5D));
+        Assert.assertFalse(rule.test(4D));
+    }
+
+    @Test
+    public void testReuse() {
+        DoubleRule.Builder builder = Validate.doubleRule().testMaxValue(10D);
+        DoubleRule rule = builder.build();
+        builder.testMaxValue(3D);
+        Assert.assertTrue(rule.test(5D));
+        Assert.assertFalse(builder.build().test(5D));
+    }
+
+    @Test
+    public void testNegativeZero() {
+        DoubleRule zeroRule = Validate.doubleRule().isZeroValue().build();
+        DoubleRule negativeRule = Validate.doubleRule().isNegativeValue().build();
+        Assert.assertTrue(zeroRule.test(0.0D));
+        Assert.assertFalse(zeroRule.test(-0.0D));
+        Assert.assertTrue(negativeRule.test(-0.0D));
+        Assert.assertEquals(Validate.defineDouble(-0.0D).isNegativeValue().validate(), negativeRule.test(-0.0D));
+    }
+
+    @Test
+    public void testNaN() {
+        DoubleRule rule = Validate.doubleRule().testMinValue(0).testMaxValue(10).build();
+        Assert.assertFalse(rule.test(Double.NaN));
+        Assert.assertEquals(Validate.defineDouble(Double.NaN).testMaxValue(10D).validate(), rule.test(Double.NaN));
+    }
+
+    @Test
+    public void testTryValidate() {
+        DoubleRule rule = Validate.doubleRule().testMaxValue(10.0).isZeroValue().build();
+        Assert.assertEquals(0L, rule.tryValidate(0.0));
+        Assert.assertEquals(RuleCode.ZERO_VALUE.mask(), rule.tryValidate(-0.0));
+        Assert.assertEquals(RuleCode.MAX_VALUE.mask() | RuleCode.ZERO_VALUE.mask(), rule.tryValidate(Double.NaN));
+    }
+
+    @Test
+    public void testPredicate() {
+        DoubleRule rule = Validate.doubleRule().testMaxValue(1.0).build();
+        Assert.assertArrayEquals(new double[] { -0.0, 1.0 },
+                DoubleStream.of(-0.0, 1.0, 1.5, Double.NaN).filter(rule).toArray(), 0.0);
+    }
+}
@@ -216,5 +216,38 @@ public class DoubleValidatorTest
         }
 
     }
-    
+
+    @Test
+    public void testNegativeZeroValue() {
+
+        try {
+            double x = -0.0d;
+            boolean retVal = Validate.defineDouble(x).isNegativeValue().throwValidationExceptionOnFail().validate();
+            Assert.assertTrue(retVal);
+            Assert.assertFalse(Validate.defineDouble(x).isZeroValue().validate());
+        }
+        catch (final ValidateException e)
+        {
+            Assert.fail(e.toString());
+        }
+
+    }
+
+    @Test
+    public void testNaNValue() {
+
+        try {
+            double x = Double.NaN;
+            boolean retVal = Validate.defineDouble(x).testMinValue(0d).isPositiveValue()
+                    .throwValidationExceptionOnFail().validate();
+            Assert.assertTrue(retVal);
+            Assert.assertFalse(Validate.defineDouble(x).testMaxValue(Double.MAX_VALUE).validate());
+        }
+        catch (final ValidateException e)
+        {
+            Assert.fail(e.toString());
+        }
+
+    }
+
 }
@@ -0,0 +1,122 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the FloatRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class FloatRuleTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.floatRule().build().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        FloatRule rule = Validate.floatRule().build();
+        Assert.assertTrue(rule.test(5F));
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        FloatRule rule = Validate.floatRule().testMinValue(4F).testMaxValue(10F).build();
+        Assert.assertTrue(rule.test(4F));
+        Assert.assertTrue(rule.test(5F));
+        Assert.assertTrue(rule.test(10F));
+        Assert.assertFalse(rule.test(3F));
+        Assert.assertFalse(rule.test(11F));
+    }
+
+    @Test
+    public void testZeroValue() {
+        FloatRule rule = Validate.floatRule().isZeroValue().build();
+        Assert.assertTrue(rule.test(0F));
+        Assert.assertFalse(rule.test(5F));
+    }
+
+    @Test
+    public void testPositiveValue() {
+        FloatRule rule = Validate.floatRule().isPositiveValue().build();
+        Assert.assertTrue(rule.test(5F));
+        Assert.assertFalse(rule.test(0F));
+        Assert.assertFalse(rule.test(-5F));
+    }
+
+    @Test
+    public void testNegativeValue() {
+        FloatRule rule = Validate.floatRule().isNegativeValue().build();
+        Assert.assertTrue(rule.test(-5F));
+        Assert.assertFalse(rule.test(0F));
+        Assert.assertFalse(rule.test(5F));
+    }
+
+    @Test
+    public void testEquals() {
+        FloatRule rule = Validate.floatRule().testEquals(5F).build();
+        Assert.assertTrue(rule.test(5F));
+        Assert.assertFalse(rule.test(4F));
+    }
+
+    @Test
+    public void testReuse() {
+        FloatRule.Builder builder = Validate.floatRule().testMaxValue(10F);
+        FloatRule rule = builder.build();
+        builder.testMaxValue(3F);
+        Assert.assertTrue(rule.test(5F));
+        Assert.assertFalse(builder.build().test(5F));
+    }
+
+    @Test
+    public void testNegativeZero() {
+        FloatRule zeroRule = Validate.floatRule().isZeroValue().build();
+        FloatRule negativeRule = Validate.floatRule().isNegativeValue().build();
+        Assert.assertTrue(zeroRule.test(0.0F));
+        Assert.assertFalse(zeroRule.test(-0.0F));
+        Assert.assertTrue(negativeRule.test(-0.0F));
+        Assert.assertEquals(Validate.defineFloat(-0.0F).isNegativeValue().validate(), negativeRule.test(-0.0F));
+    }
+
+    @Test
+    public void testNaN() {
+        FloatRule rule = Validate.floatRule().testMinValue(0).testMaxValue(10).build();
+        Assert.assertFalse(rule.test(Float.NaN));
+        Assert.assertEquals(Validate.defineFloat(Float.NaN).testMaxValue(10F).validate(), rule.test(Float.NaN));
+    }
+
+}
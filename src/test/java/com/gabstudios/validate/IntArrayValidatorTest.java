@@ -0,0 +1,219 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the IntArrayValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class IntArrayValidatorTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineIntArray(new int[] { 1, 2 }).testMaxValue(5).toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        Assert.assertTrue(Validate.defineIntArray(new int[] { 1, 2 }).validate());
+        Assert.assertTrue(Validate.defineIntArray(null).validate());
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        int[] values = { 5, 1, 10, 11, 4, 12, 7 };
+        IntArrayValidator validator = Validate.defineIntArray(values).testMinValue(4).testMaxValue(10);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+
+        validator = Validate.defineIntArray(new int[] { 4, 5, 10 }).testMinValue(4).testMaxValue(10);
+        Assert.assertTrue(validator.validate());
+        Assert.assertEquals(0, validator.getViolationCount());
+        Assert.assertEquals(-1, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testExtremes() {
+        int[] values = { Integer.MIN_VALUE, 0, Integer.MAX_VALUE };
+        Assert.assertTrue(Validate.defineIntArray(values).testMinValue(Integer.MIN_VALUE)
+                .testMaxValue(Integer.MAX_VALUE).validate());
+        IntArrayValidator validator = Validate.defineIntArray(values).testMinValue(-1).testMaxValue(1);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        Assert.assertEquals(0, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testSign() {
+        int[] values = { 3, -2, 0, 1 };
+        IntArrayValidator validator = Validate.defineIntArray(values).isPositiveValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+
+        validator = Validate.defineIntArray(values).isNegativeValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(0, validator.getFirstViolationIndex());
+
+        validator = Validate.defineIntArray(values).isZeroValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+
+        Assert.assertTrue(Validate.defineIntArray(new int[] { 0, 0 }).isZeroValue().validate());
+    }
+
+    @Test
+    public void testNoValuePasses() {
+        IntArrayValidator validator = Validate.defineIntArray(new int[] { 1, 2, 3 }).isPositiveValue()
+                .isNegativeValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(0, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testFailFast() {
+        IntArrayValidator validator = Validate.defineIntArray(new int[] { 1, 20, 30 }).testMaxValue(10).failFast();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(1, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testNotNullEmpty() {
+        Assert.assertFalse(Validate.defineIntArray(null).testNotNull().validate());
+        Assert.assertFalse(Validate.defineIntArray(new int[0]).testNotNullEmpty().validate());
+        Assert.assertTrue(Validate.defineIntArray(new int[0]).testMaxValue(5).validate());
+        Assert.assertFalse(Validate.defineIntArray(null).testMaxValue(5).validate());
+    }
+
+    @Test
+    public void testEquals() {
+        Assert.assertTrue(Validate.defineIntArray(new int[] { 1, 2 }).testEquals(new int[] { 1, 2 }).validate());
+        Assert.assertFalse(Validate.defineIntArray(new int[] { 1, 2 }).testEquals(new int[] { 1, 3 }).validate());
+    }
+
+    @Test
+    public void testTryValidate() {
+        int[] values = { 5, -1, 50 };
+        long failedRules = Validate.defineIntArray(values).testMinValue(0).testMaxValue(10).isPositiveValue()
+                .tryValidate();
+        Assert.assertEquals(RuleCode.MIN_VALUE.mask() | RuleCode.MAX_VALUE.mask() | RuleCode.POSITIVE_VALUE.mask(),
+                failedRules);
+    }
+
+    @Test
+    public void testValidateAll() {
+        ValidationResult result = Validate.defineIntArray(new int[] { 5, -1, 50 }).testMinValue(0).testMaxValue(10)
+                .validateAll();
+        Assert.assertEquals(2, result.getViolationCount());
+        Assert.assertArrayEquals(new Object[] { -1, 0 }, result.getViolations().get(0).getArguments());
+        Assert.assertArrayEquals(new Object[] { 50, 10 }, result.getViolations().get(1).getArguments());
+    }
+
+    @Test
+    public void testViolationBounds() {
+        int[] values = { 5, -1, 50, -7, 3, 20, 0 };
+        ValidationResult result = Validate.defineIntArray(values).testMinValue(0).testMaxValue(10)
+                .isPositiveValue().validateAll();
+        Assert.assertEquals(3, result.getViolationCount());
+        Assert.assertArrayEquals(new Object[] { -7, 0 }, result.getViolations().get(0).getArguments());
+        Assert.assertArrayEquals(new Object[] { 50, 10 }, result.getViolations().get(1).getArguments());
+        Assert.assertArrayEquals(new Object[] { -7 }, result.getViolations().get(2).getArguments());
+
+        // only the tests the first failing element fails are reported.
+        long failedRules = Validate.defineIntArray(values).testMinValue(0).testMaxValue(10).failFast()
+                .tryValidate();
+        Assert.assertEquals(RuleCode.MIN_VALUE.mask(), failedRules);
+    }
+
+    @Test
+    public void testThrow() {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineIntArray(new int[] { 5, 50 }).testMaxValue(10).throwValidationExceptionOnFail()
+                        .validate());
+        Assert.assertEquals(RuleCode.MAX_VALUE, e.getRuleCode());
+    }
+
+    @Test
+    public void testParallel() {
+        int[] values = new int[300000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 100;
+        }
+        values[100001] = -5;
+        values[250000] = 500;
+        values[299999] = 101;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            IntArrayValidator validator = Validate.defineIntArray(values).testMinValue(0).testMaxValue(99)
+                    .parallel(1000, pool);
+            Assert.assertFalse(validator.validate());
+            Assert.assertEquals(3, validator.getViolationCount());
+            Assert.assertEquals(100001, validator.getFirstViolationIndex());
+            Assert.assertEquals(RuleCode.MIN_VALUE.mask() | RuleCode.MAX_VALUE.mask(), validator.tryValidate());
+
+            ValidationResult result = Validate.defineIntArray(values).testMinValue(0).testMaxValue(99)
+                    .parallel(1000, pool).validateAll();
+            Assert.assertArrayEquals(new Object[] { -5, 0 }, result.getViolations().get(0).getArguments());
+            Assert.assertArrayEquals(new Object[] { 500, 99 }, result.getViolations().get(1).getArguments());
+
+            validator = Validate.defineIntArray(values).testMaxValue(99).parallel(1000, pool).failFast();
+            Assert.assertFalse(validator.validate());
+            Assert.assertEquals(1, validator.getViolationCount());
+            Assert.assertEquals(250000, validator.getFirstViolationIndex());
+
+            Assert.assertTrue(Validate.defineIntArray(values).testMinValue(-5).testMaxValue(500).parallel()
+                    .validate());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelThreshold() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntArray(new int[] { 1 }).parallel(0));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntArray(new int[] { 1 }).parallel(10, null));
+    }
+}
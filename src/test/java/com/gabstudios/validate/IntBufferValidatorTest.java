@@ -0,0 +1,216 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the IntBufferValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class IntBufferValidatorTest {
+
+    /*
+     * The layout of the test frames: a 16 byte record with the field at byte 4.
+     */
+    private static final int HEADER = 8;
+    private static final int FIELD  = 4;
+    private static final int STRIDE = 16;
+
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    /*
+     * Writes the values into records after a header, in the given order.
+     */
+    private static ByteBuffer frames(final ByteOrder order, final int... values) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER + values.length * STRIDE).order(order);
+        for (int i = 0; i < values.length; i++) {
+            buffer.putInt(HEADER + FIELD + i * STRIDE, values[i]);
+        }
+        return (buffer);
+    }
+
+    private static IntBufferValidator define(final ByteBuffer buffer, final ByteOrder order, final int count) {
+        return (Validate.defineIntBuffer(buffer, HEADER + FIELD, STRIDE, count, order));
+    }
+
+    @Test
+    public void testToString() {
+        String desc = define(frames(ByteOrder.BIG_ENDIAN, 1), ByteOrder.BIG_ENDIAN, 1).testMaxValue(1)
+                .toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        Assert.assertTrue(define(frames(ByteOrder.BIG_ENDIAN, 1), ByteOrder.BIG_ENDIAN, 1).validate());
+        Assert.assertTrue(Validate.defineIntBuffer(null, 0, 4, 0, ByteOrder.BIG_ENDIAN).validate());
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        ByteBuffer buffer = frames(ByteOrder.LITTLE_ENDIAN, 5, 1, 10, 11, 4, 12, 7);
+        IntBufferValidator validator = define(buffer, ByteOrder.LITTLE_ENDIAN, 7).testMinValue(4)
+                .testMaxValue(10);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+
+        // only the first fields are tested.
+        validator = define(frames(ByteOrder.LITTLE_ENDIAN, 4, 10, 500), ByteOrder.LITTLE_ENDIAN, 2)
+                .testMinValue(4).testMaxValue(10);
+        Assert.assertTrue(validator.validate());
+        Assert.assertEquals(0, validator.getViolationCount());
+        Assert.assertEquals(-1, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testByteOrder() {
+        // the data is little endian and the buffer is left big endian.
+        ByteBuffer buffer = frames(ByteOrder.LITTLE_ENDIAN, 5, 1, 10, 11, 4, 12, 7).order(ByteOrder.BIG_ENDIAN);
+        buffer.position(3);
+        IntBufferValidator validator = define(buffer, ByteOrder.LITTLE_ENDIAN, 7).testMinValue(4)
+                .testMaxValue(10);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+
+        // the buffer is not changed.
+        Assert.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+        Assert.assertEquals(3, buffer.position());
+
+        // the same data read as big endian is out of range.
+        Assert.assertFalse(define(buffer, ByteOrder.BIG_ENDIAN, 7).testMinValue(4).testMaxValue(10).validate());
+    }
+
+    @Test
+    public void testExtremes() {
+        ByteBuffer buffer = frames(ByteOrder.BIG_ENDIAN, Integer.MIN_VALUE, 0, Integer.MAX_VALUE);
+        Assert.assertTrue(define(buffer, ByteOrder.BIG_ENDIAN, 3).testMinValue(Integer.MIN_VALUE)
+                .testMaxValue(Integer.MAX_VALUE).validate());
+        IntBufferValidator validator = define(buffer, ByteOrder.BIG_ENDIAN, 3).testMinValue(-1)
+                .testMaxValue(1);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        Assert.assertEquals(0, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testSign() {
+        ByteBuffer buffer = frames(ByteOrder.BIG_ENDIAN, 3, -2, 0, 1);
+        IntBufferValidator validator = define(buffer, ByteOrder.BIG_ENDIAN, 4).isPositiveValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+
+        validator = define(buffer, ByteOrder.BIG_ENDIAN, 4).isNegativeValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(0, validator.getFirstViolationIndex());
+
+        validator = define(buffer, ByteOrder.BIG_ENDIAN, 4).isZeroValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+
+        Assert.assertTrue(define(frames(ByteOrder.BIG_ENDIAN, 0, 0), ByteOrder.BIG_ENDIAN, 2).isZeroValue()
+                .validate());
+    }
+
+    @Test
+    public void testNotNullEmpty() {
+        Assert.assertFalse(Validate.defineIntBuffer(null, 0, 4, 0, ByteOrder.BIG_ENDIAN).testNotNull()
+                .validate());
+        ByteBuffer buffer = frames(ByteOrder.BIG_ENDIAN, 1);
+        Assert.assertFalse(define(buffer, ByteOrder.BIG_ENDIAN, 0).testNotNullEmpty().validate());
+        Assert.assertTrue(define(buffer, ByteOrder.BIG_ENDIAN, 0).testMaxValue(-1).validate());
+    }
+
+    @Test
+    public void testLayout() {
+        ByteBuffer buffer = frames(ByteOrder.BIG_ENDIAN, 1, 1);
+        // the last field ends at the limit.
+        Assert.assertTrue(Validate.defineIntBuffer(buffer, buffer.limit() - 4, 1000, 1, ByteOrder.BIG_ENDIAN)
+                .validate());
+        Assert.assertTrue(Validate.defineIntBuffer(buffer, HEADER + FIELD, STRIDE, 2, ByteOrder.BIG_ENDIAN)
+                .validate());
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntBuffer(buffer, HEADER + FIELD, STRIDE, 3, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntBuffer(buffer, buffer.limit() - 4 + 1, 1, 1, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntBuffer(buffer, -1, STRIDE, 1, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntBuffer(buffer, 0, 4 - 1, 1, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntBuffer(buffer, 0, STRIDE, -1, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntBuffer(buffer, 0, STRIDE, Integer.MAX_VALUE, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineIntBuffer(buffer, 0, STRIDE, 1, null));
+    }
+
+    @Test
+    public void testThrow() {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> define(frames(ByteOrder.BIG_ENDIAN, 500), ByteOrder.BIG_ENDIAN, 1).testMaxValue(10)
+                        .throwValidationExceptionOnFail().validate());
+        Assert.assertEquals(RuleCode.MAX_VALUE, e.getRuleCode());
+    }
+
+    @Test
+    public void testParallel() {
+        int[] values = new int[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 100;
+        }
+        values[30001] = -5;
+        values[70000] = 500;
+        ByteBuffer buffer = frames(ByteOrder.LITTLE_ENDIAN, values);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            IntBufferValidator validator = define(buffer, ByteOrder.LITTLE_ENDIAN, values.length).testMinValue(0)
+                    .testMaxValue(99).parallel(1000, pool);
+            Assert.assertFalse(validator.validate());
+            Assert.assertEquals(2, validator.getViolationCount());
+            Assert.assertEquals(30001, validator.getFirstViolationIndex());
+            Assert.assertEquals(RuleCode.MIN_VALUE.mask() | RuleCode.MAX_VALUE.mask(), validator.tryValidate());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the IntegerRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class IntegerRuleTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.integerRule().build().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        IntegerRule rule = Validate.integerRule().build();
+        Assert.assertTrue(rule.test(5));
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        IntegerRule rule = Validate.integerRule().testMinValue(4).testMaxValue(10).build();
+        Assert.assertTrue(rule.test(4));
+        Assert.assertTrue(rule.test(5));
+        Assert.assertTrue(rule.test(10));
+        Assert.assertFalse(rule.test(3));
+        Assert.assertFalse(rule.test(11));
+    }
+
+    @Test
+    public void testZeroValue() {
+        IntegerRule rule = Validate.integerRule().isZeroValue().build();
+        Assert.assertTrue(rule.test(0));
+        Assert.assertFalse(rule.test(5));
+    }
+
+    @Test
+    public void testPositiveValue() {
+        IntegerRule rule = Validate.integerRule().isPositiveValue().build();
+        Assert.assertTrue(rule.test(5));
+        Assert.assertFalse(rule.test(0));
+        Assert.assertFalse(rule.test(-5));
+    }
+
+    @Test
+    public void testNegativeValue() {
+        IntegerRule rule = Validate.integerRule().isNegativeValue().build();
+        Assert.assertTrue(rule.test(-5));
+        Assert.assertFalse(rule.test(0));
+        Assert.assertFalse(rule.test(5));
+    }
+
+    @Test
+    public void testEquals() {
+        IntegerRule rule = Validate.integerRule().testEquals(5).build();
+        Assert.assertTrue(rule.test(5));
+        Assert.assertFalse(rule.test(4));
+    }
+
+    @Test
+    public void testReuse() {
+        IntegerRule.Builder builder = Validate.integerRule().testMaxValue(10);
+        IntegerRule rule = builder.build();
+        builder.testMaxValue(3);
+        Assert.assertTrue(rule.test(5));
+        Assert.assertFalse(builder.build().test(5));
+    }
+
+    @Test
+    public void testTryValidate() {
+        IntegerRule rule = Validate.integerRule().testMinValue(4).testMaxValue(10).isPositiveValue().build();
+        Assert.assertEquals(0L, rule.tryValidate(5));
+        Assert.assertEquals(RuleCode.MAX_VALUE.mask(), rule.tryValidate(11));
+        Assert.assertEquals(RuleCode.MIN_VALUE.mask() | RuleCode.POSITIVE_VALUE.mask(), rule.tryValidate(-1));
+        Assert.assertEquals(0L, Validate.integerRule().build().tryValidate(-1));
+    }
+
+    @Test
+    public void testPredicate() {
+        IntegerRule rule = Validate.integerRule().testMinValue(0).testMaxValue(9).build();
+        Assert.assertArrayEquals(new int[] { 0, 5, 9 }, IntStream.of(-1, 0, 5, 9, 10).filter(rule).toArray());
+        Assert.assertEquals(2L, IntStream.of(-1, 0, 5, 9, 10).filter(rule.negate()).count());
+    }
+}
@@ -97,4 +97,18 @@ public class IntegerValidatorNegativeTest {
 
     }
 
+    @Test
+    public void testFailFast() {
+        boolean retVal = Validate.defineInteger(5).testMinValue(10).testMaxValue(20).isNegativeValue().failFast()
+                .validate();
+        Assert.assertFalse(retVal);
+    }
+
+    @Test
+    public void testStacklessException() {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineInteger(5).testMaxValue(1).throwStacklessValidationExceptionOnFail().validate());
+        Assert.assertEquals(0, e.getStackTrace().length);
+    }
+
 }
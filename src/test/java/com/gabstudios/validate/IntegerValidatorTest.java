@@ -179,4 +179,61 @@ public class IntegerValidatorTest {
 
     }
 
+    @Test
+    public void testBoxedMinMaxValue() {
+
+        try {
+            int x = 5;
+            Integer min = Integer.valueOf(4);
+            Integer max = Integer.valueOf(6);
+            boolean retVal = Validate.defineInteger(x).testMinValue(min).testMaxValue(max)
+                    .throwValidationExceptionOnFail().validate();
+            Assert.assertTrue(retVal);
+        }
+        catch (final ValidateException e)
+        {
+            Assert.fail(e.toString());
+        }
+
+    }
+
+    @Test
+    public void testMinMaxBoundaries() {
+
+        try {
+            boolean retVal = Validate.defineInteger(Integer.MIN_VALUE).testMinValue(Integer.MIN_VALUE)
+                    .testMaxValue(Integer.MAX_VALUE).throwValidationExceptionOnFail().validate();
+            Assert.assertTrue(retVal);
+            retVal = Validate.defineInteger(Integer.MAX_VALUE).testMinValue(Integer.MIN_VALUE)
+                    .testMaxValue(Integer.MAX_VALUE).throwValidationExceptionOnFail().validate();
+            Assert.assertTrue(retVal);
+        }
+        catch (final ValidateException e)
+        {
+            Assert.fail(e.toString());
+        }
+
+    }
+
+    @Test
+    public void testTryValidate() {
+        Assert.assertEquals(0L, Validate.defineInteger(5).testMinValue(0).testMaxValue(10).tryValidate());
+        long failedRules = Validate.defineInteger(50).testMaxValue(10).isNegativeValue().testEquals(5).tryValidate();
+        Assert.assertEquals(RuleCode.MAX_VALUE.mask() | RuleCode.EQUALS.mask() | RuleCode.NEGATIVE_VALUE.mask(),
+                failedRules);
+        Assert.assertFalse(RuleCode.MIN_VALUE.isIn(failedRules));
+    }
+
+    @Test
+    public void testTryValidateDoesNotThrow() {
+        IntegerValidator validator = Validate.defineInteger(50).testMaxValue(10).throwValidationExceptionOnFail();
+        Assert.assertEquals(RuleCode.MAX_VALUE.mask(), validator.tryValidate());
+        Assert.assertThrows(ValidateException.class, () -> validator.validate());
+    }
+
+    @Test
+    public void testTryValidateFailFast() {
+        long failedRules = Validate.defineInteger(50).testMaxValue(10).testEquals(5).failFast().tryValidate();
+        Assert.assertEquals(RuleCode.MAX_VALUE.mask(), failedRules);
+    }
 }
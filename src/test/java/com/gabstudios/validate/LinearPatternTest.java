@@ -0,0 +1,238 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the LinearPattern
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class LinearPatternTest
+{
+    @Before
+    public void setUp()
+    {
+        //
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    /*
+     * Asserts that a pattern matches the values the same as java.util.regex.
+     */
+    private static void assertSameMatches(final LinearPattern pattern, final String... values)
+    {
+        final Pattern expected = Pattern.compile(pattern.getRegex());
+        for (final String value : values)
+        {
+            Assert.assertEquals(pattern.getRegex() + " " + value, expected.matcher(value).matches(),
+                    pattern.matches(value));
+        }
+    }
+
+    @Test
+    public void testLinear()
+    {
+        String[] regexes = { "", "abc", "a|b|", "a*b+c?", "(ab)*", "(?:ab|cd){2,3}", "(?<id>[a-z]+)-\\d{2,}",
+                "[^a-c]x", "[-a]", "[a-]", "[\\w.]+@[\\w.]+", "\\D\\W\\S", "\\s+", ".*", "\\x41\\u00e9\\t",
+                "^abc$", "a*?b+?c??", "a{0}", "a{3}", "\\.\\*\\[\\]", "[\\]]", "(a*)*", "()" };
+        for (String regex : regexes)
+        {
+            LinearPattern pattern = LinearPattern.compile(regex);
+            Assert.assertTrue(regex, pattern.isLinear());
+            assertSameMatches(pattern, "", "a", "ab", "abab", "ababab", "abc", "cd", "cdcd", "abcd", "xyz-12",
+                    "xyz-1", "dx", "ax", "-", "]", "a.b@c", "1 !", "   ", "\n", "a\nb", "Aé\t", "aaabbc",
+                    "bbb", ".*[]", "aaa", " ", "😀");
+        }
+    }
+
+    @Test
+    public void testFallback()
+    {
+        String[] regexes = { "(a)\\1", "a(?=b)b", "a(?!c)b", "(?i)abc", "\\bab\\b", "\\p{Alpha}+", "\\Qa.b\\E",
+                "a*+b", "a++", "[a-z&&[^b]]", "[[a]b]", "a^", "$a", "(?>ab)", "\\R", "\\h", "\\0101",
+                "a{1000}{1000}" };
+        for (String regex : regexes)
+        {
+            LinearPattern pattern = LinearPattern.compile(regex);
+            Assert.assertFalse(regex, pattern.isLinear());
+            assertSameMatches(pattern, "", "aa", "ab", "abc", "ABC", "a.b", "a", "b", "A");
+        }
+    }
+
+    @Test
+    public void testPathological()
+    {
+        LinearPattern pattern = LinearPattern.compile("(a+)+b");
+        Assert.assertTrue(pattern.isLinear());
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100000; i++)
+        {
+            builder.append('a');
+        }
+        Assert.assertFalse(pattern.matches(builder));
+        builder.append('b');
+        Assert.assertTrue(pattern.matches(builder));
+    }
+
+    @Test
+    public void testLargeDfa()
+    {
+        // the DFA would need 2^13 states, so the NFA is simulated.
+        LinearPattern pattern = LinearPattern.compile("[ab]*a[ab]{12}");
+        Assert.assertTrue(pattern.isLinear());
+        Random random = new Random(7);
+        String[] values = new String[200];
+        for (int i = 0; i < values.length; i++)
+        {
+            char[] chars = new char[random.nextInt(30)];
+            for (int j = 0; j < chars.length; j++)
+            {
+                chars[j] = (random.nextInt(3) == 0) ? 'b' : 'a';
+            }
+            values[i] = new String(chars);
+        }
+        assertSameMatches(pattern, values);
+    }
+
+    @Test
+    public void testSurrogates()
+    {
+        LinearPattern pattern = LinearPattern.compile(".");
+        assertSameMatches(pattern, "😀", "\ud83d", "\ude00", "\ud83d\ud83d", "a\ude00");
+        pattern = LinearPattern.compile("[😀-🙏]+");
+        Assert.assertTrue(pattern.isLinear());
+        assertSameMatches(pattern, "😀🙏", "🙐", "\ud83d");
+    }
+
+    @Test
+    public void testRandom()
+    {
+        String[] atoms = { "a", "b", "c", ".", "[ab]", "[^a]", "\\w", "\\s", "[a-c\\n]", "\\n" };
+        String[] quantifiers = { "", "", "", "*", "+", "?", "{2}", "{1,3}", "{2,}", "*?" };
+        Random random = new Random(42);
+        String[] values = new String[300];
+        String alphabet = "abc \n";
+        for (int i = 0; i < values.length; i++)
+        {
+            char[] chars = new char[random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++)
+            {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            values[i] = new String(chars);
+        }
+        for (int n = 0; n < 300; n++)
+        {
+            String regex = randomRegex(random, atoms, quantifiers, 3);
+            LinearPattern pattern = LinearPattern.compile(regex);
+            Assert.assertTrue(regex, pattern.isLinear());
+            assertSameMatches(pattern, values);
+        }
+    }
+
+    /*
+     * Creates a random regex of the atoms, quantifiers, groups and
+     * alternation.
+     */
+    private static String randomRegex(Random random, String[] atoms, String[] quantifiers, int depth)
+    {
+        StringBuilder builder = new StringBuilder();
+        int length = 1 + random.nextInt(3);
+        for (int i = 0; i < length; i++)
+        {
+            if (depth > 0 && random.nextInt(4) == 0)
+            {
+                builder.append('(').append(randomRegex(random, atoms, quantifiers, depth - 1));
+                if (random.nextBoolean())
+                {
+                    builder.append('|').append(randomRegex(random, atoms, quantifiers, depth - 1));
+                }
+                builder.append(')');
+            }
+            else
+            {
+                builder.append(atoms[random.nextInt(atoms.length)]);
+            }
+            builder.append(quantifiers[random.nextInt(quantifiers.length)]);
+        }
+        return (builder.toString());
+    }
+
+    @Test
+    public void testNull()
+    {
+        try
+        {
+            LinearPattern.compile(null);
+            Assert.fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected.
+        }
+        try
+        {
+            LinearPattern.compile("a").matches(null);
+            Assert.fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+            // expected.
+        }
+    }
+
+    @Test
+    public void testSyntax()
+    {
+        try
+        {
+            LinearPattern.compile("(ab");
+            Assert.fail();
+        }
+        catch (PatternSyntaxException e)
+        {
+            // expected.
+        }
+    }
+
+    @Test
+    public void testToString()
+    {
+        LinearPattern pattern = LinearPattern.compile("[a-z]+");
+        Assert.assertEquals("[a-z]+", pattern.toString());
+        Assert.assertEquals("[a-z]+", pattern.getRegex());
+        Assert.assertEquals("[a-z]+", pattern.getPattern().pattern());
+    }
+}
@@ -0,0 +1,112 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the LongArrayValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class LongArrayValidatorTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineLongArray(new long[] { 1L, 2L }).testMaxValue(5L).toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        long[] values = { 5L, 1L, 10L, 11L, 4L, 12L, 7L };
+        LongArrayValidator validator = Validate.defineLongArray(values).testMinValue(4L).testMaxValue(10L);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testExtremes() {
+        long[] values = { Long.MIN_VALUE, 0L, Long.MAX_VALUE };
+        Assert.assertTrue(Validate.defineLongArray(values).validate());
+        Assert.assertTrue(Validate.defineLongArray(values).testMinValue(Long.MIN_VALUE).testMaxValue(Long.MAX_VALUE)
+                .validate());
+        LongArrayValidator validator = Validate.defineLongArray(values).testMinValue(-1L).testMaxValue(1L);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        validator = Validate.defineLongArray(values).testMinValue(Long.MIN_VALUE + 1);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(1, validator.getViolationCount());
+        validator = Validate.defineLongArray(values).testMaxValue(Long.MAX_VALUE - 1);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(1, validator.getViolationCount());
+        Assert.assertEquals(2, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testSign() {
+        long[] values = { 3L, -2L, 0L, 1L };
+        LongArrayValidator validator = Validate.defineLongArray(values).isPositiveValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        validator = Validate.defineLongArray(values).isNegativeValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertTrue(Validate.defineLongArray(new long[] { 0L }).isZeroValue().validate());
+    }
+
+    @Test
+    public void testTryValidate() {
+        long failedRules = Validate.defineLongArray(new long[] { 5L, 50L }).testMaxValue(10L).tryValidate();
+        Assert.assertEquals(RuleCode.MAX_VALUE.mask(), failedRules);
+    }
+
+    @Test
+    public void testParallel() {
+        long[] values = new long[200000];
+        values[70000] = -1L;
+        values[199999] = -2L;
+        LongArrayValidator validator = Validate.defineLongArray(values).isNegativeValue().isZeroValue()
+                .parallel(1000);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(values.length, validator.getViolationCount());
+        Assert.assertEquals(0, validator.getFirstViolationIndex());
+
+        validator = Validate.defineLongArray(values).testMinValue(0L).parallel(1000);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        Assert.assertEquals(70000, validator.getFirstViolationIndex());
+    }
+}
@@ -0,0 +1,216 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the LongBufferValidator
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class LongBufferValidatorTest {
+
+    /*
+     * The layout of the test frames: a 16 byte record with the field at byte 4.
+     */
+    private static final int HEADER = 8;
+    private static final int FIELD  = 4;
+    private static final int STRIDE = 16;
+
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    /*
+     * Writes the values into records after a header, in the given order.
+     */
+    private static ByteBuffer frames(final ByteOrder order, final long... values) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER + values.length * STRIDE).order(order);
+        for (int i = 0; i < values.length; i++) {
+            buffer.putLong(HEADER + FIELD + i * STRIDE, values[i]);
+        }
+        return (buffer);
+    }
+
+    private static LongBufferValidator define(final ByteBuffer buffer, final ByteOrder order, final int count) {
+        return (Validate.defineLongBuffer(buffer, HEADER + FIELD, STRIDE, count, order));
+    }
+
+    @Test
+    public void testToString() {
+        String desc = define(frames(ByteOrder.BIG_ENDIAN, 1L), ByteOrder.BIG_ENDIAN, 1).testMaxValue(1L)
+                .toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        Assert.assertTrue(define(frames(ByteOrder.BIG_ENDIAN, 1L), ByteOrder.BIG_ENDIAN, 1).validate());
+        Assert.assertTrue(Validate.defineLongBuffer(null, 0, 8, 0, ByteOrder.BIG_ENDIAN).validate());
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        ByteBuffer buffer = frames(ByteOrder.LITTLE_ENDIAN, 5L, 1L, 10L, 11L, 4L, 12L, 7L);
+        LongBufferValidator validator = define(buffer, ByteOrder.LITTLE_ENDIAN, 7).testMinValue(4L)
+                .testMaxValue(10L);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+
+        // only the first fields are tested.
+        validator = define(frames(ByteOrder.LITTLE_ENDIAN, 4L, 10L, 500L), ByteOrder.LITTLE_ENDIAN, 2)
+                .testMinValue(4L).testMaxValue(10L);
+        Assert.assertTrue(validator.validate());
+        Assert.assertEquals(0, validator.getViolationCount());
+        Assert.assertEquals(-1, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testByteOrder() {
+        // the data is little endian and the buffer is left big endian.
+        ByteBuffer buffer = frames(ByteOrder.LITTLE_ENDIAN, 5L, 1L, 10L, 11L, 4L, 12L, 7L).order(ByteOrder.BIG_ENDIAN);
+        buffer.position(3);
+        LongBufferValidator validator = define(buffer, ByteOrder.LITTLE_ENDIAN, 7).testMinValue(4L)
+                .testMaxValue(10L);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+
+        // the buffer is not changed.
+        Assert.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+        Assert.assertEquals(3, buffer.position());
+
+        // the same data read as big endian is out of range.
+        Assert.assertFalse(define(buffer, ByteOrder.BIG_ENDIAN, 7).testMinValue(4L).testMaxValue(10L).validate());
+    }
+
+    @Test
+    public void testExtremes() {
+        ByteBuffer buffer = frames(ByteOrder.BIG_ENDIAN, Long.MIN_VALUE, 0L, Long.MAX_VALUE);
+        Assert.assertTrue(define(buffer, ByteOrder.BIG_ENDIAN, 3).testMinValue(Long.MIN_VALUE)
+                .testMaxValue(Long.MAX_VALUE).validate());
+        LongBufferValidator validator = define(buffer, ByteOrder.BIG_ENDIAN, 3).testMinValue(-1L)
+                .testMaxValue(1L);
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        Assert.assertEquals(0, validator.getFirstViolationIndex());
+    }
+
+    @Test
+    public void testSign() {
+        ByteBuffer buffer = frames(ByteOrder.BIG_ENDIAN, 3L, -2L, 0L, 1L);
+        LongBufferValidator validator = define(buffer, ByteOrder.BIG_ENDIAN, 4).isPositiveValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(2, validator.getViolationCount());
+        Assert.assertEquals(1, validator.getFirstViolationIndex());
+
+        validator = define(buffer, ByteOrder.BIG_ENDIAN, 4).isNegativeValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+        Assert.assertEquals(0, validator.getFirstViolationIndex());
+
+        validator = define(buffer, ByteOrder.BIG_ENDIAN, 4).isZeroValue();
+        Assert.assertFalse(validator.validate());
+        Assert.assertEquals(3, validator.getViolationCount());
+
+        Assert.assertTrue(define(frames(ByteOrder.BIG_ENDIAN, 0L, 0L), ByteOrder.BIG_ENDIAN, 2).isZeroValue()
+                .validate());
+    }
+
+    @Test
+    public void testNotNullEmpty() {
+        Assert.assertFalse(Validate.defineLongBuffer(null, 0, 8, 0, ByteOrder.BIG_ENDIAN).testNotNull()
+                .validate());
+        ByteBuffer buffer = frames(ByteOrder.BIG_ENDIAN, 1L);
+        Assert.assertFalse(define(buffer, ByteOrder.BIG_ENDIAN, 0).testNotNullEmpty().validate());
+        Assert.assertTrue(define(buffer, ByteOrder.BIG_ENDIAN, 0).testMaxValue(-1L).validate());
+    }
+
+    @Test
+    public void testLayout() {
+        ByteBuffer buffer = frames(ByteOrder.BIG_ENDIAN, 1L, 1L);
+        // the last field ends at the limit.
+        Assert.assertTrue(Validate.defineLongBuffer(buffer, buffer.limit() - 8, 1000, 1, ByteOrder.BIG_ENDIAN)
+                .validate());
+        Assert.assertTrue(Validate.defineLongBuffer(buffer, HEADER + FIELD, STRIDE, 2, ByteOrder.BIG_ENDIAN)
+                .validate());
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongBuffer(buffer, HEADER + FIELD, STRIDE, 3, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongBuffer(buffer, buffer.limit() - 8 + 1, 1, 1, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongBuffer(buffer, -1, STRIDE, 1, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongBuffer(buffer, 0, 8 - 1, 1, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongBuffer(buffer, 0, STRIDE, -1, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongBuffer(buffer, 0, STRIDE, Integer.MAX_VALUE, ByteOrder.BIG_ENDIAN));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineLongBuffer(buffer, 0, STRIDE, 1, null));
+    }
+
+    @Test
+    public void testThrow() {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> define(frames(ByteOrder.BIG_ENDIAN, 500L), ByteOrder.BIG_ENDIAN, 1).testMaxValue(10L)
+                        .throwValidationExceptionOnFail().validate());
+        Assert.assertEquals(RuleCode.MAX_VALUE, e.getRuleCode());
+    }
+
+    @Test
+    public void testParallel() {
+        long[] values = new long[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 100;
+        }
+        values[30001] = -5L;
+        values[70000] = 500L;
+        ByteBuffer buffer = frames(ByteOrder.LITTLE_ENDIAN, values);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            LongBufferValidator validator = define(buffer, ByteOrder.LITTLE_ENDIAN, values.length).testMinValue(0)
+                    .testMaxValue(99L).parallel(1000, pool);
+            Assert.assertFalse(validator.validate());
+            Assert.assertEquals(2, validator.getViolationCount());
+            Assert.assertEquals(30001, validator.getFirstViolationIndex());
+            Assert.assertEquals(RuleCode.MIN_VALUE.mask() | RuleCode.MAX_VALUE.mask(), validator.tryValidate());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.stream.LongStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the LongRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class LongRuleTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.longRule().build().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        LongRule rule = Validate.longRule().build();
+        Assert.assertTrue(rule.test(5L));
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        LongRule rule = Validate.longRule().testMinValue(4L).testMaxValue(10L).build();
+        Assert.assertTrue(rule.test(4L));
+        Assert.assertTrue(rule.test(5L));
+        Assert.assertTrue(rule.test(10L));
+        Assert.assertFalse(rule.test(3L));
+        Assert.assertFalse(rule.test(11L));
+    }
+
+    @Test
+    public void testZeroValue() {
+        LongRule rule = Validate.longRule().isZeroValue().build();
+        Assert.assertTrue(rule.test(0L));
+        Assert.assertFalse(rule.test(5L));
+    }
+
+    @Test
+    public void testPositiveValue() {
+        LongRule rule = Validate.longRule().isPositiveValue().build();
+        Assert.assertTrue(rule.test(5L));
+        Assert.assertFalse(rule.test(0L));
+        Assert.assertFalse(rule.test(-5L));
+    }
+
+    @Test
+    public void testNegativeValue() {
+        LongRule rule = Validate.longRule().isNegativeValue().build();
+        Assert.assertTrue(rule.test(-5L));
+        Assert.assertFalse(rule.test(0L));
+        Assert.assertFalse(rule.test(5L));
+    }
+
+    @Test
+    public void testEquals() {
+        LongRule rule = Validate.longRule().testEquals(5L).build();
+        Assert.assertTrue(rule.test(5L));
+        Assert.assertFalse(rule.test(4L));
+    }
+
+    @Test
+    public void testReuse() {
+        LongRule.Builder builder = Validate.longRule().testMaxValue(10L);
+        LongRule rule = builder.build();
+        builder.testMaxValue(3L);
+        Assert.assertTrue(rule.test(5L));
+        Assert.assertFalse(builder.build().test(5L));
+    }
+
+    @Test
+    public void testPredicate() {
+        LongRule rule = Validate.longRule().isPositiveValue().build();
+        Assert.assertArrayEquals(new long[] { 1L, Long.MAX_VALUE },
+                LongStream.of(Long.MIN_VALUE, 0L, 1L, Long.MAX_VALUE).filter(rule).toArray());
+    }
+}
@@ -0,0 +1,129 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the MatchBudget
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class MatchBudgetTest
+{
+    /*
+     * A regex that backtracks for an exponential time on a long run of "a".
+     */
+    private static final Pattern BACKTRACKING = Pattern.compile("(a|aa){1,60}b");
+
+    @Before
+    public void setUp()
+    {
+        //
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    /*
+     * Creates a run of "a" chars.
+     */
+    private static String run(final int length)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++)
+        {
+            builder.append('a');
+        }
+        return (builder.toString());
+    }
+
+    @Test
+    public void testDefaults()
+    {
+        MatchBudget budget = Validate.matchBudget().build();
+        Assert.assertEquals(Integer.MAX_VALUE, budget.getMaxLength());
+        Assert.assertEquals(Long.MAX_VALUE, budget.getMaxSteps());
+        Assert.assertEquals(Long.MAX_VALUE, budget.getMaxNanos());
+        Assert.assertEquals(0L, budget.tryMatch("aab", null, BACKTRACKING, null));
+        Assert.assertEquals(RuleCode.MATCH.mask(), budget.tryMatch("aac", null, BACKTRACKING, null));
+        Assert.assertTrue(budget.toString().startsWith("MatchBudget ["));
+    }
+
+    @Test
+    public void testMaxLength()
+    {
+        MatchBudget budget = Validate.matchBudget().maxLength(4).build();
+        Assert.assertEquals(0L, budget.tryMatch("aaab", null, BACKTRACKING, null));
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(), budget.tryMatch("aaaab", null, BACKTRACKING, null));
+        
+        // a LinearPattern only has the max length.
+        LinearPattern pattern = LinearPattern.compile("(a|aa){1,60}b");
+        Assert.assertEquals(RuleCode.MATCH.mask(), budget.tryMatch("aaaa", pattern, pattern.getPattern(), null));
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(),
+                budget.tryMatch(run(40), pattern, pattern.getPattern(), null));
+    }
+
+    @Test
+    public void testMaxSteps()
+    {
+        MatchBudget budget = Validate.matchBudget().maxSteps(10000).build();
+        Assert.assertEquals(1000000L, Validate.matchBudget().maxSteps(1000000).build().getMaxSteps());
+        Assert.assertEquals(0L, budget.tryMatch("aaaab", null, BACKTRACKING, null));
+        Assert.assertEquals(RuleCode.MATCH.mask(), budget.tryMatch("aaaac", null, BACKTRACKING, null));
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(), budget.tryMatch(run(40), null, BACKTRACKING, null));
+        
+        // a reused Matcher is left reset.
+        java.util.regex.Matcher matcher = BACKTRACKING.matcher("");
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(), budget.tryMatch(run(40), null, BACKTRACKING, matcher));
+        Assert.assertEquals(0L, budget.tryMatch("ab", null, BACKTRACKING, matcher));
+    }
+
+    @Test
+    public void testMaxTime()
+    {
+        MatchBudget budget = Validate.matchBudget().maxTime(20, TimeUnit.MILLISECONDS).build();
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(20), budget.getMaxNanos());
+        Assert.assertEquals(0L, budget.tryMatch("aaaab", null, BACKTRACKING, null));
+        
+        long start = System.nanoTime();
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(), budget.tryMatch(run(60), null, BACKTRACKING, null));
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    public void testBadBuilder()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.matchBudget().maxLength(-1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.matchBudget().maxSteps(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.matchBudget().maxTime(0, TimeUnit.SECONDS));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.matchBudget().maxTime(1, null));
+    }
+}
@@ -0,0 +1,102 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the NumberParser
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class NumberParserTest {
+
+    private NumberParser _parser;
+
+    @Before
+    public void setUp() {
+        this._parser = new NumberParser();
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testParseLong() {
+        String[] valid = { "0", "-0", "+7", "123", "-45", "9223372036854775807", "-9223372036854775808", "007" };
+        for (String text : valid) {
+            Assert.assertTrue(text, this._parser.parseLong(new StringBuilder(text)));
+            Assert.assertEquals(text, Long.parseLong(text), this._parser.getLongValue());
+        }
+        String[] invalid = { "", "-", "+", "1.0", " 1", "1 ", "12a", "9223372036854775808", "-9223372036854775809",
+                "99999999999999999999", "--1" };
+        for (String text : invalid) {
+            Assert.assertFalse(text, this._parser.parseLong(text));
+        }
+    }
+
+    @Test
+    public void testParseInt() {
+        Assert.assertTrue(this._parser.parseInt("-2147483648"));
+        Assert.assertEquals(Integer.MIN_VALUE, (int) this._parser.getLongValue());
+        Assert.assertTrue(this._parser.parseInt("2147483647"));
+        Assert.assertFalse(this._parser.parseInt("2147483648"));
+        Assert.assertFalse(this._parser.parseInt("-2147483649"));
+    }
+
+    @Test
+    public void testParseDouble() {
+        String[] valid = { "0", "-0", "-0.0", "1.5", "+2", ".5", "5.", "123456.789", "1e10", "1E-5", "-2.5e+3",
+                "0.1", "0.3", "3.14159265358979", "123456789012345", "1234567890123456789", "0.000000000000000000000001",
+                "1e-300", "1.7976931348623157e308", "4.9e-324", "1e400", "NaN", "-Infinity", "0x1p3", "1.5d",
+                "9007199254740993", "2.2250738585072014E-308", "1e22", "1e23" };
+        for (String text : valid) {
+            Assert.assertTrue(text, this._parser.parseDouble(new StringBuilder(text)));
+            Assert.assertEquals(text, Double.doubleToLongBits(Double.parseDouble(text)),
+                    Double.doubleToLongBits(this._parser.getDoubleValue()));
+        }
+        String[] invalid = { "", "-", ".", "e5", "1e", "1e+", "1.2.3", "abc", " 1", "1 ", "1,5", "--1" };
+        for (String text : invalid) {
+            Assert.assertFalse(text, this._parser.parseDouble(text));
+        }
+    }
+
+    @Test
+    public void testParseDoubleRandom() {
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < 100000; i++) {
+            long mantissa = random.nextLong() % 1000000000000000L;
+            int exponent = random.nextInt(50) - 25;
+            String text = mantissa + "e" + exponent;
+            Assert.assertTrue(text, this._parser.parseDouble(text));
+            Assert.assertEquals(text, Double.parseDouble(text), this._parser.getDoubleValue(), 0.0);
+
+            text = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10));
+            Assert.assertTrue(text, this._parser.parseDouble(text));
+            Assert.assertEquals(text, Double.parseDouble(text), this._parser.getDoubleValue(), 0.0);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+
+package com.gabstudios.validate;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the ParallelScan
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ParallelScanTest {
+
+    private ForkJoinPool _pool;
+
+    @Before
+    public void setUp() {
+        this._pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        this._pool.shutdownNow();
+    }
+
+    /*
+     * A scan of an array that counts how many elements it looked at. The key
+     * of an element is its index.
+     */
+    private static ParallelScan.Scanner scanner(final boolean[] failed, final AtomicInteger scanned) {
+        return (new ParallelScan.Scanner() {
+            @Override
+            public int indexOf(final int from, final int to) {
+                for (int i = from; i < to; i++) {
+                    scanned.incrementAndGet();
+                    if (failed[i]) {
+                        return (i);
+                    }
+                }
+                return (-1);
+            }
+
+            @Override
+            public int count(final int from, final int to, final long[] bounds) {
+                int count = 0;
+                for (int i = from; i < to; i++) {
+                    scanned.incrementAndGet();
+                    if (failed[i]) {
+                        count++;
+                        bounds[0] = Math.min(bounds[0], i);
+                        bounds[1] = Math.max(bounds[1], i);
+                    }
+                }
+                return (count);
+            }
+        });
+    }
+
+    @Test
+    public void testScan() {
+        boolean[] failed = new boolean[200000];
+        failed[70001] = true;
+        failed[70002] = true;
+        failed[150000] = true;
+        failed[199999] = true;
+        AtomicInteger scanned = new AtomicInteger();
+        ParallelScan scan = ParallelScan.scan(scanner(failed, scanned), failed.length, false, this._pool);
+        Assert.assertEquals(70001, scan.getIndex());
+        Assert.assertEquals(4, scan.getCount());
+        Assert.assertEquals(70001L, scan.getMinKey());
+        Assert.assertEquals(199999L, scan.getMaxKey());
+        // a chunk counts from its first failure, so that failure is read twice.
+        Assert.assertTrue(scanned.get() >= failed.length && scanned.get() <= failed.length + 4);
+    }
+
+    @Test
+    public void testScanValid() {
+        boolean[] failed = new boolean[100000];
+        ParallelScan scan = ParallelScan.scan(scanner(failed, new AtomicInteger()), failed.length, false,
+                this._pool);
+        Assert.assertEquals(-1, scan.getIndex());
+        Assert.assertEquals(0, scan.getCount());
+        Assert.assertEquals(Long.MAX_VALUE, scan.getMinKey());
+    }
+
+    @Test
+    public void testScanFailFast() {
+        boolean[] failed = new boolean[1000000];
+        failed[5] = true;
+        failed[900000] = true;
+        AtomicInteger scanned = new AtomicInteger();
+        ParallelScan scan = ParallelScan.scan(scanner(failed, scanned), failed.length, true, this._pool);
+        Assert.assertEquals(5, scan.getIndex());
+        Assert.assertTrue(scan.getCount() >= 1);
+        // the chunks that start after the failure are skipped once it is found.
+        Assert.assertTrue(scanned.get() <= failed.length);
+    }
+
+    @Test
+    public void testScanFailFastIsDeterministic() {
+        boolean[] failed = new boolean[500000];
+        for (int i = 123456; i < failed.length; i += 1000) {
+            failed[i] = true;
+        }
+        for (int i = 0; i < 20; i++) {
+            ParallelScan scan = ParallelScan.scan(scanner(failed, new AtomicInteger()), failed.length, true,
+                    this._pool);
+            Assert.assertEquals(123456, scan.getIndex());
+        }
+    }
+
+    @Test
+    public void testCheckThreshold() {
+        ParallelScan.checkThreshold(1);
+        Assert.assertThrows(IllegalArgumentException.class, () -> ParallelScan.checkThreshold(0));
+    }
+}
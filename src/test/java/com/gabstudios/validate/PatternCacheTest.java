@@ -0,0 +1,143 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the PatternCache
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class PatternCacheTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = new PatternCache(4).toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testDefault() {
+        Assert.assertSame(PatternCache.getDefault(), PatternCache.getDefault());
+        Assert.assertEquals(PatternCache.DEFAULT_MAX_SIZE, PatternCache.getDefault().getMaxSize());
+    }
+
+    @Test
+    public void testHitMiss() {
+        PatternCache cache = new PatternCache(4);
+        Pattern first = cache.getPattern("[a-z]*");
+        Pattern second = cache.getPattern("[a-z]*");
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        PatternCache cache = new PatternCache(2);
+        cache.getPattern("a");
+        cache.getPattern("b");
+        cache.getPattern("a");
+        cache.getPattern("c");
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getEvictionCount());
+
+        // "b" was the least recently used, so it was evicted.
+        long misses = cache.getMissCount();
+        cache.getPattern("a");
+        cache.getPattern("c");
+        Assert.assertEquals(misses, cache.getMissCount());
+        cache.getPattern("b");
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    public void testClear() {
+        PatternCache cache = new PatternCache(2);
+        cache.getPattern("a");
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidSize() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PatternCache(0));
+    }
+
+    @Test
+    public void testNullRegex() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PatternCache(2).getPattern(null));
+    }
+
+    @Test
+    public void testInvalidRegex() {
+        PatternCache cache = new PatternCache(2);
+        Assert.assertThrows(PatternSyntaxException.class, () -> cache.getPattern("[a-z"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        final PatternCache cache = new PatternCache(8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    boolean isValid = true;
+                    for (int j = 0; j < 10000; j++) {
+                        isValid &= cache.getPattern("[a-z]{" + (j % 16) + "}").matcher("").matches() == (j % 16 == 0);
+                    }
+                    return isValid;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                Assert.assertTrue(future.get());
+            }
+            Assert.assertTrue(cache.size() <= 8);
+            Assert.assertEquals(80000, cache.getHitCount() + cache.getMissCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
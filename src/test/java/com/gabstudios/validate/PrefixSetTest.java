@@ -0,0 +1,157 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the PrefixSet
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class PrefixSetTest
+{
+    @Before
+    public void setUp()
+    {
+        //
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    @Test
+    public void testContainsPrefixOf()
+    {
+        PrefixSet set = PrefixSet.of(Arrays.asList("orders.", "payments.", "/api/v1/", "SKU-12"));
+        Assert.assertEquals(4, set.size());
+        Assert.assertTrue(set.containsPrefixOf("orders.created"));
+        Assert.assertTrue(set.containsPrefixOf("orders."));
+        Assert.assertTrue(set.containsPrefixOf("/api/v1/users"));
+        Assert.assertTrue(set.containsPrefixOf(new StringBuilder("SKU-1234")));
+        Assert.assertFalse(set.containsPrefixOf("orders"));
+        Assert.assertFalse(set.containsPrefixOf("refunds.created"));
+        Assert.assertFalse(set.containsPrefixOf("/api/v2/users"));
+        Assert.assertFalse(set.containsPrefixOf(""));
+        Assert.assertFalse(set.containsPrefixOf(null));
+        Assert.assertEquals(7, set.prefixLength("orders.created"));
+        Assert.assertEquals(-1, set.prefixLength("SKU-1"));
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        PrefixSet set = PrefixSet.of(Collections.<String>emptyList());
+        Assert.assertEquals(0, set.size());
+        Assert.assertFalse(set.containsPrefixOf(""));
+        Assert.assertFalse(set.containsPrefixOf("abc"));
+        Assert.assertEquals("[]", set.toString());
+
+        PrefixSet all = PrefixSet.of(Arrays.asList("", "abc"));
+        Assert.assertEquals(1, all.size());
+        Assert.assertTrue(all.containsPrefixOf(""));
+        Assert.assertTrue(all.containsPrefixOf("xyz"));
+        Assert.assertEquals(0, all.prefixLength("xyz"));
+    }
+
+    @Test
+    public void testShortestPrefix()
+    {
+        // a prefix that starts with another prefix adds nothing.
+        PrefixSet set = PrefixSet.of(Arrays.asList("abcd", "ab", "abc", "ab", "b"));
+        Assert.assertEquals(2, set.size());
+        Assert.assertEquals("[ab, b]", set.toString());
+        Assert.assertEquals(2, set.prefixLength("abcdef"));
+        Assert.assertTrue(set.containsPrefixOf("ab"));
+        Assert.assertFalse(set.containsPrefixOf("a"));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random random = new Random(25);
+        List<String> prefixes = new ArrayList<String>();
+        for (int i = 0; i < 500; i++)
+        {
+            prefixes.add(randomString(random, 6));
+        }
+        prefixes.remove("");
+        PrefixSet set = PrefixSet.of(prefixes);
+        for (int i = 0; i < 20000; i++)
+        {
+            String value = randomString(random, 10);
+            int expected = -1;
+            for (String prefix : prefixes)
+            {
+                if (value.startsWith(prefix) && (expected < 0 || prefix.length() < expected))
+                {
+                    expected = prefix.length();
+                }
+            }
+            Assert.assertEquals(value, expected, set.prefixLength(value));
+        }
+    }
+
+    @Test
+    public void testToString()
+    {
+        List<String> prefixes = new ArrayList<String>();
+        for (int i = 0; i < 20; i++)
+        {
+            prefixes.add(Character.toString((char) ('a' + i)));
+        }
+        Assert.assertEquals("[a, b, c, d, e, f, g, h, i, j, k, l, m, n, o, p, ...]", PrefixSet.of(prefixes).toString());
+    }
+
+    @Test
+    public void testNull()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> PrefixSet.of(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> PrefixSet.of(Arrays.asList("a", null)));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> PrefixSet.of(Arrays.asList("a")).prefixLength(null));
+    }
+
+    /*
+     * A random string of a few letters, so values share prefixes often.
+     */
+    private static String randomString(final Random random, final int maxLength)
+    {
+        final char[] chars = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < chars.length; i++)
+        {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return (new String(chars));
+    }
+}
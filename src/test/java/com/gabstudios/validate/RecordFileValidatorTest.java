@@ -0,0 +1,241 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the RecordFileValidator and RecordFileResult
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class RecordFileValidatorTest {
+
+    /*
+     * A 16 byte record: an int age, a long id and a 4 byte text code.
+     */
+    private static final int RECORD_LENGTH = 16;
+
+    private Path         _file;
+
+    private RecordLayout _layout;
+
+    @Before
+    public void setUp() throws IOException {
+        this._file = Files.createTempFile("records", ".bin");
+        this._layout = Validate.recordLayout(RECORD_LENGTH)
+                .intField("age", 0, Validate.integerRule().testMinValue(0).testMaxValue(150).build())
+                .longField("id", 4, Validate.longRule().isPositiveValue().build())
+                .textField("code", 12, 4, Validate.stringRule().testNotNullEmpty().build()).build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this._file);
+    }
+
+    /*
+     * Writes a header and the records. Every record is valid except that
+     * record i has a bad age if i % 1000 == 7 and an empty code if i % 1000 ==
+     * 8.
+     */
+    private void write(final int header, final int recordCount, final int trailing) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(header + recordCount * RECORD_LENGTH + trailing);
+        for (int i = 0; i < recordCount; i++) {
+            int record = header + i * RECORD_LENGTH;
+            buffer.putInt(record, (i % 1000 == 7) ? -1 : i % 100);
+            buffer.putLong(record + 4, i + 1L);
+            for (int c = 0; c < 4; c++) {
+                buffer.put(record + 12 + c, (byte) ((i % 1000 == 8) ? ' ' : 'A' + c));
+            }
+        }
+        Files.write(this._file, buffer.array());
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.defineRecordFile(this._file, this._layout).parallel().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testValid() throws IOException {
+        write(0, 5, 0);
+        List<RecordViolation> violations = new ArrayList<RecordViolation>();
+        RecordFileResult result = Validate.defineRecordFile(this._file, this._layout).validate(violations::add);
+        Assert.assertTrue(result.isValid());
+        Assert.assertEquals(5L, result.getRecordCount());
+        Assert.assertEquals(5L, result.getValidRecordCount());
+        Assert.assertEquals(5L, result.getTally("age").getTestedCount());
+        Assert.assertTrue(violations.isEmpty());
+        Assert.assertTrue(result.toString().length() != 0);
+    }
+
+    @Test
+    public void testViolations() throws IOException {
+        write(0, 2500, 0);
+        List<RecordViolation> violations = new ArrayList<RecordViolation>();
+        RecordFileResult result = Validate.defineRecordFile(this._file, this._layout).chunkSize(1000)
+                .validate(violations::add);
+        Assert.assertFalse(result.isValid());
+        Assert.assertEquals(2500L, result.getRecordCount());
+        Assert.assertEquals(6L, result.getInvalidRecordCount());
+        Assert.assertEquals(3L, result.getTally("age").getCount(RuleCode.MIN_VALUE));
+        Assert.assertEquals(3L, result.getTally("code").getCount(RuleCode.NOT_EMPTY));
+        Assert.assertEquals(0L, result.getTally("id").getInvalidCount());
+
+        Assert.assertEquals(6, violations.size());
+        RecordViolation violation = violations.get(0);
+        Assert.assertEquals(7L, violation.getRecordIndex());
+        Assert.assertEquals("age", violation.getFieldName());
+        Assert.assertEquals(Integer.valueOf(-1), violation.getValue());
+        Assert.assertEquals(RuleCode.MIN_VALUE.mask(), violation.getFailedRules());
+        Assert.assertEquals(8L, violations.get(1).getRecordIndex());
+        Assert.assertEquals("", violations.get(1).getValue());
+        Assert.assertEquals(2008L, violations.get(5).getRecordIndex());
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> result.getTally("name"));
+    }
+
+    @Test
+    public void testParallel() throws IOException {
+        write(0, 20000, 0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<RecordViolation> violations = new ArrayList<RecordViolation>();
+            RecordFileResult result = Validate.defineRecordFile(this._file, this._layout).chunkSize(4096)
+                    .parallel(pool).validate(violations::add);
+            Assert.assertEquals(20000L, result.getRecordCount());
+            Assert.assertEquals(40L, result.getInvalidRecordCount());
+            Assert.assertEquals(40, violations.size());
+            // the violations are reported in the order of the records.
+            for (int i = 1; i < violations.size(); i++) {
+                Assert.assertTrue(violations.get(i - 1).getRecordIndex() < violations.get(i).getRecordIndex());
+            }
+
+            RecordFileResult sequential = Validate.defineRecordFile(this._file, this._layout).validate(null);
+            Assert.assertEquals(sequential.getTally("age"), result.getTally("age"));
+            Assert.assertEquals(sequential.getTally("code"), result.getTally("code"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testManyViolations() throws IOException {
+        // more violations in a chunk than it keeps until it is reported.
+        int recordCount = 100000;
+        ByteBuffer buffer = ByteBuffer.allocate(recordCount * RECORD_LENGTH);
+        for (int i = 0; i < recordCount; i++) {
+            int record = i * RECORD_LENGTH;
+            buffer.putInt(record, -i - 1);
+            buffer.putLong(record + 4, (i % 3 == 0) ? 0L : 1L);
+            for (int c = 0; c < 4; c++) {
+                buffer.put(record + 12 + c, (byte) 'A');
+            }
+        }
+        Files.write(this._file, buffer.array());
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (RecordFileValidator validator : new RecordFileValidator[] {
+                    Validate.defineRecordFile(this._file, this._layout),
+                    Validate.defineRecordFile(this._file, this._layout).chunkSize(1 << 20).parallel(pool) }) {
+                List<RecordViolation> violations = new ArrayList<RecordViolation>();
+                RecordFileResult result = validator.validate(violations::add);
+                Assert.assertEquals(recordCount, result.getInvalidRecordCount());
+                Assert.assertEquals(recordCount + (recordCount + 2) / 3, violations.size());
+                int index = 0;
+                for (int i = 0; i < recordCount; i++) {
+                    RecordViolation violation = violations.get(index++);
+                    Assert.assertEquals(i, violation.getRecordIndex());
+                    Assert.assertEquals("age", violation.getFieldName());
+                    Assert.assertEquals(Integer.valueOf(-i - 1), violation.getValue());
+                    if (i % 3 == 0) {
+                        violation = violations.get(index++);
+                        Assert.assertEquals(i, violation.getRecordIndex());
+                        Assert.assertEquals("id", violation.getFieldName());
+                        Assert.assertEquals(Long.valueOf(0L), violation.getValue());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testHeaderAndTrailer() throws IOException {
+        write(100, 10, 5);
+        RecordFileResult result = Validate.defineRecordFile(this._file, this._layout).headerLength(100)
+                .validate(null);
+        Assert.assertEquals(10L, result.getRecordCount());
+        Assert.assertEquals(2L, result.getInvalidRecordCount());
+        Assert.assertEquals(5L, result.getTrailingByteCount());
+        Assert.assertFalse(result.isValid());
+
+        result = Validate.defineRecordFile(this._file, this._layout).headerLength(1000).validate(null);
+        Assert.assertEquals(0L, result.getRecordCount());
+        Assert.assertEquals(0L, result.getTrailingByteCount());
+    }
+
+    @Test
+    public void testByteOrder() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, 5).putInt(4, 500);
+        Files.write(this._file, buffer.array());
+        RecordLayout layout = Validate.recordLayout(4).order(ByteOrder.LITTLE_ENDIAN)
+                .intField("count", 0, Validate.integerRule().testMaxValue(10).build()).build();
+        List<RecordViolation> violations = new ArrayList<RecordViolation>();
+        Validate.defineRecordFile(this._file, layout).validate(violations::add);
+        Assert.assertEquals(1, violations.size());
+        Assert.assertEquals(Integer.valueOf(500), violations.get(0).getValue());
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.defineRecordFile(null, this._layout));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.defineRecordFile(this._file, null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineRecordFile(this._file, this._layout).chunkSize(0));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineRecordFile(this._file, this._layout).headerLength(-1L));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineRecordFile(this._file, this._layout).parallel(null));
+
+        Files.delete(this._file);
+        Assert.assertThrows(NoSuchFileException.class,
+                () -> Validate.defineRecordFile(this._file, this._layout).validate(null));
+    }
+}
@@ -0,0 +1,129 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the RecordLayout
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class RecordLayoutTest {
+
+    private RecordLayout _layout;
+
+    @Before
+    public void setUp() {
+        this._layout = Validate.recordLayout(28).order(ByteOrder.LITTLE_ENDIAN)
+                .intField("age", 0, Validate.integerRule().testMinValue(0).testMaxValue(150).build())
+                .doubleField("balance", 4, Validate.doubleRule().testMinValue(0.0).build())
+                .textField("code", 12, 8, Validate.stringRule().testNotNullEmpty().testMatch("[A-Z]+").build())
+                .longField("id", 20, Validate.longRule().isPositiveValue().build()).build();
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    private static ByteBuffer record(final int age, final double balance, final String code, final long id) {
+        ByteBuffer buffer = ByteBuffer.allocate(28).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, age).putDouble(4, balance).putLong(20, id);
+        byte[] text = (code + "        ").getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = 0; i < 8; i++) {
+            buffer.put(12 + i, text[i]);
+        }
+        return (buffer);
+    }
+
+    @Test
+    public void testToString() {
+        String desc = this._layout.toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testFields() {
+        Assert.assertEquals(Arrays.asList("age", "balance", "code", "id"), this._layout.getFieldNames());
+        Assert.assertEquals(28, this._layout.getRecordLength());
+        Assert.assertEquals(ByteOrder.LITTLE_ENDIAN, this._layout.getOrder());
+        Assert.assertEquals(8, this._layout.getMaxTextWidth());
+        Assert.assertEquals(ByteOrder.BIG_ENDIAN, Validate.recordLayout(4)
+                .intField("a", 0, Validate.integerRule().build()).build().getOrder());
+    }
+
+    @Test
+    public void testTestField() {
+        char[] text = new char[8];
+        CharSlice slice = new CharSlice();
+        ByteBuffer buffer = record(30, 10.5, "ABCD", 7L);
+        for (int f = 0; f < 4; f++) {
+            Assert.assertEquals(0L, this._layout.testField(f, buffer, 0, text, slice));
+        }
+
+        buffer = record(200, -1.0, "ab", 0L);
+        Assert.assertEquals(RuleCode.MAX_VALUE.mask(), this._layout.testField(0, buffer, 0, text, slice));
+        Assert.assertEquals(RuleCode.MIN_VALUE.mask(), this._layout.testField(1, buffer, 0, text, slice));
+        Assert.assertEquals(RuleCode.MATCH.mask(), this._layout.testField(2, buffer, 0, text, slice));
+        Assert.assertEquals(RuleCode.POSITIVE_VALUE.mask(), this._layout.testField(3, buffer, 0, text, slice));
+
+        Assert.assertEquals(Integer.valueOf(200), this._layout.getValue(0, buffer, 0));
+        Assert.assertEquals(Double.valueOf(-1.0), this._layout.getValue(1, buffer, 0));
+        Assert.assertEquals("ab", this._layout.getValue(2, buffer, 0));
+        Assert.assertEquals(Long.valueOf(0L), this._layout.getValue(3, buffer, 0));
+    }
+
+    @Test
+    public void testPadding() {
+        char[] text = new char[8];
+        CharSlice slice = new CharSlice();
+        // an all space text field is empty.
+        ByteBuffer buffer = record(30, 10.5, "", 7L);
+        Assert.assertEquals("", this._layout.getValue(2, buffer, 0));
+        Assert.assertEquals(RuleCode.NOT_EMPTY.mask() | RuleCode.MATCH.mask(),
+                this._layout.testField(2, buffer, 0, text, slice));
+    }
+
+    @Test
+    public void testBadLayout() {
+        IntegerRule rule = Validate.integerRule().build();
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.recordLayout(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.recordLayout(8).build());
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.recordLayout(8).intField("a", 5, rule));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.recordLayout(8).intField("a", -1, rule));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.recordLayout(8).textField("a", 0, 0, Validate.stringRule().build()));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.recordLayout(8).intField("a", 0, rule).intField("a", 4, rule));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.recordLayout(8).intField(null, 0, rule));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.recordLayout(8).intField("a", 0, null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.recordLayout(8).order(null));
+    }
+}
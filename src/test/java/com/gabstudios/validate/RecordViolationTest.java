@@ -0,0 +1,57 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.EnumSet;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the RecordViolation
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class RecordViolationTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testGetters() {
+        long failedRules = RuleCode.MIN_VALUE.mask() | RuleCode.POSITIVE_VALUE.mask();
+        RecordViolation violation = new RecordViolation(12L, "age", Integer.valueOf(-3), failedRules);
+        Assert.assertEquals(12L, violation.getRecordIndex());
+        Assert.assertEquals("age", violation.getFieldName());
+        Assert.assertEquals(Integer.valueOf(-3), violation.getValue());
+        Assert.assertEquals(failedRules, violation.getFailedRules());
+        Assert.assertEquals(EnumSet.of(RuleCode.MIN_VALUE, RuleCode.POSITIVE_VALUE), violation.getRuleCodes());
+        Assert.assertTrue(violation.toString().contains("age"));
+    }
+}
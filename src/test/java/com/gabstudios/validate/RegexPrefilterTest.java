@@ -0,0 +1,145 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the RegexPrefilter
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class RegexPrefilterTest
+{
+    @Before
+    public void setUp()
+    {
+        //
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    @Test
+    public void testOrderNumber()
+    {
+        RegexPrefilter prefilter = RegexPrefilter.analyze(Pattern.compile("^ORD-[0-9]{10}$"));
+        Assert.assertFalse(prefilter.isLiteral());
+        Assert.assertTrue(prefilter.mayMatch("ORD-0123456789"));
+        Assert.assertTrue(prefilter.mayMatch("ORD-012345678x"));
+        Assert.assertFalse(prefilter.mayMatch("ORD-012345678"));
+        Assert.assertFalse(prefilter.mayMatch("ORD-01234567890"));
+        Assert.assertFalse(prefilter.mayMatch("INV-0123456789"));
+        Assert.assertFalse(prefilter.mayMatch(""));
+    }
+
+    @Test
+    public void testSuffixAndFirstChars()
+    {
+        RegexPrefilter prefilter = RegexPrefilter.analyze(Pattern.compile("[a-z]+\\.(csv|txt)"));
+        Assert.assertTrue(prefilter.mayMatch("data.csv"));
+        Assert.assertTrue(prefilter.mayMatch("data.tsv"));
+        Assert.assertFalse(prefilter.mayMatch("Data.csv"));
+        Assert.assertFalse(prefilter.mayMatch("a.cs"));
+        
+        prefilter = RegexPrefilter.analyze(Pattern.compile("[a-z]+\\.csv"));
+        Assert.assertTrue(prefilter.mayMatch("data.csv"));
+        Assert.assertFalse(prefilter.mayMatch("data.csvx"));
+        Assert.assertFalse(prefilter.mayMatch("data_csv"));
+        
+        prefilter = RegexPrefilter.analyze(Pattern.compile("(file|folder)-\\d+"));
+        Assert.assertTrue(prefilter.mayMatch("file-1"));
+        Assert.assertTrue(prefilter.mayMatch("folder-1"));
+        Assert.assertFalse(prefilter.mayMatch("x-1"));
+    }
+
+    @Test
+    public void testLiteral()
+    {
+        RegexPrefilter prefilter = RegexPrefilter.analyze(Pattern.compile("^ORD\\-0001$"));
+        Assert.assertTrue(prefilter.isLiteral());
+        Assert.assertEquals("ORD-0001", prefilter.getLiteral());
+        Assert.assertTrue(prefilter.mayMatch("ORD-0001"));
+        Assert.assertFalse(prefilter.mayMatch("ORD-0002"));
+        Assert.assertFalse(prefilter.mayMatch("ORD-00011"));
+        
+        Assert.assertEquals("abab", RegexPrefilter.analyze(Pattern.compile("(ab){2}")).getLiteral());
+        Assert.assertEquals("😀", RegexPrefilter.analyze(Pattern.compile("😀")).getLiteral());
+        Assert.assertFalse(RegexPrefilter.analyze(Pattern.compile("a|b")).isLiteral());
+    }
+
+    @Test
+    public void testNoPrefilter()
+    {
+        Assert.assertNull(RegexPrefilter.analyze(Pattern.compile("[\\s\\S]*")));
+        Assert.assertNull(RegexPrefilter.analyze(Pattern.compile("(a)\\1")));
+        Assert.assertNull(RegexPrefilter.analyze(Pattern.compile("abc", Pattern.CASE_INSENSITIVE)));
+        Assert.assertNull(RegexPrefilter.analyze(Pattern.compile("a(?=b)b")));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        String[] atoms = { "a", "b", "ab", "😀", ".", "[ab]", "[^a]", "\\d", "(a|bc)", "(ab|ac)", "(x?)" };
+        String[] quantifiers = { "", "", "", "*", "+", "?", "{2}", "{1,3}", "{2,}" };
+        String alphabet = "abcx1😀";
+        Random random = new Random(11);
+        for (int n = 0; n < 500; n++)
+        {
+            StringBuilder regex = new StringBuilder();
+            int length = 1 + random.nextInt(4);
+            for (int i = 0; i < length; i++)
+            {
+                regex.append(atoms[random.nextInt(atoms.length)]).append(quantifiers[random.nextInt(quantifiers.length)]);
+            }
+            Pattern pattern = Pattern.compile(regex.toString());
+            RegexPrefilter prefilter = RegexPrefilter.analyze(pattern);
+            if (prefilter == null)
+            {
+                continue;
+            }
+            for (int v = 0; v < 200; v++)
+            {
+                StringBuilder value = new StringBuilder();
+                int valueLength = random.nextInt(8);
+                for (int i = 0; i < valueLength; i++)
+                {
+                    value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                boolean matches = pattern.matcher(value).matches();
+                Assert.assertTrue(regex + " " + value + " " + prefilter, !matches || prefilter.mayMatch(value));
+                if (prefilter.isLiteral())
+                {
+                    Assert.assertEquals(regex + " " + value, matches, prefilter.mayMatch(value));
+                }
+            }
+        }
+    }
+}
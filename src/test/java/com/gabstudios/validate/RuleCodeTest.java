@@ -0,0 +1,73 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import java.util.EnumSet;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the RuleCode
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class RuleCodeTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testMaskIsUnique() {
+        long all = 0L;
+        for (RuleCode ruleCode : RuleCode.values()) {
+            Assert.assertEquals(1, Long.bitCount(ruleCode.mask()));
+            Assert.assertFalse(ruleCode.isIn(all));
+            all |= ruleCode.mask();
+        }
+        Assert.assertTrue(RuleCode.values().length <= Long.SIZE);
+    }
+
+    @Test
+    public void testIsIn() {
+        long mask = RuleCode.MIN_VALUE.mask() | RuleCode.MATCH.mask();
+        Assert.assertTrue(RuleCode.MIN_VALUE.isIn(mask));
+        Assert.assertTrue(RuleCode.MATCH.isIn(mask));
+        Assert.assertFalse(RuleCode.MAX_VALUE.isIn(mask));
+        Assert.assertFalse(RuleCode.MAX_VALUE.isIn(0L));
+    }
+
+    @Test
+    public void testFromMask() {
+        long mask = RuleCode.NOT_EMPTY.mask() | RuleCode.MAX_LENGTH.mask();
+        Assert.assertEquals(EnumSet.of(RuleCode.NOT_EMPTY, RuleCode.MAX_LENGTH), RuleCode.fromMask(mask));
+        Assert.assertTrue(RuleCode.fromMask(0L).isEmpty());
+    }
+}
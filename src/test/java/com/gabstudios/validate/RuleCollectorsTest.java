@@ -0,0 +1,119 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the RuleCollectors
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class RuleCollectorsTest {
+
+    private StringRule _rule;
+
+    @Before
+    public void setUp() {
+        this._rule = Validate.stringRule().testNotNullEmpty().testMaxLength(5).testMatch("[a-z]*").build();
+    }
+
+    @After
+    public void tearDown() {
+        this._rule = null;
+    }
+
+    @Test
+    public void testPartitioning() {
+        RulePartition<String> partition = Arrays.asList("hello", "", "HelloWorld", "a", "Hi").stream()
+                .collect(RuleCollectors.partitioning(this._rule::tryValidate));
+        Assert.assertEquals(Arrays.asList("hello", "a"), partition.getValid());
+        Assert.assertEquals(Arrays.asList("", "HelloWorld", "Hi"), partition.getInvalid());
+        Assert.assertEquals(5L, partition.getTally().getTestedCount());
+        Assert.assertEquals(3L, partition.getTally().getInvalidCount());
+        Assert.assertEquals(1L, partition.getTally().getCount(RuleCode.NOT_EMPTY));
+        Assert.assertEquals(1L, partition.getTally().getCount(RuleCode.MAX_LENGTH));
+        Assert.assertEquals(2L, partition.getTally().getCount(RuleCode.MATCH));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> partition.getValid().add("x"));
+    }
+
+    @Test
+    public void testPartitioningParallel() {
+        List<String> values = new ArrayList<String>();
+        for (int i = 0; i < 100000; i++) {
+            values.add((i % 3 == 0) ? "Bad" + i : "ok");
+        }
+        RulePartition<String> sequential = values.stream()
+                .collect(RuleCollectors.partitioning(this._rule::tryValidate));
+        RulePartition<String> parallel = values.parallelStream()
+                .collect(RuleCollectors.partitioning(this._rule::tryValidate));
+        Assert.assertEquals(sequential.getValid(), parallel.getValid());
+        Assert.assertEquals(sequential.getInvalid(), parallel.getInvalid());
+        Assert.assertEquals(sequential.getTally(), parallel.getTally());
+        Assert.assertEquals(33334L, parallel.getTally().getInvalidCount());
+    }
+
+    @Test
+    public void testTallying() {
+        RuleTally tally = Arrays.asList("hello", null, "HelloWorld").parallelStream()
+                .collect(RuleCollectors.tallying(this._rule::tryValidate));
+        Assert.assertEquals(3L, tally.getTestedCount());
+        Assert.assertEquals(1L, tally.getValidCount());
+        Assert.assertEquals(1L, tally.getCount(RuleCode.NOT_NULL));
+        Assert.assertEquals(0L, tally.getCount(RuleCode.EQUALS));
+    }
+
+    @Test
+    public void testTallyPrimitiveStreams() {
+        IntegerRule intRule = Validate.integerRule().testMinValue(0).testMaxValue(99).build();
+        RuleTally tally = RuleCollectors.tally(IntStream.range(-50, 150).parallel(), intRule);
+        Assert.assertEquals(200L, tally.getTestedCount());
+        Assert.assertEquals(50L, tally.getCount(RuleCode.MIN_VALUE));
+        Assert.assertEquals(50L, tally.getCount(RuleCode.MAX_VALUE));
+
+        LongRule longRule = Validate.longRule().isNegativeValue().build();
+        Assert.assertEquals(2L, RuleCollectors.tally(LongStream.of(-1L, 0L, 1L), longRule).getInvalidCount());
+
+        DoubleRule doubleRule = Validate.doubleRule().testMaxValue(1.0).build();
+        Assert.assertEquals(1L, RuleCollectors.tally(DoubleStream.of(0.5, Double.NaN), doubleRule)
+                .getCount(RuleCode.MAX_VALUE));
+    }
+
+    @Test
+    public void testNullRule() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> RuleCollectors.partitioning(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> RuleCollectors.tallying(null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> RuleCollectors.tally(IntStream.empty(), (IntegerRule) null));
+    }
+}
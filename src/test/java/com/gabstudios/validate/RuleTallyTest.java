@@ -0,0 +1,83 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+
+package com.gabstudios.validate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the RuleTally
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class RuleTallyTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testAdd() {
+        RuleTally tally = new RuleTally();
+        Assert.assertTrue(tally.add(0L));
+        Assert.assertFalse(tally.add(RuleCode.MIN_VALUE.mask() | RuleCode.FALSE.mask()));
+        Assert.assertFalse(tally.add(RuleCode.MIN_VALUE.mask()));
+        Assert.assertEquals(3L, tally.getTestedCount());
+        Assert.assertEquals(2L, tally.getInvalidCount());
+        Assert.assertEquals(1L, tally.getValidCount());
+
+        Map<RuleCode, Long> counts = new EnumMap<RuleCode, Long>(RuleCode.class);
+        counts.put(RuleCode.MIN_VALUE, 2L);
+        counts.put(RuleCode.FALSE, 1L);
+        Assert.assertEquals(counts, tally.getCounts());
+    }
+
+    @Test
+    public void testMerge() {
+        RuleTally tally1 = new RuleTally();
+        tally1.add(RuleCode.MATCH.mask());
+        RuleTally tally2 = new RuleTally();
+        tally2.add(RuleCode.MATCH.mask() | RuleCode.MAX_LENGTH.mask());
+        tally2.add(0L);
+        Assert.assertSame(tally1, tally1.merge(tally2));
+        Assert.assertEquals(3L, tally1.getTestedCount());
+        Assert.assertEquals(2L, tally1.getCount(RuleCode.MATCH));
+        Assert.assertEquals(1L, tally1.getCount(RuleCode.MAX_LENGTH));
+    }
+
+    @Test
+    public void testToString() {
+        String desc = new RuleTally().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+}
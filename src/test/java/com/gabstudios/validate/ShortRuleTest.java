@@ -0,0 +1,105 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the ShortRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ShortRuleTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.shortRule().build().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        ShortRule rule = Validate.shortRule().build();
+        Assert.assertTrue(rule.test((short) 5));
+    }
+
+    @Test
+    public void testMinMaxValue() {
+        ShortRule rule = Validate.shortRule().testMinValue((short) 4).testMaxValue((short) 10).build();
+        Assert.assertTrue(rule.test((short) 4));
+        Assert.assertTrue(rule.test((short) 5));
+        Assert.assertTrue(rule.test((short) 10));
+        Assert.assertFalse(rule.test((short) 3));
+        Assert.assertFalse(rule.test((short) 11));
+    }
+
+    @Test
+    public void testZeroValue() {
+        ShortRule rule = Validate.shortRule().isZeroValue().build();
+        Assert.assertTrue(rule.test((short) 0));
+        Assert.assertFalse(rule.test((short) 5));
+    }
+
+    @Test
+    public void testPositiveValue() {
+        ShortRule rule = Validate.shortRule().isPositiveValue().build();
+        Assert.assertTrue(rule.test((short) 5));
+        Assert.assertFalse(rule.test((short) 0));
+        Assert.assertFalse(rule.test((short) -5));
+    }
+
+    @Test
+    public void testNegativeValue() {
+        ShortRule rule = Validate.shortRule().isNegativeValue().build();
+        Assert.assertTrue(rule.test((short) -5));
+        Assert.assertFalse(rule.test((short) 0));
+        Assert.assertFalse(rule.test((short) 5));
+    }
+
+    @Test
+    public void testEquals() {
+        ShortRule rule = Validate.shortRule().testEquals((short) 5).build();
+        Assert.assertTrue(rule.test((short) 5));
+        Assert.assertFalse(rule.test((short) 4));
+    }
+
+    @Test
+    public void testReuse() {
+        ShortRule.Builder builder = Validate.shortRule().testMaxValue((short) 10);
+        ShortRule rule = builder.build();
+        builder.testMaxValue((short) 3);
+        Assert.assertTrue(rule.test((short) 5));
+        Assert.assertFalse(builder.build().test((short) 5));
+    }
+
+}
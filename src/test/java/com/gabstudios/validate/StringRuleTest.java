@@ -0,0 +1,335 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the StringRule
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class StringRuleTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testToString() {
+        String desc = Validate.stringRule().testMatch("[a-z]*").build().toString();
+        Assert.assertTrue(desc != null && desc.length() != 0);
+    }
+
+    @Test
+    public void testNoTest() {
+        StringRule rule = Validate.stringRule().build();
+        Assert.assertTrue(rule.test("HelloWorld"));
+        Assert.assertTrue(rule.test(null));
+    }
+
+    @Test
+    public void testNotNull() {
+        StringRule rule = Validate.stringRule().testNotNull().build();
+        Assert.assertTrue(rule.test(""));
+        Assert.assertFalse(rule.test(null));
+    }
+
+    @Test
+    public void testNotNullEmpty() {
+        StringRule rule = Validate.stringRule().testNotNullEmpty().build();
+        Assert.assertTrue(rule.test("HelloWorld"));
+        Assert.assertFalse(rule.test(""));
+        Assert.assertFalse(rule.test(null));
+    }
+
+    @Test
+    public void testMinMaxLength() {
+        StringRule rule = Validate.stringRule().testMinLength(5).testMaxLength(10).build();
+        Assert.assertTrue(rule.test("Hello"));
+        Assert.assertTrue(rule.test("HelloWorld"));
+        Assert.assertFalse(rule.test("Hell"));
+        Assert.assertFalse(rule.test("HelloWorld!"));
+        Assert.assertFalse(rule.test(null));
+    }
+
+    @Test
+    public void testMaxLengthLessThanZero() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.stringRule().testMaxLength(-1));
+    }
+
+    @Test
+    public void testMinLengthGreaterThanMax() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.stringRule().testMaxLength(5).testMinLength(10));
+    }
+
+    @Test
+    public void testEquals() {
+        StringRule rule = Validate.stringRule().testEquals("HelloWorld").build();
+        Assert.assertTrue(rule.test("HelloWorld"));
+        Assert.assertFalse(rule.test("helloworld"));
+    }
+
+    @Test
+    public void testEqualsNoCase() {
+        StringRule rule = Validate.stringRule().testEqualsNoCase("HelloWorld").build();
+        Assert.assertTrue(rule.test("helloworld"));
+        Assert.assertFalse(rule.test("hello"));
+    }
+
+    @Test
+    public void testEqualsNoCaseSupplementary() {
+        // U+10400 and U+10428 are the two cases of a surrogate pair.
+        StringRule rule = Validate.stringRule().testEqualsNoCase("a\uD801\uDC00").build();
+        Assert.assertTrue(rule.test("A\uD801\uDC28"));
+        Assert.assertEquals(0L, rule.tryValidate("A\uD801\uDC28"));
+        Assert.assertEquals(0L, rule.tryValidate((CharSequence) new StringBuilder("A\uD801\uDC28")));
+        Assert.assertEquals(RuleCode.EQUALS_NO_CASE.mask(),
+                rule.tryValidate((CharSequence) new StringBuilder("A\uD801\uDC29")));
+    }
+
+    @Test
+    public void testMatch() {
+        StringRule rule = Validate.stringRule().testMatch("[A-Za-z]*").build();
+        Assert.assertTrue(rule.test("HelloWorld"));
+        Assert.assertFalse(rule.test("Hello World"));
+        Assert.assertFalse(rule.test(null));
+    }
+
+    @Test
+    public void testMatchPattern() {
+        StringRule rule = Validate.stringRule().testMatch(Pattern.compile("ORD-[0-9]{4}")).build();
+        Assert.assertTrue(rule.test("ORD-1234"));
+        Assert.assertFalse(rule.test("ORD-123"));
+    }
+
+    @Test
+    public void testMatchLinearPattern() {
+        StringRule rule = Validate.stringRule().testMatch(LinearPattern.compile("ORD-[0-9]{4}")).build();
+        Assert.assertTrue(rule.test("ORD-1234"));
+        Assert.assertFalse(rule.test("ORD-123"));
+        Assert.assertEquals(0L, rule.tryValidate("ORD-1234"));
+        Assert.assertEquals(RuleCode.MATCH.mask(), rule.tryValidate(new StringBuilder("ORD-12")));
+        Assert.assertEquals(RuleCode.MATCH.mask(), rule.tryValidate("ORD-X".getBytes(StandardCharsets.UTF_8), 0, 5));
+        Assert.assertNull(rule.newMatcher());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.stringRule().testMatch((LinearPattern) null));
+    }
+
+    @Test
+    public void testMatchPrefilter() {
+        String[] regexes = { "^ORD-[0-9]{10}$", "ORD-0001", "[a-z]+\\.(csv|txt)", "(a)\\1" };
+        String[] values = { "", "ORD-0123456789", "ORD-012345678", "INV-0123456789", "ORD-0001", "ORD-00011",
+                "data.csv", "Data.txt", "aa", "ab" };
+        for (String regex : regexes) {
+            StringRule rule = Validate.stringRule().testMatch(regex).build();
+            for (String value : values) {
+                boolean expected = Pattern.matches(regex, value);
+                Assert.assertEquals(regex + " " + value, expected, rule.test(value));
+                Assert.assertEquals(regex + " " + value, expected ? 0L : RuleCode.MATCH.mask(),
+                        rule.tryValidate(new StringBuilder(value)));
+            }
+        }
+    }
+
+    @Test
+    public void testMatchBudget() {
+        MatchBudget budget = Validate.matchBudget().maxLength(64).maxSteps(10000).build();
+        StringRule rule = Validate.stringRule().testMatch("(a|aa){1,60}b").testMatchBudget(budget).build();
+        // the value passes the prefilter, so the regex runs and backtracks.
+        String attack = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaacab";
+        Assert.assertTrue(rule.test("aaab"));
+        Assert.assertFalse(rule.test(attack));
+        Assert.assertEquals(RuleCode.MATCH.mask(), rule.tryValidate("aaac"));
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(), rule.tryValidate(attack));
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(), rule.tryValidate(new StringBuilder(attack)));
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(), rule.tryValidate(attack + attack));
+        
+        // the max length is tested before the prefilter.
+        StringRule literal = Validate.stringRule().testMatch("abc").testMatchBudget(
+                Validate.matchBudget().maxLength(2).build()).build();
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(), literal.tryValidate("abc"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.stringRule().testMatchBudget(null));
+    }
+
+    @Test
+    public void testOneOf() {
+        StringRule rule = Validate.stringRule().testOneOf(Arrays.asList("EUR", "GBP", "USD")).build();
+        Assert.assertTrue(rule.test("EUR"));
+        Assert.assertFalse(rule.test("eur"));
+        Assert.assertFalse(rule.test(null));
+        Assert.assertEquals(0L, rule.tryValidate("GBP"));
+        Assert.assertEquals(RuleCode.ONE_OF.mask(), rule.tryValidate("JPY"));
+        Assert.assertEquals(RuleCode.ONE_OF.mask(), rule.tryValidate(new StringBuilder("JPY")));
+        Assert.assertEquals(0L, rule.tryValidate("USD".getBytes(StandardCharsets.UTF_8), 0, 3));
+
+        StringRule noCase = Validate.stringRule().testOneOfIgnoreCase(Arrays.asList("EUR", "GBP", "USD")).build();
+        Assert.assertTrue(noCase.test("eur"));
+        Assert.assertEquals(0L, noCase.tryValidate(new StringBuilder("Usd")));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.stringRule().testOneOf((StringSet) null));
+    }
+
+    @Test
+    public void testHasPrefixIn() {
+        StringRule rule = Validate.stringRule().testHasPrefixIn(Arrays.asList("orders.", "payments."))
+                .testNotHasPrefixIn(Arrays.asList("orders.test.")).build();
+        Assert.assertTrue(rule.test("orders.created"));
+        Assert.assertFalse(rule.test("refunds.created"));
+        Assert.assertFalse(rule.test(null));
+        Assert.assertEquals(0L, rule.tryValidate("payments.settled"));
+        Assert.assertEquals(RuleCode.HAS_PREFIX_IN.mask(), rule.tryValidate("refunds.created"));
+        Assert.assertEquals(RuleCode.NOT_HAS_PREFIX_IN.mask(), rule.tryValidate("orders.test.created"));
+        Assert.assertEquals(RuleCode.NOT_HAS_PREFIX_IN.mask(), rule.tryValidate(new StringBuilder("orders.test.x")));
+        Assert.assertEquals(0L, rule.tryValidate("orders.x".getBytes(StandardCharsets.UTF_8), 0, 8));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.stringRule().testHasPrefixIn((PrefixSet) null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.stringRule().testNotHasPrefixIn((PrefixSet) null));
+    }
+
+    @Test
+    public void testMatchNull() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.stringRule().testMatch((String) null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.stringRule().testMatch((Pattern) null));
+    }
+
+    @Test
+    public void testSameAsValidator() {
+        StringRule rule = Validate.stringRule().testMinLength(2).testMaxLength(10).testMatch("[A-Za-z]*").build();
+        String[] values = { null, "", "a", "HelloWorld", "Hello World", "HelloWorld!" };
+        for (String value : values) {
+            boolean expected = Validate.defineString(value).testMinLength(2).testMaxLength(10).testMatch("[A-Za-z]*")
+                    .validate();
+            Assert.assertEquals(value, expected, rule.test(value));
+        }
+    }
+
+    @Test
+    public void testShared() throws Exception {
+        final StringRule rule = Validate.stringRule().testMaxLength(10).testMatch("[a-z]*").build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    boolean isValid = true;
+                    for (int j = 0; j < 10000; j++) {
+                        isValid &= rule.test("hello") && !rule.test("HELLO");
+                    }
+                    return isValid;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                Assert.assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTryValidate() {
+        StringRule rule = Validate.stringRule().testMinLength(2).testMaxLength(5).testMatch("[a-z]*").build();
+        Assert.assertEquals(0L, rule.tryValidate("hello"));
+        Assert.assertEquals(RuleCode.MAX_LENGTH.mask() | RuleCode.MATCH.mask(), rule.tryValidate("HelloWorld"));
+        Assert.assertEquals(RuleCode.MIN_LENGTH.mask(), rule.tryValidate("a"));
+        Assert.assertEquals(RuleCode.NOT_NULL.mask(), rule.tryValidate(null));
+        Assert.assertEquals(0L, Validate.stringRule().build().tryValidate(null));
+    }
+
+    @Test
+    public void testPredicate() {
+        StringRule rule = Validate.stringRule().testNotNullEmpty().testMaxLength(5).build();
+        Assert.assertEquals(Arrays.asList("hello", "a"),
+                Stream.of("hello", "", "HelloWorld", null, "a").filter(rule).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testTryValidateChars() {
+        StringRule[] rules = { Validate.stringRule().testMinLength(2).testMaxLength(5).testMatch("[a-z]*").build(),
+                Validate.stringRule().testNotNullEmpty().testEquals("hello").build(),
+                Validate.stringRule().testEqualsNoCase("HeLLo").build(), Validate.stringRule().testEquals(null).build() };
+        String[] values = { "hello", "HELLO", "HelloWorld", "a", "", null, "hellO", "\u0130" };
+        for (StringRule rule : rules) {
+            Matcher matcher = rule.newMatcher();
+            for (String value : values) {
+                CharSequence chars = (value != null) ? new StringBuilder(value) : null;
+                Assert.assertEquals(rule.tryValidate(value), rule.tryValidate(chars, matcher));
+                Assert.assertEquals(rule.tryValidate(value), rule.tryValidate(chars, null));
+                Assert.assertEquals(rule.tryValidate(value), rule.tryValidate(chars));
+            }
+        }
+    }
+
+    @Test
+    public void testTryValidateUtf8() {
+        StringRule rule = Validate.stringRule().testMinLength(2).testMaxLength(5).testMatch("[a-zé]*").build();
+        String[] values = { "hello", "héllo", "HelloWorld", "a", "", "héllés" };
+        for (String value : values) {
+            byte[] bytes = ("<" + value + ">").getBytes(StandardCharsets.UTF_8);
+            Assert.assertEquals(value, rule.tryValidate(value), rule.tryValidate(bytes, 1, bytes.length - 2));
+        }
+        Assert.assertEquals(RuleCode.NOT_NULL.mask(), rule.tryValidate(null, 0, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> rule.tryValidate(new byte[2], 1, 2));
+    }
+
+    @Test
+    public void testChars() {
+        CharClass identifier = Validate.charClass().range('a', 'z').digits().chars("_").build();
+        CharClass vowels = Validate.charClass().chars("aeiou").build();
+        StringRule rule = Validate.stringRule().testAllowedChars(identifier).testForbiddenChars(vowels).build();
+        String[] values = { "", "xyz_1", "xyz 1", "hello", "HELLO", "rhythm" };
+        for (String value : values) {
+            long expected = Validate.defineString(value).testAllowedChars(identifier).testForbiddenChars(vowels)
+                    .tryValidate();
+            Assert.assertEquals(value, expected, rule.tryValidate(value));
+            Assert.assertEquals(value, expected == 0L, rule.test(value));
+            Assert.assertEquals(value, expected, rule.tryValidate(new StringBuilder(value)));
+        }
+        // as for the other tests, a null value only fails the "not null" test.
+        Assert.assertEquals(RuleCode.NOT_NULL.mask(), rule.tryValidate((String) null));
+        Assert.assertEquals(RuleCode.ALLOWED_CHARS.mask() | RuleCode.FORBIDDEN_CHARS.mask(),
+                rule.tryValidate("HELLO a"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.stringRule().testAllowedChars(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.stringRule().testForbiddenChars(null));
+    }
+}
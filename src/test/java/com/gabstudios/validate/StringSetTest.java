@@ -0,0 +1,209 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the StringSet
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class StringSetTest
+{
+    @Before
+    public void setUp()
+    {
+        //
+    }
+
+    @After
+    public void tearDown()
+    {
+
+    }
+
+    @Test
+    public void testContains()
+    {
+        StringSet set = StringSet.of(Arrays.asList("EUR", "GBP", "USD", "", "EURO"));
+        Assert.assertEquals(5, set.size());
+        Assert.assertFalse(set.isIgnoreCase());
+        Assert.assertTrue(set.contains("EUR"));
+        Assert.assertTrue(set.contains("EURO"));
+        Assert.assertTrue(set.contains(""));
+        Assert.assertTrue(set.contains(new StringBuilder("USD")));
+        Assert.assertFalse(set.contains("eur"));
+        Assert.assertFalse(set.contains("EU"));
+        Assert.assertFalse(set.contains("EURX"));
+        Assert.assertFalse(set.contains("JPY"));
+        Assert.assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        StringSet set = StringSet.of(Collections.<String>emptyList());
+        Assert.assertEquals(0, set.size());
+        Assert.assertFalse(set.contains(""));
+        Assert.assertFalse(set.contains("a"));
+        Assert.assertEquals("[]", set.toString());
+    }
+
+    @Test
+    public void testDuplicates()
+    {
+        StringSet set = StringSet.of(Arrays.asList("a", "b", "a", "b", "c"));
+        Assert.assertEquals(3, set.size());
+        Assert.assertEquals("[a, b, c]", set.toString());
+
+        StringSet noCase = StringSet.ofIgnoreCase(Arrays.asList("abc", "ABC", "Abc"));
+        Assert.assertEquals(1, noCase.size());
+    }
+
+    @Test
+    public void testIgnoreCase()
+    {
+        StringSet set = StringSet.ofIgnoreCase(Arrays.asList("Eur", "gbp", "\u00c9t\u00e9"));
+        Assert.assertTrue(set.isIgnoreCase());
+        Assert.assertTrue(set.contains("EUR"));
+        Assert.assertTrue(set.contains("eur"));
+        Assert.assertTrue(set.contains(new StringBuilder("GbP")));
+        Assert.assertTrue(set.contains("\u00e9T\u00c9"));
+        Assert.assertFalse(set.contains("usd"));
+        Assert.assertFalse(set.contains("eu"));
+    }
+
+    @Test
+    public void testSameAsEqualsIgnoreCase()
+    {
+        // every pair of chars that are equal ignoring case is found.
+        for (int c = 0; c <= Character.MAX_VALUE; c++)
+        {
+            String value = String.valueOf((char) c);
+            StringSet set = StringSet.ofIgnoreCase(Collections.singletonList(value));
+            for (String other : new String[] { value.toUpperCase(), value.toLowerCase(),
+                    String.valueOf(Character.toUpperCase((char) c)), String.valueOf(Character.toLowerCase((char) c)) })
+            {
+                Assert.assertEquals(value + " " + other, value.equalsIgnoreCase(other), set.contains(other));
+            }
+        }
+    }
+
+    @Test
+    public void testSupplementaryIgnoreCase()
+    {
+        // a surrogate pair is folded as one code point, the same as
+        // String.equalsIgnoreCase().
+        for (int c = Character.MIN_SUPPLEMENTARY_CODE_POINT; c < 0x20000; c++)
+        {
+            String value = new String(Character.toChars(c));
+            String other = new String(Character.toChars(Character.toUpperCase(c)));
+            String lower = new String(Character.toChars(Character.toLowerCase(c)));
+            StringSet set = StringSet.ofIgnoreCase(Collections.singletonList("x" + value));
+            Assert.assertEquals(value.equalsIgnoreCase(other), set.contains("X" + other));
+            Assert.assertEquals(value.equalsIgnoreCase(lower), set.contains(new StringBuilder("x").append(lower)));
+        }
+        StringSet set = StringSet.ofIgnoreCase(Arrays.asList("\uD801\uDC00", "\uD801x"));
+        Assert.assertTrue(set.contains("\uD801\uDC28"));
+        Assert.assertTrue(set.contains("\uD801X"));
+        Assert.assertFalse(set.contains("\uD801\uDC01"));
+    }
+
+    @Test
+    public void testLengths()
+    {
+        StringSet set = StringSet.of(Arrays.asList("ab", "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz"));
+        Assert.assertTrue(set.contains("ab"));
+        Assert.assertTrue(set.contains("abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz"));
+        Assert.assertFalse(set.contains("abc"));
+        Assert.assertFalse(set.contains("abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxy"));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random random = new Random(24);
+        List<String> values = new ArrayList<String>();
+        Set<String> expected = new HashSet<String>();
+        for (int i = 0; i < 5000; i++)
+        {
+            String value = randomString(random);
+            values.add(value);
+            expected.add(value);
+        }
+        StringSet set = StringSet.of(values);
+        Assert.assertEquals(expected.size(), set.size());
+        for (String value : values)
+        {
+            Assert.assertTrue(value, set.contains(value));
+        }
+        for (int i = 0; i < 20000; i++)
+        {
+            String value = randomString(random);
+            Assert.assertEquals(value, expected.contains(value), set.contains(value));
+        }
+    }
+
+    @Test
+    public void testToString()
+    {
+        List<String> values = new ArrayList<String>();
+        for (int i = 0; i < 20; i++)
+        {
+            values.add(Integer.toString(i));
+        }
+        Assert.assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, ...]",
+                StringSet.of(values).toString());
+    }
+
+    @Test
+    public void testNull()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> StringSet.of(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> StringSet.ofIgnoreCase(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> StringSet.of(Arrays.asList("a", null)));
+    }
+
+    /*
+     * A short random string of a few letters, so values collide often.
+     */
+    private static String randomString(final Random random)
+    {
+        final char[] chars = new char[random.nextInt(5)];
+        for (int i = 0; i < chars.length; i++)
+        {
+            chars[i] = (char) ('a' + random.nextInt(4));
+        }
+        return (new String(chars));
+    }
+}
@@ -132,4 +132,51 @@ public class StringValidatorNegativeTest {
 
     }
 
+    @Test
+    public void testMatchInvalidRegex() {
+        Assert.assertThrows(java.util.regex.PatternSyntaxException.class,
+                () -> Validate.defineString("HelloWorld").testMatch("[A-Z"));
+    }
+
+    @Test
+    public void testMatchNullPattern() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("HelloWorld").testMatch((java.util.regex.Pattern) null));
+    }
+
+    @Test
+    public void testFailFast() {
+        boolean retVal = Validate.defineString("HelloWorld").testMaxLength(5).testMatch("[a-z]*").failFast()
+                .validate();
+        Assert.assertFalse(retVal);
+    }
+
+    @Test
+    public void testFailFastOrder() {
+        // the length test is cheaper than the equals test, so it fails first.
+        StringValidator validator = Validate.defineString("HelloWorld").testEquals("Hello").testMaxLength(5)
+                .failFast().throwValidationExceptionOnFail();
+        ValidateException e = Assert.assertThrows(ValidateException.class, () -> validator.validate());
+        Assert.assertTrue(e.getMessage(), e.getMessage().contains("max value"));
+    }
+
+    @Test
+    public void testStacklessException() {
+        StringValidator validator = Validate.defineString("HelloWorld").testMaxLength(5)
+                .throwStacklessValidationExceptionOnFail();
+        ValidateException e = Assert.assertThrows(ValidateException.class, () -> validator.validate());
+        Assert.assertEquals(0, e.getStackTrace().length);
+        e.addSuppressed(new IllegalStateException());
+        Assert.assertEquals(0, e.getSuppressed().length);
+        Assert.assertTrue(e.getMessage().length() > 0);
+    }
+
+    @Test
+    public void testStackException() {
+        StringValidator validator = Validate.defineString("HelloWorld").testMaxLength(5)
+                .throwValidationExceptionOnFail();
+        ValidateException e = Assert.assertThrows(ValidateException.class, () -> validator.validate());
+        Assert.assertTrue(e.getStackTrace().length > 0);
+    }
+
 }
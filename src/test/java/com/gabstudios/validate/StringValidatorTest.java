@@ -19,6 +19,9 @@
 
 package com.gabstudios.validate;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -202,6 +205,16 @@ public class StringValidatorTest
         }
     }
     
+    @Test
+    public void testEqualsNoCaseSupplementary()
+    {
+        // U+10400 and U+10428 are the two cases of a surrogate pair.
+        Assert.assertTrue(Validate.defineString("\uD801\uDC00").testEqualsNoCase("\uD801\uDC28").validate());
+        Assert.assertFalse(Validate.defineString("\uD801\uDC00").testEqualsNoCase("\uD801\uDC29").validate());
+        Assert.assertTrue(Validate.defineString("\uD801\uDC28")
+                .testOneOfIgnoreCase(Arrays.asList("\uD801\uDC00")).validate());
+    }
+    
     @Test
     public void testEqualsNoCase()
     {
@@ -258,5 +271,183 @@ public class StringValidatorTest
         }
 
     }
+
+    @Test
+    public void testMatchPattern()
+    {
+        
+        try
+        {
+            boolean retVal = Validate.defineString("ORD-1234").testMatch(java.util.regex.Pattern.compile("ORD-[0-9]{4}"))
+                    .throwValidationExceptionOnFail().validate();
+            
+            Assert.assertTrue(retVal);
+        }
+        catch (final ValidateException e)
+        {
+            Assert.fail(e.toString());
+        }
+        
+    }
+
+    @Test
+    public void testMatchLinearPattern()
+    {
+        LinearPattern pattern = LinearPattern.compile("ORD-[0-9]{4}");
+        Assert.assertTrue(Validate.defineString("ORD-1234").testMatch(pattern).validate());
+        Assert.assertFalse(Validate.defineString("ORD-123").testMatch(pattern).validate());
+        Assert.assertFalse(Validate.defineString(null).testMatch(pattern).validate());
+        Assert.assertEquals(RuleCode.MATCH.mask(), Validate.defineString("ORD-12345").testMatch(pattern).tryValidate());
+        
+        // the last match test wins.
+        Assert.assertTrue(Validate.defineString("abc").testMatch(pattern).testMatch("[a-z]+").validate());
+        Assert.assertTrue(Validate.defineString("ORD-1234").testMatch("[a-z]+").testMatch(pattern).validate());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("abc").testMatch((LinearPattern) null));
+    }
+
+    @Test
+    public void testOneOf()
+    {
+        List<String> currencies = Arrays.asList("EUR", "GBP", "USD");
+        Assert.assertTrue(Validate.defineString("GBP").testOneOf(currencies).validate());
+        Assert.assertFalse(Validate.defineString("gbp").testOneOf(currencies).validate());
+        Assert.assertTrue(Validate.defineString("gbp").testOneOfIgnoreCase(currencies).validate());
+        Assert.assertEquals(RuleCode.ONE_OF.mask(), Validate.defineString("JPY").testOneOf(currencies).tryValidate());
+        Assert.assertEquals(RuleCode.ONE_OF.mask() | RuleCode.NOT_NULL.mask(),
+                Validate.defineString(null).testOneOf(StringSet.of(currencies)).tryValidate());
+        try
+        {
+            Validate.defineString("JPY").testOneOf(currencies).throwValidationExceptionOnFail().validate();
+            Assert.fail();
+        }
+        catch (ValidateException e)
+        {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("JPY"));
+        }
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("abc").testOneOf((StringSet) null));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("abc").testOneOf((List<String>) null));
+    }
+
+    @Test
+    public void testHasPrefixIn()
+    {
+        List<String> topics = Arrays.asList("orders.", "payments.");
+        Assert.assertTrue(Validate.defineString("orders.created").testHasPrefixIn(topics).validate());
+        Assert.assertFalse(Validate.defineString("refunds.created").testHasPrefixIn(topics).validate());
+        Assert.assertEquals(RuleCode.HAS_PREFIX_IN.mask() | RuleCode.NOT_NULL.mask(),
+                Validate.defineString(null).testHasPrefixIn(PrefixSet.of(topics)).tryValidate());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("abc").testHasPrefixIn((PrefixSet) null));
+    }
+
+    @Test
+    public void testNotHasPrefixIn()
+    {
+        List<String> internal = Arrays.asList("/admin/", "/internal/");
+        Assert.assertTrue(Validate.defineString("/api/users").testNotHasPrefixIn(internal).validate());
+        Assert.assertEquals(RuleCode.NOT_HAS_PREFIX_IN.mask(),
+                Validate.defineString("/admin/users").testNotHasPrefixIn(internal).tryValidate());
+        Assert.assertEquals(RuleCode.NOT_HAS_PREFIX_IN.mask() | RuleCode.NOT_NULL.mask(),
+                Validate.defineString(null).testNotHasPrefixIn(internal).tryValidate());
+        try
+        {
+            Validate.defineString("/internal/x").testNotHasPrefixIn(internal).throwValidationExceptionOnFail()
+                    .validate();
+            Assert.fail();
+        }
+        catch (ValidateException e)
+        {
+            Assert.assertEquals(RuleCode.NOT_HAS_PREFIX_IN, e.getRuleCode());
+        }
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("abc").testNotHasPrefixIn((PrefixSet) null));
+    }
+
+    @Test
+    public void testMatchBudget()
+    {
+        MatchBudget budget = Validate.matchBudget().maxLength(64).maxSteps(10000).build();
+        String attack = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+        Assert.assertTrue(Validate.defineString("aaab").testMatch("(a|aa){1,60}b").testMatchBudget(budget).validate());
+        Assert.assertEquals(RuleCode.MATCH.mask(),
+                Validate.defineString("aaac").testMatch("(a|aa){1,60}b").testMatchBudget(budget).tryValidate());
+        Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED.mask(),
+                Validate.defineString(attack).testMatch("(a|aa){1,60}b").testMatchBudget(budget).tryValidate());
+        Assert.assertEquals(RuleCode.MATCH.mask() | RuleCode.NOT_NULL.mask(),
+                Validate.defineString(null).testMatch("(a|aa){1,60}b").testMatchBudget(budget).tryValidate());
+        try
+        {
+            Validate.defineString(attack).testMatch("(a|aa){1,60}b").testMatchBudget(budget)
+                    .throwValidationExceptionOnFail().validate();
+            Assert.fail();
+        }
+        catch (final ValidateException e)
+        {
+            Assert.assertEquals(RuleCode.MATCH_BUDGET_EXCEEDED, e.getRuleCode());
+        }
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("abc").testMatchBudget(null));
+    }
+
+    @Test
+    public void testFailFast()
+    {
+        
+        try
+        {
+            boolean retVal = Validate.defineString("HelloWorld").testMinLength(5).testMaxLength(10)
+                    .testMatch("[A-Za-z]*").failFast().throwValidationExceptionOnFail().validate();
+            
+            Assert.assertTrue(retVal);
+        }
+        catch (final ValidateException e)
+        {
+            Assert.fail(e.toString());
+        }
         
+    }
+
+    @Test
+    public void testTryValidate() {
+        Assert.assertEquals(0L, Validate.defineString("Hello").testNotNullEmpty().testMaxLength(10).tryValidate());
+        long failedRules = Validate.defineString("HelloWorld").testMaxLength(5).testMatch("[0-9]+").tryValidate();
+        Assert.assertEquals(RuleCode.MAX_LENGTH.mask() | RuleCode.MATCH.mask(), failedRules);
+        Assert.assertEquals(RuleCode.NOT_NULL.mask(), Validate.defineString(null).testNotNull().tryValidate());
+    }
+
+    @Test
+    public void testAllowedChars() {
+        CharClass identifier = Validate.charClass().range('a', 'z').range('A', 'Z').digits().chars("_-").build();
+        Assert.assertTrue(Validate.defineString("Hello_World-42").testAllowedChars(identifier).validate());
+        Assert.assertTrue(Validate.defineString("").testAllowedChars(identifier).validate());
+        Assert.assertFalse(Validate.defineString("Hello World").testAllowedChars(identifier).validate());
+        Assert.assertFalse(Validate.defineString(null).testAllowedChars(identifier).validate());
+        try {
+            Validate.defineString("Hello World").testAllowedChars(identifier).throwValidationExceptionOnFail()
+                    .validate();
+            Assert.fail("Expected a ValidateException.");
+        }
+        catch (final ValidateException e) {
+            Assert.assertEquals(RuleCode.ALLOWED_CHARS, e.getRuleCode());
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("index = '5'"));
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> Validate.defineString("x").testAllowedChars(null));
+    }
+
+    @Test
+    public void testForbiddenChars() {
+        CharClass controls = Validate.charClass().range('\u0000', '\u001f').chars("<>").build();
+        Assert.assertTrue(Validate.defineString("Hello World").testForbiddenChars(controls).validate());
+        Assert.assertFalse(Validate.defineString("Hello\tWorld").testForbiddenChars(controls).validate());
+        Assert.assertFalse(Validate.defineString(null).testForbiddenChars(controls).validate());
+        long failedRules = Validate.defineString("<b>").testForbiddenChars(controls).testMaxLength(2).tryValidate();
+        Assert.assertEquals(RuleCode.FORBIDDEN_CHARS.mask() | RuleCode.MAX_LENGTH.mask(), failedRules);
+        Assert.assertEquals(RuleCode.FORBIDDEN_CHARS.mask(), Validate.defineString("<b>").testForbiddenChars(controls)
+                .testMatch("[a-z]*").failFast().tryValidate());
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> Validate.defineString("x").testForbiddenChars(null));
+    }
 }
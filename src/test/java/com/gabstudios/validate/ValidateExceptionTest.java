@@ -0,0 +1,108 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+package com.gabstudios.validate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the ValidateException
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ValidateExceptionTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testRuleCode() {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineInteger(50).testMaxValue(10).throwValidationExceptionOnFail().validate());
+        Assert.assertEquals(RuleCode.MAX_VALUE, e.getRuleCode());
+        Assert.assertArrayEquals(new Object[] { 50, 10 }, e.getArguments());
+    }
+
+    @Test
+    public void testMessage() {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineInteger(50).testMaxValue(10).throwValidationExceptionOnFail().validate());
+        Assert.assertEquals(
+                "The value must be less than or equal to the max value (value = '50' max value = '10').",
+                e.getMessage());
+        Assert.assertSame(e.getMessage(), e.getMessage());
+    }
+
+    @Test
+    public void testStringMessage() {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineString("HelloWorld").testMaxLength(5).throwValidationExceptionOnFail().validate());
+        Assert.assertEquals(RuleCode.MAX_LENGTH, e.getRuleCode());
+        Assert.assertTrue(e.getMessage().contains("length = '10'"));
+    }
+
+    @Test
+    public void testArrayMessage() {
+        Object[] array = { "a", "b" };
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineArray(array).testMinLength(3).throwValidationExceptionOnFail().validate());
+        Assert.assertEquals(RuleCode.MIN_LENGTH, e.getRuleCode());
+        Assert.assertTrue(e.getMessage().contains("[a, b]"));
+    }
+
+    @Test
+    public void testNoArguments() {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineString(null).testNotNull().throwValidationExceptionOnFail().validate());
+        Assert.assertEquals(RuleCode.NOT_NULL, e.getRuleCode());
+        Assert.assertEquals(0, e.getArguments().length);
+        Assert.assertEquals(RuleCode.NOT_NULL.getMessageFormat(), e.getMessage());
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        ValidateException e = Assert.assertThrows(ValidateException.class,
+                () -> Validate.defineInteger(50).testMaxValue(10).throwValidationExceptionOnFail().validate());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(e);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ValidateException copy = (ValidateException) in.readObject();
+            Assert.assertEquals(e.getMessage(), copy.getMessage());
+            Assert.assertEquals(RuleCode.MAX_VALUE, copy.getRuleCode());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*****************************************************************************************
+ *
+ * Copyright 2026 Gregory Brown. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ *****************************************************************************************
+ */
+
+
+package com.gabstudios.validate;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for the ValidationResult
+ *
+ * @author Gregory Brown (sysdevone)
+ *
+ */
+public class ValidationResultTest {
+    @Before
+    public void setUp() {
+        //
+    }
+
+    @After
+    public void tearDown() {
+
+    }
+
+    @Test
+    public void testValidIsShared() {
+        ValidationResult result = Validate.defineInteger(5).testMinValue(0).testMaxValue(10).validateAll();
+        Assert.assertSame(ValidationResult.VALID, result);
+        Assert.assertTrue(result.isValid());
+        Assert.assertEquals(0, result.getViolationCount());
+        Assert.assertTrue(result.getViolations().isEmpty());
+    }
+
+    @Test
+    public void testCollectsEveryViolation() {
+        ValidationResult result = Validate.defineString("HelloWorld").testMaxLength(5).testEquals("Hello")
+                .testMatch("[0-9]+").validateAll();
+        Assert.assertFalse(result.isValid());
+        Assert.assertEquals(3, result.getViolationCount());
+        Assert.assertTrue(result.hasViolation(RuleCode.MAX_LENGTH));
+        Assert.assertTrue(result.hasViolation(RuleCode.EQUALS));
+        Assert.assertTrue(result.hasViolation(RuleCode.MATCH));
+        for (Violation violation : result.getViolations()) {
+            if (violation.getRuleCode() == RuleCode.MAX_LENGTH) {
+                Assert.assertArrayEquals(new Object[] { "HelloWorld", 10, 5 }, violation.getArguments());
+            }
+        }
+        Assert.assertFalse(result.hasViolation(RuleCode.NOT_EMPTY));
+    }
+
+    @Test
+    public void testMessage() {
+        ValidationResult result = Validate.defineInteger(50).testMaxValue(10).validateAll();
+        Assert.assertEquals(
+                "The value must be less than or equal to the max value (value = '50' max value = '10').",
+                result.getViolations().get(0).getMessage());
+    }
+
+    @Test
+    public void testDoesNotThrow() {
+        ValidationResult result = Validate.defineInteger(50).testMaxValue(10).testMinValue(60)
+                .throwValidationExceptionOnFail().validateAll();
+        Assert.assertEquals(2, result.getViolationCount());
+    }
+
+    @Test
+    public void testIgnoresFailFast() {
+        ValidationResult result = Validate.defineInteger(50).testMaxValue(10).testMinValue(60).failFast()
+                .validateAll();
+        Assert.assertEquals(2, result.getViolationCount());
+    }
+
+    @Test
+    public void testValidatorIsReusable() {
+        IntegerValidator validator = Validate.defineInteger(50).testMaxValue(10);
+        Assert.assertEquals(1, validator.validateAll().getViolationCount());
+        Assert.assertEquals(1, validator.validateAll().getViolationCount());
+        Assert.assertFalse(validator.validate());
+        validator.throwValidationExceptionOnFail();
+        Assert.assertThrows(ValidateException.class, () -> validator.validate());
+    }
+
+    @Test
+    public void testNull() {
+        ValidationResult result = Validate.defineString(null).testNotNullEmpty().validateAll();
+        Assert.assertTrue(result.hasViolation(RuleCode.NOT_NULL));
+    }
+
+    @Test
+    public void testArray() {
+        Object[] array = { "a", "b" };
+        ValidationResult result = Validate.defineArray(array).testMinLength(3).testEquals(new Object[] { "a" })
+                .validateAll();
+        Assert.assertEquals(2, result.getViolationCount());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testViolationsUnmodifiable() {
+        ValidationResult result = Validate.defineInteger(50).testMaxValue(10).validateAll();
+        result.getViolations().clear();
+    }
+}